@@ -166,7 +166,7 @@ public class CommSecurityLevelsTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -227,7 +227,7 @@ public class CommSecurityLevelsTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -294,7 +294,7 @@ public class CommSecurityLevelsTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -372,7 +372,7 @@ public class CommSecurityLevelsTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -441,7 +441,7 @@ public class CommSecurityLevelsTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -521,6 +521,7 @@ public class CommSecurityLevelsTest {
         properties.put(JSLSettings_002.JSLCOMM_LOCAL_ONLY_LOCALHOST, "true");
         properties.put(JSLSettings_002.JSLCOMM_LOCAL_KS_PATH, JSL_KS_PATH);
         properties.put(JSLSettings_002.JSLCOMM_CLOUD_ENABLED, "false");
+        LocalCommTest.putTempCachesPaths(properties);
         return properties;
     }
 
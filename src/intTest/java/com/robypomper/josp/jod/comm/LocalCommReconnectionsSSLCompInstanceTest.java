@@ -131,7 +131,7 @@ public class LocalCommReconnectionsSSLCompInstanceTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -274,7 +274,7 @@ public class LocalCommReconnectionsSSLCompInstanceTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -399,7 +399,7 @@ public class LocalCommReconnectionsSSLCompInstanceTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -616,6 +616,7 @@ public class LocalCommReconnectionsSSLCompInstanceTest {
         properties.put(JSLSettings_002.JSLCOMM_LOCAL_ONLY_LOCALHOST, "true");
         properties.put(JSLSettings_002.JSLCOMM_LOCAL_KS_PATH, JSL_KS_PATH);
         properties.put(JSLSettings_002.JSLCOMM_CLOUD_ENABLED, "false");
+        LocalCommTest.putTempCachesPaths(properties);
         return properties;
     }
 
@@ -127,7 +127,7 @@ public class LocalCommReconnectionsTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -259,7 +259,7 @@ public class LocalCommReconnectionsTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -373,7 +373,7 @@ public class LocalCommReconnectionsTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -577,6 +577,7 @@ public class LocalCommReconnectionsTest {
         properties.put(JSLSettings_002.JSLCOMM_LOCAL_ONLY_NO_SSL, "true");
         properties.put(JSLSettings_002.JSLCOMM_LOCAL_ONLY_LOCALHOST, "true");
         properties.put(JSLSettings_002.JSLCOMM_CLOUD_ENABLED, "false");
+        LocalCommTest.putTempCachesPaths(properties);
         return properties;
     }
 
@@ -43,8 +43,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.NetworkInterface;
 import java.net.SocketException;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
@@ -126,7 +130,7 @@ public class LocalCommTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -208,7 +212,7 @@ public class LocalCommTest {
         when(srvInfo.getSrvId()).thenReturn("srvId");
         when(srvInfo.getSrvName()).thenReturn("TestService");
         when(srvInfo.getFullId()).thenReturn("srvId/usrId/instId");
-        when(jslObjsMngr.createNewRemoteObject(any(), any())).thenReturn(jslRemoteObject);
+        when(jslObjsMngr.getOrCreateRemoteObject(any(), any())).thenReturn(jslRemoteObject);
         when(jslRemoteObject.getName()).thenReturn("TestObject");
         when(jslRemoteObject.getComm()).thenReturn(jslObjComm);     // Used during jsl disconnection
         when(jslObjComm.isLocalConnected()).thenReturn(false);   // Used during jsl disconnection
@@ -318,7 +322,28 @@ public class LocalCommTest {
         properties.put(JSLSettings_002.JSLCOMM_LOCAL_ONLY_NO_SSL, "true");
         properties.put(JSLSettings_002.JSLCOMM_LOCAL_ONLY_LOCALHOST, "true");
         properties.put(JSLSettings_002.JSLCOMM_CLOUD_ENABLED, "false");
+        putTempCachesPaths(properties);
         return properties;
     }
 
+    /**
+     * Set the JSL local caches' paths into a new temporary dir, so each test
+     * starts without the objects known by previous runs.
+     */
+    public static void putTempCachesPaths(Map<String, Object> properties) {
+        try {
+            File dir = Files.createTempDirectory("jsl-caches-").toFile();
+            dir.deleteOnExit();
+            File transportCache = new File(dir, "local_transports.json");
+            File discoveryCache = new File(dir, "local_discovery.json");
+            transportCache.deleteOnExit();
+            discoveryCache.deleteOnExit();
+            properties.put(JSLSettings_002.JSLCOMM_LOCAL_TRANSPORT_CACHE_PATH, transportCache.getAbsolutePath());
+            properties.put(JSLSettings_002.JSLCOMM_LOCAL_DISCOVERY_CACHE_PATH, discoveryCache.getAbsolutePath());
+
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
 }
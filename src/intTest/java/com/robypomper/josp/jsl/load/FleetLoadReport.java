@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures collected by a {@link SimulatedFleet} run.
+ * <p>
+ * All times are stored in nanoseconds and reported in milliseconds. The
+ * report can be printed as text table via {@link #toString()} or stored as
+ * JSON via {@link #writeJson(File)}, so results from different builds can be
+ * compared.
+ */
+public class FleetLoadReport {
+
+    // Internal vars
+
+    private final SimulatedFleet.Config config;
+    private long[] discoveryTimes = new long[0];
+    private long updatesSent;
+    private long updatesReceived;
+    private long updatesFailed;
+    private long updatesElapsed;
+    private long[] actionsTimes = new long[0];
+    private long actionsFailed;
+
+
+    // Constructor
+
+    public FleetLoadReport(SimulatedFleet.Config config) {
+        this.config = config;
+    }
+
+
+    // Setters
+
+    void setDiscovery(long[] readyTimes) {
+        discoveryTimes = readyTimes.clone();
+        Arrays.sort(discoveryTimes);
+    }
+
+    void setUpdates(long sent, long received, long failed, long elapsed) {
+        updatesSent = sent;
+        updatesReceived = received;
+        updatesFailed = failed;
+        updatesElapsed = elapsed;
+    }
+
+    void setActions(long[] roundTripTimes, long failed) {
+        actionsTimes = roundTripTimes.clone();
+        Arrays.sort(actionsTimes);
+        actionsFailed = failed;
+    }
+
+
+    // Getters
+
+    public int getObjectsCount() {
+        return config.objectsCount;
+    }
+
+    /**
+     * @return the number of objects ready before the discovery timeout.
+     */
+    public int getReadyCount() {
+        return discoveryTimes.length;
+    }
+
+    /**
+     * @return the time (in ms) from the JSL's local communication startup to
+     * the last object ready, or -1 if no object was ready.
+     */
+    public double getDiscoveryToReadyMs() {
+        return discoveryTimes.length > 0 ? toMs(discoveryTimes[discoveryTimes.length - 1]) : -1;
+    }
+
+    /**
+     * @return the state updates per second notified to the JSL listeners.
+     */
+    public double getUpdatesReceivedPerSec() {
+        return updatesElapsed > 0 ? updatesReceived * (double) TimeUnit.SECONDS.toNanos(1) / updatesElapsed : 0;
+    }
+
+    /**
+     * @return the state updates per second sent by the simulated objects.
+     */
+    public double getUpdatesSentPerSec() {
+        return updatesElapsed > 0 ? updatesSent * (double) TimeUnit.SECONDS.toNanos(1) / updatesElapsed : 0;
+    }
+
+    public long getUpdatesReceived() {
+        return updatesReceived;
+    }
+
+    /**
+     * @return the number of actions with a received state update.
+     */
+    public int getActionsCount() {
+        return actionsTimes.length;
+    }
+
+    /**
+     * @return the number of actions not sent or without state update before
+     * the round's timeout.
+     */
+    public long getActionsFailed() {
+        return actionsFailed;
+    }
+
+    /**
+     * @param percentile the percentile, from 0 to 100.
+     * @return the actions round-trip time (in ms) at given percentile, or -1
+     * if no action was measured.
+     */
+    public double getActionsRttMs(double percentile) {
+        return percentileMs(actionsTimes, percentile);
+    }
+
+    /**
+     * @param percentile the percentile, from 0 to 100.
+     * @return the objects discovery-to-ready time (in ms) at given
+     * percentile, or -1 if no object was ready.
+     */
+    public double getDiscoveryMs(double percentile) {
+        return percentileMs(discoveryTimes, percentile);
+    }
+
+
+    // Output
+
+    /**
+     * Store the report as JSON into given file.
+     *
+     * @param file the destination file, parent dirs are created if missing.
+     */
+    public void writeJson(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs())
+            throw new IOException(String.format("Can't create directory '%s'", parent.getPath()));
+
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, toMap());
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> cfg = new LinkedHashMap<>();
+        cfg.put("objects", config.objectsCount);
+        cfg.put("containers", config.containers);
+        cfg.put("statesPerContainer", config.statesPerContainer);
+        cfg.put("updatesPerSecond", config.updatesPerSecond);
+        cfg.put("measureSeconds", config.measureSeconds);
+        cfg.put("actionsRounds", config.actionsRounds);
+
+        Map<String, Object> discovery = new LinkedHashMap<>();
+        discovery.put("ready", getReadyCount());
+        discovery.put("toAllReadyMs", getDiscoveryToReadyMs());
+        discovery.put("p50Ms", getDiscoveryMs(50));
+        discovery.put("p90Ms", getDiscoveryMs(90));
+        discovery.put("p99Ms", getDiscoveryMs(99));
+
+        Map<String, Object> updates = new LinkedHashMap<>();
+        updates.put("sent", updatesSent);
+        updates.put("received", updatesReceived);
+        updates.put("failed", updatesFailed);
+        updates.put("sentPerSec", getUpdatesSentPerSec());
+        updates.put("receivedPerSec", getUpdatesReceivedPerSec());
+
+        Map<String, Object> actions = new LinkedHashMap<>();
+        actions.put("count", getActionsCount());
+        actions.put("failed", actionsFailed);
+        actions.put("rttP50Ms", getActionsRttMs(50));
+        actions.put("rttP90Ms", getActionsRttMs(90));
+        actions.put("rttP99Ms", getActionsRttMs(99));
+        actions.put("rttMaxMs", getActionsRttMs(100));
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("config", cfg);
+        map.put("discovery", discovery);
+        map.put("updates", updates);
+        map.put("actions", actions);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Fleet load report (%d objects, %d comps each, %.1f upd/s each)%n", config.objectsCount, config.containers * config.statesPerContainer * 2, config.updatesPerSecond)
+                + String.format("  Discovery  ready %d/%d  all ready %.1f ms  p50 %.1f ms  p90 %.1f ms  p99 %.1f ms%n", getReadyCount(), config.objectsCount, getDiscoveryToReadyMs(), getDiscoveryMs(50), getDiscoveryMs(90), getDiscoveryMs(99))
+                + String.format("  Updates    sent %.1f/s  received %.1f/s  (sent %d, received %d, failed %d)%n", getUpdatesSentPerSec(), getUpdatesReceivedPerSec(), updatesSent, updatesReceived, updatesFailed)
+                + String.format("  Actions    count %d  failed %d  RTT p50 %.2f ms  p90 %.2f ms  p99 %.2f ms  max %.2f ms", getActionsCount(), actionsFailed, getActionsRttMs(50), getActionsRttMs(90), getActionsRttMs(99), getActionsRttMs(100));
+    }
+
+
+    // Utils
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        if (sorted.length == 0)
+            return -1;
+        int idx = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return toMs(sorted[Math.max(0, Math.min(idx, sorted.length - 1))]);
+    }
+
+    private static double toMs(long nanos) {
+        return nanos / 1000000.0;
+    }
+
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.load;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+
+
+/**
+ * Load test that discovers fleets of 10, 100 and 1000 simulated objects.
+ * <p>
+ * Tests tagged as <code>load</code> are excluded from the 'integrationTest'
+ * task and executed only by the 'loadTest' task. Reports are printed on the
+ * standard output and stored as JSON into the dir set by the
+ * <code>jsl.loadTest.reportDir</code> system property (if any).
+ */
+@Tag("load")
+public class FleetLoadTest {
+
+    // Class constants
+
+    public static final String REPORT_DIR_PROP = "jsl.loadTest.reportDir";
+    public static final String REPORT_FILE = "fleet-%d.json";
+
+
+    // Tests
+
+    @ParameterizedTest(name = "{0} objects")
+    @ValueSource(ints = {10, 100, 1000})
+    public void testFleet(int objectsCount) throws Throwable {
+        SimulatedFleet.Config config = new SimulatedFleet.Config(objectsCount);
+        FleetLoadReport report = new SimulatedFleet(config).run();
+
+        System.out.println(report);
+        String reportDir = System.getProperty(REPORT_DIR_PROP);
+        if (reportDir != null)
+            report.writeJson(new File(reportDir, String.format(REPORT_FILE, objectsCount)));
+
+        Assertions.assertEquals(objectsCount, report.getReadyCount());
+        Assertions.assertTrue(report.getUpdatesReceived() > 0);
+        Assertions.assertEquals(objectsCount * config.actionsRounds, report.getActionsCount());
+    }
+
+}
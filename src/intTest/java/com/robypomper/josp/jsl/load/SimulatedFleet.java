@@ -0,0 +1,417 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.load;
+
+import com.robypomper.java.JavaThreads;
+import com.robypomper.josp.clients.JCPAPIsClientSrv;
+import com.robypomper.josp.jod.comm.LocalCommTest;
+import com.robypomper.josp.jsl.JSLSettings_002;
+import com.robypomper.josp.jsl.comm.JSLCommunication_002;
+import com.robypomper.josp.jsl.objs.JSLObjsMngr;
+import com.robypomper.josp.jsl.objs.JSLObjsMngr_002;
+import com.robypomper.josp.jsl.objs.JSLRemoteObject;
+import com.robypomper.josp.jsl.objs.structure.JSLComponent;
+import com.robypomper.josp.jsl.objs.structure.StructureDefinitions;
+import com.robypomper.josp.jsl.objs.structure.pillars.JSLBooleanAction;
+import com.robypomper.josp.jsl.objs.structure.pillars.JSLBooleanState;
+import com.robypomper.josp.jsl.objs.structure.pillars.JSLRangeState;
+import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
+import com.robypomper.josp.jsl.user.JSLUserMngr;
+import com.robypomper.josp.protocol.JOSPPerm;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Load generator that runs a fleet of {@link SimulatedObject} in-process and a
+ * JSL instance that discovers them all via the local communication.
+ * <p>
+ * The JSL instance is composed by the real objects manager and communication
+ * (like the {@link LocalCommTest}), it uses the static discovery with one
+ * <code>localhost</code> endpoint for each simulated object and doesn't
+ * persist any local cache.
+ * <p>
+ * The {@link #run()} method executes 3 phases and returns the measures as
+ * {@link FleetLoadReport}:
+ * <ol>
+ *     <li>discovery: from JSL's local communication startup, till each object
+ *     is connected, with his info and structure received (ready)</li>
+ *     <li>updates: each object sends range state updates at the configured
+ *     rate, while the JSL counts the updates notified to his listeners</li>
+ *     <li>actions: the JSL switches the {@link SimulatedObject#ACTION_PATH}
+ *     action of all objects, for the configured rounds, and measures the
+ *     time till the object's state update is received</li>
+ * </ol>
+ */
+public class SimulatedFleet {
+
+    // Class constants
+
+    public static final String SRV_ID = "loadTestSrv";
+    private static final long POLL_INTERVAL_MS = 10;
+    private static final long ANNOUNCE_RETRY_MS = 20;
+    private static final int ANNOUNCE_MAX_RETRIES = 250;
+    private static final long ACTIONS_ROUND_TIMEOUT_MS = 10000;
+    private static final long UPDATES_WARMUP_MS = 1000;
+
+
+    // Internal vars
+
+    private final Config config;
+    private final List<SimulatedObject> objects = new ArrayList<>();
+    private final Map<String, SimulatedObject> objectsById = new HashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private JSLObjsMngr_002 jslObjsMngr;
+    private JSLCommunication_002 jslComm;
+
+
+    // Constructor
+
+    public SimulatedFleet(Config config) {
+        this.config = config;
+        this.scheduler = Executors.newScheduledThreadPool(config.schedulerThreads);
+    }
+
+
+    // Fleet mngm
+
+    /**
+     * Start the simulated objects and the JSL instance, then execute the
+     * discovery, updates and actions phases.
+     * <p>
+     * The fleet is always stopped before this method returns.
+     *
+     * @return the measures of all phases.
+     */
+    public FleetLoadReport run() throws Throwable {
+        FleetLoadReport report = new FleetLoadReport(config);
+        try {
+            startObjects();
+            startJSL();
+            measureDiscovery(report);
+            measureUpdates(report);
+            measureActions(report);
+        } finally {
+            stop();
+        }
+        return report;
+    }
+
+    private void startObjects() throws Throwable {
+        for (int i = 0; i < config.objectsCount; i++) {
+            SimulatedObject obj = new SimulatedObject(i, config.basePort + i, config.containers, config.statesPerContainer);
+            obj.start();
+            objects.add(obj);
+            objectsById.put(obj.getObjId(), obj);
+        }
+    }
+
+    private void startJSL() throws Throwable {
+        JSLServiceInfo srvInfo = mock(JSLServiceInfo.class);
+        when(srvInfo.getSrvId()).thenReturn(SRV_ID);
+        when(srvInfo.getSrvName()).thenReturn("LoadTestService");
+        when(srvInfo.getFullId()).thenReturn(SRV_ID + "/usrId/instId");
+
+        JSLSettings_002 settings = new JSLSettings_002(getJSLSettings());
+        jslObjsMngr = new JSLObjsMngr_002(settings, srvInfo, mock(JSLUserMngr.class));
+        jslComm = new JSLCommunication_002(null, settings, srvInfo, mock(JCPAPIsClientSrv.class), jslObjsMngr, SRV_ID);
+        jslObjsMngr.setCommunication(jslComm);
+        jslObjsMngr.addListener(announcer);
+    }
+
+    private void stop() {
+        scheduler.shutdownNow();
+        if (jslComm != null)
+            try {
+                jslComm.getLocalConnections().stop();
+            } catch (Throwable ignore) {}
+        for (SimulatedObject obj : objects)
+            obj.stop();
+    }
+
+    private Map<String, Object> getJSLSettings() {
+        StringBuilder endpoints = new StringBuilder();
+        for (int i = 0; i < config.objectsCount; i++)
+            endpoints.append(i > 0 ? "," : "").append("127.0.0.1:").append(config.basePort + i);
+
+        Map<String, Object> properties = LocalCommTest.getDefaultJSLSettings();
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_DISCOVERY, JSLSettings_002.JSLCOMM_LOCAL_DISCOVERY_STATIC);
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_DISCOVERY_STATIC_ENDPOINTS, endpoints.toString());
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_CONNECT_POOL_SIZE, Integer.toString(config.connectPoolSize));
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_CONNECT_PER_HOST, Integer.toString(config.connectPoolSize));
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_TRANSPORT_CACHE_PATH, "");
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_DISCOVERY_CACHE_PATH, "");
+        return properties;
+    }
+
+    /**
+     * When the JSL creates the remote object, the corresponding simulated
+     * object sends his info and structure.
+     */
+    private final JSLObjsMngr.ObjsMngrListener announcer = new JSLObjsMngr.ObjsMngrListener() {
+        @Override
+        public void onObjAdded(JSLRemoteObject obj) {
+            SimulatedObject simObj = objectsById.get(obj.getId());
+            if (simObj != null)
+                scheduleAnnounce(simObj, 0);
+        }
+
+        @Override
+        public void onObjRemoved(JSLRemoteObject obj) {}
+    };
+
+    private void scheduleAnnounce(SimulatedObject simObj, int retry) {
+        scheduler.schedule(() -> {
+            if (simObj.announce() == 0 && retry < ANNOUNCE_MAX_RETRIES)
+                scheduleAnnounce(simObj, retry + 1);
+        }, retry == 0 ? 0 : ANNOUNCE_RETRY_MS, TimeUnit.MILLISECONDS);
+    }
+
+
+    // Discovery phase
+
+    private void measureDiscovery(FleetLoadReport report) throws Throwable {
+        Map<String, Long> readyTimes = new HashMap<>();
+        long start = System.nanoTime();
+        jslComm.getLocalConnections().start();
+
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.readyTimeoutMs);
+        while (readyTimes.size() < config.objectsCount && System.nanoTime() < deadline) {
+            for (JSLRemoteObject remObj : jslObjsMngr.getAllObjects())
+                if (!readyTimes.containsKey(remObj.getId()) && isReady(remObj))
+                    readyTimes.put(remObj.getId(), System.nanoTime() - start);
+            JavaThreads.softSleep(POLL_INTERVAL_MS);
+        }
+
+        long[] times = new long[readyTimes.size()];
+        int i = 0;
+        for (long t : readyTimes.values())
+            times[i++] = t;
+        report.setDiscovery(times);
+    }
+
+    private static boolean isReady(JSLRemoteObject remObj) {
+        return remObj.getComm().isLocalConnected()
+                && remObj.getStruct().isInit()
+                && JOSPPerm.WildCards.USR_ANONYMOUS_ID.toString().equals(remObj.getInfo().getOwnerId());
+    }
+
+    private List<JSLRemoteObject> getReadyObjects() {
+        List<JSLRemoteObject> ready = new ArrayList<>();
+        for (JSLRemoteObject remObj : jslObjsMngr.getAllObjects())
+            if (isReady(remObj))
+                ready.add(remObj);
+        return ready;
+    }
+
+
+    // Updates phase
+
+    private void measureUpdates(FleetLoadReport report) {
+        AtomicLong received = new AtomicLong();
+        JSLRangeState.RangeStateListener counter = new JSLRangeState.RangeStateListener() {
+            @Override
+            public void onStateChanged(JSLRangeState component, double newState, double oldState) {
+                received.incrementAndGet();
+            }
+
+            @Override
+            public void onMinReached(JSLRangeState component, double state, double min) {}
+
+            @Override
+            public void onMaxReached(JSLRangeState component, double state, double max) {}
+        };
+        for (JSLRemoteObject remObj : getReadyObjects())
+            for (int c = 0; c < config.containers; c++)
+                for (int s = 0; s < config.statesPerContainer; s++) {
+                    JSLComponent comp = remObj.getStruct().getComponent("cont" + c + StructureDefinitions.PATH_SEP + "range" + s);
+                    if (comp instanceof JSLRangeState)
+                        ((JSLRangeState) comp).addListener(counter);
+                }
+
+        long periodMicros = (long) (1000000 / config.updatesPerSecond);
+        List<ScheduledFuture<?>> tasks = new ArrayList<>();
+        for (SimulatedObject obj : objects)
+            tasks.add(scheduler.scheduleAtFixedRate(obj::sendRangeUpdate, periodMicros, periodMicros, TimeUnit.MICROSECONDS));
+
+        JavaThreads.softSleep(UPDATES_WARMUP_MS);
+        long startReceived = received.get();
+        long startSent = getSentUpdates();
+        long start = System.nanoTime();
+        JavaThreads.softSleep(config.measureSeconds * 1000L);
+        long elapsed = System.nanoTime() - start;
+        long endReceived = received.get();
+        long endSent = getSentUpdates();
+
+        for (ScheduledFuture<?> t : tasks)
+            t.cancel(false);
+        long failed = 0;
+        for (SimulatedObject obj : objects)
+            failed += obj.getFailedUpdates();
+        report.setUpdates(endSent - startSent, endReceived - startReceived, failed, elapsed);
+    }
+
+    private long getSentUpdates() {
+        long count = 0;
+        for (SimulatedObject obj : objects)
+            count += obj.getSentUpdates();
+        return count;
+    }
+
+
+    // Actions phase
+
+    private void measureActions(FleetLoadReport report) {
+        Map<JSLBooleanState, Long> pending = new ConcurrentHashMap<>();
+        List<Long> rtts = Collections.synchronizedList(new ArrayList<>());
+        RoundLatch latch = new RoundLatch();
+        JSLBooleanState.BooleanStateListener listener = (component, newState, oldState) -> {
+            Long sent = pending.remove(component);
+            if (sent == null)
+                return;
+            rtts.add(System.nanoTime() - sent);
+            latch.countDown();
+        };
+
+        List<JSLBooleanAction> actions = new ArrayList<>();
+        for (JSLRemoteObject remObj : getReadyObjects()) {
+            JSLComponent comp = remObj.getStruct().getComponent(SimulatedObject.ACTION_PATH);
+            if (comp instanceof JSLBooleanAction) {
+                ((JSLBooleanAction) comp).addListener(listener);
+                actions.add((JSLBooleanAction) comp);
+            }
+        }
+
+        int failed = 0;
+        for (int round = 0; round < config.actionsRounds; round++) {
+            pending.clear();
+            latch.reset(actions.size());
+            for (JSLBooleanAction action : actions) {
+                pending.put(action, System.nanoTime());
+                try {
+                    action.execSwitch();
+                } catch (JSLRemoteObject.MissingPermission | JSLRemoteObject.ObjectNotConnected e) {
+                    pending.remove(action);
+                    latch.countDown();
+                    failed++;
+                }
+            }
+            if (!latch.await(ACTIONS_ROUND_TIMEOUT_MS))
+                failed += pending.size();
+        }
+
+        long[] times;
+        synchronized (rtts) {
+            times = new long[rtts.size()];
+            for (int i = 0; i < times.length; i++)
+                times[i] = rtts.get(i);
+        }
+        report.setActions(times, failed);
+    }
+
+    /**
+     * Resettable count down latch, used to wait for the actions of each round.
+     */
+    private static class RoundLatch {
+
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+
+        void reset(int count) {
+            latch = new CountDownLatch(count);
+        }
+
+        void countDown() {
+            latch.countDown();
+        }
+
+        boolean await(long timeoutMs) {
+            try {
+                return latch.await(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+    }
+
+
+    // Configs
+
+    /**
+     * Simulated fleet's configs.
+     */
+    public static class Config {
+
+        /**
+         * Number of simulated objects.
+         */
+        public final int objectsCount;
+        /**
+         * Local server's port of the first simulated object; next objects
+         * use the following ports.
+         */
+        public int basePort = 20000;
+        /**
+         * Number of containers in each object's structure.
+         */
+        public int containers = 2;
+        /**
+         * Number of boolean and range actions in each structure's container.
+         */
+        public int statesPerContainer = 5;
+        /**
+         * State updates sent by each object per second.
+         */
+        public double updatesPerSecond = 2;
+        /**
+         * Duration (in seconds) of the updates measure.
+         */
+        public int measureSeconds = 10;
+        /**
+         * Number of times the action of each object is executed.
+         */
+        public int actionsRounds = 5;
+        /**
+         * Max time (in milliseconds) to wait for all objects ready.
+         */
+        public long readyTimeoutMs = 120000;
+        /**
+         * JSL's local connections pool size (and per host limit, because
+         * all objects run on localhost).
+         */
+        public int connectPoolSize = 32;
+        /**
+         * Threads used to send the simulated objects' messages.
+         */
+        public int schedulerThreads = 4;
+
+        public Config(int objectsCount) {
+            this.objectsCount = objectsCount;
+        }
+
+    }
+
+}
@@ -0,0 +1,274 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.load;
+
+import com.robypomper.comm.exception.PeerNotConnectedException;
+import com.robypomper.comm.exception.PeerStreamException;
+import com.robypomper.comm.peer.Peer;
+import com.robypomper.comm.peer.PeerDataListener;
+import com.robypomper.java.JavaFormatter;
+import com.robypomper.josp.clients.JCPAPIsClientObj;
+import com.robypomper.josp.jod.JODSettings_002;
+import com.robypomper.josp.jod.comm.JODCommunication;
+import com.robypomper.josp.jod.comm.JODCommunication_002;
+import com.robypomper.josp.jod.comm.JODLocalClientInfo;
+import com.robypomper.josp.jod.comm.LocalCommTest;
+import com.robypomper.josp.jod.events.JODEvents_002;
+import com.robypomper.josp.jod.objinfo.JODObjectInfo_002;
+import com.robypomper.josp.jod.permissions.JODPermissions_002;
+import com.robypomper.josp.jsl.objs.structure.JSLStateUpdate;
+import com.robypomper.josp.jsl.objs.structure.StructureDefinitions;
+import com.robypomper.josp.protocol.JOSPPerm;
+import com.robypomper.josp.protocol.JOSPProtocol_ObjectToService;
+import com.robypomper.josp.protocol.JOSPProtocol_ServiceToObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Lightweight JOD object simulated in-process, used by the {@link SimulatedFleet}.
+ * <p>
+ * Each simulated object starts a real JOD local communication (local server
+ * and discovery publication) with mocked object's info, permissions and
+ * events. Then, instead of a real JOD structure, it sends to the connected
+ * services the messages generated by the simulator: object's info,
+ * structure (with configurable size) and range state updates. Received
+ * action commands are answered with a state update of the
+ * {@link #ACTION_PATH} component, so services can measure the actions'
+ * round-trip time.
+ */
+public class SimulatedObject {
+
+    // Class constants
+
+    public static final String OBJ_ID_FORMAT = "%05d-SIMUL-OBJCT";
+    public static final String ACTION_PATH = "cont0" + StructureDefinitions.PATH_SEP + "bool0";
+
+
+    // Internal vars
+
+    private final String objId;
+    private final int containers;
+    private final int statesPerContainer;
+    private final JODCommunication jodComm;
+    private final Set<Peer> announcedClients = new HashSet<>();
+    private final AtomicLong sentUpdates = new AtomicLong();
+    private final AtomicLong failedUpdates = new AtomicLong();
+    private boolean actionState = false;
+    private int updateCounter = 0;
+
+
+    // Constructor
+
+    /**
+     * @param index              the simulated object's index, used to
+     *                           generate his id.
+     * @param port               the local server's port.
+     * @param containers         the number of containers in the object's
+     *                           structure.
+     * @param statesPerContainer the number of boolean and range actions in
+     *                           each container.
+     */
+    public SimulatedObject(int index, int port, int containers, int statesPerContainer) throws JODCommunication.LocalCommunicationException {
+        this.objId = getObjId(index);
+        this.containers = containers;
+        this.statesPerContainer = statesPerContainer;
+
+        JODObjectInfo_002 objInfo = mock(JODObjectInfo_002.class);
+        when(objInfo.getObjId()).thenReturn(objId);
+        when(objInfo.getObjName()).thenReturn("Simulated_" + index);
+        JODSettings_002 settings = new JODSettings_002(LocalCommTest.getDefaultJODSettings(port));
+        jodComm = new JODCommunication_002(settings, objInfo, mock(JCPAPIsClientObj.class), mock(JODPermissions_002.class), mock(JODEvents_002.class), objId);
+    }
+
+
+    // Getters
+
+    public static String getObjId(int index) {
+        return String.format(OBJ_ID_FORMAT, index);
+    }
+
+    public String getObjId() {
+        return objId;
+    }
+
+    /**
+     * @return the number of state updates sent to the services.
+     */
+    public long getSentUpdates() {
+        return sentUpdates.get();
+    }
+
+    /**
+     * @return the number of state updates not sent because of a
+     * communication error.
+     */
+    public long getFailedUpdates() {
+        return failedUpdates.get();
+    }
+
+
+    // Lifecycle
+
+    public void start() throws Throwable {
+        jodComm.startLocal();
+    }
+
+    public void stop() {
+        try {
+            jodComm.stopLocal();
+        } catch (Throwable ignore) {}
+    }
+
+
+    // Messages
+
+    /**
+     * Send the object's info and structure to all connected services not
+     * yet announced.
+     *
+     * @return the number of services announced.
+     */
+    public synchronized int announce() {
+        int count = 0;
+        for (JODLocalClientInfo info : jodComm.getAllLocalClientsInfo()) {
+            Peer client = info.getClient();
+            if (!info.isConnected() || announcedClients.contains(client))
+                continue;
+
+            try {
+                client.addListener(actionsListener);
+                client.sendData(JOSPProtocol_ObjectToService.createObjectInfoMsg(objId, "Simulated " + objId, "simulated", JOSPPerm.WildCards.USR_ANONYMOUS_ID.toString(), "Simulated", "JOSP", "Simulated JOD object", false));
+                client.sendData(JOSPProtocol_ObjectToService.createObjectStructMsg(objId, generateStructure(containers, statesPerContainer)));
+                announcedClients.add(client);
+                count++;
+
+            } catch (PeerNotConnectedException | PeerStreamException ignore) {}
+        }
+        return count;
+    }
+
+    /**
+     * Send a state update for the next range action of the object's structure
+     * to all announced services.
+     */
+    public void sendRangeUpdate() {
+        String msg;
+        synchronized (this) {
+            int comp = updateCounter % (containers * statesPerContainer);
+            double newState = (updateCounter / (containers * statesPerContainer)) % 2 == 0 ? 100 : 0;
+            updateCounter++;
+            String compPath = "cont" + (comp / statesPerContainer) + StructureDefinitions.PATH_SEP + "range" + (comp % statesPerContainer);
+            msg = JOSPProtocol_ObjectToService.createObjectStateUpdMsg(objId, compPath, new StateUpd("JOSPRange", JavaFormatter.doubleToStr(newState), JavaFormatter.doubleToStr(100 - newState)));
+        }
+        sendToAnnounced(msg, true);
+    }
+
+    private void sendToAnnounced(String msg, boolean countUpdate) {
+        Set<Peer> clients;
+        synchronized (this) {
+            clients = new HashSet<>(announcedClients);
+        }
+        for (Peer client : clients)
+            try {
+                client.sendData(msg);
+                if (countUpdate) sentUpdates.incrementAndGet();
+            } catch (PeerNotConnectedException | PeerStreamException e) {
+                if (countUpdate) failedUpdates.incrementAndGet();
+            }
+    }
+
+    private final PeerDataListener actionsListener = new PeerDataListener() {
+        @Override
+        public void onDataRx(Peer peer, byte[] data) {
+            String msg = new String(data, StandardCharsets.UTF_8);
+            if (!JOSPProtocol_ServiceToObject.isObjectActionCmdMsg(msg))
+                return;
+
+            boolean oldState;
+            synchronized (SimulatedObject.this) {
+                oldState = actionState;
+                actionState = !actionState;
+            }
+            sendToAnnounced(JOSPProtocol_ObjectToService.createObjectStateUpdMsg(objId, ACTION_PATH, new StateUpd("JOSPBoolean", Boolean.toString(!oldState), Boolean.toString(oldState))), false);
+        }
+
+        @Override
+        public void onDataTx(Peer peer, byte[] data) {}
+    };
+
+
+    // Structure
+
+    /**
+     * @return the simulated object's structure, as JSON string: the root
+     * contains <code>containers</code> containers and each container
+     * contains <code>statesPerContainer</code> boolean and range actions.
+     */
+    public static String generateStructure(int containers, int statesPerContainer) {
+        StringBuilder sb = new StringBuilder("{\"components\":[");
+        for (int c = 0; c < containers; c++) {
+            if (c > 0) sb.append(',');
+            sb.append(String.format("{\"name\":\"cont%d\",\"type\":\"%s\",\"descr\":\"\",\"components\":[", c, StructureDefinitions.TYPE_CONTAINER));
+            for (int s = 0; s < statesPerContainer; s++) {
+                if (s > 0) sb.append(',');
+                sb.append(String.format("{\"name\":\"bool%d\",\"type\":\"%s\",\"descr\":\"\",\"state\":\"false\"},", s, StructureDefinitions.TYPE_BOOL_ACTION));
+                sb.append(String.format("{\"name\":\"range%d\",\"type\":\"%s\",\"descr\":\"\",\"state\":\"0\",\"min\":0.0,\"max\":100.0,\"step\":1.0}", s, StructureDefinitions.TYPE_RANGE_ACTION));
+            }
+            sb.append("]}");
+        }
+        return sb.append("]}").toString();
+    }
+
+    /**
+     * State update as sent by the JOD objects, parsed on JSL side by the
+     * <code>JOSPBoolean</code> and <code>JOSPRange</code> state classes.
+     */
+    private static class StateUpd implements JSLStateUpdate {
+
+        private final String type;
+        private final String newState;
+        private final String oldState;
+
+        private StateUpd(String type, String newState, String oldState) {
+            this.type = type;
+            this.newState = newState;
+            this.oldState = oldState;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public String encode() {
+            return "new" + KEY_VALUE_SEP + newState + ITEMS_SEP + "old" + KEY_VALUE_SEP + oldState;
+        }
+
+    }
+
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl;
+
+import com.robypomper.java.JavaFormatter;
+import com.robypomper.josp.clients.JCPAPIsClientSrv;
+import com.robypomper.josp.jsl.comm.JSLCommunication;
+import com.robypomper.josp.jsl.comm.JSLCommunication_002;
+import com.robypomper.josp.jsl.objs.JSLObjsMngr_002;
+import com.robypomper.josp.jsl.objs.JSLRemoteObject;
+import com.robypomper.josp.jsl.objs.remote.DefaultObjStruct;
+import com.robypomper.josp.jsl.objs.structure.JSLStateUpdate;
+import com.robypomper.josp.jsl.objs.structure.StructureDefinitions;
+import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
+import com.robypomper.josp.jsl.user.JSLUserMngr;
+import com.robypomper.josp.protocol.JOSPProtocol_ObjectToService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Shared fixtures for the JSL benchmarks.
+ * <p>
+ * It initializes the JSL's objects manager and communication (without
+ * starting them, like the integration tests do) and provides the JOSP
+ * messages received from the objects. Only the services outside the
+ * benchmarked paths are mocked.
+ */
+public class JSLBenchmarkFixtures {
+
+    // Class constants
+
+    public static final String SRV_ID = "benchmarkSrv";
+    public static final String OBJ_ID_FORMAT = "%05d-22222-33333";
+    public static final int STRUCT_CONTAINERS = 4;
+    public static final int STRUCT_STATES_PER_CONTAINER = 8;
+    public static final String BOOL_PATH = compPath(STRUCT_CONTAINERS - 1, "bool", STRUCT_STATES_PER_CONTAINER - 1);
+    public static final String RANGE_PATH = compPath(STRUCT_CONTAINERS - 1, "range", STRUCT_STATES_PER_CONTAINER - 1);
+
+
+    // Internal vars
+
+    private final JSLServiceInfo srvInfo;
+    private final JSLObjsMngr_002 objsMngr;
+    private final JSLCommunication_002 communication;
+
+
+    // Constructor
+
+    /**
+     * Initialize the objects manager and the communication, then register
+     * given number of objects. Each object receives the benchmarks structure.
+     *
+     * @param objectsCount the number of objects to register.
+     */
+    public JSLBenchmarkFixtures(int objectsCount) throws JSLCommunication.LocalCommunicationException {
+        JSLSettings_002 settings = new JSLSettings_002(getDefaultJSLSettings());
+        srvInfo = mock(JSLServiceInfo.class);
+        when(srvInfo.getSrvId()).thenReturn(SRV_ID);
+        when(srvInfo.getSrvName()).thenReturn("BenchmarkService");
+        when(srvInfo.getFullId()).thenReturn(SRV_ID + "/usrId/instId");
+
+        objsMngr = new JSLObjsMngr_002(settings, srvInfo, mock(JSLUserMngr.class));
+        communication = new JSLCommunication_002(null, settings, srvInfo, mock(JCPAPIsClientSrv.class), objsMngr, "benchmark");
+        objsMngr.setCommunication(communication);
+
+        String struct = generateStructure();
+        for (int i = 0; i < objectsCount; i++) {
+            String objId = getObjId(i);
+            objsMngr.addCloudObject(objId);
+            JSLRemoteObject obj = objsMngr.getById(objId);
+            if (!((DefaultObjStruct) obj.getStruct()).processObjectStructMsg(createStructMsg(objId, struct)))
+                throw new IllegalStateException(String.format("Can't load benchmarks structure for object '%s'", objId));
+        }
+    }
+
+
+    // Getters
+
+    public JSLServiceInfo getSrvInfo() {
+        return srvInfo;
+    }
+
+    public JSLObjsMngr_002 getObjsMngr() {
+        return objsMngr;
+    }
+
+    public JSLCommunication_002 getCommunication() {
+        return communication;
+    }
+
+
+    // Objects and structure
+
+    public static String getObjId(int index) {
+        return String.format(OBJ_ID_FORMAT, index);
+    }
+
+    public static String compPath(int container, String prefix, int state) {
+        return "cont" + container + StructureDefinitions.PATH_SEP + prefix + state;
+    }
+
+    /**
+     * @return the benchmarks object's structure, as JSON string: the root
+     * contains {@link #STRUCT_CONTAINERS} containers and each container
+     * contains {@link #STRUCT_STATES_PER_CONTAINER} boolean and range actions.
+     */
+    public static String generateStructure() {
+        StringBuilder sb = new StringBuilder("{\"components\":[");
+        for (int c = 0; c < STRUCT_CONTAINERS; c++) {
+            if (c > 0) sb.append(',');
+            sb.append(String.format("{\"name\":\"cont%d\",\"type\":\"%s\",\"descr\":\"\",\"components\":[", c, StructureDefinitions.TYPE_CONTAINER));
+            for (int s = 0; s < STRUCT_STATES_PER_CONTAINER; s++) {
+                if (s > 0) sb.append(',');
+                sb.append(String.format("{\"name\":\"bool%d\",\"type\":\"%s\",\"descr\":\"\",\"state\":\"false\"},", s, StructureDefinitions.TYPE_BOOL_ACTION));
+                sb.append(String.format("{\"name\":\"range%d\",\"type\":\"%s\",\"descr\":\"\",\"state\":\"0\",\"min\":0.0,\"max\":100.0,\"step\":1.0}", s, StructureDefinitions.TYPE_RANGE_ACTION));
+            }
+            sb.append("]}");
+        }
+        return sb.append("]}").toString();
+    }
+
+
+    // Messages
+
+    public static String createStructMsg(String objId, String struct) {
+        return JOSPProtocol_ObjectToService.createObjectStructMsg(objId, struct);
+    }
+
+    public static String createBooleanUpdMsg(String objId, String compPath, boolean newState, boolean oldState) {
+        return JOSPProtocol_ObjectToService.createObjectStateUpdMsg(objId, compPath, new StateUpd("JOSPBoolean", Boolean.toString(newState), Boolean.toString(oldState)));
+    }
+
+    public static String createRangeUpdMsg(String objId, String compPath, double newState, double oldState) {
+        return JOSPProtocol_ObjectToService.createObjectStateUpdMsg(objId, compPath, new StateUpd("JOSPRange", JavaFormatter.doubleToStr(newState), JavaFormatter.doubleToStr(oldState)));
+    }
+
+    /**
+     * State update as sent by the JOD objects, parsed on JSL side by the
+     * <code>JOSPBoolean</code> and <code>JOSPRange</code> state classes.
+     */
+    private static class StateUpd implements JSLStateUpdate {
+
+        private final String type;
+        private final String newState;
+        private final String oldState;
+
+        private StateUpd(String type, String newState, String oldState) {
+            this.type = type;
+            this.newState = newState;
+            this.oldState = oldState;
+        }
+
+        @Override
+        public String getType() {
+            return type;
+        }
+
+        @Override
+        public String encode() {
+            return "new" + KEY_VALUE_SEP + newState + ITEMS_SEP + "old" + KEY_VALUE_SEP + oldState;
+        }
+
+    }
+
+
+    // Settings
+
+    public static Map<String, Object> getDefaultJSLSettings() {
+        Map<String, Object> properties = new HashMap<>();
+
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_ENABLED, "true");
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_ONLY_NO_SSL, "true");
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_ONLY_LOCALHOST, "true");
+        properties.put(JSLSettings_002.JSLCOMM_CLOUD_ENABLED, "false");
+        // Benchmarks must not persist (nor reuse) the known objects
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_TRANSPORT_CACHE_PATH, "");
+        properties.put(JSLSettings_002.JSLCOMM_LOCAL_DISCOVERY_CACHE_PATH, "");
+        return properties;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.josp.jsl.JSLBenchmarkFixtures;
+import com.robypomper.josp.protocol.JOSPPerm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks for the {@link JSLCommunication_002#processFromObjectMsg(String, JOSPPerm.Connection)}
+ * dispatch: message's object id parsing, object lookup and forwarding to the
+ * object's component.
+ * <p>
+ * The updated object is the last registered one, so the lookup is the worst
+ * case for given objects count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JSLCommunicationBenchmark {
+
+    @Param({"10", "1000"})
+    public int objectsCount;
+
+    private JSLCommunication_002 communication;
+    private final String[] boolUpdMsgs = new String[2];
+    private final String[] rangeUpdMsgs = new String[2];
+    private int idx = 0;
+
+    @Setup(Level.Trial)
+    public void setup() throws JSLCommunication.LocalCommunicationException {
+        JSLBenchmarkFixtures fixtures = new JSLBenchmarkFixtures(objectsCount);
+        communication = fixtures.getCommunication();
+
+        String objId = JSLBenchmarkFixtures.getObjId(objectsCount - 1);
+        boolUpdMsgs[0] = JSLBenchmarkFixtures.createBooleanUpdMsg(objId, JSLBenchmarkFixtures.BOOL_PATH, true, false);
+        boolUpdMsgs[1] = JSLBenchmarkFixtures.createBooleanUpdMsg(objId, JSLBenchmarkFixtures.BOOL_PATH, false, true);
+        rangeUpdMsgs[0] = JSLBenchmarkFixtures.createRangeUpdMsg(objId, JSLBenchmarkFixtures.RANGE_PATH, 50, 0);
+        rangeUpdMsgs[1] = JSLBenchmarkFixtures.createRangeUpdMsg(objId, JSLBenchmarkFixtures.RANGE_PATH, 0, 50);
+    }
+
+    @Benchmark
+    public boolean processBooleanUpdMsg() {
+        return communication.processFromObjectMsg(boolUpdMsgs[idx++ & 1], JOSPPerm.Connection.OnlyLocal);
+    }
+
+    @Benchmark
+    public boolean processRangeUpdMsg() {
+        return communication.processFromObjectMsg(rangeUpdMsgs[idx++ & 1], JOSPPerm.Connection.OnlyLocal);
+    }
+
+}
@@ -0,0 +1,72 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs;
+
+import com.robypomper.josp.jsl.JSLBenchmarkFixtures;
+import com.robypomper.josp.jsl.comm.JSLCommunication;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks for the {@link JSLObjsMngr_002#getById(String)} lookup, used
+ * for each message received from the objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JSLObjsMngrBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int objectsCount;
+
+    private JSLObjsMngr_002 objsMngr;
+    private String firstObjId;
+    private String lastObjId;
+    private String missingObjId;
+
+    @Setup(Level.Trial)
+    public void setup() throws JSLCommunication.LocalCommunicationException {
+        objsMngr = new JSLBenchmarkFixtures(objectsCount).getObjsMngr();
+        firstObjId = JSLBenchmarkFixtures.getObjId(0);
+        lastObjId = JSLBenchmarkFixtures.getObjId(objectsCount - 1);
+        missingObjId = JSLBenchmarkFixtures.getObjId(objectsCount);
+    }
+
+    @Benchmark
+    public JSLRemoteObject getByIdFirst() {
+        return objsMngr.getById(firstObjId);
+    }
+
+    @Benchmark
+    public JSLRemoteObject getByIdLast() {
+        return objsMngr.getById(lastObjId);
+    }
+
+    @Benchmark
+    public JSLRemoteObject getByIdMissing() {
+        return objsMngr.getById(missingObjId);
+    }
+
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs.remote;
+
+import com.robypomper.josp.jsl.JSLBenchmarkFixtures;
+import com.robypomper.josp.jsl.comm.JSLCommunication;
+import com.robypomper.josp.protocol.JOSPPerm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks for the {@link DefaultObjStruct} messages processing: state
+ * updates and full structure deserialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultObjStructBenchmark {
+
+    private DefaultObjStruct objStruct;
+    private String structMsg;
+    private final String[] boolUpdMsgs = new String[2];
+    private final String[] rangeUpdMsgs = new String[2];
+    private int idx = 0;
+
+    @Setup(Level.Trial)
+    public void setup() throws JSLCommunication.LocalCommunicationException {
+        JSLBenchmarkFixtures fixtures = new JSLBenchmarkFixtures(1);
+        String objId = JSLBenchmarkFixtures.getObjId(0);
+        objStruct = (DefaultObjStruct) fixtures.getObjsMngr().getById(objId).getStruct();
+
+        structMsg = JSLBenchmarkFixtures.createStructMsg(objId, JSLBenchmarkFixtures.generateStructure());
+        boolUpdMsgs[0] = JSLBenchmarkFixtures.createBooleanUpdMsg(objId, JSLBenchmarkFixtures.BOOL_PATH, true, false);
+        boolUpdMsgs[1] = JSLBenchmarkFixtures.createBooleanUpdMsg(objId, JSLBenchmarkFixtures.BOOL_PATH, false, true);
+        rangeUpdMsgs[0] = JSLBenchmarkFixtures.createRangeUpdMsg(objId, JSLBenchmarkFixtures.RANGE_PATH, 50, 0);
+        rangeUpdMsgs[1] = JSLBenchmarkFixtures.createRangeUpdMsg(objId, JSLBenchmarkFixtures.RANGE_PATH, 0, 50);
+    }
+
+    @Benchmark
+    public boolean processObjectUpdMsgBoolean() {
+        return objStruct.processObjectUpdMsg(boolUpdMsgs[idx++ & 1], JOSPPerm.Connection.OnlyLocal);
+    }
+
+    @Benchmark
+    public boolean processObjectUpdMsgRange() {
+        return objStruct.processObjectUpdMsg(rangeUpdMsgs[idx++ & 1], JOSPPerm.Connection.OnlyLocal);
+    }
+
+    @Benchmark
+    public boolean processObjectStructMsg() {
+        return objStruct.processObjectStructMsg(structMsg);
+    }
+
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs.structure;
+
+import com.robypomper.josp.jsl.JSLBenchmarkFixtures;
+import com.robypomper.josp.jsl.comm.JSLCommunication;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks for the {@link DefaultJSLComponentPath} parsing and the
+ * {@link DefaultJSLComponentPath#searchComponent(JSLContainer, JSLComponentPath)}
+ * lookup, executed for each state update received.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DefaultJSLComponentPathBenchmark {
+
+    private JSLRoot root;
+    private JSLComponentPath path;
+
+    @Setup(Level.Trial)
+    public void setup() throws JSLCommunication.LocalCommunicationException {
+        JSLBenchmarkFixtures fixtures = new JSLBenchmarkFixtures(1);
+        root = fixtures.getObjsMngr().getById(JSLBenchmarkFixtures.getObjId(0)).getStruct().getStructure();
+        path = new DefaultJSLComponentPath(JSLBenchmarkFixtures.RANGE_PATH);
+    }
+
+    @Benchmark
+    public JSLComponentPath parse() {
+        return new DefaultJSLComponentPath(JSLBenchmarkFixtures.RANGE_PATH);
+    }
+
+    @Benchmark
+    public JSLComponent searchComponent() {
+        return DefaultJSLComponentPath.searchComponent(root, path);
+    }
+
+    @Benchmark
+    public JSLComponent parseAndSearchComponent() {
+        return DefaultJSLComponentPath.searchComponent(root, new DefaultJSLComponentPath(JSLBenchmarkFixtures.RANGE_PATH));
+    }
+
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs.structure.pillars;
+
+import com.robypomper.josp.jsl.JSLBenchmarkFixtures;
+import com.robypomper.josp.jsl.comm.JSLCommunication;
+import com.robypomper.josp.jsl.objs.remote.ObjStruct;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Benchmarks for the outbound actions' params encoding, executed for each
+ * action sent to the objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ActionParamsEncodeBenchmark {
+
+    private JSLBooleanAction boolAction;
+    private JSLRangeAction rangeAction;
+    private JSLBooleanAction.JOSPBoolean boolParams;
+    private JSLRangeAction.JOSPRange rangeParams;
+
+    @Setup(Level.Trial)
+    public void setup() throws JSLCommunication.LocalCommunicationException {
+        JSLBenchmarkFixtures fixtures = new JSLBenchmarkFixtures(1);
+        ObjStruct struct = fixtures.getObjsMngr().getById(JSLBenchmarkFixtures.getObjId(0)).getStruct();
+        boolAction = (JSLBooleanAction) struct.getComponent(JSLBenchmarkFixtures.BOOL_PATH);
+        rangeAction = (JSLRangeAction) struct.getComponent(JSLBenchmarkFixtures.RANGE_PATH);
+        boolParams = new JSLBooleanAction.JOSPBoolean(true, boolAction);
+        rangeParams = new JSLRangeAction.JOSPRange(42.5, rangeAction);
+    }
+
+    @Benchmark
+    public String booleanEncode() {
+        return boolParams.encode();
+    }
+
+    @Benchmark
+    public String rangeEncode() {
+        return rangeParams.encode();
+    }
+
+    @Benchmark
+    public String booleanCreateAndEncode() {
+        return new JSLBooleanAction.JOSPBoolean(true, boolAction).encode();
+    }
+
+    @Benchmark
+    public String rangeCreateAndEncode() {
+        return new JSLRangeAction.JOSPRange(42.5, rangeAction).encode();
+    }
+
+}
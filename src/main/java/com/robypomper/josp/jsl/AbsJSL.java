@@ -25,6 +25,8 @@ import com.robypomper.java.JavaEnum;
 import com.robypomper.josp.clients.JCPAPIsClientSrv;
 import com.robypomper.josp.jsl.admin.JSLAdmin;
 import com.robypomper.josp.jsl.comm.JSLCommunication;
+import com.robypomper.josp.jsl.metrics.JSLMetrics;
+import com.robypomper.josp.jsl.metrics.JSLMetricsPrometheusExporter;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
@@ -34,7 +36,9 @@ import com.robypomper.josp.states.StateException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -83,6 +87,17 @@ public abstract class AbsJSL implements JSL {
 
     private static final Logger log = LoggerFactory.getLogger(AbsJSL.class);
     private final JavaEnum.Synchronizable<JSLState> state = new JavaEnum.Synchronizable<>(JSLState.STOP);
+    private JSLMetricsPrometheusExporter metricsExporter = null;
+    /**
+     * Last startup's steps, the ones exceeding their deadline can still be
+     * running when the shutdown begins.
+     */
+    private JSLLifecycleOrchestrator startupSteps = null;
+    /**
+     * True if this instance started (and must stop) the shared
+     * {@link JSLEventBus}'s ring.
+     */
+    private boolean eventsRingStarted = false;
 
 
     // Constructor
@@ -255,33 +270,45 @@ public abstract class AbsJSL implements JSL {
                 "Method startupInstance() can be called only from STOP or RESTARTING state";
 
         synchronized (state) {
+            startEventsRing();
             if (state.enumNotEquals(JSLState.RESTARTING)) {
                 JSLState oldState = state.get();
                 state.set(JSLState.STARTING);
                 emitJSLStateChange(state.get(), oldState);
             }
 
-            try {
-                boolean startLocal = ((JSLSettings_002) settings).getLocalEnabled();
-                log.info(String.format("JSLCommunication local communication %s", startLocal ? "enabled" : "disabled"));
-                if (startLocal) comm.getLocalConnections().start();
-
-            } catch (StateException | Discover.DiscoveryException e) {
-                log.warn(String.format("Error on starting local communication of '%s' service because %s", srvInfo.getSrvId(), e.getMessage()), e);
-            }
-
-            try {
-                boolean startCloud = ((JSLSettings_002) settings).getCloudEnabled();
-                log.info(String.format("JCP GWs client %s by settings", startCloud ? "enabled" : "disabled"));
-                if (startCloud)
-                    comm.getCloudConnection().connect();
-
-            } catch (PeerConnectionException e) {
-                if (!comm.getCloudAPIs().isConnected())
-                    log.warn("Can't connect GWs client because JCP API not available, retry when JCP API become reachable");
-                else
-                    log.warn("JCP GWs client not connected, retry later", e);
-            }
+            // Start local and cloud communication concurrently
+            long timeout = ((JSLSettings_002) settings).getLifecycleStartTimeout();
+            startupSteps = new JSLLifecycleOrchestrator("startup");
+            startupSteps
+                    .add("local", timeout, () -> {
+                        try {
+                            boolean startLocal = ((JSLSettings_002) settings).getLocalEnabled();
+                            log.info(String.format("JSLCommunication local communication %s", startLocal ? "enabled" : "disabled"));
+                            if (startLocal) comm.getLocalConnections().start();
+
+                        } catch (StateException | Discover.DiscoveryException e) {
+                            log.warn(String.format("Error on starting local communication of '%s' service because %s", srvInfo.getSrvId(), e.getMessage()), e);
+                        }
+                    })
+                    .add("cloud", timeout, () -> {
+                        try {
+                            boolean startCloud = ((JSLSettings_002) settings).getCloudEnabled();
+                            log.info(String.format("JCP GWs client %s by settings", startCloud ? "enabled" : "disabled"));
+                            if (startCloud)
+                                comm.getCloudConnection().connect();
+
+                        } catch (PeerConnectionException e) {
+                            if (!comm.getCloudAPIs().isConnected())
+                                log.warn("Can't connect GWs client because JCP API not available, retry when JCP API become reachable");
+                            else
+                                log.warn("JCP GWs client not connected, retry later", e);
+                        }
+                    })
+                    .run(timeout);
+            srvInfo.startAutoRefresh();
+            admin.startBackgroundTasks();
+            startMetricsExporter();
 
             if (state.enumNotEquals(JSLState.RESTARTING)) {
                 JSLState oldState = state.get();
@@ -307,31 +334,88 @@ public abstract class AbsJSL implements JSL {
                 emitJSLStateChange(state.get(), oldState);
             }
 
-            log.trace("JSLCommunication stop discovery and disconnect from JCP");
-            try {
-                comm.getLocalConnections().stop();
-
-            } catch (StateException | Discover.DiscoveryException e) {
-                log.warn(String.format("Error on stopping local communication service '%s''s objects discovery because %s", srvInfo.getSrvId(), e.getMessage()), e);
+            long timeout = ((JSLSettings_002) settings).getLifecycleStopTimeout();
+            // Startup's steps exceeding their deadline can still be running
+            // (e.g. local discovery still STARTING), so wait or cancel them
+            if (startupSteps != null) {
+                startupSteps.awaitOrCancel(timeout);
+                startupSteps = null;
             }
 
-            try {
-                comm.getCloudConnection().disconnect();
-
-            } catch (PeerDisconnectionException e) {
-                log.warn(String.format("Error on disconnecting cloud communication of '%s' service because %s", srvInfo.getSrvId(), e.getMessage()), e);
-            }
+            srvInfo.stopAutoRefresh();
+            admin.stopBackgroundTasks();
+            stopMetricsExporter();
+            log.trace("JSLCommunication stop discovery and disconnect from JCP");
+            new JSLLifecycleOrchestrator("shutdown")
+                    .add("local", timeout, () -> {
+                        try {
+                            comm.getLocalConnections().stop();
+
+                        } catch (StateException | Discover.DiscoveryException e) {
+                            log.warn(String.format("Error on stopping local communication service '%s''s objects discovery because %s", srvInfo.getSrvId(), e.getMessage()), e);
+                        }
+                    })
+                    .add("cloud", timeout, () -> {
+                        try {
+                            comm.getCloudConnection().disconnect();
+
+                        } catch (PeerDisconnectionException e) {
+                            log.warn(String.format("Error on disconnecting cloud communication of '%s' service because %s", srvInfo.getSrvId(), e.getMessage()), e);
+                        }
+                    })
+                    .run(timeout);
 
             if (state.enumNotEquals(JSLState.RESTARTING)) {
                 JSLState oldState = state.get();
                 state.set(JSLState.STOP);
                 emitJSLStateChange(state.get(), oldState);
+                // Kept on restart, so events are not re-ordered
+                stopEventsRing();
             }
         }
 
         log.info(String.format("JSL Service '%s' stopped", srvInfo.getSrvId()));
     }
 
+    private void startMetricsExporter() {
+        JSLSettings_002 locSettings = (JSLSettings_002) settings;
+        if (!locSettings.getMetricsPrometheusEnabled())
+            return;
+
+        try {
+            if (metricsExporter == null)
+                metricsExporter = new JSLMetricsPrometheusExporter(getMetrics(), InetAddress.getByName(locSettings.getMetricsPrometheusAddress()), locSettings.getMetricsPrometheusPort());
+            metricsExporter.start();
+
+        } catch (UnknownHostException e) {
+            log.warn(String.format("Error on starting Prometheus metrics exporter because unknown address '%s'", locSettings.getMetricsPrometheusAddress()), e);
+        } catch (IOException e) {
+            log.warn(String.format("Error on starting Prometheus metrics exporter on port %d because %s", locSettings.getMetricsPrometheusPort(), e.getMessage()), e);
+        }
+    }
+
+    private void stopMetricsExporter() {
+        if (metricsExporter != null)
+            metricsExporter.stop();
+    }
+
+    private void startEventsRing() {
+        JSLSettings_002 locSettings = (JSLSettings_002) settings;
+        if (eventsRingStarted || locSettings.getEventsMode() != JSLEventBus.Mode.RING)
+            return;
+
+        JSLEventBus.startRing(locSettings.getEventsRingCapacity(), locSettings.getEventsRingWaitStrategy(), locSettings.getEventsRingBatchSize());
+        eventsRingStarted = true;
+    }
+
+    private void stopEventsRing() {
+        if (!eventsRingStarted)
+            return;
+
+        JSLEventBus.stopRing();
+        eventsRingStarted = false;
+    }
+
     private void restartInstance() {
         assert state.enumEquals(JSLState.RUN)
                 || state.enumEquals(JSLState.STOP) :
@@ -408,6 +492,14 @@ public abstract class AbsJSL implements JSL {
         return comm;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JSLMetrics getMetrics() {
+        return comm.getMetrics();
+    }
+
 
     // Listeners
 
@@ -22,6 +22,7 @@ import com.robypomper.java.JavaAssertions;
 import com.robypomper.josp.clients.JCPAPIsClientSrv;
 import com.robypomper.josp.jsl.admin.JSLAdmin;
 import com.robypomper.josp.jsl.comm.JSLCommunication;
+import com.robypomper.josp.jsl.metrics.JSLMetrics;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
 import com.robypomper.josp.jsl.user.JSLUserMngr;
@@ -132,6 +133,12 @@ public interface JSL {
 
     JSLCommunication getCommunication();
 
+    /**
+     * @return the registry of the JSL internal metrics (messages processing,
+     * connections and queues).
+     */
+    JSLMetrics getMetrics();
+
 
     // Listeners
 
@@ -0,0 +1,452 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * Event bus used by all JSL components to notify their listeners.
+ * <p>
+ * The JSL components never loop over their listeners directly from the
+ * emitting thread, but they publish each event to this class with a
+ * {@link Handler} (allocated once per emitter) that performs the actual
+ * listeners notification. Depending on the <code>jsl.events.mode</code>
+ * setting, the handler is executed:
+ * <ul>
+ *     <li>{@link Mode#SYNC}: immediately, on the publisher's thread (default)</li>
+ *     <li>{@link Mode#RING}: asynchronously, on the bus's consumer thread</li>
+ * </ul>
+ * In the {@link Mode#RING} mode, events are stored into a pre-allocated ring
+ * buffer of typed slots (3 object and 2 numeric arguments, so no event object
+ * is allocated on publishing). Many threads can publish concurrently, while a
+ * single consumer thread processes the published events in batches and in
+ * publication order. When the ring is full, publishers wait for free slots.
+ * The consumer waits for new events according to the configured
+ * {@link WaitStrategy}.
+ * <p>
+ * Events published from the consumer thread (for example by a listener) are
+ * executed immediately, so listeners can't deadlock the bus.
+ */
+public class JSLEventBus {
+
+    // Class constants
+
+    private static final String THREAD_NAME = "JSLEventBus";
+    private static final long BLOCKING_MAX_WAIT_MS = 10;
+    private static final long SLEEPING_WAIT_NS = 100_000;
+    private static final long STOP_TIMEOUT_MS = 5000;
+
+
+    // Static vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLEventBus.class);
+    private static volatile JSLEventBus ring = null;
+    /**
+     * Ring stopped and still processing its pending events.
+     */
+    private static volatile JSLEventBus draining = null;
+    /**
+     * Number of {@link #startRing(int, WaitStrategy, int)} calls not yet
+     * balanced by a {@link #stopRing()} call.
+     */
+    private static int ringUsers = 0;
+
+
+    // Internal vars
+
+    private final Slot[] slots;
+    private final int mask;
+    private final int batchSize;
+    private final WaitStrategy waitStrategy;
+    /**
+     * Last sequence claimed by publishers.
+     */
+    private final AtomicLong claimed = new AtomicLong(-1);
+    /**
+     * Sequence published into each slot, used by the consumer to detect the
+     * slots ready to be processed.
+     */
+    private final AtomicLongArray published;
+    /**
+     * Last sequence processed by the consumer.
+     */
+    private volatile long consumed = -1;
+    private volatile boolean running = false;
+    private volatile boolean consumerWaiting = false;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private Thread consumerThread = null;
+    private long batchesCount = 0;
+
+
+    // Handlers and modes
+
+    /**
+     * Handler executed for each published event.
+     * <p>
+     * Emitters should allocate their handlers once (as fields) and pass the
+     * event's values as arguments.
+     */
+    public interface Handler {
+
+        void dispatch(Object o1, Object o2, Object o3, double d1, double d2);
+
+    }
+
+    /**
+     * Bus' dispatching modes.
+     */
+    public enum Mode {
+        SYNC,
+        RING
+    }
+
+    /**
+     * Consumer's strategies to wait for new events, from the lowest CPU usage
+     * (and highest latency) to the highest CPU usage (and lowest latency).
+     */
+    public enum WaitStrategy {
+        BLOCKING,
+        SLEEPING,
+        YIELDING,
+        BUSY_SPIN
+    }
+
+
+    // Constructor
+
+    private JSLEventBus(int capacity, WaitStrategy waitStrategy, int batchSize) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++)
+            slots[i] = new Slot();
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++)
+            published.set(i, -1);
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+
+    // Mode mngm
+
+    /**
+     * Switch the bus to the {@link Mode#RING} mode.
+     * <p>
+     * The ring is shared by all JSL instances of the process, so each call
+     * must be balanced by a {@link #stopRing()} call. If the bus was already
+     * in the {@link Mode#RING} mode, the running ring is kept (with its
+     * original configs) and only the number of its users is incremented.
+     *
+     * @param capacity     the ring's size, rounded to the next power of 2.
+     * @param waitStrategy the consumer's wait strategy.
+     * @param batchSize    the max number of events processed per batch.
+     */
+    public static synchronized void startRing(int capacity, WaitStrategy waitStrategy, int batchSize) {
+        if (ring != null) {
+            ringUsers++;
+            log.debug(String.format("JSL event bus already in RING mode, shared by %d users", ringUsers));
+            return;
+        }
+
+        ringUsers = 1;
+        JSLEventBus bus = new JSLEventBus(capacity, waitStrategy, batchSize);
+        bus.running = true;
+        bus.consumerThread = JSLThreads.start(THREAD_NAME, bus::consume);
+        ring = bus;
+        log.info(String.format("JSL event bus started in RING mode (capacity: %d, wait strategy: %s, batch size: %d)", bus.slots.length, waitStrategy, bus.batchSize));
+    }
+
+    /**
+     * Release the ring and, when it has no more users, switch the bus to the
+     * {@link Mode#SYNC} mode, after processing all pending events.
+     * <p>
+     * While the pending events are processed, the events published by other
+     * threads wait for them, so they are not dispatched out of order. If the
+     * ring is not drained within {@value #STOP_TIMEOUT_MS} ms, the pending
+     * events are left to the consumer thread and new events are dispatched
+     * immediately.
+     */
+    public static synchronized void stopRing() {
+        JSLEventBus bus = ring;
+        if (bus == null)
+            return;
+        if (--ringUsers > 0) {
+            log.debug(String.format("JSL event bus kept in RING mode, still used by %d users", ringUsers));
+            return;
+        }
+
+        draining = bus;
+        ring = null;
+        bus.running = false;
+        bus.signalConsumer();
+        if (Thread.currentThread() != bus.consumerThread) {
+            try {
+                bus.consumerThread.join(STOP_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (bus.consumerThread.isAlive())
+                log.warn(String.format("JSL event bus not drained within %d ms, %d pending events abandoned to the consumer thread", STOP_TIMEOUT_MS, bus.claimed.get() - bus.consumed));
+        }
+        draining = null;
+        log.info("JSL event bus switched to SYNC mode");
+    }
+
+    /**
+     * @return current bus' mode.
+     */
+    public static Mode getMode() {
+        return ring != null ? Mode.RING : Mode.SYNC;
+    }
+
+
+    // Publishing
+
+    public static void publish(Handler handler, Object o1) {
+        publish(handler, o1, null, null, 0, 0);
+    }
+
+    public static void publish(Handler handler, Object o1, Object o2) {
+        publish(handler, o1, o2, null, 0, 0);
+    }
+
+    public static void publish(Handler handler, Object o1, Object o2, Object o3) {
+        publish(handler, o1, o2, o3, 0, 0);
+    }
+
+    /**
+     * Publish an event to the bus.
+     *
+     * @param handler the handler that notifies the event to the listeners.
+     * @param o1      first event's object argument.
+     * @param o2      second event's object argument.
+     * @param o3      third event's object argument.
+     * @param d1      first event's numeric argument.
+     * @param d2      second event's numeric argument.
+     */
+    public static void publish(Handler handler, Object o1, Object o2, Object o3, double d1, double d2) {
+        JSLEventBus bus = ring;
+        if (bus == null) {
+            JSLEventBus stopping = draining;
+            if (stopping != null)
+                stopping.awaitDrained();
+            handler.dispatch(o1, o2, o3, d1, d2);
+            return;
+        }
+        if (Thread.currentThread() == bus.consumerThread) {
+            handler.dispatch(o1, o2, o3, d1, d2);
+            return;
+        }
+
+        bus.enqueue(handler, o1, o2, o3, d1, d2);
+    }
+
+    private void enqueue(Handler handler, Object o1, Object o2, Object o3, double d1, double d2) {
+        long seq = claimed.incrementAndGet();
+        while (seq - slots.length > consumed) {
+            if (!consumerThread.isAlive()) {
+                // Consumer terminated, the slot will never be released
+                handler.dispatch(o1, o2, o3, d1, d2);
+                return;
+            }
+            LockSupport.parkNanos(SLEEPING_WAIT_NS);
+        }
+
+        int index = (int) (seq & mask);
+        Slot slot = slots[index];
+        slot.handler = handler;
+        slot.o1 = o1;
+        slot.o2 = o2;
+        slot.o3 = o3;
+        slot.d1 = d1;
+        slot.d2 = d2;
+        published.lazySet(index, seq);
+
+        if (consumerWaiting)
+            signalConsumer();
+
+        if (!running) {
+            // Ring stopping, the consumer may terminate before seeing this event
+            while (consumed < seq && consumerThread.isAlive())
+                LockSupport.parkNanos(SLEEPING_WAIT_NS);
+            if (consumed < seq)
+                handler.dispatch(o1, o2, o3, d1, d2);
+        }
+    }
+
+    /**
+     * Wait until the consumer processed all pending events, or the ring's
+     * stop timed out.
+     */
+    private void awaitDrained() {
+        if (Thread.currentThread() == consumerThread)
+            return;
+
+        while (draining == this && consumerThread.isAlive())
+            LockSupport.parkNanos(SLEEPING_WAIT_NS);
+    }
+
+
+    // Consuming
+
+    private void consume() {
+        long next = 0;
+        while (running) {
+            long last = availableUpTo(next);
+            if (last < next) {
+                waitFor(next);
+                continue;
+            }
+            next = process(next, last);
+        }
+
+        // Process pending events, including the ones claimed by publishers
+        // before the ring was stopped
+        while (consumed < claimed.get()) {
+            long last = availableUpTo(next);
+            if (last < next) {
+                LockSupport.parkNanos(SLEEPING_WAIT_NS);
+                continue;
+            }
+            next = process(next, last);
+        }
+    }
+
+    private long availableUpTo(long next) {
+        long last = next - 1;
+        long max = next + batchSize - 1;
+        while (last < max && published.get((int) ((last + 1) & mask)) == last + 1)
+            last++;
+        return last;
+    }
+
+    private long process(long first, long last) {
+        for (long seq = first; seq <= last; seq++) {
+            Slot slot = slots[(int) (seq & mask)];
+            try {
+                slot.handler.dispatch(slot.o1, slot.o2, slot.o3, slot.d1, slot.d2);
+            } catch (Throwable t) {
+                log.warn(String.format("Error on dispatching event because %s", t.getMessage()), t);
+            }
+            slot.clear();
+        }
+        consumed = last;
+        batchesCount++;
+        return last + 1;
+    }
+
+    private void waitFor(long next) {
+        switch (waitStrategy) {
+            case BLOCKING:
+                lock.lock();
+                try {
+                    consumerWaiting = true;
+                    if (running && published.get((int) (next & mask)) != next)
+                        notEmpty.await(BLOCKING_MAX_WAIT_MS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    running = false;
+                } finally {
+                    consumerWaiting = false;
+                    lock.unlock();
+                }
+                break;
+            case SLEEPING:
+                LockSupport.parkNanos(SLEEPING_WAIT_NS);
+                break;
+            case YIELDING:
+                Thread.yield();
+                break;
+            case BUSY_SPIN:
+                break;
+        }
+    }
+
+    private void signalConsumer() {
+        lock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+
+    // Stats
+
+    /**
+     * @return the number of events published and not yet processed, 0 in
+     * {@link Mode#SYNC} mode.
+     */
+    public static long getBacklog() {
+        JSLEventBus bus = ring;
+        return bus != null ? bus.claimed.get() - bus.consumed : 0;
+    }
+
+    /**
+     * @return the number of events processed by the ring's consumer.
+     */
+    public static long getProcessedCount() {
+        JSLEventBus bus = ring;
+        return bus != null ? bus.consumed + 1 : 0;
+    }
+
+    /**
+     * @return the number of batches processed by the ring's consumer.
+     */
+    public static long getBatchesCount() {
+        JSLEventBus bus = ring;
+        return bus != null ? bus.batchesCount : 0;
+    }
+
+
+    // Ring slot
+
+    /**
+     * Pre-allocated event's slot.
+     */
+    private static class Slot {
+
+        private Handler handler;
+        private Object o1;
+        private Object o2;
+        private Object o3;
+        private double d1;
+        private double d2;
+
+        private void clear() {
+            handler = null;
+            o1 = null;
+            o2 = null;
+            o3 = null;
+        }
+
+    }
+
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+
+/**
+ * Executes the startup (or shutdown) steps of the JSL components in parallel.
+ * <p>
+ * Each component is added with its own deadline. The {@link #run(long)}
+ * method starts all components concurrently, then waits for each of them
+ * until the earlier of its deadline and the global timeout. Components that
+ * exceed their deadline are not interrupted: they keep running in background
+ * and the caller can go on. So a slow component (for example an unreachable
+ * cloud gateway) can't delay the others. Steps still running in background
+ * can be awaited, and cancelled, later with {@link #awaitOrCancel(long)};
+ * for example, before executing the opposite phase.
+ * <p>
+ * Components must handle (and log) their own errors; unexpected exceptions
+ * are logged by the orchestrator and reported as {@link Result#FAILED}.
+ */
+public class JSLLifecycleOrchestrator {
+
+    // Class constants
+
+    public enum Result {
+        COMPLETED,
+        FAILED,
+        TIMEOUT
+    }
+
+    /**
+     * Component's lifecycle step.
+     */
+    public interface Step {
+
+        void run() throws Exception;
+
+    }
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLLifecycleOrchestrator.class);
+    private final String name;
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+    private final Map<String, Long> deadlines = new LinkedHashMap<>();
+    private final Map<String, Future<?>> futures = new LinkedHashMap<>();
+
+
+    // Constructor
+
+    /**
+     * @param name the orchestrated phase's name (like 'startup' or 'shutdown'),
+     *             used for logging and threads names.
+     */
+    public JSLLifecycleOrchestrator(String name) {
+        this.name = name;
+    }
+
+
+    // Steps mngm
+
+    /**
+     * Add a component's step.
+     *
+     * @param component  the component's name.
+     * @param deadlineMs max time (in milliseconds) to wait for the step.
+     * @param step       the step to execute.
+     * @return this orchestrator, to chain the calls.
+     */
+    public JSLLifecycleOrchestrator add(String component, long deadlineMs, Step step) {
+        steps.put(component, step);
+        deadlines.put(component, deadlineMs);
+        return this;
+    }
+
+    /**
+     * Execute all added steps concurrently and wait for them.
+     *
+     * @param globalTimeoutMs max time (in milliseconds) to wait for all steps.
+     * @return the result of each component's step.
+     */
+    public synchronized Map<String, Result> run(long globalTimeoutMs) {
+        long startAt = System.nanoTime();
+        long globalDeadline = startAt + TimeUnit.MILLISECONDS.toNanos(globalTimeoutMs);
+        futures.clear();
+        ExecutorService executor = Executors.newCachedThreadPool(JSLThreads.newThreadFactory("JSLLifecycle-" + name + "-%d"));
+
+        try {
+            for (Map.Entry<String, Step> step : steps.entrySet())
+                futures.put(step.getKey(), executor.submit(() -> {
+                    step.getValue().run();
+                    return null;
+                }));
+        } finally {
+            executor.shutdown();    // running steps are not interrupted
+        }
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        List<String> timedOut = new ArrayList<>();
+        for (Map.Entry<String, Future<?>> f : futures.entrySet()) {
+            long deadline = Math.min(startAt + TimeUnit.MILLISECONDS.toNanos(deadlines.get(f.getKey())), globalDeadline);
+            try {
+                f.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                results.put(f.getKey(), Result.COMPLETED);
+
+            } catch (TimeoutException e) {
+                results.put(f.getKey(), Result.TIMEOUT);
+                timedOut.add(f.getKey());
+
+            } catch (ExecutionException e) {
+                log.warn(String.format("Error on JSL %s of '%s' component because %s", name, f.getKey(), e.getCause().getMessage()), e.getCause());
+                results.put(f.getKey(), Result.FAILED);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.put(f.getKey(), Result.TIMEOUT);
+                timedOut.add(f.getKey());
+            }
+        }
+
+        if (!timedOut.isEmpty())
+            log.warn(String.format("JSL %s of components %s exceeded their deadline, continue in background", name, timedOut));
+        log.debug(String.format("JSL %s of %d components executed in %d ms", name, steps.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startAt)));
+        return results;
+    }
+
+    /**
+     * Wait for the steps still running after the {@link #run(long)} method,
+     * then cancel (interrupting them) the steps not completed within given
+     * timeout.
+     *
+     * @param timeoutMs max time (in milliseconds) to wait for running steps.
+     * @return true if all steps were completed, false if some step was
+     * cancelled.
+     */
+    public synchronized boolean awaitOrCancel(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<String> cancelled = new ArrayList<>();
+        for (Map.Entry<String, Future<?>> f : futures.entrySet()) {
+            if (f.getValue().isDone())
+                continue;
+            try {
+                f.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+            } catch (ExecutionException ignore) {
+                // already logged by the step, or reported as FAILED by run()
+            } catch (TimeoutException | CancellationException e) {
+                f.getValue().cancel(true);
+                cancelled.add(f.getKey());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                f.getValue().cancel(true);
+                cancelled.add(f.getKey());
+            }
+        }
+
+        if (!cancelled.isEmpty())
+            log.warn(String.format("JSL %s of components %s not completed within %d ms, cancelled", name, cancelled, timeoutMs));
+        return cancelled.isEmpty();
+    }
+
+}
@@ -16,11 +16,15 @@ import com.robypomper.josp.jsl.objs.structure.DefaultJSLComponentPath;
 import com.robypomper.josp.jsl.objs.structure.JSLComponent;
 import com.robypomper.josp.jsl.objs.structure.JSLComponentPath;
 import com.robypomper.josp.jsl.objs.structure.JSLRoot;
+import com.robypomper.josp.jsl.objs.structure.pillars.JSLBooleanState;
+import com.robypomper.josp.jsl.objs.structure.pillars.JSLRangeState;
 import com.robypomper.josp.jsl.user.JSLUserMngr;
 import com.robypomper.josp.protocol.JOSPPerm;
 import com.robypomper.josp.states.JSLState;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Commodity class to register most of the JSL listeners, even without a JSL
@@ -29,8 +33,13 @@ import java.util.*;
  * This class collect all listeners and when a JSL instance becomes available,
  * it starts acting as a bridge between the linked JSL instance and the registered
  * listeners.
- *
- * TODO Convert publicXYListeners into maps, to allow registrations specific for object's id
+ * <p>
+ * Objects' listeners (info, comm, struct and perms) can be registered for all
+ * objects (wildcard registrations) or only for a specific object's id. The
+ * structure and the states' listeners can also be registered for a specific
+ * object's id and component path. Events are routed directly to the
+ * listeners registered for the event's object, so listeners interested in
+ * few objects don't receive (and filter) the events of all objects.
  */
 @SuppressWarnings("unused")
 public class JSLListeners {
@@ -63,21 +72,21 @@ public class JSLListeners {
 
     // Public registrations
 
-    private final List<JSL.JSLStateListener> publicJSLStateListeners = new ArrayList<>();
-    private final List<JCPClient2.ConnectionListener> publicJCPClientConnectionListeners = new ArrayList<>();
-    private final List<JCPClient2.LoginListener> publicJCPClientLoginListeners = new ArrayList<>();
-    private final List<JSLLocalClientsMngr.CommLocalStateListener> publicCommLocalStateListeners = new ArrayList<>();
-    private final List<JSLLocalClientsMngr.LocalClientListener> publicCommLocalClientListeners = new ArrayList<>();
-    private final List<PeerConnectionListener> publicCommLocalClient_ConnectionListeners = new ArrayList<>();
-    private final List<PeerDataListener> publicCommLocalClient_DataListeners = new ArrayList<>();
-    private final List<PeerConnectionListener> publicCommCloudConnectionListeners = new ArrayList<>();
-    private final List<PeerDataListener> publicCommCloudDataListeners = new ArrayList<>();
-    private final List<JSLObjsMngr.ObjsMngrListener> publicObjsMngrListeners = new ArrayList<>();
-    private final List<ObjInfo.RemoteObjectInfoListener> publicObjsMngr_InfoListeners = new ArrayList<>();
-    private final List<ObjComm.RemoteObjectConnListener> publicObjsMngr_CommListeners = new ArrayList<>();
-    private final List<ObjStruct.RemoteObjectStructListener> publicObjsMngr_StructListeners = new ArrayList<>();
-    private final List<ObjPerms.RemoteObjectPermsListener> publicObjsMngr_PermsListeners = new ArrayList<>();
-    private final List<JSLUserMngr.UserListener> publicUserMngrListener = new ArrayList<>();
+    private final List<JSL.JSLStateListener> publicJSLStateListeners = new CopyOnWriteArrayList<>();
+    private final List<JCPClient2.ConnectionListener> publicJCPClientConnectionListeners = new CopyOnWriteArrayList<>();
+    private final List<JCPClient2.LoginListener> publicJCPClientLoginListeners = new CopyOnWriteArrayList<>();
+    private final List<JSLLocalClientsMngr.CommLocalStateListener> publicCommLocalStateListeners = new CopyOnWriteArrayList<>();
+    private final List<JSLLocalClientsMngr.LocalClientListener> publicCommLocalClientListeners = new CopyOnWriteArrayList<>();
+    private final List<PeerConnectionListener> publicCommLocalClient_ConnectionListeners = new CopyOnWriteArrayList<>();
+    private final List<PeerDataListener> publicCommLocalClient_DataListeners = new CopyOnWriteArrayList<>();
+    private final List<PeerConnectionListener> publicCommCloudConnectionListeners = new CopyOnWriteArrayList<>();
+    private final List<PeerDataListener> publicCommCloudDataListeners = new CopyOnWriteArrayList<>();
+    private final List<JSLObjsMngr.ObjsMngrListener> publicObjsMngrListeners = new CopyOnWriteArrayList<>();
+    private final List<ObjInfo.RemoteObjectInfoListener> publicObjsMngr_InfoListeners = new CopyOnWriteArrayList<>();
+    private final List<ObjComm.RemoteObjectConnListener> publicObjsMngr_CommListeners = new CopyOnWriteArrayList<>();
+    private final List<ObjStruct.RemoteObjectStructListener> publicObjsMngr_StructListeners = new CopyOnWriteArrayList<>();
+    private final List<ObjPerms.RemoteObjectPermsListener> publicObjsMngr_PermsListeners = new CopyOnWriteArrayList<>();
+    private final List<JSLUserMngr.UserListener> publicUserMngrListener = new CopyOnWriteArrayList<>();
 
     public void addJSLStateListener(JSL.JSLStateListener listener) {
         if (publicJSLStateListeners.contains(listener)) return;
@@ -199,6 +208,11 @@ public class JSLListeners {
             l.onLocalDisconnected(remObj, client);
     }
 
+    private void emitOnCommLocalClientSwitched(JSLRemoteObject remObj, JSLLocalClient oldClient, JSLLocalClient newClient) {
+        for (JSLLocalClientsMngr.LocalClientListener l : publicCommLocalClientListeners)
+            l.onLocalSwitched(remObj, oldClient, newClient);
+    }
+
     public void addCommLocalClient_ConnectionListeners(PeerConnectionListener listener) {
         if (publicCommLocalClient_ConnectionListeners.contains(listener))
             return;
@@ -366,31 +380,55 @@ public class JSLListeners {
     private void emitObjsMngr_InfoNameChanged(JSLRemoteObject obj, String newName, String oldName) {
         for (ObjInfo.RemoteObjectInfoListener l : publicObjsMngr_InfoListeners)
             l.onNameChanged(obj, newName, oldName);
+        List<ObjInfo.RemoteObjectInfoListener> byID = publicObjsMngr_InfoListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjInfo.RemoteObjectInfoListener l : byID)
+                l.onNameChanged(obj, newName, oldName);
     }
 
     private void emitObjsMngr_InfoOwnerIdChanged(JSLRemoteObject obj, String newOwnerId, String oldOwnerId) {
         for (ObjInfo.RemoteObjectInfoListener l : publicObjsMngr_InfoListeners)
             l.onOwnerIdChanged(obj, newOwnerId, oldOwnerId);
+        List<ObjInfo.RemoteObjectInfoListener> byID = publicObjsMngr_InfoListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjInfo.RemoteObjectInfoListener l : byID)
+                l.onOwnerIdChanged(obj, newOwnerId, oldOwnerId);
     }
 
     private void emitObjsMngr_InfoJODVersionChanged(JSLRemoteObject obj, String newJODVersion, String oldJODVersion) {
         for (ObjInfo.RemoteObjectInfoListener l : publicObjsMngr_InfoListeners)
             l.onJODVersionChanged(obj, newJODVersion, oldJODVersion);
+        List<ObjInfo.RemoteObjectInfoListener> byID = publicObjsMngr_InfoListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjInfo.RemoteObjectInfoListener l : byID)
+                l.onJODVersionChanged(obj, newJODVersion, oldJODVersion);
     }
 
     private void emitObjsMngr_InfoModelChanged(JSLRemoteObject obj, String newModel, String oldModel) {
         for (ObjInfo.RemoteObjectInfoListener l : publicObjsMngr_InfoListeners)
             l.onModelChanged(obj, newModel, oldModel);
+        List<ObjInfo.RemoteObjectInfoListener> byID = publicObjsMngr_InfoListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjInfo.RemoteObjectInfoListener l : byID)
+                l.onModelChanged(obj, newModel, oldModel);
     }
 
     private void emitObjsMngr_InfoBrandChanged(JSLRemoteObject obj, String newBrand, String oldBrand) {
         for (ObjInfo.RemoteObjectInfoListener l : publicObjsMngr_InfoListeners)
             l.onBrandChanged(obj, newBrand, oldBrand);
+        List<ObjInfo.RemoteObjectInfoListener> byID = publicObjsMngr_InfoListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjInfo.RemoteObjectInfoListener l : byID)
+                l.onBrandChanged(obj, newBrand, oldBrand);
     }
 
     private void emitObjsMngr_InfoLongDescrChanged(JSLRemoteObject obj, String newDescription, String oldDescription) {
         for (ObjInfo.RemoteObjectInfoListener l : publicObjsMngr_InfoListeners)
             l.onLongDescrChanged(obj, newDescription, oldDescription);
+        List<ObjInfo.RemoteObjectInfoListener> byID = publicObjsMngr_InfoListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjInfo.RemoteObjectInfoListener l : byID)
+                l.onLongDescrChanged(obj, newDescription, oldDescription);
     }
 
     public void addObjsMngr_CommListeners(ObjComm.RemoteObjectConnListener listener) {
@@ -408,21 +446,37 @@ public class JSLListeners {
     private void emitObjsMngr_CommLocalConnected(JSLRemoteObject obj, JSLLocalClient client) {
         for (ObjComm.RemoteObjectConnListener l : publicObjsMngr_CommListeners)
             l.onLocalConnected(obj, client);
+        List<ObjComm.RemoteObjectConnListener> byID = publicObjsMngr_CommListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjComm.RemoteObjectConnListener l : byID)
+                l.onLocalConnected(obj, client);
     }
 
     private void emitObjsMngr_CommLocalDisconnected(JSLRemoteObject obj, JSLLocalClient client) {
         for (ObjComm.RemoteObjectConnListener l : publicObjsMngr_CommListeners)
             l.onLocalDisconnected(obj, client);
+        List<ObjComm.RemoteObjectConnListener> byID = publicObjsMngr_CommListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjComm.RemoteObjectConnListener l : byID)
+                l.onLocalDisconnected(obj, client);
     }
 
     private void emitObjsMngr_CommCloudConnected(JSLRemoteObject obj) {
         for (ObjComm.RemoteObjectConnListener l : publicObjsMngr_CommListeners)
             l.onCloudConnected(obj);
+        List<ObjComm.RemoteObjectConnListener> byID = publicObjsMngr_CommListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjComm.RemoteObjectConnListener l : byID)
+                l.onCloudConnected(obj);
     }
 
     private void emitObjsMngr_CommCloudDisconnected(JSLRemoteObject obj) {
         for (ObjComm.RemoteObjectConnListener l : publicObjsMngr_CommListeners)
             l.onCloudDisconnected(obj);
+        List<ObjComm.RemoteObjectConnListener> byID = publicObjsMngr_CommListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjComm.RemoteObjectConnListener l : byID)
+                l.onCloudDisconnected(obj);
     }
 
     public void addObjsMngr_StructListeners(ObjStruct.RemoteObjectStructListener listener) {
@@ -440,6 +494,10 @@ public class JSLListeners {
     private void emitObjsMngr_StructStructureChanged(JSLRemoteObject obj, JSLRoot newRoot) {
         for (ObjStruct.RemoteObjectStructListener l : publicObjsMngr_StructListeners)
             l.onStructureChanged(obj, newRoot);
+        List<ObjStruct.RemoteObjectStructListener> byID = publicObjsMngr_StructListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjStruct.RemoteObjectStructListener l : byID)
+                l.onStructureChanged(obj, newRoot);
     }
 
     public void addObjsMngr_PermsListeners(ObjPerms.RemoteObjectPermsListener listener) {
@@ -457,11 +515,19 @@ public class JSLListeners {
     private void emitObjsMngr_PermsPermissionsChanged(JSLRemoteObject obj, List<JOSPPerm> newPerms, List<JOSPPerm> oldPerms) {
         for (ObjPerms.RemoteObjectPermsListener l : publicObjsMngr_PermsListeners)
             l.onPermissionsChanged(obj, newPerms, oldPerms);
+        List<ObjPerms.RemoteObjectPermsListener> byID = publicObjsMngr_PermsListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjPerms.RemoteObjectPermsListener l : byID)
+                l.onPermissionsChanged(obj, newPerms, oldPerms);
     }
 
     private void emitObjsMngr_PermsServicePermChanged(JSLRemoteObject obj, JOSPPerm.Connection connType, JOSPPerm.Type newPermType, JOSPPerm.Type oldPermType) {
         for (ObjPerms.RemoteObjectPermsListener l : publicObjsMngr_PermsListeners)
             l.onServicePermChanged(obj, connType, newPermType, oldPermType);
+        List<ObjPerms.RemoteObjectPermsListener> byID = publicObjsMngr_PermsListeners_byID.get(obj.getId());
+        if (byID != null)
+            for (ObjPerms.RemoteObjectPermsListener l : byID)
+                l.onServicePermChanged(obj, connType, newPermType, oldPermType);
     }
 
     public void addUserMngrListener(JSLUserMngr.UserListener listener) {
@@ -499,15 +565,15 @@ public class JSLListeners {
 
     // Filtered registrations
 
-    private final Map<String, List<JSLObjsMngr.ObjsMngrListener>> publicObjsMngrListeners_byID = new HashMap<>();
-    private final Map<String, List<JSLObjsMngr.ObjsMngrListener>> publicObjsMngrListeners_byModel = new HashMap<>();
-    private final Map<String, List<JSLObjsMngr.ObjsMngrListener>> publicObjsMngrListeners_byBrand = new HashMap<>();
-    private final Map<String, List<JSLObjsMngr.ObjsMngrListener>> publicObjsMngrListeners_byCompPath = new HashMap<>();
+    private final Map<String, List<JSLObjsMngr.ObjsMngrListener>> publicObjsMngrListeners_byID = new ConcurrentHashMap<>();
+    private final Map<String, List<JSLObjsMngr.ObjsMngrListener>> publicObjsMngrListeners_byModel = new ConcurrentHashMap<>();
+    private final Map<String, List<JSLObjsMngr.ObjsMngrListener>> publicObjsMngrListeners_byBrand = new ConcurrentHashMap<>();
+    private final Map<String, List<JSLObjsMngr.ObjsMngrListener>> publicObjsMngrListeners_byCompPath = new ConcurrentHashMap<>();
 
 
     public void addObjsMngrListenersByID(String id, JSLObjsMngr.ObjsMngrListener listener) {
         if (!publicObjsMngrListeners_byID.containsKey(id))
-            publicObjsMngrListeners_byID.put(id, new ArrayList<>());
+            publicObjsMngrListeners_byID.put(id, new CopyOnWriteArrayList<>());
 
         if (publicObjsMngrListeners_byID.get(id).contains(listener)) return;
 
@@ -544,7 +610,7 @@ public class JSLListeners {
 
     public void addObjsMngrListenersByModel(String model, JSLObjsMngr.ObjsMngrListener listener) {
         if (!publicObjsMngrListeners_byModel.containsKey(model))
-            publicObjsMngrListeners_byModel.put(model, new ArrayList<>());
+            publicObjsMngrListeners_byModel.put(model, new CopyOnWriteArrayList<>());
 
         if (publicObjsMngrListeners_byModel.get(model).contains(listener))
             return;
@@ -583,7 +649,7 @@ public class JSLListeners {
 
     public void addObjsMngrListenersByBrand(String brand, JSLObjsMngr.ObjsMngrListener listener) {
         if (!publicObjsMngrListeners_byBrand.containsKey(brand))
-            publicObjsMngrListeners_byBrand.put(brand, new ArrayList<>());
+            publicObjsMngrListeners_byBrand.put(brand, new CopyOnWriteArrayList<>());
 
         if (publicObjsMngrListeners_byBrand.get(brand).contains(listener))
             return;
@@ -622,7 +688,7 @@ public class JSLListeners {
 
     public void addObjsMngrListenersByCompPath(String compPath, JSLObjsMngr.ObjsMngrListener listener) {
         if (!publicObjsMngrListeners_byCompPath.containsKey(compPath))
-            publicObjsMngrListeners_byCompPath.put(compPath, new ArrayList<>());
+            publicObjsMngrListeners_byCompPath.put(compPath, new CopyOnWriteArrayList<>());
 
         if (publicObjsMngrListeners_byCompPath.get(compPath).contains(listener))
             return;
@@ -674,6 +740,222 @@ public class JSLListeners {
     }
 
 
+    private final Map<String, List<ObjInfo.RemoteObjectInfoListener>> publicObjsMngr_InfoListeners_byID = new ConcurrentHashMap<>();
+    private final Map<String, List<ObjComm.RemoteObjectConnListener>> publicObjsMngr_CommListeners_byID = new ConcurrentHashMap<>();
+    private final Map<String, List<ObjStruct.RemoteObjectStructListener>> publicObjsMngr_StructListeners_byID = new ConcurrentHashMap<>();
+    private final Map<String, List<ObjPerms.RemoteObjectPermsListener>> publicObjsMngr_PermsListeners_byID = new ConcurrentHashMap<>();
+    /**
+     * Listeners registered by object's id and component's path.
+     */
+    private final Map<String, Map<String, List<ObjStruct.RemoteObjectStructListener>>> publicObjsMngr_StructListeners_byCompPath = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, List<JSLBooleanState.BooleanStateListener>>> publicObjsMngr_BooleanStateListeners_byCompPath = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, List<JSLRangeState.RangeStateListener>>> publicObjsMngr_RangeStateListeners_byCompPath = new ConcurrentHashMap<>();
+
+    public void addObjsMngr_InfoListenersByID(String id, ObjInfo.RemoteObjectInfoListener listener) {
+        publicObjsMngr_InfoListeners_byID.compute(id, (k, listeners) -> {
+            if (listeners == null)
+                listeners = new CopyOnWriteArrayList<>();
+            if (!listeners.contains(listener))
+                listeners.add(listener);
+            return listeners;
+        });
+    }
+
+    public void removeObjsMngr_InfoListenersByID(String id, ObjInfo.RemoteObjectInfoListener listener) {
+        publicObjsMngr_InfoListeners_byID.computeIfPresent(id, (k, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    public void addObjsMngr_CommListenersByID(String id, ObjComm.RemoteObjectConnListener listener) {
+        publicObjsMngr_CommListeners_byID.compute(id, (k, listeners) -> {
+            if (listeners == null)
+                listeners = new CopyOnWriteArrayList<>();
+            if (!listeners.contains(listener))
+                listeners.add(listener);
+            return listeners;
+        });
+    }
+
+    public void removeObjsMngr_CommListenersByID(String id, ObjComm.RemoteObjectConnListener listener) {
+        publicObjsMngr_CommListeners_byID.computeIfPresent(id, (k, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    public void addObjsMngr_StructListenersByID(String id, ObjStruct.RemoteObjectStructListener listener) {
+        publicObjsMngr_StructListeners_byID.compute(id, (k, listeners) -> {
+            if (listeners == null)
+                listeners = new CopyOnWriteArrayList<>();
+            if (!listeners.contains(listener))
+                listeners.add(listener);
+            return listeners;
+        });
+    }
+
+    public void removeObjsMngr_StructListenersByID(String id, ObjStruct.RemoteObjectStructListener listener) {
+        publicObjsMngr_StructListeners_byID.computeIfPresent(id, (k, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    public void addObjsMngr_PermsListenersByID(String id, ObjPerms.RemoteObjectPermsListener listener) {
+        publicObjsMngr_PermsListeners_byID.compute(id, (k, listeners) -> {
+            if (listeners == null)
+                listeners = new CopyOnWriteArrayList<>();
+            if (!listeners.contains(listener))
+                listeners.add(listener);
+            return listeners;
+        });
+    }
+
+    public void removeObjsMngr_PermsListenersByID(String id, ObjPerms.RemoteObjectPermsListener listener) {
+        publicObjsMngr_PermsListeners_byID.computeIfPresent(id, (k, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    /**
+     * Register given listener for the structure changes of the component at given
+     * (unique) path of given object.
+     */
+    public void addObjsMngr_StructListenersByCompPath(String id, String compPath, ObjStruct.RemoteObjectStructListener listener) {
+        publicObjsMngr_StructListeners_byCompPath.compute(id, (k, paths) -> {
+            if (paths == null)
+                paths = new ConcurrentHashMap<>();
+            List<ObjStruct.RemoteObjectStructListener> listeners = paths.computeIfAbsent(compPath, c -> new CopyOnWriteArrayList<>());
+            if (!listeners.contains(listener))
+                listeners.add(listener);
+            return paths;
+        });
+    }
+
+    public void removeObjsMngr_StructListenersByCompPath(String id, String compPath, ObjStruct.RemoteObjectStructListener listener) {
+        publicObjsMngr_StructListeners_byCompPath.computeIfPresent(id, (k, paths) -> {
+            paths.computeIfPresent(compPath, (c, listeners) -> {
+                listeners.remove(listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+            return paths.isEmpty() ? null : paths;
+        });
+    }
+
+    /**
+     * Register given listener for the state changes of the component at given
+     * (unique) path of given object.
+     */
+    public void addObjsMngr_BooleanStateListenersByCompPath(String id, String compPath, JSLBooleanState.BooleanStateListener listener) {
+        publicObjsMngr_BooleanStateListeners_byCompPath.compute(id, (k, paths) -> {
+            if (paths == null)
+                paths = new ConcurrentHashMap<>();
+            List<JSLBooleanState.BooleanStateListener> listeners = paths.computeIfAbsent(compPath, c -> new CopyOnWriteArrayList<>());
+            if (!listeners.contains(listener))
+                listeners.add(listener);
+            return paths;
+        });
+        if (jsl != null) {
+            JSLRemoteObject obj = jsl.getObjsMngr().getById(id);
+            if (obj != null)
+                registerInternalListeners_Component(obj, compPath);
+        }
+    }
+
+    public void removeObjsMngr_BooleanStateListenersByCompPath(String id, String compPath, JSLBooleanState.BooleanStateListener listener) {
+        publicObjsMngr_BooleanStateListeners_byCompPath.computeIfPresent(id, (k, paths) -> {
+            paths.computeIfPresent(compPath, (c, listeners) -> {
+                listeners.remove(listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+            return paths.isEmpty() ? null : paths;
+        });
+    }
+
+    /**
+     * Register given listener for the state changes of the component at given
+     * (unique) path of given object.
+     */
+    public void addObjsMngr_RangeStateListenersByCompPath(String id, String compPath, JSLRangeState.RangeStateListener listener) {
+        publicObjsMngr_RangeStateListeners_byCompPath.compute(id, (k, paths) -> {
+            if (paths == null)
+                paths = new ConcurrentHashMap<>();
+            List<JSLRangeState.RangeStateListener> listeners = paths.computeIfAbsent(compPath, c -> new CopyOnWriteArrayList<>());
+            if (!listeners.contains(listener))
+                listeners.add(listener);
+            return paths;
+        });
+        if (jsl != null) {
+            JSLRemoteObject obj = jsl.getObjsMngr().getById(id);
+            if (obj != null)
+                registerInternalListeners_Component(obj, compPath);
+        }
+    }
+
+    public void removeObjsMngr_RangeStateListenersByCompPath(String id, String compPath, JSLRangeState.RangeStateListener listener) {
+        publicObjsMngr_RangeStateListeners_byCompPath.computeIfPresent(id, (k, paths) -> {
+            paths.computeIfPresent(compPath, (c, listeners) -> {
+                listeners.remove(listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+            return paths.isEmpty() ? null : paths;
+        });
+    }
+
+    private void emitObjsMngr_StructStructureChangedByCompPath(JSLRemoteObject obj, JSLRoot newRoot) {
+        Map<String, List<ObjStruct.RemoteObjectStructListener>> paths = publicObjsMngr_StructListeners_byCompPath.get(obj.getId());
+        if (paths == null || newRoot == null) return;
+
+        for (Map.Entry<String, List<ObjStruct.RemoteObjectStructListener>> e : paths.entrySet()) {
+            if (DefaultJSLComponentPath.searchComponent(newRoot, new DefaultJSLComponentPath(e.getKey())) == null)
+                continue;
+
+            for (ObjStruct.RemoteObjectStructListener l : e.getValue())
+                l.onStructureChanged(obj, newRoot);
+        }
+    }
+
+    private void emitObjsMngr_BooleanStateChangedByCompPath(JSLBooleanState component, boolean newState, boolean oldState) {
+        Map<String, List<JSLBooleanState.BooleanStateListener>> paths = publicObjsMngr_BooleanStateListeners_byCompPath.get(component.getRemoteObject().getId());
+        if (paths == null) return;
+
+        List<JSLBooleanState.BooleanStateListener> listeners = paths.get(component.getPath().getString());
+        if (listeners != null)
+            for (JSLBooleanState.BooleanStateListener l : listeners)
+                l.onStateChanged(component, newState, oldState);
+    }
+
+    private void emitObjsMngr_RangeStateChangedByCompPath(JSLRangeState component, double newState, double oldState) {
+        List<JSLRangeState.RangeStateListener> listeners = rangeStateListenersByCompPath(component);
+        if (listeners != null)
+            for (JSLRangeState.RangeStateListener l : listeners)
+                l.onStateChanged(component, newState, oldState);
+    }
+
+    private void emitObjsMngr_RangeMinReachedByCompPath(JSLRangeState component, double state, double min) {
+        List<JSLRangeState.RangeStateListener> listeners = rangeStateListenersByCompPath(component);
+        if (listeners != null)
+            for (JSLRangeState.RangeStateListener l : listeners)
+                l.onMinReached(component, state, min);
+    }
+
+    private void emitObjsMngr_RangeMaxReachedByCompPath(JSLRangeState component, double state, double max) {
+        List<JSLRangeState.RangeStateListener> listeners = rangeStateListenersByCompPath(component);
+        if (listeners != null)
+            for (JSLRangeState.RangeStateListener l : listeners)
+                l.onMaxReached(component, state, max);
+    }
+
+    private List<JSLRangeState.RangeStateListener> rangeStateListenersByCompPath(JSLRangeState component) {
+        Map<String, List<JSLRangeState.RangeStateListener>> paths = publicObjsMngr_RangeStateListeners_byCompPath.get(component.getRemoteObject().getId());
+        if (paths == null) return null;
+
+        return paths.get(component.getPath().getString());
+    }
+
+
     // Internal registrations
 
     private void registerInternalListeners() {
@@ -721,6 +1003,29 @@ public class JSLListeners {
         obj.getPerms().addListener(internalObjsMngr_PermsListener);
     }
 
+    private void registerInternalListeners_Components(JSLRemoteObject obj) {
+        Map<String, List<JSLBooleanState.BooleanStateListener>> booleanPaths = publicObjsMngr_BooleanStateListeners_byCompPath.get(obj.getId());
+        if (booleanPaths != null)
+            for (String compPath : booleanPaths.keySet())
+                registerInternalListeners_Component(obj, compPath);
+
+        Map<String, List<JSLRangeState.RangeStateListener>> rangePaths = publicObjsMngr_RangeStateListeners_byCompPath.get(obj.getId());
+        if (rangePaths != null)
+            for (String compPath : rangePaths.keySet())
+                registerInternalListeners_Component(obj, compPath);
+    }
+
+    private void registerInternalListeners_Component(JSLRemoteObject obj, String compPath) {
+        JSLRoot root = obj.getStruct().getStructure();
+        if (root == null) return;
+
+        JSLComponent comp = DefaultJSLComponentPath.searchComponent(root, new DefaultJSLComponentPath(compPath));
+        if (comp instanceof JSLBooleanState)
+            ((JSLBooleanState) comp).addListener(internalObjsMngr_BooleanStateListener);
+        else if (comp instanceof JSLRangeState)
+            ((JSLRangeState) comp).addListener(internalObjsMngr_RangeStateListener);
+    }
+
     private void deregisterInternalListeners_Object(JSLRemoteObject obj) {
         obj.getInfo().removeListener(internalObjsMngr_InfoListener);
         obj.getComm().removeListener(internalObjsMngr_CommListener);
@@ -813,6 +1118,16 @@ public class JSLListeners {
             // public listeners
             emitOnCommLocalClientDisconnected(remObj, jslLocCli);
         }
+
+        @Override
+        public void onLocalSwitched(JSLRemoteObject remObj, JSLLocalClient oldClient, JSLLocalClient newClient) {
+            // internal listeners
+            deregisterInternalListeners_LocalClient(oldClient);
+            registerInternalListeners_LocalClient(newClient);
+
+            // public listeners
+            emitOnCommLocalClientSwitched(remObj, oldClient, newClient);
+        }
     };
     private final PeerConnectionListener internalCommLocalClient_ConnectionListener = new PeerConnectionListener() {
         @Override
@@ -919,6 +1234,7 @@ public class JSLListeners {
         public void onObjAdded(JSLRemoteObject obj) {
             // internal listeners
             registerInternalListeners_Object(obj);
+            registerInternalListeners_Components(obj);
 
             // public listeners
             emitObjsMngrObjAdded(obj);
@@ -1031,7 +1347,11 @@ public class JSLListeners {
     private final ObjStruct.RemoteObjectStructListener internalObjsMngr_StructListener = new ObjStruct.RemoteObjectStructListener() {
         @Override
         public void onStructureChanged(JSLRemoteObject obj, JSLRoot newRoot) {
+            // internal listeners
+            registerInternalListeners_Components(obj);
+
             emitObjsMngr_StructStructureChanged(obj, newRoot);
+            emitObjsMngr_StructStructureChangedByCompPath(obj, newRoot);
             // Following event is emitted every time the structure changes
             // even if the structure already contained the component.
             //
@@ -1042,6 +1362,28 @@ public class JSLListeners {
             emitOnObjAddedByCompPath(obj);
         }
     };
+    private final JSLBooleanState.BooleanStateListener internalObjsMngr_BooleanStateListener = new JSLBooleanState.BooleanStateListener() {
+        @Override
+        public void onStateChanged(JSLBooleanState component, boolean newState, boolean oldState) {
+            emitObjsMngr_BooleanStateChangedByCompPath(component, newState, oldState);
+        }
+    };
+    private final JSLRangeState.RangeStateListener internalObjsMngr_RangeStateListener = new JSLRangeState.RangeStateListener() {
+        @Override
+        public void onStateChanged(JSLRangeState component, double newState, double oldState) {
+            emitObjsMngr_RangeStateChangedByCompPath(component, newState, oldState);
+        }
+
+        @Override
+        public void onMinReached(JSLRangeState component, double state, double min) {
+            emitObjsMngr_RangeMinReachedByCompPath(component, state, min);
+        }
+
+        @Override
+        public void onMaxReached(JSLRangeState component, double state, double max) {
+            emitObjsMngr_RangeMaxReachedByCompPath(component, state, max);
+        }
+    };
     private final ObjPerms.RemoteObjectPermsListener internalObjsMngr_PermsListener = new ObjPerms.RemoteObjectPermsListener() {
         @Override
         public void onPermissionsChanged(JSLRemoteObject obj, List<JOSPPerm> newPerms, List<JOSPPerm> oldPerms) {
@@ -53,6 +53,14 @@ public class JSLSettings_002 extends DefaultSettings implements JSL.Settings {
     public static final String JSLSRV_NAME_DEF          = "";
     public static final String JSLSRV_ID                = "jsl.srv.id";
     public static final String JSLSRV_ID_DEF            = "";
+    /**
+     * Time (in milliseconds) between two service's info refreshes, `0` to
+     * disable the auto-refresh.
+     * <p>
+     * Default `60000`.
+     */
+    public static final String JSLSRV_REFRESH_INTERVAL     = "jsl.srv.refresh.interval";
+    public static final String JSLSRV_REFRESH_INTERVAL_DEF = "60000";
     public static final String JSLSRV_INSTANCE          = "jsl.srv.instance";
     public static final String JSLSRV_INSTANCE_DEF      = "";
     /**
@@ -66,6 +74,167 @@ public class JSLSettings_002 extends DefaultSettings implements JSL.Settings {
     public static final String JSLUSR_NAME_DEF          = "";
     public static final String JSLUSR_ID                = "jsl.usr.id";
     public static final String JSLUSR_ID_DEF            = "";
+    /**
+     * Max time (in milliseconds) the remote objects wait for the new user's
+     * permissions after a login/logout. Objects that do not receive them
+     * within this time have their permissions reset (and are removed).
+     * <p>
+     * Default `10000`.
+     */
+    public static final String JSLUSR_PERMS_TIMEOUT     = "jsl.usr.permsTimeout";
+    public static final String JSLUSR_PERMS_TIMEOUT_DEF = "10000";
+
+    /**
+     * Implementation used for the JSL's threads, it can be `platform` or
+     * `virtual` (requires Java 21+, otherwise fallback to `platform`). Any
+     * other value means `platform`.
+     * <p>
+     * Default `platform`.
+     */
+    public static final String JSL_THREADS_MODE         = "jsl.threads.mode";
+    public static final String JSL_THREADS_MODE_DEF     = "platform";
+
+    /**
+     * Dispatching mode for the JSL's listeners notifications, it can be
+     * `sync` (listeners executed on the emitter's thread) or `ring`
+     * (listeners executed on a dedicated thread fed by a ring buffer). Any
+     * other value means `sync`.
+     * <p>
+     * Default `sync`.
+     */
+    public static final String JSL_EVENTS_MODE                     = "jsl.events.mode";
+    public static final String JSL_EVENTS_MODE_DEF                 = "sync";
+    /**
+     * Size of the events ring buffer, rounded to the next power of 2. Used
+     * only when `jsl.events.mode` is `ring`.
+     * <p>
+     * Default `4096`.
+     */
+    public static final String JSL_EVENTS_RING_CAPACITY            = "jsl.events.ring.capacity";
+    public static final String JSL_EVENTS_RING_CAPACITY_DEF        = "4096";
+    /**
+     * Strategy used by the events consumer thread to wait for new events, it
+     * can be `blocking`, `sleeping`, `yielding` or `busy_spin` (any other
+     * value means `blocking`). Used only when `jsl.events.mode` is `ring`.
+     * <p>
+     * Default `blocking`.
+     */
+    public static final String JSL_EVENTS_RING_WAIT_STRATEGY       = "jsl.events.ring.waitStrategy";
+    public static final String JSL_EVENTS_RING_WAIT_STRATEGY_DEF   = "blocking";
+    /**
+     * Max number of events processed by the events consumer thread for each
+     * batch. Used only when `jsl.events.mode` is `ring`.
+     * <p>
+     * Default `64`.
+     */
+    public static final String JSL_EVENTS_RING_BATCH_SIZE          = "jsl.events.ring.batchSize";
+    public static final String JSL_EVENTS_RING_BATCH_SIZE_DEF      = "64";
+
+    /**
+     * If 'true', the JSL metrics are exposed using the Prometheus text format
+     * by an HTTP server (at the `/metrics` path) started with the JSL.
+     * <p>
+     * Default `false`.
+     */
+    public static final String JSL_METRICS_PROMETHEUS_ENABLED      = "jsl.metrics.prometheus.enabled";
+    public static final String JSL_METRICS_PROMETHEUS_ENABLED_DEF  = "false";
+    /**
+     * Address used by the Prometheus metrics HTTP server.
+     * <p>
+     * Default `127.0.0.1`, so metrics are reachable only from the local host.
+     */
+    public static final String JSL_METRICS_PROMETHEUS_ADDRESS      = "jsl.metrics.prometheus.address";
+    public static final String JSL_METRICS_PROMETHEUS_ADDRESS_DEF  = "127.0.0.1";
+    /**
+     * Port used by the Prometheus metrics HTTP server.
+     * <p>
+     * Default `9464`.
+     */
+    public static final String JSL_METRICS_PROMETHEUS_PORT         = "jsl.metrics.prometheus.port";
+    public static final String JSL_METRICS_PROMETHEUS_PORT_DEF     = "9464";
+
+    /**
+     * Max time (in milliseconds) the JSL startup waits for each communication
+     * component (local discovery and cloud client), started concurrently.
+     * Components that exceed it keep starting in background.
+     * <p>
+     * Default `10000`.
+     */
+    public static final String JSL_LIFECYCLE_START_TIMEOUT     = "jsl.lifecycle.startTimeout";
+    public static final String JSL_LIFECYCLE_START_TIMEOUT_DEF = "10000";
+    /**
+     * Max time (in milliseconds) the JSL shutdown waits for each communication
+     * component, stopped concurrently. It's also the max time to wait for all
+     * local clients disconnections.
+     * <p>
+     * Default `10000`.
+     */
+    public static final String JSL_LIFECYCLE_STOP_TIMEOUT     = "jsl.lifecycle.stopTimeout";
+    public static final String JSL_LIFECYCLE_STOP_TIMEOUT_DEF = "10000";
+    /**
+     * Default time (in milliseconds) the admin's responses from the JCP APIs
+     * are cached. Set `0` to disable the cache (concurrent identical requests
+     * are still collapsed into a single call).
+     * <p>
+     * Default `2000`.
+     */
+    public static final String JSL_ADMIN_CACHE_TTL     = "jsl.admin.cache.ttl";
+    public static final String JSL_ADMIN_CACHE_TTL_DEF = "2000";
+    /**
+     * Comma separated list of <code>keyPrefix=millis</code> pairs, that
+     * override the default admin's cache TTL for the requests matching the
+     * (longest) key prefix. Keys are like <code>executable/Gateways/CPU/{id}</code>.
+     * <p>
+     * Default `buildinfo=300000`.
+     */
+    public static final String JSL_ADMIN_CACHE_TTLS     = "jsl.admin.cache.ttls";
+    public static final String JSL_ADMIN_CACHE_TTLS_DEF = "buildinfo=300000";
+    /**
+     * Max number of concurrent requests sent to the JCP APIs while collecting
+     * an admin's snapshot (like the JCP Gateways snapshot).
+     * <p>
+     * Default `8`.
+     */
+    public static final String JSL_ADMIN_SNAPSHOT_POOL_SIZE     = "jsl.admin.snapshot.poolSize";
+    public static final String JSL_ADMIN_SNAPSHOT_POOL_SIZE_DEF = "8";
+    /**
+     * Default max time (in milliseconds) to wait for an admin's snapshot;
+     * requests not completed within this time are reported as timed out.
+     * <p>
+     * Default `5000`.
+     */
+    public static final String JSL_ADMIN_SNAPSHOT_TIMEOUT     = "jsl.admin.snapshot.timeout";
+    public static final String JSL_ADMIN_SNAPSHOT_TIMEOUT_DEF = "5000";
+    /**
+     * Set 'true' to periodically sample the JCP executable's metrics into
+     * in-memory time series.
+     * <p>
+     * Default `false`.
+     */
+    public static final String JSL_ADMIN_SAMPLER_ENABLED     = "jsl.admin.sampler.enabled";
+    public static final String JSL_ADMIN_SAMPLER_ENABLED_DEF = "false";
+    /**
+     * Time (in milliseconds) between two admin's metrics samplings.
+     * <p>
+     * Default `10000`.
+     */
+    public static final String JSL_ADMIN_SAMPLER_INTERVAL     = "jsl.admin.sampler.interval";
+    public static final String JSL_ADMIN_SAMPLER_INTERVAL_DEF = "10000";
+    /**
+     * Max number of samples stored for each admin's metric.
+     * <p>
+     * Default `360`.
+     */
+    public static final String JSL_ADMIN_SAMPLER_CAPACITY     = "jsl.admin.sampler.capacity";
+    public static final String JSL_ADMIN_SAMPLER_CAPACITY_DEF = "360";
+    /**
+     * Comma separated list of the admin's metrics sources to sample, see
+     * {@link com.robypomper.josp.jsl.admin.JSLAdminMetricsSampler}.
+     * <p>
+     * Default `apis.cpu,apis.javaMemory,apis.javaThreads,gateways.cpu,gateways.javaMemory,gateways.javaThreads`.
+     */
+    public static final String JSL_ADMIN_SAMPLER_SOURCES     = "jsl.admin.sampler.sources";
+    public static final String JSL_ADMIN_SAMPLER_SOURCES_DEF = "apis.cpu,apis.javaMemory,apis.javaThreads,gateways.cpu,gateways.javaMemory,gateways.javaThreads";
 
     public static final String JSLCOMM_LOCAL_ENABLED    = "jsl.comm.local.enabled";
     public static final String JSLCOMM_LOCAL_ENABLED_DEF = "true";
@@ -122,6 +291,164 @@ public class JSLSettings_002 extends DefaultSettings implements JSL.Settings {
     public static final String JSLCOMM_LOCAL_KS_ALIAS    = "jsl.comm.local.ks.alias";
     public static final String JSLCOMM_LOCAL_KS_ALIAS_DEF = "";
 
+    /**
+     * If 'true' the certificates of the JOD Objects trusted by the local clients
+     * are stored into the service's local keystore, so they are trusted also
+     * after a JSL restart without requiring a new certificate sharing.
+     * <p>
+     * Default `true`.
+     */
+    public static final String JSLCOMM_LOCAL_KS_STORE_TRUSTED    = "jsl.comm.local.ks.storeTrusted";
+    public static final String JSLCOMM_LOCAL_KS_STORE_TRUSTED_DEF = "true";
+
+    /**
+     * Max number of TLS sessions cached by the local clients for session
+     * resumption, `0` means no limit.
+     * <p>
+     * Default `1000`.
+     */
+    public static final String JSLCOMM_LOCAL_SSL_SESSION_CACHE_SIZE    = "jsl.comm.local.ssl.sessionCacheSize";
+    public static final String JSLCOMM_LOCAL_SSL_SESSION_CACHE_SIZE_DEF = "1000";
+
+    /**
+     * Seconds a cached TLS session can be resumed by the local clients, `0`
+     * means no limit.
+     * <p>
+     * Default `86400` (1 day).
+     */
+    public static final String JSLCOMM_LOCAL_SSL_SESSION_TIMEOUT    = "jsl.comm.local.ssl.sessionTimeout";
+    public static final String JSLCOMM_LOCAL_SSL_SESSION_TIMEOUT_DEF = "86400";
+
+    /**
+     * Max number of connection attempts to discovered JOD Objects executed
+     * concurrently.
+     * <p>
+     * Default `8`.
+     */
+    public static final String JSLCOMM_LOCAL_CONNECT_POOL_SIZE    = "jsl.comm.local.connect.poolSize";
+    public static final String JSLCOMM_LOCAL_CONNECT_POOL_SIZE_DEF = "8";
+
+    /**
+     * Max number of connection attempts executed concurrently to the same
+     * remote host.
+     * <p>
+     * Default `2`.
+     */
+    public static final String JSLCOMM_LOCAL_CONNECT_PER_HOST    = "jsl.comm.local.connect.perHost";
+    public static final String JSLCOMM_LOCAL_CONNECT_PER_HOST_DEF = "2";
+
+    /**
+     * Path for the file used to remember the transport (SSL/NoSSL and cert
+     * sharing) supported by each JOD Object's local server. It can be absolute
+     * or relative to `jsl.srv.baseDir`.
+     * By default, it's `local_transports.json` into the `jsl.srv.baseDir`; an
+     * empty string keeps the transport cache only in memory.
+     */
+    public static final String JSLCOMM_LOCAL_TRANSPORT_CACHE_PATH    = "jsl.comm.local.transportCache.path";
+    public static final String JSLCOMM_LOCAL_TRANSPORT_CACHE_PATH_DEF = "local_transports.json";
+
+    /**
+     * Path for the file used to remember the last known local service
+     * (address and port) of each connected JOD Object, so on startup they
+     * can be connected without waiting for the discovery. It can be absolute
+     * or relative to `jsl.srv.baseDir`.
+     * By default, it's `local_discovery.json` into the `jsl.srv.baseDir`; an
+     * empty string keeps the known services only in memory.
+     */
+    public static final String JSLCOMM_LOCAL_DISCOVERY_CACHE_PATH    = "jsl.comm.local.discoveryCache.path";
+    public static final String JSLCOMM_LOCAL_DISCOVERY_CACHE_PATH_DEF = "local_discovery.json";
+
+    /**
+     * If 'true', the local clients keep a second connection open (warm-standby)
+     * for each locally connected JOD Object. When the active connection drops,
+     * the backup connection is promoted without a new handshake.
+     * <p>
+     * Default `false`.
+     */
+    public static final String JSLCOMM_LOCAL_BACKUP_WARM_STANDBY    = "jsl.comm.local.backup.warmStandby";
+    public static final String JSLCOMM_LOCAL_BACKUP_WARM_STANDBY_DEF = "false";
+
+    /**
+     * Max time (in milliseconds) a local client waits for the object's id
+     * message from servers that do not provide a full certificate.
+     * <p>
+     * Default `5000`.
+     */
+    public static final String JSLCOMM_LOCAL_OBJ_ID_TIMEOUT    = "jsl.comm.local.objIdTimeout";
+    public static final String JSLCOMM_LOCAL_OBJ_ID_TIMEOUT_DEF = "5000";
+
+    /**
+     * Value for `jsl.comm.local.discovery` that disables the multicast
+     * discovery systems and uses only the static discovery.
+     */
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC = "Static";
+    /**
+     * JOD Objects' local endpoints probed by the static discovery, separated
+     * by commas. Each endpoint is a `host:port` or an IPv4 CIDR range with
+     * port (`10.0.0.0/24:1234`).
+     * <p>
+     * Default empty, that means static discovery disabled (if also
+     * `jsl.comm.local.discovery.static.file` is empty).
+     */
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_ENDPOINTS    = "jsl.comm.local.discovery.static.endpoints";
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_ENDPOINTS_DEF = "";
+    /**
+     * Path for a file containing the endpoints probed by the static discovery,
+     * one or more for each line. The file is reloaded when it changes. It can
+     * be absolute or relative to `jsl.srv.baseDir`.
+     * <p>
+     * Default empty, that means no endpoints file.
+     */
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_FILE    = "jsl.comm.local.discovery.static.file";
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_FILE_DEF = "";
+    /**
+     * Max number of endpoints probed concurrently by the static discovery.
+     * <p>
+     * Default `32`.
+     */
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_POOL_SIZE    = "jsl.comm.local.discovery.static.poolSize";
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_POOL_SIZE_DEF = "32";
+    /**
+     * Max time (in milliseconds) the static discovery waits for an endpoint
+     * to accept the connection.
+     * <p>
+     * Default `1000`.
+     */
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_TIMEOUT    = "jsl.comm.local.discovery.static.timeout";
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_TIMEOUT_DEF = "1000";
+    /**
+     * Time (in seconds) between two probe rounds of the static discovery.
+     * <p>
+     * Default `30`.
+     */
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_INTERVAL    = "jsl.comm.local.discovery.static.interval";
+    public static final String JSLCOMM_LOCAL_DISCOVERY_STATIC_INTERVAL_DEF = "30";
+
+    /**
+     * Number of consecutive connection failures to the same JOD Object that
+     * opens his circuit breaker.
+     * <p>
+     * Default `5`.
+     */
+    public static final String JSLCOMM_LOCAL_GOVERNOR_FAILURE_THRESHOLD    = "jsl.comm.local.governor.failureThreshold";
+    public static final String JSLCOMM_LOCAL_GOVERNOR_FAILURE_THRESHOLD_DEF = "5";
+    /**
+     * Backoff (in milliseconds) after the first connection failure to a JOD
+     * Object, doubled on each next failure.
+     * <p>
+     * Default `1000`.
+     */
+    public static final String JSLCOMM_LOCAL_GOVERNOR_BACKOFF_BASE    = "jsl.comm.local.governor.backoffBase";
+    public static final String JSLCOMM_LOCAL_GOVERNOR_BACKOFF_BASE_DEF = "1000";
+    /**
+     * Max backoff (in milliseconds) between connection attempts to a JOD
+     * Object, also used as open time of his circuit breaker.
+     * <p>
+     * Default `60000`.
+     */
+    public static final String JSLCOMM_LOCAL_GOVERNOR_BACKOFF_MAX    = "jsl.comm.local.governor.backoffMax";
+    public static final String JSLCOMM_LOCAL_GOVERNOR_BACKOFF_MAX_DEF = "60000";
+
     public static final String JSLCOMM_CLOUD_ENABLED    = "jsl.comm.cloud.enabled";
     public static final String JSLCOMM_CLOUD_ENABLED_DEF = "true";
     //@formatter:on
@@ -224,6 +551,10 @@ public class JSLSettings_002 extends DefaultSettings implements JSL.Settings {
         return getString(JSLSRV_NAME, JSLSRV_NAME_DEF);
     }
 
+    public int getSrvRefreshInterval() {
+        return getInt(JSLSRV_REFRESH_INTERVAL, JSLSRV_REFRESH_INTERVAL_DEF);
+    }
+
     public void setSrvName(String srvName) {
         store(JSLSRV_NAME, srvName, true);
     }
@@ -243,6 +574,88 @@ public class JSLSettings_002 extends DefaultSettings implements JSL.Settings {
         return getString(JSLUSR_ID, JSLUSR_ID_DEF);
     }
 
+    public int getUsrPermsTimeout() {
+        return getInt(JSLUSR_PERMS_TIMEOUT, JSLUSR_PERMS_TIMEOUT_DEF);
+    }
+
+    public int getLifecycleStartTimeout() {
+        return getInt(JSL_LIFECYCLE_START_TIMEOUT, JSL_LIFECYCLE_START_TIMEOUT_DEF);
+    }
+
+    public int getLifecycleStopTimeout() {
+        return getInt(JSL_LIFECYCLE_STOP_TIMEOUT, JSL_LIFECYCLE_STOP_TIMEOUT_DEF);
+    }
+
+    public int getAdminCacheTTL() {
+        return getInt(JSL_ADMIN_CACHE_TTL, JSL_ADMIN_CACHE_TTL_DEF);
+    }
+
+    public String getAdminCacheTTLs() {
+        return getString(JSL_ADMIN_CACHE_TTLS, JSL_ADMIN_CACHE_TTLS_DEF);
+    }
+
+    public int getAdminSnapshotPoolSize() {
+        return getInt(JSL_ADMIN_SNAPSHOT_POOL_SIZE, JSL_ADMIN_SNAPSHOT_POOL_SIZE_DEF);
+    }
+
+    public int getAdminSnapshotTimeout() {
+        return getInt(JSL_ADMIN_SNAPSHOT_TIMEOUT, JSL_ADMIN_SNAPSHOT_TIMEOUT_DEF);
+    }
+
+    public boolean getAdminSamplerEnabled() {
+        return getBoolean(JSL_ADMIN_SAMPLER_ENABLED, JSL_ADMIN_SAMPLER_ENABLED_DEF);
+    }
+
+    public int getAdminSamplerInterval() {
+        return getInt(JSL_ADMIN_SAMPLER_INTERVAL, JSL_ADMIN_SAMPLER_INTERVAL_DEF);
+    }
+
+    public int getAdminSamplerCapacity() {
+        return getInt(JSL_ADMIN_SAMPLER_CAPACITY, JSL_ADMIN_SAMPLER_CAPACITY_DEF);
+    }
+
+    public String getAdminSamplerSources() {
+        return getString(JSL_ADMIN_SAMPLER_SOURCES, JSL_ADMIN_SAMPLER_SOURCES_DEF);
+    }
+
+    public JSLThreads.Mode getThreadsMode() {
+        String mode = getString(JSL_THREADS_MODE, JSL_THREADS_MODE_DEF);
+        return mode.equalsIgnoreCase(JSLThreads.Mode.VIRTUAL.name()) ? JSLThreads.Mode.VIRTUAL : JSLThreads.Mode.PLATFORM;
+    }
+
+    public JSLEventBus.Mode getEventsMode() {
+        String mode = getString(JSL_EVENTS_MODE, JSL_EVENTS_MODE_DEF);
+        return mode.equalsIgnoreCase(JSLEventBus.Mode.RING.name()) ? JSLEventBus.Mode.RING : JSLEventBus.Mode.SYNC;
+    }
+
+    public int getEventsRingCapacity() {
+        return getInt(JSL_EVENTS_RING_CAPACITY, JSL_EVENTS_RING_CAPACITY_DEF);
+    }
+
+    public JSLEventBus.WaitStrategy getEventsRingWaitStrategy() {
+        String strategy = getString(JSL_EVENTS_RING_WAIT_STRATEGY, JSL_EVENTS_RING_WAIT_STRATEGY_DEF);
+        for (JSLEventBus.WaitStrategy s : JSLEventBus.WaitStrategy.values())
+            if (s.name().equalsIgnoreCase(strategy.trim()))
+                return s;
+        return JSLEventBus.WaitStrategy.BLOCKING;
+    }
+
+    public int getEventsRingBatchSize() {
+        return getInt(JSL_EVENTS_RING_BATCH_SIZE, JSL_EVENTS_RING_BATCH_SIZE_DEF);
+    }
+
+    public boolean getMetricsPrometheusEnabled() {
+        return getBoolean(JSL_METRICS_PROMETHEUS_ENABLED, JSL_METRICS_PROMETHEUS_ENABLED_DEF);
+    }
+
+    public String getMetricsPrometheusAddress() {
+        return getString(JSL_METRICS_PROMETHEUS_ADDRESS, JSL_METRICS_PROMETHEUS_ADDRESS_DEF);
+    }
+
+    public int getMetricsPrometheusPort() {
+        return getInt(JSL_METRICS_PROMETHEUS_PORT, JSL_METRICS_PROMETHEUS_PORT_DEF);
+    }
+
     public void setUsrId(String userId) {
         store(JSLUSR_ID, userId, true);
     }
@@ -294,10 +707,93 @@ public class JSLSettings_002 extends DefaultSettings implements JSL.Settings {
         return getString(JSLCOMM_LOCAL_KS_ALIAS, JSLCOMM_LOCAL_KS_ALIAS_DEF);
     }
 
+    public boolean getLocalKeyStoreStoreTrusted() {
+        return getBoolean(JSLCOMM_LOCAL_KS_STORE_TRUSTED, JSLCOMM_LOCAL_KS_STORE_TRUSTED_DEF);
+    }
+
+    public int getLocalSSLSessionCacheSize() {
+        return getInt(JSLCOMM_LOCAL_SSL_SESSION_CACHE_SIZE, JSLCOMM_LOCAL_SSL_SESSION_CACHE_SIZE_DEF);
+    }
+
+    public int getLocalSSLSessionTimeout() {
+        return getInt(JSLCOMM_LOCAL_SSL_SESSION_TIMEOUT, JSLCOMM_LOCAL_SSL_SESSION_TIMEOUT_DEF);
+    }
+
+    public int getLocalConnectPoolSize() {
+        return getInt(JSLCOMM_LOCAL_CONNECT_POOL_SIZE, JSLCOMM_LOCAL_CONNECT_POOL_SIZE_DEF);
+    }
+
+    public int getLocalConnectPerHost() {
+        return getInt(JSLCOMM_LOCAL_CONNECT_PER_HOST, JSLCOMM_LOCAL_CONNECT_PER_HOST_DEF);
+    }
+
+    public String getLocalTransportCachePath() {
+        String path = getString(JSLCOMM_LOCAL_TRANSPORT_CACHE_PATH, JSLCOMM_LOCAL_TRANSPORT_CACHE_PATH_DEF);
+        if (path == null || path.isEmpty())
+            return null;
+        if (!Paths.get(path).isAbsolute())
+            path = Paths.get(getSrvBaseDir(), path).toString();
+        return path;
+    }
+
+    public boolean getLocalBackupWarmStandby() {
+        return getBoolean(JSLCOMM_LOCAL_BACKUP_WARM_STANDBY, JSLCOMM_LOCAL_BACKUP_WARM_STANDBY_DEF);
+    }
+
+    public int getLocalObjIdTimeout() {
+        return getInt(JSLCOMM_LOCAL_OBJ_ID_TIMEOUT, JSLCOMM_LOCAL_OBJ_ID_TIMEOUT_DEF);
+    }
+
+    public String getLocalDiscoveryCachePath() {
+        String path = getString(JSLCOMM_LOCAL_DISCOVERY_CACHE_PATH, JSLCOMM_LOCAL_DISCOVERY_CACHE_PATH_DEF);
+        if (path == null || path.isEmpty())
+            return null;
+        if (!Paths.get(path).isAbsolute())
+            path = Paths.get(getSrvBaseDir(), path).toString();
+        return path;
+    }
+
     public String getJSLDiscovery() {
         return getString(JSLCOMM_LOCAL_DISCOVERY, JSLCOMM_LOCAL_DISCOVERY_DEF);
     }
 
+    public String getLocalDiscoveryStaticEndpoints() {
+        return getString(JSLCOMM_LOCAL_DISCOVERY_STATIC_ENDPOINTS, JSLCOMM_LOCAL_DISCOVERY_STATIC_ENDPOINTS_DEF);
+    }
+
+    public String getLocalDiscoveryStaticFile() {
+        String path = getString(JSLCOMM_LOCAL_DISCOVERY_STATIC_FILE, JSLCOMM_LOCAL_DISCOVERY_STATIC_FILE_DEF);
+        if (path == null || path.isEmpty())
+            return null;
+        if (!Paths.get(path).isAbsolute())
+            path = Paths.get(getSrvBaseDir(), path).toString();
+        return path;
+    }
+
+    public int getLocalDiscoveryStaticPoolSize() {
+        return getInt(JSLCOMM_LOCAL_DISCOVERY_STATIC_POOL_SIZE, JSLCOMM_LOCAL_DISCOVERY_STATIC_POOL_SIZE_DEF);
+    }
+
+    public int getLocalDiscoveryStaticTimeout() {
+        return getInt(JSLCOMM_LOCAL_DISCOVERY_STATIC_TIMEOUT, JSLCOMM_LOCAL_DISCOVERY_STATIC_TIMEOUT_DEF);
+    }
+
+    public int getLocalDiscoveryStaticInterval() {
+        return getInt(JSLCOMM_LOCAL_DISCOVERY_STATIC_INTERVAL, JSLCOMM_LOCAL_DISCOVERY_STATIC_INTERVAL_DEF);
+    }
+
+    public int getLocalGovernorFailureThreshold() {
+        return getInt(JSLCOMM_LOCAL_GOVERNOR_FAILURE_THRESHOLD, JSLCOMM_LOCAL_GOVERNOR_FAILURE_THRESHOLD_DEF);
+    }
+
+    public int getLocalGovernorBackoffBase() {
+        return getInt(JSLCOMM_LOCAL_GOVERNOR_BACKOFF_BASE, JSLCOMM_LOCAL_GOVERNOR_BACKOFF_BASE_DEF);
+    }
+
+    public int getLocalGovernorBackoffMax() {
+        return getInt(JSLCOMM_LOCAL_GOVERNOR_BACKOFF_MAX, JSLCOMM_LOCAL_GOVERNOR_BACKOFF_MAX_DEF);
+    }
+
     //@Override
     public boolean getCloudEnabled() {
         return getBoolean(JSLCOMM_CLOUD_ENABLED, JSLCOMM_CLOUD_ENABLED_DEF);
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Factory for all threads created by the JSL.
+ * <p>
+ * The JSL components never create their threads directly, but they use this
+ * class. So, the thread's implementation can be switched via the
+ * <code>jsl.threads.mode</code> setting without any code change:
+ * <ul>
+ *     <li>{@link Mode#PLATFORM}: classic OS threads (default)</li>
+ *     <li>{@link Mode#VIRTUAL}: virtual threads, so blocking calls (like
+ *     sockets reads and latches awaits) do not pin OS threads</li>
+ * </ul>
+ * Virtual threads are available only on Java 21+ runtimes. They are looked up
+ * via reflection, so the library keeps running on older runtimes; in that
+ * case the {@link Mode#VIRTUAL} mode falls back to the {@link Mode#PLATFORM}.
+ * <p>
+ * Short periodic tasks (like info refreshes) should not create their own
+ * threads, but use the {@link #getScheduler()} shared scheduler.
+ */
+public class JSLThreads {
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLThreads.class);
+    private static final Method OF_VIRTUAL = lookupMethod(Thread.class, "ofVirtual");
+    private static final Class<?> BUILDER_CLASS = lookupClass("java.lang.Thread$Builder");
+    private static final Method BUILDER_NAME = BUILDER_CLASS != null ? lookupMethod(BUILDER_CLASS, "name", String.class) : null;
+    private static final Method BUILDER_UNSTARTED = BUILDER_CLASS != null ? lookupMethod(BUILDER_CLASS, "unstarted", Runnable.class) : null;
+    private static volatile Mode mode = Mode.PLATFORM;
+    private static ScheduledExecutorService scheduler = null;
+
+
+    // Mode mngm
+
+    /**
+     * Threads' implementations.
+     */
+    public enum Mode {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    /**
+     * @return the mode used to create new threads.
+     */
+    public static Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Set the mode used to create new threads.
+     * <p>
+     * Already created threads are not affected. If the {@link Mode#VIRTUAL}
+     * mode is not supported by current runtime, then the {@link Mode#PLATFORM}
+     * mode is used.
+     *
+     * @param newMode the mode to set.
+     */
+    public static void setMode(Mode newMode) {
+        if (newMode == Mode.VIRTUAL && !isVirtualSupported()) {
+            log.warn(String.format("Virtual threads not supported by current Java runtime (%s), use platform threads", System.getProperty("java.version")));
+            newMode = Mode.PLATFORM;
+        }
+        if (mode != newMode)
+            log.info(String.format("JSL threads mode set to %s", newMode));
+        mode = newMode;
+    }
+
+    /**
+     * @return true if current runtime supports virtual threads.
+     */
+    public static boolean isVirtualSupported() {
+        return OF_VIRTUAL != null && BUILDER_NAME != null && BUILDER_UNSTARTED != null;
+    }
+
+
+    // Threads factories
+
+    /**
+     * Create a new (not started) thread with current mode.
+     * <p>
+     * Platform threads are created as daemon threads, virtual threads are
+     * always daemon.
+     *
+     * @param name     the thread's name.
+     * @param runnable the thread's task.
+     * @return the new thread.
+     */
+    public static Thread newThread(String name, Runnable runnable) {
+        if (mode == Mode.VIRTUAL) {
+            Thread t = newVirtualThread(name, runnable);
+            if (t != null)
+                return t;
+        }
+
+        Thread t = new Thread(runnable, name);
+        t.setDaemon(true);
+        return t;
+    }
+
+    /**
+     * Create and start a new thread with current mode.
+     *
+     * @param name     the thread's name.
+     * @param runnable the thread's task.
+     * @return the started thread.
+     */
+    public static Thread start(String name, Runnable runnable) {
+        Thread t = newThread(name, runnable);
+        t.start();
+        return t;
+    }
+
+    /**
+     * Create a new thread factory that uses current mode for each new thread.
+     *
+     * @param nameFormat the threads' name format, it can contain a
+     *                   <code>%d</code> placeholder for the thread's counter.
+     * @return the thread factory.
+     */
+    public static ThreadFactory newThreadFactory(String nameFormat) {
+        AtomicInteger count = new AtomicInteger();
+        return r -> newThread(String.format(nameFormat, count.incrementAndGet()), r);
+    }
+
+
+    // Shared scheduler
+
+    /**
+     * Shared scheduler for short periodic tasks.
+     * <p>
+     * The scheduler is created on first call and it uses a single daemon
+     * thread, so scheduled tasks must not block.
+     *
+     * @return the JSL's shared scheduler.
+     */
+    public static synchronized ScheduledExecutorService getScheduler() {
+        if (scheduler == null)
+            scheduler = Executors.newSingleThreadScheduledExecutor(newThreadFactory("JSLScheduler-%d"));
+        return scheduler;
+    }
+
+
+    // Reflection utils
+
+    private static Thread newVirtualThread(String name, Runnable runnable) {
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            builder = BUILDER_NAME.invoke(builder, name);
+            return (Thread) BUILDER_UNSTARTED.invoke(builder, runnable);
+
+        } catch (ReflectiveOperationException e) {
+            log.warn(String.format("Error on creating virtual thread '%s' because %s, use platform thread", name, e.getMessage()));
+            return null;
+        }
+    }
+
+    private static Class<?> lookupClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method lookupMethod(Class<?> clazz, String methodName, Class<?>... paramTypes) {
+        try {
+            return clazz.getMethod(methodName, paramTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
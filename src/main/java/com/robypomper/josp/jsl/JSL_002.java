@@ -27,6 +27,7 @@ import com.robypomper.josp.jsl.admin.JSLAdmin;
 import com.robypomper.josp.jsl.admin.JSLAdmin_002;
 import com.robypomper.josp.jsl.comm.JSLCommunication;
 import com.robypomper.josp.jsl.comm.JSLCommunication_002;
+import com.robypomper.josp.jsl.metrics.JSLMetrics;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr_002;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
@@ -61,6 +62,8 @@ public class JSL_002 extends AbsJSL {
     public static JSL instance(JSLSettings_002 settings) throws JSLCommunication.LocalCommunicationException, JCPClient2.AuthenticationException {
         log.info("\n\n" + JavaVersionUtils.buildJavaVersionStr("John Service Library", VERSION));
 
+        JSLThreads.setMode(settings.getThreadsMode());
+
         String instanceId = settings.getSrvInstance();
         log.info(String.format("Init JSL instance id '%s'", instanceId));
 
@@ -77,6 +80,7 @@ public class JSL_002 extends AbsJSL {
         srvInfo.setSystems(usr, objs);
 
         JSLCommunication comm = new JSLCommunication_002(null, settings, srvInfo, jcpClient, objs, instanceId);
+        comm.getMetrics().gauge(JSLMetrics.QUEUE_DEPTH, "Items waiting into the JSL internal queues", JSLEventBus::getBacklog, JSLMetrics.LABEL_QUEUE, "events");
 
         srvInfo.setCommunication(comm);
         usr.setCommunication(comm);
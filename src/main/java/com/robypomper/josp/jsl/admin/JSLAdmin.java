@@ -33,6 +33,55 @@ import java.util.Date;
  */
 public interface JSLAdmin {
 
+    // Cache mngm
+
+    /**
+     * Remove all cached responses from the JCP APIs.
+     */
+    void invalidateCache();
+
+    /**
+     * Remove the cached responses from the JCP APIs whose key starts with
+     * given prefix.
+     * <p>
+     * Keys are composed by the request's group (<code>status</code>,
+     * <code>executable</code> or <code>buildinfo</code>), the JCP component
+     * (<code>APIs</code>, <code>Gateways</code>, <code>JSLWebBridge</code> or
+     * <code>FrontEnd</code>), the requested resource and its params; like
+     * <code>executable/Gateways/CPU/{gwServerId}</code>.
+     *
+     * @param keyPrefix the keys prefix.
+     */
+    void invalidateCache(String keyPrefix);
+
+
+    // Metrics sampler
+
+    /**
+     * @return the background sampler of the JCP executable's metrics, null if
+     * disabled.
+     */
+    JSLAdminMetricsSampler getMetricsSampler();
+
+
+    // Background tasks
+
+    /**
+     * Start the admin's background tasks, like the metrics sampler (if
+     * enabled).
+     * <p>
+     * Called by the JSL instance on startup.
+     */
+    void startBackgroundTasks();
+
+    /**
+     * Stop the admin's background tasks and release their threads.
+     * <p>
+     * Called by the JSL instance on shutdown.
+     */
+    void stopBackgroundTasks();
+
+
     // JCP APIs status
 
     com.robypomper.josp.defs.admin.apis.status.Params20.Objects getJCPAPIsObjects() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException;
@@ -111,6 +160,32 @@ public interface JSLAdmin {
     com.robypomper.josp.defs.admin.gateways.status.Params20.BrokerObjectDB getJCPGatewaysBrokerObjectDB(String gwServerId, String objId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException;
 
 
+    // JCP Gateways snapshot
+
+    /**
+     * Same as {@link #getJCPGatewaysSnapshot(long)}, using the default
+     * snapshot timeout from the JSL settings.
+     */
+    JSLAdminGatewaysSnapshot getJCPGatewaysSnapshot() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException;
+
+    /**
+     * Collect the status, executable and build info of all JCP Gateways
+     * servers.
+     * <p>
+     * After listing the servers, all requests for all servers are sent
+     * concurrently (with a bounded concurrency). Requests that fail or that
+     * don't complete within given timeout are reported into the returned
+     * snapshot, with the values from the completed requests.
+     *
+     * @param timeoutMs max time to wait for the whole snapshot.
+     * @return the (possibly partial) snapshot of all JCP Gateways servers.
+     * @throws JCPClient2.ConnectionException and the other JCP client's
+     *                                        exceptions, only if the servers
+     *                                        list can't be retrieved.
+     */
+    JSLAdminGatewaysSnapshot getJCPGatewaysSnapshot(long timeoutMs) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException;
+
+
     // JCP Gateways Executable
 
     Date getJCPGatewaysExecOnline(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException;
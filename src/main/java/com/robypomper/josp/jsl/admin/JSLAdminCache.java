@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.admin;
+
+import com.robypomper.josp.clients.JCPClient2;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Response cache for the {@link JSLAdmin_002} requests to the JCP APIs.
+ * <p>
+ * Each response is cached by its key (the requested endpoint with its
+ * params, like <code>executable/Gateways/CPU/{gwServerId}</code>) for the TTL
+ * configured for the longest matching key prefix, or for the default TTL.
+ * A TTL of 0 disables the caching for matching keys.
+ * <p>
+ * Concurrent requests with the same key are collapsed (single-flight): only
+ * the first caller executes the request, the others wait for its result (or
+ * its exception). Errors are never cached. A waiting caller that is
+ * interrupted stops waiting and doesn't send the request by itself.
+ * <p>
+ * Cached responses can be explicitly invalidated by key prefix, or all
+ * together (for example on user's login/logout). Invalidated requests still
+ * in progress are forgotten too, so next callers send a new request instead
+ * of waiting for a response requested before the invalidation.
+ */
+public class JSLAdminCache {
+
+    // Class constants
+
+    /**
+     * Request to the JCP APIs.
+     */
+    public interface JCPCall<T> {
+
+        T call() throws JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException;
+
+    }
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLAdminCache.class);
+    private final long defaultTTLMs;
+    private final TreeMap<String, Long> prefixTTLsMs = new TreeMap<>();
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    /**
+     * Incremented on each invalidation, so responses requested before an
+     * invalidation are not cached.
+     */
+    private final AtomicLong generation = new AtomicLong();
+    private long hitsCount = 0;
+    private long missesCount = 0;
+    private long collapsedCount = 0;
+
+
+    // Constructor
+
+    /**
+     * @param defaultTTLMs default TTL for cached responses.
+     * @param prefixTTLs   TTLs for specific keys prefixes, as comma separated
+     *                     list of <code>prefix=ttlMs</code>.
+     */
+    public JSLAdminCache(long defaultTTLMs, String prefixTTLs) {
+        this.defaultTTLMs = defaultTTLMs;
+        if (prefixTTLs == null)
+            return;
+
+        for (String prefixTTL : prefixTTLs.split(",")) {
+            if (prefixTTL.trim().isEmpty())
+                continue;
+            String[] pair = prefixTTL.split("=");
+            try {
+                if (pair.length != 2)
+                    throw new NumberFormatException("missing '='");
+                prefixTTLsMs.put(pair[0].trim(), Long.parseLong(pair[1].trim()));
+            } catch (NumberFormatException e) {
+                log.warn(String.format("Invalid admin cache TTL '%s' because %s, skip it", prefixTTL, e.getMessage()));
+            }
+        }
+    }
+
+
+    // Cache mngm
+
+    /**
+     * Return the cached response for given key, or execute given request.
+     *
+     * @param key  the request's key (endpoint and params).
+     * @param call the request to execute on cache miss.
+     * @return the (cached) response.
+     * @throws CancellationException if the current thread is interrupted
+     *                               while waiting for the same request
+     *                               already in progress.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, JCPCall<T> call) throws JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
+        long ttl = getTTL(key);
+        CacheEntry entry = entries.get(key);
+        if (entry != null && System.currentTimeMillis() < entry.expiresAt) {
+            countHit();
+            return (T) entry.value;
+        }
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, future);
+        if (leader != null) {
+            countCollapsed();
+            return (T) await(leader);
+        }
+
+        countMiss();
+        long requestGeneration = generation.get();
+        try {
+            T value = call.call();
+            if (ttl > 0 && requestGeneration == generation.get()) {
+                CacheEntry newEntry = new CacheEntry(value, System.currentTimeMillis() + ttl);
+                entries.put(key, newEntry);
+                // Invalidated meanwhile, discard the stale response
+                if (requestGeneration != generation.get())
+                    entries.remove(key, newEntry);
+            }
+            future.complete(value);
+            return value;
+
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Remove all cached responses whose key starts with given prefix.
+     *
+     * @param keyPrefix the keys prefix, like <code>executable/Gateways</code>.
+     */
+    public void invalidate(String keyPrefix) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+        inFlight.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    /**
+     * Remove all cached responses.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+        inFlight.clear();
+        log.debug("Admin responses cache invalidated");
+    }
+
+    /**
+     * @return the TTL for given key.
+     */
+    public long getTTL(String key) {
+        for (Map.Entry<String, Long> prefix : prefixTTLsMs.descendingMap().entrySet())
+            if (key.startsWith(prefix.getKey()))
+                return prefix.getValue();
+        return defaultTTLMs;
+    }
+
+    private static Object await(CompletableFuture<Object> leader) throws JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
+        try {
+            return leader.get();
+
+        } catch (InterruptedException e) {
+            // Stop waiting the request in progress, without executing it
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the same request in progress");
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JCPClient2.ConnectionException) throw (JCPClient2.ConnectionException) cause;
+            if (cause instanceof JCPClient2.ResponseException) throw (JCPClient2.ResponseException) cause;
+            if (cause instanceof JCPClient2.RequestException) throw (JCPClient2.RequestException) cause;
+            if (cause instanceof JCPClient2.AuthenticationException) throw (JCPClient2.AuthenticationException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+
+    // Stats
+
+    private synchronized void countHit() {
+        hitsCount++;
+    }
+
+    private synchronized void countMiss() {
+        missesCount++;
+    }
+
+    private synchronized void countCollapsed() {
+        collapsedCount++;
+    }
+
+    /**
+     * @return the number of requests served from the cache.
+     */
+    public synchronized long getHitsCount() {
+        return hitsCount;
+    }
+
+    /**
+     * @return the number of requests sent to the JCP APIs.
+     */
+    public synchronized long getMissesCount() {
+        return missesCount;
+    }
+
+    /**
+     * @return the number of requests collapsed into a same request in progress.
+     */
+    public synchronized long getCollapsedCount() {
+        return collapsedCount;
+    }
+
+
+    // Cache entry
+
+    private static class CacheEntry {
+
+        private final Object value;
+        private final long expiresAt;
+
+        private CacheEntry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
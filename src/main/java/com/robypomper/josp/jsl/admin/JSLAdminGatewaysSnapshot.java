@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.admin;
+
+import java.util.*;
+
+
+/**
+ * Snapshot of all JCP Gateways servers, collected by
+ * {@link JSLAdmin#getJCPGatewaysSnapshot(long)}.
+ * <p>
+ * The snapshot contains a {@link GatewayServer} for each server listed by the
+ * JCP APIs. Each server's value is collected by a different request, sent
+ * concurrently with the others. Requests that fail, or that don't complete
+ * within the snapshot's deadline, leave the corresponding value to
+ * <code>null</code> and register their error into the server's
+ * {@link GatewayServer#getErrors()} map, keyed by the value's name
+ * (<code>gws</code>, <code>broker</code>, <code>online</code>, ...).
+ */
+public class JSLAdminGatewaysSnapshot {
+
+    // Class constants
+
+    public static final String VAL_GWS = "gws";
+    public static final String VAL_BROKER = "broker";
+    public static final String VAL_ONLINE = "online";
+    public static final String VAL_PROCESS = "process";
+    public static final String VAL_OS = "os";
+    public static final String VAL_CPU = "cpu";
+    public static final String VAL_MEMORY = "memory";
+    public static final String VAL_JAVA_THREADS = "javaThreads";
+    public static final String VAL_BUILD_INFO = "buildInfo";
+
+
+    // Internal vars
+
+    private final Date collectedAt = new Date();
+    private final Map<String, GatewayServer> servers = new LinkedHashMap<>();
+    private boolean timedOut = false;
+    private long elapsedMs = 0;
+
+
+    // Getters
+
+    /**
+     * @return the time when the snapshot collection started.
+     */
+    public Date getCollectedAt() {
+        return collectedAt;
+    }
+
+    /**
+     * @return the time spent collecting the snapshot.
+     */
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * @return true if at least one request didn't complete within the
+     * snapshot's deadline.
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * @return true if all requests completed successfully.
+     */
+    public boolean isComplete() {
+        for (GatewayServer server : servers.values())
+            if (!server.getErrors().isEmpty())
+                return false;
+        return true;
+    }
+
+    /**
+     * @return the servers ids, in the same order listed by the JCP APIs.
+     */
+    public List<String> getServerIds() {
+        return new ArrayList<>(servers.keySet());
+    }
+
+    /**
+     * @return the servers snapshots, in the same order listed by the JCP APIs.
+     */
+    public List<GatewayServer> getServers() {
+        return new ArrayList<>(servers.values());
+    }
+
+    /**
+     * @return the snapshot of given server, null if not listed.
+     */
+    public GatewayServer getServer(String gwServerId) {
+        return servers.get(gwServerId);
+    }
+
+
+    // Snapshot collection
+
+    GatewayServer addServer(String gwServerId, String name) {
+        GatewayServer server = new GatewayServer(gwServerId, name);
+        servers.put(gwServerId, server);
+        return server;
+    }
+
+    void setCompleted(boolean timedOut, long elapsedMs) {
+        this.timedOut = timedOut;
+        this.elapsedMs = elapsedMs;
+    }
+
+
+    // Server snapshot
+
+    /**
+     * Values collected for a single JCP Gateways server.
+     * <p>
+     * Values are <code>null</code> when the corresponding request failed or
+     * timed out, see {@link #getErrors()}.
+     */
+    public static class GatewayServer {
+
+        // Internal vars
+
+        private final String id;
+        private final String name;
+        private final Map<String, Throwable> errors = Collections.synchronizedMap(new LinkedHashMap<>());
+        volatile com.robypomper.josp.defs.admin.gateways.status.Params20.GWs gws;
+        volatile com.robypomper.josp.defs.admin.gateways.status.Params20.Broker broker;
+        volatile Date online;
+        volatile com.robypomper.josp.defs.admin.gateways.executable.Params20.Process process;
+        volatile com.robypomper.josp.defs.admin.gateways.executable.Params20.OS os;
+        volatile com.robypomper.josp.defs.admin.gateways.executable.Params20.CPU cpu;
+        volatile com.robypomper.josp.defs.admin.gateways.executable.Params20.Memory memory;
+        volatile com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaThreads javaThreads;
+        volatile com.robypomper.josp.defs.admin.gateways.buildinfo.Params20.BuildInfo buildInfo;
+
+
+        // Constructor
+
+        private GatewayServer(String id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+
+        // Getters
+
+        public String getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public com.robypomper.josp.defs.admin.gateways.status.Params20.GWs getGWs() {
+            return gws;
+        }
+
+        public com.robypomper.josp.defs.admin.gateways.status.Params20.Broker getBroker() {
+            return broker;
+        }
+
+        public Date getOnline() {
+            return online;
+        }
+
+        public com.robypomper.josp.defs.admin.gateways.executable.Params20.Process getProcess() {
+            return process;
+        }
+
+        public com.robypomper.josp.defs.admin.gateways.executable.Params20.OS getOS() {
+            return os;
+        }
+
+        public com.robypomper.josp.defs.admin.gateways.executable.Params20.CPU getCPU() {
+            return cpu;
+        }
+
+        public com.robypomper.josp.defs.admin.gateways.executable.Params20.Memory getMemory() {
+            return memory;
+        }
+
+        public com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaThreads getJavaThreads() {
+            return javaThreads;
+        }
+
+        public com.robypomper.josp.defs.admin.gateways.buildinfo.Params20.BuildInfo getBuildInfo() {
+            return buildInfo;
+        }
+
+        /**
+         * @return the errors of the failed (or timed out) requests, keyed by
+         * value's name.
+         */
+        public Map<String, Throwable> getErrors() {
+            synchronized (errors) {
+                return new LinkedHashMap<>(errors);
+            }
+        }
+
+        void addError(String valName, Throwable error) {
+            errors.put(valName, error);
+        }
+
+    }
+
+}
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.admin;
+
+import com.robypomper.josp.jsl.JSLThreads;
+import com.robypomper.josp.types.RESTItemList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Background sampler for the JCP executable's metrics.
+ * <p>
+ * At each interval, this class polls the configured sources (via the
+ * {@link JSLAdmin}, so through its responses cache) and stores each numeric
+ * value into a {@link JSLAdminTimeSeries}. Then the trend views can query the
+ * series instead of polling the JCP for each viewer.
+ * <p>
+ * Available sources are:
+ * <ul>
+ *     <li><code>apis.cpu</code>, <code>apis.javaMemory</code>,
+ *     <code>apis.javaThreads</code>, <code>apis.disks</code>: JCP APIs metrics</li>
+ *     <li><code>gateways.cpu</code>, <code>gateways.javaMemory</code>,
+ *     <code>gateways.javaThreads</code>, <code>gateways.disks</code>: metrics
+ *     of each JCP Gateways server</li>
+ * </ul>
+ * Metrics are named with the source's component, the server id (only for
+ * gateways), the source's type and the value; like
+ * <code>apis.cpu.loadAvg</code> or <code>gateways.{gwServerId}.javaMemory.heapUsed</code>.
+ * <p>
+ * Samples that can't be retrieved (for example because current user is not
+ * an admin) are skipped.
+ */
+public class JSLAdminMetricsSampler {
+
+    // Class constants
+
+    public static final String SRC_APIS_CPU = "apis.cpu";
+    public static final String SRC_APIS_JAVA_MEMORY = "apis.javaMemory";
+    public static final String SRC_APIS_JAVA_THREADS = "apis.javaThreads";
+    public static final String SRC_APIS_DISKS = "apis.disks";
+    public static final String SRC_GATEWAYS_CPU = "gateways.cpu";
+    public static final String SRC_GATEWAYS_JAVA_MEMORY = "gateways.javaMemory";
+    public static final String SRC_GATEWAYS_JAVA_THREADS = "gateways.javaThreads";
+    public static final String SRC_GATEWAYS_DISKS = "gateways.disks";
+    private static final String THREAD_NAME = "JSLAdminSampler-%d";
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLAdminMetricsSampler.class);
+    private final JSLAdmin admin;
+    private final long intervalMs;
+    private final int capacity;
+    private final Set<String> sources = new LinkedHashSet<>();
+    private final Map<String, JSLAdminTimeSeries> series = new ConcurrentHashMap<>();
+    private ScheduledExecutorService executor = null;
+
+
+    // Constructor
+
+    /**
+     * @param admin      the admin system used to retrieve the metrics.
+     * @param intervalMs the time between two samplings.
+     * @param capacity   the max number of samples stored for each metric.
+     * @param sources    comma separated list of the sources to sample.
+     */
+    public JSLAdminMetricsSampler(JSLAdmin admin, long intervalMs, int capacity, String sources) {
+        if (intervalMs < 1)
+            throw new IllegalArgumentException(String.format("Admin sampler's interval must be greater than 0 (current value %d)", intervalMs));
+        if (capacity < 1)
+            throw new IllegalArgumentException(String.format("Admin sampler's capacity must be greater than 0 (current value %d)", capacity));
+        this.admin = admin;
+        this.intervalMs = intervalMs;
+        this.capacity = capacity;
+        for (String src : sources.split(","))
+            if (!src.trim().isEmpty())
+                this.sources.add(src.trim());
+    }
+
+
+    // Sampler mngm
+
+    /**
+     * Start sampling the configured sources, if not already started.
+     */
+    public synchronized void start() {
+        if (executor != null)
+            return;
+
+        executor = Executors.newSingleThreadScheduledExecutor(JSLThreads.newThreadFactory(THREAD_NAME));
+        executor.scheduleWithFixedDelay(this::sample, 0, intervalMs, TimeUnit.MILLISECONDS);
+        log.info(String.format("Admin metrics sampler started (interval: %d ms, capacity: %d, sources: %s)", intervalMs, capacity, sources));
+    }
+
+    /**
+     * Stop sampling, stored samples are kept.
+     */
+    public synchronized void stop() {
+        if (executor == null)
+            return;
+
+        executor.shutdownNow();
+        executor = null;
+        log.info("Admin metrics sampler stopped");
+    }
+
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    /**
+     * Remove all stored samples.
+     */
+    public void clear() {
+        series.clear();
+    }
+
+
+    // Queries
+
+    /**
+     * @return the sorted names of all sampled metrics.
+     */
+    public List<String> getMetrics() {
+        List<String> names = new ArrayList<>(series.keySet());
+        Collections.sort(names);
+        return names;
+    }
+
+    /**
+     * @return the time series of given metric, null if not sampled.
+     */
+    public JSLAdminTimeSeries getSeries(String metric) {
+        return series.get(metric);
+    }
+
+    /**
+     * @param metric the metric's name.
+     * @param fromMs the min timestamp (inclusive).
+     * @param toMs   the max timestamp (inclusive).
+     * @return the samples of given metric within given time range, null if
+     * the metric is not sampled.
+     */
+    public JSLAdminTimeSeries.Points query(String metric, long fromMs, long toMs) {
+        JSLAdminTimeSeries s = series.get(metric);
+        return s != null ? s.query(fromMs, toMs) : null;
+    }
+
+    /**
+     * @param metric the metric's name.
+     * @param count  the max number of samples to return.
+     * @return the most recent samples of given metric, null if the metric is
+     * not sampled.
+     */
+    public JSLAdminTimeSeries.Points queryLast(String metric, int count) {
+        JSLAdminTimeSeries s = series.get(metric);
+        return s != null ? s.queryLast(count) : null;
+    }
+
+
+    // Sampling
+
+    private interface Source {
+
+        void sample(long time) throws Exception;
+
+    }
+
+    private void sample() {
+        long time = System.currentTimeMillis();
+
+        sampleSource(SRC_APIS_CPU, time, t -> {
+            com.robypomper.josp.defs.admin.apis.executable.Params20.CPU cpu = admin.getJCPAPIsExecCPU();
+            record("apis.cpu.loadAvg", t, cpu.loadAvg);
+            record("apis.cpu.count", t, cpu.count);
+        });
+        sampleSource(SRC_APIS_JAVA_MEMORY, time, t -> {
+            com.robypomper.josp.defs.admin.apis.executable.Params20.JavaMemory mem = admin.getJCPAPIsExecJavaMemory();
+            record("apis.javaMemory.used", t, mem.memoryUsed);
+            record("apis.javaMemory.committed", t, mem.memoryCommitted);
+            record("apis.javaMemory.heapUsed", t, mem.memoryHeapUsed);
+            record("apis.javaMemory.heapFree", t, mem.memoryHeapFree);
+            record("apis.javaMemory.heapMax", t, mem.memoryHeapMax);
+        });
+        sampleSource(SRC_APIS_JAVA_THREADS, time, t -> {
+            com.robypomper.josp.defs.admin.apis.executable.Params20.JavaThreads threads = admin.getJCPAPIsExecJavaThreads();
+            record("apis.javaThreads.count", t, threads.threadsCount);
+            record("apis.javaThreads.daemon", t, threads.threadsCountDaemon);
+            record("apis.javaThreads.peak", t, threads.threadsCountPeak);
+        });
+        sampleSource(SRC_APIS_DISKS, time, t -> {
+            for (RESTItemList item : admin.getJCPAPIsExecDisks().disksList) {
+                com.robypomper.josp.defs.admin.apis.executable.Params20.Disk disk = admin.getJCPAPIsExecDisk(item.id);
+                record(String.format("apis.disks.%s.spaceFree", item.id), t, disk.spaceFree);
+                record(String.format("apis.disks.%s.spaceUsable", item.id), t, disk.spaceUsable);
+            }
+        });
+
+        if (!hasGatewaysSources())
+            return;
+        List<String> gwServerIds = new ArrayList<>();
+        try {
+            for (RESTItemList item : admin.getJCPGatewaysServers().serverList)
+                gwServerIds.add(item.id);
+
+        } catch (Throwable e) {
+            log.debug(String.format("Error on listing JCP Gateways servers for admin metrics because %s", e.getMessage()));
+        }
+        for (String gwServerId : gwServerIds) {
+            String prefix = "gateways." + gwServerId;
+            sampleSource(SRC_GATEWAYS_CPU, time, t -> {
+                com.robypomper.josp.defs.admin.gateways.executable.Params20.CPU cpu = admin.getJCPGatewaysExecCPU(gwServerId);
+                record(prefix + ".cpu.loadAvg", t, cpu.loadAvg);
+                record(prefix + ".cpu.count", t, cpu.count);
+            });
+            sampleSource(SRC_GATEWAYS_JAVA_MEMORY, time, t -> {
+                com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaMemory mem = admin.getJCPGatewaysExecJavaMemory(gwServerId);
+                record(prefix + ".javaMemory.used", t, mem.memoryUsed);
+                record(prefix + ".javaMemory.committed", t, mem.memoryCommitted);
+                record(prefix + ".javaMemory.heapUsed", t, mem.memoryHeapUsed);
+                record(prefix + ".javaMemory.heapFree", t, mem.memoryHeapFree);
+                record(prefix + ".javaMemory.heapMax", t, mem.memoryHeapMax);
+            });
+            sampleSource(SRC_GATEWAYS_JAVA_THREADS, time, t -> {
+                com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaThreads threads = admin.getJCPGatewaysExecJavaThreads(gwServerId);
+                record(prefix + ".javaThreads.count", t, threads.threadsCount);
+                record(prefix + ".javaThreads.daemon", t, threads.threadsCountDaemon);
+                record(prefix + ".javaThreads.peak", t, threads.threadsCountPeak);
+            });
+            sampleSource(SRC_GATEWAYS_DISKS, time, t -> {
+                for (RESTItemList item : admin.getJCPGatewaysExecDisks(gwServerId).disksList) {
+                    com.robypomper.josp.defs.admin.gateways.executable.Params20.Disk disk = admin.getJCPGatewaysExecDisk(gwServerId, item.id);
+                    record(String.format("%s.disks.%s.spaceFree", prefix, item.id), t, disk.spaceFree);
+                    record(String.format("%s.disks.%s.spaceUsable", prefix, item.id), t, disk.spaceUsable);
+                }
+            });
+        }
+    }
+
+    private boolean hasGatewaysSources() {
+        return sources.contains(SRC_GATEWAYS_CPU) || sources.contains(SRC_GATEWAYS_JAVA_MEMORY)
+                || sources.contains(SRC_GATEWAYS_JAVA_THREADS) || sources.contains(SRC_GATEWAYS_DISKS);
+    }
+
+    private void sampleSource(String src, long time, Source source) {
+        if (!sources.contains(src))
+            return;
+
+        try {
+            source.sample(time);
+
+        } catch (JSLAdmin.UserNotAuthException | JSLAdmin.UserNotAdminException e) {
+            log.trace(String.format("Skip admin metrics source '%s' because %s", src, e.getMessage()));
+
+        } catch (Throwable e) {
+            log.debug(String.format("Error on sampling admin metrics source '%s' because %s", src, e.getMessage()));
+        }
+    }
+
+    private void record(String metric, long time, double value) {
+        series.computeIfAbsent(metric, m -> new JSLAdminTimeSeries(m, capacity)).add(time, value);
+    }
+
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.admin;
+
+
+/**
+ * Fixed-size time series of a single admin's metric.
+ * <p>
+ * Samples are stored into two primitive ring buffers (timestamps and values),
+ * allocated once on creation: when the series is full, each new sample
+ * overwrites the oldest one. So memory usage is constant and no objects are
+ * allocated on sampling.
+ */
+public class JSLAdminTimeSeries {
+
+    // Internal vars
+
+    private final String name;
+    private final long[] timestamps;
+    private final double[] values;
+    /**
+     * Index of the next sample to write.
+     */
+    private int head = 0;
+    private int size = 0;
+
+
+    // Constructor
+
+    /**
+     * @param name     the metric's name.
+     * @param capacity the max number of samples stored.
+     */
+    public JSLAdminTimeSeries(String name, int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException(String.format("Time series capacity must be greater than 0 (current value %d)", capacity));
+        this.name = name;
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+
+    // Getters
+
+    public String getName() {
+        return name;
+    }
+
+    public int getCapacity() {
+        return values.length;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the most recent value, <code>NaN</code> if the series is empty.
+     */
+    public synchronized double getLast() {
+        return size > 0 ? values[index(size - 1)] : Double.NaN;
+    }
+
+    /**
+     * @return the timestamp of the most recent value, 0 if the series is empty.
+     */
+    public synchronized long getLastTimestamp() {
+        return size > 0 ? timestamps[index(size - 1)] : 0;
+    }
+
+
+    // Series mngm
+
+    /**
+     * Add a sample to the series, overwriting the oldest one if the series
+     * is full.
+     * <p>
+     * Samples must be added in chronological order.
+     *
+     * @param timestamp the sample's time (millis).
+     * @param value     the sample's value.
+     */
+    public synchronized void add(long timestamp, double value) {
+        timestamps[head] = timestamp;
+        values[head] = value;
+        head = (head + 1) % values.length;
+        if (size < values.length)
+            size++;
+    }
+
+    /**
+     * Remove all samples.
+     */
+    public synchronized void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * @return all samples, from the oldest to the newest.
+     */
+    public Points query() {
+        return query(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param fromMs the min timestamp (inclusive).
+     * @param toMs   the max timestamp (inclusive).
+     * @return the samples within given time range, from the oldest to the
+     * newest.
+     */
+    public synchronized Points query(long fromMs, long toMs) {
+        int first = 0;
+        while (first < size && timestamps[index(first)] < fromMs)
+            first++;
+        int last = size - 1;
+        while (last >= first && timestamps[index(last)] > toMs)
+            last--;
+
+        int count = last - first + 1;
+        long[] t = new long[count];
+        double[] v = new double[count];
+        for (int i = 0; i < count; i++) {
+            t[i] = timestamps[index(first + i)];
+            v[i] = values[index(first + i)];
+        }
+        return new Points(t, v);
+    }
+
+    /**
+     * @param count the max number of samples to return.
+     * @return the most recent samples, from the oldest to the newest.
+     */
+    public synchronized Points queryLast(int count) {
+        int n = Math.max(0, Math.min(count, size));
+        long[] t = new long[n];
+        double[] v = new double[n];
+        for (int i = 0; i < n; i++) {
+            t[i] = timestamps[index(size - n + i)];
+            v[i] = values[index(size - n + i)];
+        }
+        return new Points(t, v);
+    }
+
+    /**
+     * @param i the sample's position, from 0 (oldest) to size-1 (newest).
+     * @return the buffers index of given sample.
+     */
+    private int index(int i) {
+        int start = size < values.length ? 0 : head;
+        return (start + i) % values.length;
+    }
+
+
+    // Query result
+
+    /**
+     * Samples returned by a time series query, ordered from the oldest to the
+     * newest.
+     */
+    public static class Points {
+
+        private final long[] timestamps;
+        private final double[] values;
+
+        private Points(long[] timestamps, double[] values) {
+            this.timestamps = timestamps;
+            this.values = values;
+        }
+
+        public int size() {
+            return values.length;
+        }
+
+        public long[] getTimestamps() {
+            return timestamps;
+        }
+
+        public double[] getValues() {
+            return values;
+        }
+
+        /**
+         * @return the min value, <code>NaN</code> if empty.
+         */
+        public double getMin() {
+            double min = Double.NaN;
+            for (double v : values)
+                if (Double.isNaN(min) || v < min)
+                    min = v;
+            return min;
+        }
+
+        /**
+         * @return the max value, <code>NaN</code> if empty.
+         */
+        public double getMax() {
+            double max = Double.NaN;
+            for (double v : values)
+                if (Double.isNaN(max) || v > max)
+                    max = v;
+            return max;
+        }
+
+        /**
+         * @return the average value, <code>NaN</code> if empty.
+         */
+        public double getAvg() {
+            if (values.length == 0)
+                return Double.NaN;
+            double sum = 0;
+            for (double v : values)
+                sum += v;
+            return sum / values.length;
+        }
+
+    }
+
+}
@@ -21,15 +21,27 @@ package com.robypomper.josp.jsl.admin;
 import com.robypomper.josp.clients.JCPAPIsClientSrv;
 import com.robypomper.josp.clients.JCPClient2;
 import com.robypomper.josp.jsl.JSLSettings_002;
+import com.robypomper.josp.jsl.JSLThreads;
 import com.robypomper.josp.jsl.user.JSLUserMngr;
+import com.robypomper.josp.types.RESTItemList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 
 /**
- *
+ * JSLAdmin implementation that sends the admin requests to the JCP APIs.
+ * <p>
+ * All responses pass through a {@link JSLAdminCache}, so identical requests
+ * within the configured TTLs (and concurrent identical requests) are sent
+ * only once to the JCP APIs. The cache and the user's admin check are reset
+ * on each user's login/logout.
  */
 public class JSLAdmin_002 implements JSLAdmin {
 
@@ -39,6 +51,19 @@ public class JSLAdmin_002 implements JSLAdmin {
     private final JSLSettings_002 locSettings;
     private final JCPAPIsClientSrv jcpClient;
     private final JSLUserMngr userMngr;
+    private final JSLAdminCache cache;
+    /**
+     * Incremented on each user's login/logout, so admin checks computed for
+     * the previous user are discarded.
+     */
+    private final AtomicLong userGeneration = new AtomicLong();
+    /**
+     * Result of the last user's admin check, valid only if computed for
+     * current {@link #userGeneration} and user.
+     */
+    private final AtomicReference<AdminCheck> userIsAdmin = new AtomicReference<>();
+    private ExecutorService snapshotExecutor = null;
+    private final JSLAdminMetricsSampler sampler;
 
 
     // Constructor
@@ -47,6 +72,9 @@ public class JSLAdmin_002 implements JSLAdmin {
         this.locSettings = settings;
         this.jcpClient = jcpClient;
         this.userMngr = userMngr;
+        this.cache = new JSLAdminCache(settings.getAdminCacheTTL(), settings.getAdminCacheTTLs());
+        this.userMngr.addUserListener(userListener);
+        this.sampler = settings.getAdminSamplerEnabled() ? new JSLAdminMetricsSampler(this, settings.getAdminSamplerInterval(), settings.getAdminSamplerCapacity(), settings.getAdminSamplerSources()) : null;
 
         log.info("Initialized JSLAdmin instance");
     }
@@ -55,54 +83,138 @@ public class JSLAdmin_002 implements JSLAdmin {
     // User's checks
 
     public void checkUserIsAdmin(String resource) throws UserNotAuthException, UserNotAdminException {
-        if (!userMngr.isUserAuthenticated())
-            throw new UserNotAuthException(resource);
-
-        if (!userMngr.isAdmin())
+        long generation = userGeneration.get();
+        String userId = userMngr.getUserId();
+        AdminCheck check = userIsAdmin.get();
+        if (check == null || !check.isValidFor(generation, userId)) {
+            if (!userMngr.isUserAuthenticated())
+                throw new UserNotAuthException(resource);
+            AdminCheck newCheck = new AdminCheck(generation, userId, userMngr.isAdmin());
+            // Cache only if no login/logout happened meanwhile
+            if (userGeneration.get() == generation)
+                userIsAdmin.compareAndSet(check, newCheck);
+            check = newCheck;
+        }
+
+        if (!check.isAdmin)
             throw new UserNotAdminException(userMngr.getUserId(), userMngr.getUsername(), resource);
     }
 
+    /**
+     * Result of an admin check, with the user's generation and id it was
+     * computed for.
+     */
+    private static class AdminCheck {
+
+        private final long generation;
+        private final String userId;
+        private final boolean isAdmin;
+
+        private AdminCheck(long generation, String userId, boolean isAdmin) {
+            this.generation = generation;
+            this.userId = userId;
+            this.isAdmin = isAdmin;
+        }
+
+        private boolean isValidFor(long generation, String userId) {
+            return this.generation == generation && (this.userId == null ? userId == null : this.userId.equals(userId));
+        }
+
+    }
+
+    private final JSLUserMngr.UserListener userListener = new JSLUserMngr.UserListener() {
+
+        @Override
+        public void onLoginPreRestart(JSLUserMngr jslUserMngr) {
+            userGeneration.incrementAndGet();
+            userIsAdmin.set(null);
+            cache.invalidateAll();
+        }
+
+        @Override
+        public void onLogoutPreRestart(JSLUserMngr jslUserMngr) {
+            userGeneration.incrementAndGet();
+            userIsAdmin.set(null);
+            cache.invalidateAll();
+            if (sampler != null)
+                sampler.clear();
+        }
+
+        @Override
+        public void onLogin(JSLUserMngr jslUserMngr) {}
+
+        @Override
+        public void onLogout(JSLUserMngr jslUserMngr) {}
+
+    };
+
+
+    // Cache mngm
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateCache() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateCache(String keyPrefix) {
+        cache.invalidate(keyPrefix);
+    }
+
+    /**
+     * @return the cache used for the JCP APIs responses.
+     */
+    public JSLAdminCache getCache() {
+        return cache;
+    }
+
 
     // JCP APIs status
 
     public com.robypomper.josp.defs.admin.apis.status.Params20.Objects getJCPAPIsObjects() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs objects");
-        return new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getObjectsReq();
+        return cache.get("status/APIs/Objects", () -> new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getObjectsReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.status.Params20.Object getJCPAPIsObject(String objId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs object");
-        return new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getObjectReq(objId);
+        return cache.get("status/APIs/Object/" + objId, () -> new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getObjectReq(objId));
     }
 
     public com.robypomper.josp.defs.admin.apis.status.Params20.Services getJCPAPIsServices() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs services");
-        return new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getServicesReq();
+        return cache.get("status/APIs/Services", () -> new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getServicesReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.status.Params20.Service getJCPAPIsService(String srvId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs service");
-        return new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getServiceReq(srvId);
+        return cache.get("status/APIs/Service/" + srvId, () -> new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getServiceReq(srvId));
     }
 
     public com.robypomper.josp.defs.admin.apis.status.Params20.Users getJCPAPIsUsers() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs users");
-        return new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getUsersReq();
+        return cache.get("status/APIs/Users", () -> new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getUsersReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.status.Params20.User getJCPAPIsUser(String usrId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs user");
-        return new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getUserReq(usrId);
+        return cache.get("status/APIs/User/" + usrId, () -> new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getUserReq(usrId));
     }
 
     public com.robypomper.josp.defs.admin.apis.status.Params20.Gateways getJCPAPIsGateways() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs gateways");
-        return new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getGatewaysReq();
+        return cache.get("status/APIs/Gateways", () -> new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getGatewaysReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.status.Params20.Gateway getJCPAPIsGateway(String gwId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs gateway");
-        return new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getGatewayReq(gwId);
+        return cache.get("status/APIs/Gateway/" + gwId, () -> new com.robypomper.josp.callers.apis.admin.apis.status.Caller20(jcpClient).getGatewayReq(gwId));
     }
 
 
@@ -110,82 +222,82 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public Date getJCPAPIsExecOnline() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs online executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getOnlineReq();
+        return cache.get("executable/APIs/Online", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getOnlineReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.Process getJCPAPIsExecProcess() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs process executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getProcessReq();
+        return cache.get("executable/APIs/Process", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getProcessReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.JavaVM getJCPAPIsExecJavaVM() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs Java VM executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaVMReq();
+        return cache.get("executable/APIs/JavaVM", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaVMReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.JavaRuntime getJCPAPIsExecJavaRuntime() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs Java runtime executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaRuntimeReq();
+        return cache.get("executable/APIs/JavaRuntime", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaRuntimeReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.JavaTimes getJCPAPIsExecJavaTimes() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs Java times executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaTimesReq();
+        return cache.get("executable/APIs/JavaTimes", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaTimesReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.JavaClasses getJCPAPIsExecJavaClasses() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs Java classes executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaClassesReq();
+        return cache.get("executable/APIs/JavaClasses", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaClassesReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.JavaMemory getJCPAPIsExecJavaMemory() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs Java memory executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaMemoryReq();
+        return cache.get("executable/APIs/JavaMemory", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaMemoryReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.JavaThreads getJCPAPIsExecJavaThreads() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs Java threads executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaThreadsReq();
+        return cache.get("executable/APIs/JavaThreads", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaThreadsReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.JavaThread getJCPAPIsExecJavaThread(long threadId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs Java thread executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaThreadReq(threadId);
+        return cache.get("executable/APIs/JavaThread/" + threadId, () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getJavaThreadReq(threadId));
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.OS getJCPAPIsExecOS() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs os executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getOSReq();
+        return cache.get("executable/APIs/OS", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getOSReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.CPU getJCPAPIsExecCPU() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs cpu executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getCPUReq();
+        return cache.get("executable/APIs/CPU", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getCPUReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.Memory getJCPAPIsExecMemory() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs memory executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getMemoryReq();
+        return cache.get("executable/APIs/Memory", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getMemoryReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.Disks getJCPAPIsExecDisks() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs disks executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getDisksReq();
+        return cache.get("executable/APIs/Disks", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getDisksReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.Disk getJCPAPIsExecDisk(String diskId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs disk executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getDiskReq(diskId);
+        return cache.get("executable/APIs/Disk/" + diskId, () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getDiskReq(diskId));
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.Networks getJCPAPIsExecNetworks() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs networks executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getNetworksReq();
+        return cache.get("executable/APIs/Networks", () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getNetworksReq());
     }
 
     public com.robypomper.josp.defs.admin.apis.executable.Params20.Network getJCPAPIsExecNetwork(int networkId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs network executable status");
-        return new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getNetworkReq(networkId);
+        return cache.get("executable/APIs/Network/" + networkId, () -> new com.robypomper.josp.callers.apis.admin.apis.executable.Caller20(jcpClient).getNetworkReq(networkId));
     }
 
 
@@ -193,7 +305,7 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public com.robypomper.josp.defs.admin.apis.buildinfo.Params20.BuildInfo getJCPAPIsBuildInfo() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP APIs build info");
-        return new com.robypomper.josp.callers.apis.admin.apis.buildinfo.Caller20(jcpClient).getBuildInfoReq();
+        return cache.get("buildinfo/APIs", () -> new com.robypomper.josp.callers.apis.admin.apis.buildinfo.Caller20(jcpClient).getBuildInfoReq());
     }
 
 
@@ -201,7 +313,7 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public com.robypomper.josp.defs.admin.gateways.status.Params20.GatewaysServers getJCPGatewaysServers() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways gateways list");
-        return new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getGWsListReq();      // status
+        return cache.get("status/Gateways/Servers", () -> new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getGWsListReq());      // status
         //return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getList();      // executable
         //return new com.robypomper.josp.callers.apis.admin.gateways.buildinfo.Caller20(jcpClient).getList();       // build info
     }
@@ -211,37 +323,169 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public com.robypomper.josp.defs.admin.gateways.status.Params20.GWs getJCPGatewaysGWs(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways gateways");
-        return new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getGWsReq(gwServerId);
+        return cache.get("status/Gateways/GWs/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getGWsReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.status.Params20.GW getJCPGatewaysGW(String gwServerId, String gwId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways gateway");
-        return new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getGWReq(gwServerId, gwId);
+        return cache.get("status/Gateways/GW/" + gwServerId + "/" + gwId, () -> new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getGWReq(gwServerId, gwId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.status.Params20.GWClient getJCPGatewaysGWsClient(String gwServerId, String gwId, String gwClientId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways gateway client");
-        return new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getGWsClientReq(gwServerId, gwId, gwClientId);
+        return cache.get("status/Gateways/GWsClient/" + gwServerId + "/" + gwId + "/" + gwClientId, () -> new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getGWsClientReq(gwServerId, gwId, gwClientId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.status.Params20.Broker getJCPGatewaysBroker(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways broker");
-        return new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getBrokerReq(gwServerId);
+        return cache.get("status/Gateways/Broker/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getBrokerReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.status.Params20.BrokerObject getJCPGatewaysBrokerObject(String gwServerId,String objId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways broker's object");
-        return new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getBrokerObjectReq(gwServerId,objId);
+        return cache.get("status/Gateways/BrokerObject/" + gwServerId + "/" + objId, () -> new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getBrokerObjectReq(gwServerId,objId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.status.Params20.BrokerService getJCPGatewaysBrokerService(String gwServerId,String srvId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways broker's service");
-        return new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getBrokerServiceReq(gwServerId,srvId);
+        return cache.get("status/Gateways/BrokerService/" + gwServerId + "/" + srvId, () -> new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getBrokerServiceReq(gwServerId,srvId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.status.Params20.BrokerObjectDB getJCPGatewaysBrokerObjectDB(String gwServerId,String objId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways broker's object db");
-        return new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getBrokerObjectDBReq(gwServerId,objId);
+        return cache.get("status/Gateways/BrokerObjectDB/" + gwServerId + "/" + objId, () -> new com.robypomper.josp.callers.apis.admin.gateways.status.Caller20(jcpClient).getBrokerObjectDBReq(gwServerId,objId));
+    }
+
+
+    // Metrics sampler
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JSLAdminMetricsSampler getMetricsSampler() {
+        return sampler;
+    }
+
+
+    // Background tasks
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startBackgroundTasks() {
+        if (sampler != null)
+            sampler.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stopBackgroundTasks() {
+        if (sampler != null)
+            sampler.stop();
+        shutdownSnapshotExecutor();
+    }
+
+
+    // JCP Gateways snapshot
+
+    public JSLAdminGatewaysSnapshot getJCPGatewaysSnapshot() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
+        return getJCPGatewaysSnapshot(locSettings.getAdminSnapshotTimeout());
+    }
+
+    public JSLAdminGatewaysSnapshot getJCPGatewaysSnapshot(long timeoutMs) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
+        checkUserIsAdmin("JCP Gateways snapshot");
+        long start = System.currentTimeMillis();
+        com.robypomper.josp.defs.admin.gateways.status.Params20.GatewaysServers serversList = getJCPGatewaysServers();
+
+        JSLAdminGatewaysSnapshot snapshot = new JSLAdminGatewaysSnapshot();
+        List<SnapshotTask> tasks = new ArrayList<>();
+        for (RESTItemList item : serversList.serverList) {
+            String gwServerId = item.id;
+            JSLAdminGatewaysSnapshot.GatewayServer srv = snapshot.addServer(gwServerId, item.name);
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_GWS, () -> srv.gws = getJCPGatewaysGWs(gwServerId)));
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_BROKER, () -> srv.broker = getJCPGatewaysBroker(gwServerId)));
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_ONLINE, () -> srv.online = getJCPGatewaysExecOnline(gwServerId)));
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_PROCESS, () -> srv.process = getJCPGatewaysExecProcess(gwServerId)));
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_OS, () -> srv.os = getJCPGatewaysExecOS(gwServerId)));
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_CPU, () -> srv.cpu = getJCPGatewaysExecCPU(gwServerId)));
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_MEMORY, () -> srv.memory = getJCPGatewaysExecMemory(gwServerId)));
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_JAVA_THREADS, () -> srv.javaThreads = getJCPGatewaysExecJavaThreads(gwServerId)));
+            tasks.add(new SnapshotTask(srv, JSLAdminGatewaysSnapshot.VAL_BUILD_INFO, () -> srv.buildInfo = getJCPGatewaysBuildInfo(gwServerId)));
+        }
+
+        boolean timedOut = false;
+        long remainingMs = Math.max(0, timeoutMs - (System.currentTimeMillis() - start));
+        try {
+            List<Future<Void>> futures = getSnapshotExecutor().invokeAll(tasks, remainingMs, TimeUnit.MILLISECONDS);
+            for (int i = 0; i < futures.size(); i++) {
+                SnapshotTask task = tasks.get(i);
+                Future<Void> future = futures.get(i);
+                if (future.isCancelled()) {
+                    timedOut = true;
+                    task.server.addError(task.valName, new TimeoutException(String.format("Request not completed within %d ms", timeoutMs)));
+                    continue;
+                }
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    task.server.addError(task.valName, e.getCause());
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            for (SnapshotTask task : tasks)
+                task.server.addError(task.valName, e);
+        }
+
+        long elapsedMs = System.currentTimeMillis() - start;
+        snapshot.setCompleted(timedOut, elapsedMs);
+        log.debug(String.format("Collected JCP Gateways snapshot for %d servers in %d ms (complete: %b, timed out: %b)", snapshot.getServerIds().size(), elapsedMs, snapshot.isComplete(), timedOut));
+        return snapshot;
+    }
+
+    private synchronized ExecutorService getSnapshotExecutor() {
+        if (snapshotExecutor == null)
+            snapshotExecutor = Executors.newFixedThreadPool(locSettings.getAdminSnapshotPoolSize(), JSLThreads.newThreadFactory("JSLAdminSnapshot-%d"));
+        return snapshotExecutor;
+    }
+
+    private synchronized void shutdownSnapshotExecutor() {
+        if (snapshotExecutor == null)
+            return;
+
+        snapshotExecutor.shutdownNow();
+        snapshotExecutor = null;
+    }
+
+    private interface SnapshotCall {
+
+        void call() throws Exception;
+
+    }
+
+    private static class SnapshotTask implements Callable<Void> {
+
+        private final JSLAdminGatewaysSnapshot.GatewayServer server;
+        private final String valName;
+        private final SnapshotCall call;
+
+        private SnapshotTask(JSLAdminGatewaysSnapshot.GatewayServer server, String valName, SnapshotCall call) {
+            this.server = server;
+            this.valName = valName;
+            this.call = call;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            call.call();
+            return null;
+        }
+
     }
 
 
@@ -249,82 +493,82 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public Date getJCPGatewaysExecOnline(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways online executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getOnlineReq(gwServerId);
+        return cache.get("executable/Gateways/Online/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getOnlineReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.Process getJCPGatewaysExecProcess(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways process executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getProcessReq(gwServerId);
+        return cache.get("executable/Gateways/Process/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getProcessReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaVM getJCPGatewaysExecJavaVM(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways Java VM executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaVMReq(gwServerId);
+        return cache.get("executable/Gateways/JavaVM/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaVMReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaRuntime getJCPGatewaysExecJavaRuntime(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways Java runtime executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaRuntimeReq(gwServerId);
+        return cache.get("executable/Gateways/JavaRuntime/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaRuntimeReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaTimes getJCPGatewaysExecJavaTimes(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways Java times executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaTimesReq(gwServerId);
+        return cache.get("executable/Gateways/JavaTimes/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaTimesReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaClasses getJCPGatewaysExecJavaClasses(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways Java classes executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaClassesReq(gwServerId);
+        return cache.get("executable/Gateways/JavaClasses/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaClassesReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaMemory getJCPGatewaysExecJavaMemory(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways Java memory executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaMemoryReq(gwServerId);
+        return cache.get("executable/Gateways/JavaMemory/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaMemoryReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaThreads getJCPGatewaysExecJavaThreads(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways Java threads executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaThreadsReq(gwServerId);
+        return cache.get("executable/Gateways/JavaThreads/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaThreadsReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.JavaThread getJCPGatewaysExecJavaThread(String gwServerId, long threadId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways Java thread executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaThreadReq(gwServerId, threadId);
+        return cache.get("executable/Gateways/JavaThread/" + gwServerId + "/" + threadId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getJavaThreadReq(gwServerId, threadId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.OS getJCPGatewaysExecOS(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways os executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getOSReq(gwServerId);
+        return cache.get("executable/Gateways/OS/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getOSReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.CPU getJCPGatewaysExecCPU(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways cpu executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getCPUReq(gwServerId);
+        return cache.get("executable/Gateways/CPU/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getCPUReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.Memory getJCPGatewaysExecMemory(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways memory executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getMemoryReq(gwServerId);
+        return cache.get("executable/Gateways/Memory/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getMemoryReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.Disks getJCPGatewaysExecDisks(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways disks executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getDisksReq(gwServerId);
+        return cache.get("executable/Gateways/Disks/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getDisksReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.Disk getJCPGatewaysExecDisk(String gwServerId, String diskId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways disk executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getDiskReq(gwServerId, diskId);
+        return cache.get("executable/Gateways/Disk/" + gwServerId + "/" + diskId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getDiskReq(gwServerId, diskId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.Networks getJCPGatewaysExecNetworks(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways networks executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getNetworksReq(gwServerId);
+        return cache.get("executable/Gateways/Networks/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getNetworksReq(gwServerId));
     }
 
     public com.robypomper.josp.defs.admin.gateways.executable.Params20.Network getJCPGatewaysExecNetwork(String gwServerId, int networkId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways network executable status");
-        return new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getNetworkReq(gwServerId, networkId);
+        return cache.get("executable/Gateways/Network/" + gwServerId + "/" + networkId, () -> new com.robypomper.josp.callers.apis.admin.gateways.executable.Caller20(jcpClient).getNetworkReq(gwServerId, networkId));
     }
 
 
@@ -332,7 +576,7 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public com.robypomper.josp.defs.admin.gateways.buildinfo.Params20.BuildInfo getJCPGatewaysBuildInfo(String gwServerId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Gateways build info");
-        return new com.robypomper.josp.callers.apis.admin.gateways.buildinfo.Caller20(jcpClient).getBuildInfoReq(gwServerId);
+        return cache.get("buildinfo/Gateways/" + gwServerId, () -> new com.robypomper.josp.callers.apis.admin.gateways.buildinfo.Caller20(jcpClient).getBuildInfoReq(gwServerId));
     }
 
 
@@ -340,12 +584,12 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public com.robypomper.josp.defs.admin.jslwebbridge.status.Params20.Sessions getJCPJSLWebBridgeSessions() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge sessions");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.status.Caller20(jcpClient).getJCPJSLWBStatusSessions();
+        return cache.get("status/JSLWebBridge/Sessions", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.status.Caller20(jcpClient).getJCPJSLWBStatusSessions());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.status.Params20.Session getJCPJSLWebBridgeSession(String sessionId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge session");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.status.Caller20(jcpClient).getJCPJSLWBStatusSession(sessionId);
+        return cache.get("status/JSLWebBridge/Session/" + sessionId, () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.status.Caller20(jcpClient).getJCPJSLWBStatusSession(sessionId));
     }
 
 
@@ -353,82 +597,82 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public Date getJCPJSLWebBridgeExecOnline() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge online executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getOnlineReq();
+        return cache.get("executable/JSLWebBridge/Online", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getOnlineReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.Process getJCPJSLWebBridgeExecProcess() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge process executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getProcessReq();
+        return cache.get("executable/JSLWebBridge/Process", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getProcessReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.JavaVM getJCPJSLWebBridgeExecJavaVM() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge Java VM executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaVMReq();
+        return cache.get("executable/JSLWebBridge/JavaVM", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaVMReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.JavaRuntime getJCPJSLWebBridgeExecJavaRuntime() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge Java runtime executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaRuntimeReq();
+        return cache.get("executable/JSLWebBridge/JavaRuntime", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaRuntimeReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.JavaTimes getJCPJSLWebBridgeExecJavaTimes() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge Java times executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaTimesReq();
+        return cache.get("executable/JSLWebBridge/JavaTimes", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaTimesReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.JavaClasses getJCPJSLWebBridgeExecJavaClasses() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge Java classes executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaClassesReq();
+        return cache.get("executable/JSLWebBridge/JavaClasses", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaClassesReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.JavaMemory getJCPJSLWebBridgeExecJavaMemory() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge Java memory executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaMemoryReq();
+        return cache.get("executable/JSLWebBridge/JavaMemory", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaMemoryReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.JavaThreads getJCPJSLWebBridgeExecJavaThreads() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge Java threads executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaThreadsReq();
+        return cache.get("executable/JSLWebBridge/JavaThreads", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaThreadsReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.JavaThread getJCPJSLWebBridgeExecJavaThread(long threadId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge Java thread executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaThreadReq(threadId);
+        return cache.get("executable/JSLWebBridge/JavaThread/" + threadId, () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getJavaThreadReq(threadId));
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.OS getJCPJSLWebBridgeExecOS() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge os executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getOSReq();
+        return cache.get("executable/JSLWebBridge/OS", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getOSReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.CPU getJCPJSLWebBridgeExecCPU() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge cpu executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getCPUReq();
+        return cache.get("executable/JSLWebBridge/CPU", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getCPUReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.Memory getJCPJSLWebBridgeExecMemory() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge memory executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getMemoryReq();
+        return cache.get("executable/JSLWebBridge/Memory", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getMemoryReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.Disks getJCPJSLWebBridgeExecDisks() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge disks executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getDisksReq();
+        return cache.get("executable/JSLWebBridge/Disks", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getDisksReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.Disk getJCPJSLWebBridgeExecDisk(String diskId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge disk executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getDiskReq(diskId);
+        return cache.get("executable/JSLWebBridge/Disk/" + diskId, () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getDiskReq(diskId));
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.Networks getJCPJSLWebBridgeExecNetworks() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge networks executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getNetworksReq();
+        return cache.get("executable/JSLWebBridge/Networks", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getNetworksReq());
     }
 
     public com.robypomper.josp.defs.admin.jslwebbridge.executable.Params20.Network getJCPJSLWebBridgeExecNetwork(int networkId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge network executable status");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getNetworkReq(networkId);
+        return cache.get("executable/JSLWebBridge/Network/" + networkId, () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.executable.Caller20(jcpClient).getNetworkReq(networkId));
     }
 
 
@@ -436,7 +680,7 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public com.robypomper.josp.defs.admin.jslwebbridge.buildinfo.Params20.BuildInfo getJCPJSLWebBridgeBuildInfo() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP JSL Web Bridge build info");
-        return new com.robypomper.josp.callers.apis.admin.jslwebbridge.buildinfo.Caller20(jcpClient).getBuildInfoReq();
+        return cache.get("buildinfo/JSLWebBridge", () -> new com.robypomper.josp.callers.apis.admin.jslwebbridge.buildinfo.Caller20(jcpClient).getBuildInfoReq());
     }
 
 
@@ -452,82 +696,82 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public Date getJCPFrontEndExecOnline() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End online executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getOnlineReq();
+        return cache.get("executable/FrontEnd/Online", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getOnlineReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.Process getJCPFrontEndExecProcess() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End process executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getProcessReq();
+        return cache.get("executable/FrontEnd/Process", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getProcessReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.JavaVM getJCPFrontEndExecJavaVM() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End Java VM executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaVMReq();
+        return cache.get("executable/FrontEnd/JavaVM", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaVMReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.JavaRuntime getJCPFrontEndExecJavaRuntime() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End Java runtime executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaRuntimeReq();
+        return cache.get("executable/FrontEnd/JavaRuntime", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaRuntimeReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.JavaTimes getJCPFrontEndExecJavaTimes() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End Java times executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaTimesReq();
+        return cache.get("executable/FrontEnd/JavaTimes", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaTimesReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.JavaClasses getJCPFrontEndExecJavaClasses() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End Java classes executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaClassesReq();
+        return cache.get("executable/FrontEnd/JavaClasses", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaClassesReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.JavaMemory getJCPFrontEndExecJavaMemory() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End Java memory executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaMemoryReq();
+        return cache.get("executable/FrontEnd/JavaMemory", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaMemoryReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.JavaThreads getJCPFrontEndExecJavaThreads() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End Java threads executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaThreadsReq();
+        return cache.get("executable/FrontEnd/JavaThreads", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaThreadsReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.JavaThread getJCPFrontEndExecJavaThread(long threadId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End Java thread executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaThreadReq(threadId);
+        return cache.get("executable/FrontEnd/JavaThread/" + threadId, () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getJavaThreadReq(threadId));
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.OS getJCPFrontEndExecOS() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End os executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getOSReq();
+        return cache.get("executable/FrontEnd/OS", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getOSReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.CPU getJCPFrontEndExecCPU() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End cpu executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getCPUReq();
+        return cache.get("executable/FrontEnd/CPU", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getCPUReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.Memory getJCPFrontEndExecMemory() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End memory executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getMemoryReq();
+        return cache.get("executable/FrontEnd/Memory", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getMemoryReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.Disks getJCPFrontEndExecDisks() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End disks executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getDisksReq();
+        return cache.get("executable/FrontEnd/Disks", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getDisksReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.Disk getJCPFrontEndExecDisk(String diskId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End disk executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getDiskReq(diskId);
+        return cache.get("executable/FrontEnd/Disk/" + diskId, () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getDiskReq(diskId));
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.Networks getJCPFrontEndExecNetworks() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End networks executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getNetworksReq();
+        return cache.get("executable/FrontEnd/Networks", () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getNetworksReq());
     }
 
     public com.robypomper.josp.defs.admin.frontend.executable.Params20.Network getJCPFrontEndExecNetwork(int networkId) throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End network executable status");
-        return new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getNetworkReq(networkId);
+        return cache.get("executable/FrontEnd/Network/" + networkId, () -> new com.robypomper.josp.callers.apis.admin.frontend.executable.Caller20(jcpClient).getNetworkReq(networkId));
     }
 
 
@@ -535,7 +779,7 @@ public class JSLAdmin_002 implements JSLAdmin {
 
     public com.robypomper.josp.defs.admin.frontend.buildinfo.Params20.BuildInfo getJCPFrontEndBuildInfo() throws UserNotAuthException, UserNotAdminException, JCPClient2.ConnectionException, JCPClient2.ResponseException, JCPClient2.RequestException, JCPClient2.AuthenticationException {
         checkUserIsAdmin("JCP Front End build info");
-        return new com.robypomper.josp.callers.apis.admin.frontend.buildinfo.Caller20(jcpClient).getBuildInfoReq();
+        return cache.get("buildinfo/FrontEnd", () -> new com.robypomper.josp.callers.apis.admin.frontend.buildinfo.Caller20(jcpClient).getBuildInfoReq());
     }
 
 }
@@ -19,6 +19,7 @@
 package com.robypomper.josp.jsl.comm;
 
 import com.robypomper.josp.clients.JCPAPIsClientSrv;
+import com.robypomper.josp.jsl.metrics.JSLMetrics;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr;
 import com.robypomper.josp.protocol.JOSPPerm;
 
@@ -62,6 +63,15 @@ public interface JSLCommunication {
     JSLLocalClientsMngr getLocalConnections();
 
 
+    // Metrics
+
+    /**
+     * @return the registry of the metrics about messages processing and
+     * connections (local and cloud).
+     */
+    JSLMetrics getMetrics();
+
+
     // Exceptions
 
     /**
@@ -21,11 +21,15 @@ package com.robypomper.josp.jsl.comm;
 import com.robypomper.comm.exception.PeerConnectionException;
 import com.robypomper.comm.peer.Peer;
 import com.robypomper.comm.peer.PeerConnectionListener;
+import com.robypomper.comm.peer.PeerDataListener;
 import com.robypomper.java.JavaThreads;
 import com.robypomper.josp.clients.JCPAPIsClientSrv;
 import com.robypomper.josp.clients.JCPClient2;
 import com.robypomper.josp.jsl.JSLSettings_002;
 import com.robypomper.josp.jsl.JSL_002;
+import com.robypomper.josp.jsl.metrics.JSLMetrics;
+import com.robypomper.josp.jsl.metrics.JSLMetricsCounter;
+import com.robypomper.josp.jsl.metrics.JSLMetricsHistogram;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr_002;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
@@ -36,12 +40,32 @@ import com.robypomper.josp.protocol.JOSPProtocol_ObjectToService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 
 /**
  * Implementation of the {@link JSLCommunication} interface.
  */
 public class JSLCommunication_002 implements JSLCommunication {
 
+    // Class constants
+
+    public static final String MSG_TYPE_OBJ_INFO = "objInfo";
+    public static final String MSG_TYPE_OBJ_STRUCT = "objStruct";
+    public static final String MSG_TYPE_OBJ_STATE_UPD = "objStateUpd";
+    public static final String MSG_TYPE_HISTORY_RES = "historyRes";
+    public static final String MSG_TYPE_EVENTS_RES = "eventsRes";
+    public static final String MSG_TYPE_OBJ_PERMS = "objPerms";
+    public static final String MSG_TYPE_SRV_PERMS = "srvPerms";
+    public static final String MSG_TYPE_OBJ_DISCONNECT = "objDisconnect";
+    public static final String MSG_TYPE_UNKNOWN = "unknown";
+    private static final String[] MSG_TYPES = new String[]{MSG_TYPE_OBJ_INFO, MSG_TYPE_OBJ_STRUCT, MSG_TYPE_OBJ_STATE_UPD,
+            MSG_TYPE_HISTORY_RES, MSG_TYPE_EVENTS_RES, MSG_TYPE_OBJ_PERMS, MSG_TYPE_SRV_PERMS, MSG_TYPE_OBJ_DISCONNECT, MSG_TYPE_UNKNOWN};
+
+
     // Internal vars
 
     private static final Logger log = LoggerFactory.getLogger(JSLCommunication_002.class);
@@ -52,6 +76,18 @@ public class JSLCommunication_002 implements JSLCommunication {
     private final JCPAPIsClientSrv jcpClient;
     private final JSLGwS2OClient gwClient;
     private final JSLLocalClientsMngr localClients;
+    // Metrics
+    private final JSLMetrics metrics = new JSLMetrics();
+    private final Map<String, JSLMetricsHistogram> msgProcessingMetrics = new HashMap<>();
+    private final JSLMetricsCounter msgInLocalMetric;
+    private final JSLMetricsCounter msgInCloudMetric;
+    private final JSLMetricsCounter msgErrorsLocalMetric;
+    private final JSLMetricsCounter msgErrorsCloudMetric;
+    private final JSLMetricsCounter msgOutCloudMetric;
+    private final JSLMetricsCounter reconnectsCloudMetric;
+    private final JSLMetricsCounter disconnectsCloudMetric;
+    private final Map<String, JSLMetricsCounter> objUpdatesMetrics = new ConcurrentHashMap<>();
+    private final AtomicLong cloudConnectionsCount = new AtomicLong();
 
 
     // Constructor
@@ -69,9 +105,22 @@ public class JSLCommunication_002 implements JSLCommunication {
         this.jcpClient = jcpClient;
         this.jcpClient.addConnectionListener(jcpConnectionListener);
 
+        for (String type : MSG_TYPES)
+            msgProcessingMetrics.put(type, metrics.histogram(JSLMetrics.MSG_PROCESSING, "Processing time of the messages received from the objects", JSLMetrics.LABEL_TYPE, type));
+        this.msgInLocalMetric = metrics.counter(JSLMetrics.MSG_IN, "Messages received from the objects", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_LOCAL);
+        this.msgInCloudMetric = metrics.counter(JSLMetrics.MSG_IN, "Messages received from the objects", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_CLOUD);
+        this.msgErrorsLocalMetric = metrics.counter(JSLMetrics.MSG_ERRORS, "Messages received from the objects and not processed", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_LOCAL);
+        this.msgErrorsCloudMetric = metrics.counter(JSLMetrics.MSG_ERRORS, "Messages received from the objects and not processed", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_CLOUD);
+        this.msgOutCloudMetric = metrics.counter(JSLMetrics.MSG_OUT, "Messages sent to the objects", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_CLOUD);
+        this.reconnectsCloudMetric = metrics.counter(JSLMetrics.RECONNECTS, "Connections established to already known objects", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_CLOUD);
+        this.disconnectsCloudMetric = metrics.counter(JSLMetrics.DISCONNECTS, "Connections closed", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_CLOUD);
+        this.jslObjsMngr.addListener(objsMngrListener);
+
         this.localClients = new JSLLocalClientsMngr(this, jslObjsMngr, locSettings, srvInfo);
         this.gwClient = new JSLGwS2OClient(this, srvInfo, jcpClient, instanceId);
         this.gwClient.addListener(gwClientListener);
+        this.gwClient.addListener(gwClientDataListener);
+        metrics.gauge(JSLMetrics.CONNECTIONS, "Connected connections", () -> gwClient.getState().isConnected() ? 1 : 0, JSLMetrics.LABEL_LINK, JSLMetrics.LINK_CLOUD);
 
         log.info(String.format("Initialized JSLCommunication instance for '%s' ('%s') service", srvInfo.getSrvName(), srvInfo.getSrvId()));
     }
@@ -89,6 +138,22 @@ public class JSLCommunication_002 implements JSLCommunication {
      */
     @Override
     public boolean processFromObjectMsg(String msg, JOSPPerm.Connection connType) {
+        long startNanos = System.nanoTime();
+        boolean isLocal = connType == JOSPPerm.Connection.OnlyLocal;
+        (isLocal ? msgInLocalMetric : msgInCloudMetric).inc();
+        String msgType = getMsgType(msg);
+        try {
+            boolean processed = processFromObjectMsg(msg, connType, msgType);
+            if (!processed)
+                (isLocal ? msgErrorsLocalMetric : msgErrorsCloudMetric).inc();
+            return processed;
+
+        } finally {
+            msgProcessingMetrics.get(msgType).recordSince(startNanos);
+        }
+    }
+
+    private boolean processFromObjectMsg(String msg, JOSPPerm.Connection connType, String msgType) {
         String objId;
         try {
             objId = JOSPProtocol_ObjectToService.getObjId(msg);
@@ -119,6 +184,8 @@ public class JSLCommunication_002 implements JSLCommunication {
             if (!obj.processFromObjectMsg(msg, connType))
                 throw new Throwable(String.format("Unknown error on processing '%s' message", msg.substring(0, msg.indexOf('\n'))));
 
+            if (MSG_TYPE_OBJ_STATE_UPD.equals(msgType))
+                objUpdatesMetrics.computeIfAbsent(objId, id -> metrics.counter(JSLMetrics.OBJ_UPDATES, "State updates received", JSLMetrics.LABEL_OBJ, id)).inc();
             log.trace(String.format("Message '%s' received from '%s' processed successfully", msg.substring(0, msg.indexOf('\n')), objId));
             return true;
 
@@ -128,6 +195,22 @@ public class JSLCommunication_002 implements JSLCommunication {
         }
     }
 
+    /**
+     * @return the type of given message, used as label for the message
+     * processing metrics.
+     */
+    private static String getMsgType(String msg) {
+        if (JOSPProtocol_ObjectToService.isObjectStateUpdMsg(msg)) return MSG_TYPE_OBJ_STATE_UPD;
+        if (JOSPProtocol_ObjectToService.isObjectInfoMsg(msg)) return MSG_TYPE_OBJ_INFO;
+        if (JOSPProtocol_ObjectToService.isObjectStructMsg(msg)) return MSG_TYPE_OBJ_STRUCT;
+        if (JOSPProtocol_ObjectToService.isHistoryResMsg(msg)) return MSG_TYPE_HISTORY_RES;
+        if (JOSPProtocol_ObjectToService.isEventsResMsg(msg)) return MSG_TYPE_EVENTS_RES;
+        if (JOSPProtocol_ObjectToService.isObjectPermsMsg(msg)) return MSG_TYPE_OBJ_PERMS;
+        if (JOSPProtocol_ObjectToService.isServicePermsMsg(msg)) return MSG_TYPE_SRV_PERMS;
+        if (JOSPProtocol_ObjectToService.isObjectDisconnectMsg(msg)) return MSG_TYPE_OBJ_DISCONNECT;
+        return MSG_TYPE_UNKNOWN;
+    }
+
 
     // Connections access
 
@@ -156,6 +239,17 @@ public class JSLCommunication_002 implements JSLCommunication {
     }
 
 
+    // Metrics
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JSLMetrics getMetrics() {
+        return metrics;
+    }
+
+
     // Clients and server listeners
 
     @SuppressWarnings("FieldCanBeLocal")
@@ -208,6 +302,8 @@ public class JSLCommunication_002 implements JSLCommunication {
         @Override
         public void onConnect(Peer peer) {
             log.info("JCP GWs client connected");
+            if (cloudConnectionsCount.incrementAndGet() > 1)
+                reconnectsCloudMetric.inc();
         }
 
         @Override
@@ -217,6 +313,7 @@ public class JSLCommunication_002 implements JSLCommunication {
         @Override
         public void onDisconnect(Peer peer) {
             log.info("JCP GWs Client disconnected");
+            disconnectsCloudMetric.inc();
         }
 
         @Override
@@ -232,4 +329,29 @@ public class JSLCommunication_002 implements JSLCommunication {
 
     };
 
+    private final PeerDataListener gwClientDataListener = new PeerDataListener() {
+
+        @Override
+        public void onDataRx(Peer peer, byte[] data) {}     // counted by processFromObjectMsg
+
+        @Override
+        public void onDataTx(Peer peer, byte[] data) {
+            msgOutCloudMetric.inc();
+        }
+
+    };
+
+    private final JSLObjsMngr.ObjsMngrListener objsMngrListener = new JSLObjsMngr.ObjsMngrListener() {
+
+        @Override
+        public void onObjAdded(JSLRemoteObject obj) {}
+
+        @Override
+        public void onObjRemoved(JSLRemoteObject obj) {
+            if (objUpdatesMetrics.remove(obj.getId()) != null)
+                metrics.remove(JSLMetrics.OBJ_UPDATES, JSLMetrics.LABEL_OBJ, obj.getId());
+        }
+
+    };
+
 }
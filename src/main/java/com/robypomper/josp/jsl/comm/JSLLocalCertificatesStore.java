@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.comm.trustmanagers.AbsCustomTrustManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import java.io.File;
+import java.io.IOException;
+import java.net.Socket;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.util.Collections;
+
+
+/**
+ * Store for the JOD Object's certificates trusted by the local clients.
+ * <p>
+ * Certificates learned by the local clients (for example via the
+ * certificate sharing) are saved as trusted entries into the service's local
+ * keystore. On next JSL startup, those certificates are loaded back into the
+ * {@link AbsCustomTrustManager}, so the connections to already known objects
+ * can skip the certificate sharing round trip.
+ * <p>
+ * The keystore contains also the service's private key, so it's never
+ * rewritten in place: updates are batched and written atomically by a
+ * {@link JSLLocalFileWriter}.
+ */
+public class JSLLocalCertificatesStore {
+
+    // Class constants
+
+    public static final String CERT_ALIAS_SUFFIX = "-LocalCert";
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLLocalCertificatesStore.class);
+    private final KeyStore ks;
+    private final String ksPath;
+    private final String ksPass;
+    private final String ksAlias;
+    private final JSLLocalFileWriter writer;
+
+
+    // Constructor
+
+    /**
+     * @param ks      the service's local keystore, already loaded.
+     * @param ksPath  the path of the keystore file.
+     * @param ksPass  the password of the keystore.
+     * @param ksAlias the alias of the service's own certificate.
+     */
+    public JSLLocalCertificatesStore(KeyStore ks, String ksPath, String ksPass, String ksAlias) {
+        this.ks = ks;
+        this.ksPath = ksPath;
+        this.ksPass = ksPass;
+        this.ksAlias = ksAlias;
+        this.writer = new JSLLocalFileWriter(new File(ksPath), out -> {
+            synchronized (this) {
+                try {
+                    ks.store(out, ksPass.toCharArray());
+                } catch (KeyStoreException | NoSuchAlgorithmException | CertificateException e) {
+                    throw new IOException(String.format("Error on storing keystore because %s", e.getMessage()), e);
+                }
+            }
+        });
+    }
+
+
+    // Trusted certificates
+
+    /**
+     * Add all trusted certificates stored into the keystore to given trust
+     * manager.
+     *
+     * @param trustManager the trust manager to update.
+     * @return the number of loaded certificates.
+     */
+    public synchronized int loadTrustedCertificates(AbsCustomTrustManager trustManager) {
+        int count = 0;
+        try {
+            for (String alias : Collections.list(ks.aliases())) {
+                if (alias.equalsIgnoreCase(ksAlias) || !ks.isCertificateEntry(alias))
+                    continue;
+
+                try {
+                    trustManager.addCertificate(alias, ks.getCertificate(alias));
+                    count++;
+                } catch (AbsCustomTrustManager.UpdateException e) {
+                    log.warn(String.format("Error on loading trusted certificate '%s' because %s", alias, e.getMessage()));
+                }
+            }
+        } catch (KeyStoreException e) {
+            log.warn(String.format("Error on reading trusted certificates from '%s' because %s", ksPath, e.getMessage()));
+        }
+
+        log.debug(String.format("Loaded %d trusted certificates from '%s'", count, ksPath));
+        return count;
+    }
+
+    /**
+     * Check if the keystore contains a trusted certificate for given object.
+     *
+     * @param objId the JOD Object's id.
+     * @return true if a trusted certificate is stored for given object.
+     */
+    public synchronized boolean containsTrustedCertificate(String objId) {
+        try {
+            return ks.isCertificateEntry(objId + CERT_ALIAS_SUFFIX);
+        } catch (KeyStoreException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Store the certificate presented by the server on given connected socket
+     * as trusted certificate for given object.
+     * <p>
+     * If the keystore already contains the same certificate, nothing is
+     * stored. Otherwise, the keystore file is updated in background (see
+     * {@link #flush()}).
+     *
+     * @param objId  the JOD Object's id.
+     * @param socket the SSL socket connected to the object.
+     * @return true if the keystore contains the object's certificate.
+     */
+    public synchronized boolean storeTrustedCertificate(String objId, Socket socket) {
+        if (!(socket instanceof SSLSocket))
+            return false;
+
+        Certificate cert;
+        try {
+            Certificate[] peerCerts = ((SSLSocket) socket).getSession().getPeerCertificates();
+            if (peerCerts.length == 0)
+                return false;
+            cert = peerCerts[0];
+        } catch (SSLPeerUnverifiedException e) {
+            return false;
+        }
+
+        String alias = objId + CERT_ALIAS_SUFFIX;
+        try {
+            if (cert.equals(ks.getCertificate(alias)))
+                return true;
+
+            ks.setCertificateEntry(alias, cert);
+            writer.requestWrite();
+            log.debug(String.format("Stored trusted certificate '%s' to '%s'", alias, ksPath));
+            return true;
+
+        } catch (KeyStoreException e) {
+            log.warn(String.format("Error on storing trusted certificate '%s' to '%s' because %s", alias, ksPath, e.getMessage()));
+            return false;
+        }
+    }
+
+    /**
+     * Write pending keystore's updates to the keystore file.
+     */
+    public void flush() {
+        writer.flush();
+    }
+
+}
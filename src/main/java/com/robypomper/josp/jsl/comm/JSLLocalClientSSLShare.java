@@ -67,6 +67,13 @@ public class JSLLocalClientSSLShare extends ClientAbsSSL implements JSLLocalClie
         addListener(localClientListener);
     }
 
+    /**
+     * @return true if the server shared his certificate during the connection.
+     */
+    public boolean isServerSSLShare() {
+        return serverIsSSLShare;
+    }
+
     protected void setIsServerCertificateFull(boolean isServerCertificateFull) {
         this.security = JOSPSecurityLevel.calculate(true, serverIsSSLShare, isServerCertificateFull);
     }
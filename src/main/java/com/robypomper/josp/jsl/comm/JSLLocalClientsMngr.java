@@ -25,6 +25,7 @@ import com.robypomper.comm.exception.PeerNotConnectedException;
 import com.robypomper.comm.exception.PeerStreamException;
 import com.robypomper.comm.peer.Peer;
 import com.robypomper.comm.peer.PeerConnectionListener;
+import com.robypomper.comm.peer.PeerDataListener;
 import com.robypomper.comm.trustmanagers.AbsCustomTrustManager;
 import com.robypomper.comm.trustmanagers.DynAddTrustManager;
 import com.robypomper.discovery.Discover;
@@ -32,10 +33,17 @@ import com.robypomper.discovery.DiscoveryService;
 import com.robypomper.discovery.DiscoveryServicesListener;
 import com.robypomper.discovery.DiscoverySystemFactory;
 import com.robypomper.java.*;
+import com.robypomper.josp.jsl.JSLEventBus;
 import com.robypomper.josp.jsl.JSLSettings_002;
+import com.robypomper.josp.jsl.JSLThreads;
+import com.robypomper.josp.jsl.metrics.JSLMetrics;
+import com.robypomper.josp.jsl.metrics.JSLMetricsCounter;
+import com.robypomper.josp.jsl.metrics.JSLMetricsHistogram;
+import com.robypomper.josp.jsl.objs.JSLObjsMngr;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr_002;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.objs.remote.DefaultObjComm;
+import com.robypomper.josp.jsl.objs.remote.DefaultObjPerms;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
 import com.robypomper.josp.protocol.JOSPPerm;
 import com.robypomper.josp.protocol.JOSPProtocol;
@@ -45,16 +53,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.net.ssl.SSLContext;
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -73,10 +92,40 @@ import java.util.concurrent.CountDownLatch;
  * then it will emit the {@link LocalClientListener#onLocalDisconnected(JSLRemoteObject, JSLLocalClient)}
  * event.
  * <p>
+ * When the warm-standby mode is enabled (<code>jsl.comm.local.backup.warmStandby</code>),
+ * the manager keeps one backup connection open for each locally connected
+ * object. Backup connections complete the connection's phases like the active
+ * ones, but their messages are ignored. When the active connection drops, the
+ * backup is promoted without any new handshake and the
+ * {@link LocalClientListener#onLocalSwitched(JSLRemoteObject, JSLLocalClient, JSLLocalClient)}
+ * event is emitted instead of the disconnection one. Backup connections are
+ * health-checked by the client's heartbeat and, on promotion, by their
+ * connection state. Failovers latencies are collected into the
+ * {@link JSLLocalFailoverStats}.
+ * <p>
  * When this manager is stopped, it will stop the Discovery System and disconnect
  * all local clients. That makes also all (locally connected) JOSP Objects to be
  * disconnected.
  * <p>
+ * Connection attempts to discovered services are executed by a
+ * {@link JSLLocalConnectionsScheduler}, so the discovery listener returns
+ * immediately and many handshakes can proceed concurrently. Before each
+ * attempt, the {@link JSLLocalConnectionGovernor} checks the object's backoff
+ * and circuit breaker, so flapping objects can't cause reconnection storms.
+ * Rejected attempts are retried as soon as the governor allows them.
+ * <p>
+ * On start, the manager also connects directly (and in parallel) to the
+ * services of the objects connected on previous executions, stored into the
+ * {@link JSLLocalDiscoveryCache}. Live discovery results for a known service
+ * are skipped if it's already connected, or deferred while it's connecting
+ * and processed only if the direct connection fails.
+ * <p>
+ * On networks without multicast, the JOSP Object's endpoints can be listed
+ * into the JSL settings (or into a file) and probed by a
+ * {@link JSLLocalStaticDiscovery}. Its results are processed like the ones
+ * from the Discovery System, that can also be disabled (<code>Static</code>
+ * discovery system).
+ * <p>
  * The connection process can be split in 4 phases:
  * <ul>
  *   <ol>Discovered JOD Object's service: when a new JOSP Object has been discovered</ol>
@@ -88,15 +137,37 @@ import java.util.concurrent.CountDownLatch;
  * connection is discharged.<br/>
  * Discovered JOD Object's services and available clients can be retrieved using
  * the {@link #getDiscoveredServices()} and {@link #getLocalClients()} methods.
- * <p>
- * TODO: move backup connections from DefaultObjComm to JSLLocalClientsMngr
  */
 @SuppressWarnings("UnnecessaryReturnStatement")
 public class JSLLocalClientsMngr {
 
+    // Class constants
+
+    /**
+     * Max number of local clients disconnected concurrently on stop.
+     */
+    public static final int DISCONNECT_POOL_SIZE = 32;
+    /**
+     * Percentage of the lifecycle's stop timeout given to the clients'
+     * disconnections, the rest is left to the other stop's steps. So slow
+     * disconnections are interrupted before the lifecycle's deadline.
+     */
+    public static final int DISCONNECT_TIMEOUT_PERCENT = 75;
+    /**
+     * Min delay before retrying a connection attempt rejected by the
+     * {@link JSLLocalConnectionGovernor}.
+     */
+    public static final long GOVERNOR_RETRY_MIN_MS = 100;
+
+
     // Internal vars
 
     private static final Logger log = LoggerFactory.getLogger(JSLLocalClientsMngr.class);
+    /**
+     * Max length of the object's id message sent by the servers without a
+     * full certificate.
+     */
+    private static final int OBJ_ID_MAX_LENGTH = 256;
     /**
      * State of current JSLLocalClientsMngr.
      * <p>
@@ -109,6 +180,9 @@ public class JSLLocalClientsMngr {
     private final boolean onlySSLEnabled;
     private final boolean onlyNoSSLEnabled;
     private final boolean sslSharingEnabled;
+    private final boolean warmStandbyEnabled;
+    private final int objIdTimeoutMs;
+    private final int stopTimeoutMs;
     // JSL
     /**
      * Reference to JSL Communication, used to process messages from objects.
@@ -124,9 +198,15 @@ public class JSLLocalClientsMngr {
      */
     private final JSLServiceInfo srvInfo;
     /**
-     * Instance of the discovery system used to discover JOD Object's services.
+     * Instance of the discovery system used to discover JOD Object's services,
+     * null if the multicast discovery is disabled (`Static` discovery system).
      */
     private final Discover discover;
+    /**
+     * Static discovery used to probe the configured JOD Object's endpoints,
+     * null if no endpoints are configured.
+     */
+    private final JSLLocalStaticDiscovery staticDiscovery;
     /**
      * Contains discovered (but not lost) services.
      * <p>
@@ -135,7 +215,56 @@ public class JSLLocalClientsMngr {
      * <p>
      * It is reset on manager stop.
      */
-    private final List<DiscoveryService> availableDiscoveryServices = new ArrayList<>();
+    private final List<DiscoveryService> availableDiscoveryServices = Collections.synchronizedList(new ArrayList<>());
+    /**
+     * Contains discovered services that are currently processed by a connection
+     * task.
+     * <p>
+     * A discovered JOSP Object service is added when his connection task starts
+     * and removed when it ends (processDiscovered()). It avoids concurrent
+     * connection attempts to the same service.
+     */
+    private final List<DiscoveryService> connectingDiscoveryServices = new ArrayList<>();
+    /**
+     * Scheduler used to execute the connection attempts to discovered services.
+     */
+    private final JSLLocalConnectionsScheduler connectionsScheduler;
+    /**
+     * Governor used to limit the connection attempts to flapping objects
+     * (backoff and circuit breaker).
+     */
+    private final JSLLocalConnectionGovernor connectionGovernor;
+    /**
+     * Connection attempts rejected by the governor and scheduled to be
+     * retried, by discovered service's name. They are cancelled when the
+     * service is lost and on manager stop.
+     */
+    private final Map<String, ScheduledFuture<?>> governedRetries = new ConcurrentHashMap<>();
+    /**
+     * Cache of the transports supported by the discovered services, used to
+     * skip the ENCRYPTED connection attempt for PLAIN only services.
+     */
+    private final JSLLocalTransportCache transportCache;
+    /**
+     * Cache of the last known objects' services, used to connect them
+     * directly on startup, without waiting for the discovery system.
+     */
+    private final JSLLocalDiscoveryCache discoveryCache;
+    /**
+     * Known services (from the discovery cache) whose direct connection task
+     * is scheduled or in progress.
+     */
+    private final Set<DiscoveryService> knownDiscoveryServices = ConcurrentHashMap.newKeySet();
+    /**
+     * Remote objects whose active connection is being replaced by a new one,
+     * that presents the current service's identity (see {@link #reAuthenticate()}).
+     */
+    private final Set<JSLRemoteObject> reAuthObjects = ConcurrentHashMap.newKeySet();
+    /**
+     * Live discovered services skipped because the same known service was
+     * connecting. They are processed if the direct connection fails.
+     */
+    private final Map<DiscoveryService, DiscoveryService> deferredDiscoveryServices = new ConcurrentHashMap<>();
     /**
      * List of currently waiting latches used to wait for SSL connections to be
      * established.
@@ -146,7 +275,7 @@ public class JSLLocalClientsMngr {
      * <p>
      * It is reset on manager stop.
      */
-    private final Map<JSLLocalClient, CountDownLatch> discoveryServicesLatches = new HashMap<>();
+    private final Map<JSLLocalClient, CountDownLatch> discoveryServicesLatches = new ConcurrentHashMap<>();
     /**
      * Contains all connecting and connected clients.
      * <p>
@@ -161,69 +290,64 @@ public class JSLLocalClientsMngr {
      * <p>
      * It is reset on manager stop.
      */
-    private final Map<JSLLocalClient, DiscoveryService> connectionsDiscoveryServices = new HashMap<>();
+    private final Map<JSLLocalClient, DiscoveryService> connectionsDiscoveryServices = new ConcurrentHashMap<>();
     /**
-     * Contains all connections (ready and not ready).
-     * <p>
-     * An almost ready connection is temporary added when the connection is established [Phase 2] (processOnConnected()), with `false` value.
-     * When the associated object become ready [Phase 4] (always on processOnConnected() method), it is updated to `true` value.
-     * A ready connection is removed on disconnection (processOnDisconnected()).
+     * Registry of all connections (ready, not ready and backups).
      * <p>
-     * An almost ready connection is temporary added because if it fails the JOSP
-     * protocol initialization (i.e. id sharing). When the JOSP protocol is
-     * terminated then it is updated to ready connection.
+     * A connection is registered when it is established [Phase 2] (processOnConnected()),
+     * it receives the object's id when it becomes ready [Phase 3] and it's
+     * associated to his remote object when the object becomes ready [Phase 4].
+     * If the object is already locally connected, the connection is registered
+     * as backup connection.
+     * A connection is removed on disconnection (processOnDisconnected()) or
+     * on failure (processOnFail()).
      * <p>
-     * It is reset on manager stop.
+     * The registry indexes the active and backup connections by remote object,
+     * so {@link #getActiveLocalClientByObject(JSLRemoteObject)} and
+     * {@link #getLocalBackupClientsByObject(JSLRemoteObject)} do not scan all
+     * connections.
      */
-    private final Map<JSLLocalClient, Boolean> availableConnections = new HashMap<>();
+    private final JSLLocalClientsRegistry connections = new JSLLocalClientsRegistry();
     /**
-     * Contains all object's ids for each ready connection.
-     * <p>
-     * An object's id is added when the connection becomes ready [Phase 3] (processOnConnected()).
-     * An object's id is removed on disconnection (processOnDisconnected()).
-     * <p>
-     * It is reset on manager stop.
+     * Statistics about the warm-standby backup connections' promotions.
      */
-    private final Map<JSLLocalClient, String> connectionsObjectIDs = new HashMap<>();
+    private final JSLLocalFailoverStats failoverStats = new JSLLocalFailoverStats();
     /**
-     * Contains all remote objects for each ready connection.
-     * <p>
-     * A remote object is added when the object becomes ready [Phase 4] (processOnConnected()).
-     * A remote object is removed on disconnection (processOnDisconnected()).
-     * <p>
-     * It is reset on manager stop.
+     * Metrics about the local connections: phases durations, messages sent,
+     * re-connections, disconnections and failovers. They are registered into the
+     * {@link JSLCommunication_002}'s metrics registry.
      */
-    private final Map<JSLLocalClient, JSLRemoteObject> connectionsRemoteObjects = new HashMap<>();
-    /**
-     * Contains all backup object's connection
-     * <p>
-     * A backup connection is added when a new connection is established [Phase 2] (processOnConnected()).
-     * but the object is already locally connected.
-     * A backup connection is removed when the re-connection attempt fails (processOnDisconnected()).
-     * <p>
-     * It is reset on manager stop.
-     */
-    private final Map<JSLLocalClient, JSLRemoteObject> backupConnections = new HashMap<>();
+    private final JSLMetricsHistogram phaseConnectMetric;
+    private final JSLMetricsHistogram phaseObjIdMetric;
+    private final JSLMetricsHistogram phaseReadyMetric;
+    private final JSLMetricsCounter msgOutMetric;
+    private final JSLMetricsCounter reconnectsMetric;
+    private final JSLMetricsCounter disconnectsMetric;
+    private final JSLMetricsCounter failoversMetric;
+    private final JSLMetricsHistogram failoverLatencyMetric;
     /**
      * Listeners for CommLocalStateListener events.
      */
-    private final List<CommLocalStateListener> statusListeners = new ArrayList<>();
+    private final List<CommLocalStateListener> statusListeners = new CopyOnWriteArrayList<>();
     /**
      * Listeners for LocalClientListener events.
      */
-    private final List<LocalClientListener> connectionsListeners = new ArrayList<>();
-    /**
-     * SSL context for the local client. `null` if no SSL is enabled.
-     */
-    private final SSLContext sslCtx;
+    private final List<LocalClientListener> connectionsListeners = new CopyOnWriteArrayList<>();
     /**
-     * Local client certificate. `null` if no SSL is enabled.
+     * Listeners for LocalClientListener events, registered for a specific
+     * remote object.
+     * <p>
+     * Listeners registered for an object are notified only about that
+     * object's connections. They are removed when the object is removed from
+     * the {@link JSLObjsMngr_002}.
      */
-    private final Certificate clientCertificate;
+    private final Map<JSLRemoteObject, List<LocalClientListener>> objectsConnectionsListeners = new ConcurrentHashMap<>();
     /**
-     * Local client certificate's id. `null` if no SSL is enabled.
+     * Future completed when the SSL materials (keystore, certificate and SSL
+     * context) for the local clients are ready. It's completed with `null`
+     * if no SSL is enabled, or exceptionally if the initialization failed.
      */
-    private final String clientCertificateId;
+    private final CompletableFuture<SSLMaterials> sslReady;
     /**
      * TrustManager used by the SSL context for the local client.
      * It is always a {@link DynAddTrustManager}.
@@ -246,11 +370,29 @@ public class JSLLocalClientsMngr {
             throws JSLCommunication.LocalCommunicationException {
         this.jslComm = jslComm;
         this.jslObjsMngr = jslObjsMngr;
+        this.jslObjsMngr.addListener(objsMngrListener);
+        // Metrics
+        JSLMetrics metrics = jslComm.getMetrics();
+        this.phaseConnectMetric = metrics.histogram(JSLMetrics.LOCAL_PHASE, "Durations of the local connections phases", JSLMetrics.LABEL_PHASE, "connect");
+        this.phaseObjIdMetric = metrics.histogram(JSLMetrics.LOCAL_PHASE, "Durations of the local connections phases", JSLMetrics.LABEL_PHASE, "objId");
+        this.phaseReadyMetric = metrics.histogram(JSLMetrics.LOCAL_PHASE, "Durations of the local connections phases", JSLMetrics.LABEL_PHASE, "ready");
+        this.msgOutMetric = metrics.counter(JSLMetrics.MSG_OUT, "Messages sent to the objects", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_LOCAL);
+        this.reconnectsMetric = metrics.counter(JSLMetrics.RECONNECTS, "Connections established to already known objects", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_LOCAL);
+        this.disconnectsMetric = metrics.counter(JSLMetrics.DISCONNECTS, "Connections closed", JSLMetrics.LABEL_LINK, JSLMetrics.LINK_LOCAL);
+        metrics.gauge(JSLMetrics.CONNECTIONS, "Connected connections", this::getConnectedCount, JSLMetrics.LABEL_LINK, JSLMetrics.LINK_LOCAL);
+        this.failoversMetric = metrics.counter(JSLMetrics.LOCAL_FAILOVERS, "Warm-standby connections promoted after an active connection drop");
+        this.failoverLatencyMetric = metrics.histogram(JSLMetrics.LOCAL_FAILOVER_LATENCY, "Latencies of the warm-standby connections promotions");
+        JSLMetricsCounter governorAttemptsMetric = metrics.counter(JSLMetrics.LOCAL_GOVERNOR_ATTEMPTS, "Local connection attempts allowed by the governor");
+        JSLMetricsCounter governorRejectedMetric = metrics.counter(JSLMetrics.LOCAL_GOVERNOR_REJECTED, "Local connection attempts rejected by the governor");
+        JSLMetricsCounter governorOpenedMetric = metrics.counter(JSLMetrics.LOCAL_GOVERNOR_OPENED, "Local connections governor's circuits opened");
         // Settings
         this.onlyLocalhostEnabled = settings.getLocalOnlyLocalhost();
         this.onlySSLEnabled = settings.getLocalOnlySSLEnabled();
         this.onlyNoSSLEnabled = settings.getLocalOnlyNoSSLEnabled();
         this.sslSharingEnabled = settings.getLocalSSLSharingEnabled();
+        this.warmStandbyEnabled = settings.getLocalBackupWarmStandby();
+        this.objIdTimeoutMs = settings.getLocalObjIdTimeout();
+        this.stopTimeoutMs = settings.getLifecycleStopTimeout() * DISCONNECT_TIMEOUT_PERCENT / 100;
         String discoverySystem = settings.getJSLDiscovery();
         String ksPath = settings.getLocalKeyStorePath();
         String ksPass = settings.getLocalKeyStorePass();
@@ -260,52 +402,115 @@ public class JSLLocalClientsMngr {
             throw new JSLCommunication.LocalCommunicationException("Only one of 'jsl.comm.local.onlySSL' or 'jsl.comm.local.onlyNoSSL' properties can be enabled");
         this.srvInfo = srvInfo;
 
-        // Init local service client and discovery
         try {
-            log.debug(String.format("Creating discovery '%s' service for local object's servers", discoverySystem));
-            discover = DiscoverySystemFactory.createDiscover(discoverySystem, JOSPProtocol.DISCOVERY_TYPE);
-            log.info(String.format("Discovery system '%s' service initialized for Local Communication", discoverySystem));
-
-        } catch (Discover.DiscoveryException e) {
-            throw new JSLCommunication.LocalCommunicationException(String.format("Error on creating discovery '%s' service for local object's servers", discoverySystem), e);
+            connectionsScheduler = new JSLLocalConnectionsScheduler(settings.getLocalConnectPoolSize(), settings.getLocalConnectPerHost());
+        } catch (IllegalArgumentException e) {
+            throw new JSLCommunication.LocalCommunicationException(String.format("Error on creating local connections scheduler because %s", e.getMessage()), e);
+        }
+        metrics.gauge(JSLMetrics.QUEUE_DEPTH, "Items waiting into the JSL internal queues", connectionsScheduler::getRunningCount, JSLMetrics.LABEL_QUEUE, "localConnect.running");
+        metrics.gauge(JSLMetrics.QUEUE_DEPTH, "Items waiting into the JSL internal queues", connectionsScheduler::getPendingCount, JSLMetrics.LABEL_QUEUE, "localConnect.pending");
+        try {
+            connectionGovernor = new JSLLocalConnectionGovernor(settings.getLocalGovernorFailureThreshold(), settings.getLocalGovernorBackoffBase(), settings.getLocalGovernorBackoffMax());
+            connectionGovernor.setMetrics(governorAttemptsMetric, governorRejectedMetric, governorOpenedMetric);
+        } catch (IllegalArgumentException e) {
+            throw new JSLCommunication.LocalCommunicationException(String.format("Error on creating local connections governor because %s", e.getMessage()), e);
         }
+        metrics.gauge(JSLMetrics.LOCAL_GOVERNOR_OPEN, "Objects with the local connections governor's circuit not closed", connectionGovernor::getOpenCount);
+        String transportCachePath = settings.getLocalTransportCachePath();
+        transportCache = new JSLLocalTransportCache(transportCachePath != null ? new File(transportCachePath) : null);
+        String discoveryCachePath = settings.getLocalDiscoveryCachePath();
+        discoveryCache = new JSLLocalDiscoveryCache(discoveryCachePath != null ? new File(discoveryCachePath) : null);
+
+        // Init local service client and discovery
+        boolean onlyStatic = JSLSettings_002.JSLCOMM_LOCAL_DISCOVERY_STATIC.equalsIgnoreCase(discoverySystem);
+        if (onlyStatic)
+            discover = null;
+        else
+            try {
+                log.debug(String.format("Creating discovery '%s' service for local object's servers", discoverySystem));
+                discover = DiscoverySystemFactory.createDiscover(discoverySystem, JOSPProtocol.DISCOVERY_TYPE);
+                log.info(String.format("Discovery system '%s' service initialized for Local Communication", discoverySystem));
+
+            } catch (Discover.DiscoveryException e) {
+                throw new JSLCommunication.LocalCommunicationException(String.format("Error on creating discovery '%s' service for local object's servers", discoverySystem), e);
+            }
+
+        String staticEndpoints = settings.getLocalDiscoveryStaticEndpoints();
+        String staticFile = settings.getLocalDiscoveryStaticFile();
+        if ((staticEndpoints != null && !staticEndpoints.trim().isEmpty()) || staticFile != null)
+            try {
+                staticDiscovery = new JSLLocalStaticDiscovery(staticEndpoints, staticFile != null ? new File(staticFile) : null,
+                        settings.getLocalDiscoveryStaticPoolSize(), settings.getLocalDiscoveryStaticTimeout(), settings.getLocalDiscoveryStaticInterval(), staticKnownEndpoints);
+                log.info("Static discovery initialized for Local Communication");
+            } catch (IllegalArgumentException e) {
+                throw new JSLCommunication.LocalCommunicationException(String.format("Error on creating static discovery because %s", e.getMessage()), e);
+            }
+        else if (onlyStatic)
+            throw new JSLCommunication.LocalCommunicationException("Discovery system 'Static' requires 'jsl.comm.local.discovery.static.endpoints' or 'jsl.comm.local.discovery.static.file' property");
+        else
+            staticDiscovery = null;
 
         if (onlyNoSSLEnabled) {
             log.info("Initialized Local Communication for PLAIN connections");
-            sslCtx = null;
-            clientCertificate = null;
-            clientCertificateId = null;
+            sslReady = CompletableFuture.completedFuture(null);
         } else {
+            // Load/generate certificate in background, SSL connections wait for it
+            sslReady = new CompletableFuture<>();
+            String alias = ksAlias == null || ksAlias.isEmpty() ? srvInfo.getFullId() + "-LocalCert" : ksAlias;
+            boolean storeTrusted = settings.getLocalKeyStoreStoreTrusted();
+            int sessionCacheSize = settings.getLocalSSLSessionCacheSize();
+            int sessionTimeout = settings.getLocalSSLSessionTimeout();
+            JSLThreads.start("JSLLocalSSLInit", () -> {
+                try {
+                    sslReady.complete(initSSL(ksPath, ksPass, alias, storeTrusted, sessionCacheSize, sessionTimeout));
+                } catch (Throwable t) {
+                    log.error(String.format("Error on initializing local communication SSL context, ENCRYPTED connections disabled because %s", t.getMessage()), t);
+                    sslReady.completeExceptionally(t);
+                }
+            });
+        }
+    }
 
-            boolean mustLoad = new File(ksPath).exists();
-            // Load/generate certificate
-            try {
-                String tmpCertificateId = srvInfo.getFullId();
-                if (ksAlias == null || ksAlias.isEmpty())
-                    ksAlias = tmpCertificateId + "-LocalCert";
-                KeyStore ks;
-                if (mustLoad)
-                    ks = JavaJKS.loadKeyStore(ksPath, ksPass);
-                else
-                    ks = JavaJKS.generateAndLoadNewKeyStoreFile(tmpCertificateId, ksPath, ksPass, ksAlias);
-                clientCertificate = JavaJKS.extractKeyStoreCertificate(ks, ksAlias);
-                clientCertificateId = JavaJKS.getCertificateId(clientCertificate);
-                sslCtx = JavaSSL.generateSSLContext(ks, ksPass, trustManager);
-
-            } catch (JavaJKS.LoadingException |
-                     JavaJKS.GenerationException |
-                     JavaSSL.GenerationException e) {
-                if (new File(ksPath).exists())
-                    throw new JSLCommunication.LocalCommunicationException(String.format("Error on loading the local communication certificate at '%s'", ksPath), e);
-                else
-                    throw new JSLCommunication.LocalCommunicationException(String.format("Error on generating the local communication certificate at '%s'", ksPath), e);
-            }
+    private SSLMaterials initSSL(String ksPath, String ksPass, String ksAlias, boolean storeTrusted, int sessionCacheSize, int sessionTimeout)
+            throws JSLCommunication.LocalCommunicationException {
+        long startAt = System.nanoTime();
+        boolean mustLoad = new File(ksPath).exists();
+        KeyStore ks;
+        SSLMaterials ssl = new SSLMaterials();
+        // Load/generate certificate
+        try {
+            if (mustLoad)
+                ks = JavaJKS.loadKeyStore(ksPath, ksPass);
+            else
+                ks = JavaJKS.generateAndLoadNewKeyStoreFile(srvInfo.getFullId(), ksPath, ksPass, ksAlias);
+            ssl.clientCertificate = JavaJKS.extractKeyStoreCertificate(ks, ksAlias);
+            ssl.clientCertificateId = JavaJKS.getCertificateId(ssl.clientCertificate);
+            ssl.sslCtx = JavaSSL.generateSSLContext(ks, ksPass, trustManager);
+            // Enable TLS session resumption for re-connections
+            ssl.sslCtx.getClientSessionContext().setSessionCacheSize(sessionCacheSize);
+            ssl.sslCtx.getClientSessionContext().setSessionTimeout(sessionTimeout);
+
+        } catch (JavaJKS.LoadingException |
+                 JavaJKS.GenerationException |
+                 JavaSSL.GenerationException e) {
+            if (mustLoad)
+                throw new JSLCommunication.LocalCommunicationException(String.format("Error on loading the local communication certificate at '%s'", ksPath), e);
+            else
+                throw new JSLCommunication.LocalCommunicationException(String.format("Error on generating the local communication certificate at '%s'", ksPath), e);
+        }
 
-            String sslSupport = onlySSLEnabled ? "ENCRYPTED"
-                    : "ENCRYPTED and PLAIN";
-            String sslShare = sslSharingEnabled ? "ENABLED" : "DISABLED";
-            log.info("Initialized Local Communication for " + sslSupport + " connections using '" + clientCertificateId + "' as certificate's id and with SSL Share " + sslShare);
+        // Load previously trusted certificates
+        if (storeTrusted) {
+            ssl.certificatesStore = new JSLLocalCertificatesStore(ks, ksPath, ksPass, ksAlias);
+            ssl.certificatesStore.loadTrustedCertificates(trustManager);
         }
+
+        String sslSupport = onlySSLEnabled ? "ENCRYPTED"
+                : "ENCRYPTED and PLAIN";
+        String sslShare = sslSharingEnabled ? "ENABLED" : "DISABLED";
+        log.info("Initialized Local Communication for " + sslSupport + " connections using '" + ssl.clientCertificateId + "' as certificate's id and with SSL Share " + sslShare);
+        log.debug(String.format("Local communication's SSL materials ready in %d ms", (System.nanoTime() - startAt) / 1_000_000));
+        return ssl;
     }
 
 
@@ -322,7 +527,9 @@ public class JSLLocalClientsMngr {
      * @return true if current JSLLocalClientMngr is running.
      */
     public boolean isRunning() {
-        return discover.getState().isRunning();
+        if (discover != null)
+            return discover.getState().isRunning();
+        return staticDiscovery.isRunning();
     }
 
     /**
@@ -349,33 +556,130 @@ public class JSLLocalClientsMngr {
     /**
      * Stop JSLLocalClientsMngr.
      *
+     * <p>
+     * If the JSLLocalClientsMngr is starting up, this method waits until the
+     * startup ends.
+     *
      * @throws StateException              JSLLocalClientsMngr can't be stopped when it's in STARTING state.
      * @throws Discover.DiscoveryException exception thrown if errors occurs on Discovery system shutdown.
      */
     public void stop() throws StateException, Discover.DiscoveryException {
-        if (state.get().isRUN())
-            stopDiscovering();
+        synchronized (state) {      // held by startDiscovering() until the startup ends
+            if (state.get().isRUN())
+                stopDiscovering();
 
-        else if (state.enumEquals(JSLLocalState.STARTING))
-            throw new StateException("Can't shut down Local discovery because is starting up, try again later");
+            else if (state.enumEquals(JSLLocalState.STARTING))
+                throw new StateException("Can't shut down Local discovery because is starting up, try again later");
 
-        else if (state.enumEquals(JSLLocalState.STOP))
-            return; // Already done
+            else if (state.enumEquals(JSLLocalState.STOP))
+                return; // Already done
 
-        else if (state.enumEquals(JSLLocalState.SHOUTING))
-            return; // Already in progress
+            else if (state.enumEquals(JSLLocalState.SHOUTING))
+                return; // Already in progress
+        }
 
         log.info("Disconnecting local communication service's clients");
         Set<JSLLocalClient> tmpList = new HashSet<>(getLocalClients());
+        tmpList.addAll(connections.getBackupClients());
+        tmpList.removeIf(client -> !client.getState().isConnected());
+        if (tmpList.isEmpty())
+            return;
+
+        // Disconnect all clients concurrently, waiting at most stopTimeoutMs
+        ExecutorService disconnector = Executors.newFixedThreadPool(Math.min(tmpList.size(), DISCONNECT_POOL_SIZE), JSLThreads.newThreadFactory("JSLLocalDisconnector-%d"));
         for (JSLLocalClient client : tmpList)
-            if (client.getState().isConnected())
+            disconnector.execute(() -> {
                 try {
                     client.disconnect();
 
                 } catch (PeerDisconnectionException e) {
                     log.warn(String.format("Error on disconnecting from '%s' object on server '%s:%d' from '%s' service because %s", client.getRemoteId(), client.getConnectionInfo().getLocalInfo().getAddr().getHostAddress(), client.getConnectionInfo().getLocalInfo().getPort(), srvInfo.getSrvId(), e.getMessage()), e);
                 }
-        log.debug("Local communication service's clients disconnected");
+            });
+        disconnector.shutdown();
+        try {
+            if (!disconnector.awaitTermination(stopTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn(String.format("Local communication service's clients not disconnected within %d ms, interrupt pending disconnections", stopTimeoutMs));
+                disconnector.shutdownNow();
+                return;
+            }
+        } catch (InterruptedException e) {
+            disconnector.shutdownNow();
+            Thread.currentThread().interrupt();
+            return;
+        }
+        log.debug(String.format("Local communication service's clients disconnected (%d clients)", tmpList.size()));
+    }
+
+    /**
+     * Present the current service's identity (full service id, including the
+     * user id) to all locally connected objects, without disconnecting them.
+     * <p>
+     * For each active connection, a new connection is opened to the same
+     * object's service. When it's ready, it replaces the active one (emitting
+     * the {@link LocalClientListener#onLocalSwitched(JSLRemoteObject, JSLLocalClient, JSLLocalClient)}
+     * event) and the old connection is closed. So the remote objects stay
+     * connected and the objects send back the permissions for the new
+     * identity. Warm-standby backup connections are closed and re-opened.
+     * <p>
+     * If the new connection can't be established, the old one is closed and
+     * the object's permissions are reset, so the object never stays connected
+     * with the previous identity's permissions.
+     */
+    public void reAuthenticate() {
+        if (!isRunning())
+            return;
+
+        log.info(String.format("Re-authenticating local connections with service's id '%s'", srvInfo.getFullId()));
+        for (JSLLocalClient backup : connections.getBackupClients()) {
+            connectionsDiscoveryServices.remove(backup);
+            connections.deregisterConnection(backup);
+            deregisterLUID(backup);
+            if (backup.getState().isConnected())
+                try {
+                    backup.disconnect();
+                } catch (PeerDisconnectionException ignore) {}
+        }
+
+        for (JSLLocalClient client : getLocalClients()) {
+            JSLRemoteObject remObj = connections.getRemoteObject(client);
+            DiscoveryService discSrv = connectionsDiscoveryServices.get(client);
+            if (remObj == null || discSrv == null || !reAuthObjects.add(remObj))
+                continue;
+
+            boolean scheduled = connectionsScheduler.schedule(discSrv.address, () -> {
+                log.debug(String.format("%s Opening re-authenticated connection for Remote Object '%s'", discoveryLUID(discSrv), remObj.getId()));
+                if (!connectTransports(discSrv) && reAuthObjects.remove(remObj)) {
+                    log.warn(String.format("%s Can't re-authenticate Remote Object '%s', close current connection", discoveryLUID(discSrv), remObj.getId()));
+                    discardNotReAuthenticated(remObj);
+                }
+                // once the connection is established, the flow continues with onConnected (as re-authenticated connection)
+            });
+            if (!scheduled)
+                reAuthObjects.remove(remObj);
+        }
+    }
+
+    /**
+     * Close the active connection of given remote object, opened with the
+     * previous service's identity, and reset the object's permissions.
+     * <p>
+     * Used when the object can't be re-authenticated.
+     */
+    private void discardNotReAuthenticated(JSLRemoteObject remObj) {
+        JSLLocalClient oldClient = connections.getActiveClient(remObj);
+        if (oldClient != null) {
+            connectionsDiscoveryServices.remove(oldClient);
+            connections.deregisterConnection(oldClient);
+            deregisterLUID(oldClient);
+            if (oldClient.getState().isConnected())
+                try {
+                    oldClient.disconnect();
+                } catch (PeerDisconnectionException ignore) {}
+            log.info(String.format("Remote Object '%s' disconnected locally because not re-authenticated", remObj.getId()));
+            emit_LocalDisconnected(remObj, oldClient);
+        }
+        ((DefaultObjPerms) remObj.getPerms()).resetPerms();
     }
 
     private void startDiscovering() throws Discover.DiscoveryException {
@@ -387,10 +691,27 @@ public class JSLLocalClientsMngr {
             log.debug("Local Discovery state = STARTING");
             state.set(JSLLocalState.STARTING);
 
-            discover.addListener(discoverListener);
-            log.debug("Starting local service's discovery");
-            discover.start();
-            log.debug("Local service's discovery started");
+            try {
+                connectionsScheduler.start();
+                connectKnownServices();
+                if (discover != null) {
+                    discover.addListener(discoverListener);
+                    log.debug("Starting local service's discovery");
+                    discover.start();
+                    log.debug("Local service's discovery started");
+                }
+                if (staticDiscovery != null) {
+                    staticDiscovery.addListener(discoverListener);
+                    staticDiscovery.start();
+                    log.debug("Local service's static discovery started");
+                }
+
+            } catch (Discover.DiscoveryException | RuntimeException e) {
+                // Don't leave the STARTING state, otherwise it can't be stopped
+                log.warn(String.format("Error on starting local service's discovery, rollback to STOP because %s", e.getMessage()));
+                rollbackStartDiscovering();
+                throw e;
+            }
 
             log.debug("Local Discovery state = RUN");
             state.set(JSLLocalState.RUN_WAITING);
@@ -399,6 +720,27 @@ public class JSLLocalClientsMngr {
         }
     }
 
+    private void rollbackStartDiscovering() {
+        try {
+            if (staticDiscovery != null) {
+                staticDiscovery.stop();
+                staticDiscovery.removeListener(discoverListener);
+            }
+            if (discover != null) {
+                discover.stop();
+                discover.removeListener(discoverListener);
+            }
+        } catch (RuntimeException e) {
+            log.warn(String.format("Error on stopping local service's discovery during rollback because %s", e.getMessage()), e);
+        }
+        connectionsScheduler.stop();
+        knownDiscoveryServices.clear();
+        deferredDiscoveryServices.clear();
+
+        log.debug("Local Discovery state = STOP");
+        state.set(JSLLocalState.STOP);
+    }
+
     private void stopDiscovering() {
         assert state.get().isRUN() : "Method startDiscovering() can be called only from RUN_ state";
         log.info(String.format("Stop local communication service's discovery '%s' and disconnect local clients", srvInfo.getSrvId()));
@@ -407,10 +749,28 @@ public class JSLLocalClientsMngr {
             log.debug("Local Discovery state = SHOUTING");
             state.set(JSLLocalState.SHOUTING);
 
-            log.debug("Stopping local service's discovery");
-            discover.stop();
-            log.debug("Local service's discovery stopped");
-            discover.removeListener(discoverListener);
+            if (discover != null) {
+                log.debug("Stopping local service's discovery");
+                discover.stop();
+                log.debug("Local service's discovery stopped");
+                discover.removeListener(discoverListener);
+            }
+            if (staticDiscovery != null) {
+                staticDiscovery.stop();
+                staticDiscovery.removeListener(discoverListener);
+                log.debug("Local service's static discovery stopped");
+            }
+            cancelGovernedRetries();
+            connectionsScheduler.stop();
+            connectionGovernor.reset();
+            SSLMaterials ssl = getSSLMaterialsNow();
+            if (ssl != null && ssl.certificatesStore != null)
+                ssl.certificatesStore.flush();
+            transportCache.flush();
+            discoveryCache.flush();
+            reAuthObjects.clear();
+            knownDiscoveryServices.clear();
+            deferredDiscoveryServices.clear();
 
             log.debug("Local Discovery state = STOP");
             state.set(JSLLocalState.STOP);
@@ -430,7 +790,10 @@ public class JSLLocalClientsMngr {
      * @return true if message was processed successfully, false otherwise.
      */
     public boolean processFromObjectMsg(JSLLocalClient client, String msg, JOSPPerm.Connection connType) {
-        log.trace(String.format("Received message from object %s: %s", connectionsObjectIDs.get(client), msg));
+        if (connections.isBackup(client))
+            return true;    // Warm-standby connection, messages are received by the active connection
+
+        log.trace(String.format("Received message from object %s: %s", connections.getObjectId(client), msg));
         return jslComm.processFromObjectMsg(msg, connType);
     }
 
@@ -448,25 +811,51 @@ public class JSLLocalClientsMngr {
      * @return all connections (ready and not ready).
      */
     public List<JSLLocalClient> getLocalClients() {
-        return new ArrayList<>(availableConnections.keySet());
+        return connections.getClients();
+    }
+
+    private int getConnectedCount() {
+        int count = 0;
+        for (JSLLocalClient client : connections.getClients())
+            if (client.getState().isConnected())
+                count++;
+        return count;
     }
 
     /**
      * @return get the only one (if any) ready connection for the given object.
      */
     public JSLLocalClient getActiveLocalClientByObject(JSLRemoteObject remObj) {
-        for (JSLLocalClient client : connectionsRemoteObjects.keySet())
-            if (connectionsRemoteObjects.get(client).equals(remObj))
-                return client;
-        return null;
+        return connections.getActiveClient(remObj);
     }
 
+    /**
+     * @return all backup connections for the given object.
+     */
     public List<JSLLocalClient> getLocalBackupClientsByObject(JSLRemoteObject remObj) {
-        List<JSLLocalClient> clients = new ArrayList<>();
-        for (JSLLocalClient client : backupConnections.keySet())
-            if (backupConnections.get(client).equals(remObj))
-                clients.add(client);
-        return clients;
+        return connections.getBackupClients(remObj);
+    }
+
+    /**
+     * @return true if the warm-standby backup connections are enabled.
+     */
+    public boolean isWarmStandbyEnabled() {
+        return warmStandbyEnabled;
+    }
+
+    /**
+     * @return the statistics about the backup connections' promotions.
+     */
+    public JSLLocalFailoverStats getFailoverStats() {
+        return failoverStats;
+    }
+
+    /**
+     * @return the governor of the connection attempts (backoff and circuit
+     * breaker) for each object.
+     */
+    public JSLLocalConnectionGovernor getConnectionGovernor() {
+        return connectionGovernor;
     }
 
 
@@ -479,7 +868,50 @@ public class JSLLocalClientsMngr {
      * Service's full ID.
      */
     public boolean isLocalCertificateFull() {
-        return clientCertificateId != null && JOSPProtocol.isFullSrvId(clientCertificateId);
+        SSLMaterials ssl = getSSLMaterialsNow();
+        return ssl != null && ssl.clientCertificateId != null && JOSPProtocol.isFullSrvId(ssl.clientCertificateId);
+    }
+
+    /**
+     * Future completed when the SSL context for the local clients is ready.
+     * <p>
+     * The keystore loading (or the certificate generation, on first run) and
+     * the SSL context creation are executed in background, so the JSL startup
+     * is not delayed. ENCRYPTED connections wait for this future, PLAIN ones
+     * proceed immediately.
+     *
+     * @return the future completed when the SSL context is ready, or
+     * exceptionally if its initialization failed.
+     */
+    public CompletableFuture<Void> getSSLReadyFuture() {
+        return sslReady.thenApply(ssl -> null);
+    }
+
+    /**
+     * @return the SSL materials if already initialized, null otherwise (also
+     * if SSL is disabled or its initialization failed).
+     */
+    private SSLMaterials getSSLMaterialsNow() {
+        if (!sslReady.isDone() || sslReady.isCompletedExceptionally())
+            return null;
+        return sslReady.join();
+    }
+
+    /**
+     * Wait for the SSL materials initialization.
+     *
+     * @return the SSL materials, null if SSL is disabled or its initialization
+     * failed.
+     */
+    private SSLMaterials waitSSLMaterials() {
+        try {
+            return sslReady.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        }
     }
 
     /**
@@ -509,7 +941,6 @@ public class JSLLocalClientsMngr {
          */
         @Override
         public void onServiceDiscovered(DiscoveryService discSrv) {
-            Thread.currentThread().setName("JSLDiscovery");
             onDiscovered(discSrv);
         }
 
@@ -523,9 +954,50 @@ public class JSLLocalClientsMngr {
 
     };
 
+    private final JSLLocalStaticDiscovery.KnownEndpoints staticKnownEndpoints = new JSLLocalStaticDiscovery.KnownEndpoints() {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isConnected(InetSocketAddress addr) {
+            List<DiscoveryService> srvs = new ArrayList<>(connectionsDiscoveryServices.values());
+            synchronized (connectingDiscoveryServices) {
+                srvs.addAll(connectingDiscoveryServices);
+            }
+            srvs.addAll(knownDiscoveryServices);
+            return findByEndpoint(srvs, addr) != null;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getServiceName(InetSocketAddress addr) {
+            List<DiscoveryService> srvs = new ArrayList<>(connectionsDiscoveryServices.values());
+            synchronized (availableDiscoveryServices) {
+                for (DiscoveryService srv : availableDiscoveryServices)
+                    if (!JSLLocalStaticDiscovery.SERVICE_INTF.equals(srv.intf))
+                        srvs.add(srv);
+            }
+            srvs.addAll(discoveryCache.getKnownServices());
+            DiscoveryService srv = findByEndpoint(srvs, addr);
+            return srv != null ? srv.name : null;
+        }
+
+        private DiscoveryService findByEndpoint(List<DiscoveryService> srvs, InetSocketAddress addr) {
+            for (DiscoveryService srv : srvs)
+                if (srv.port == addr.getPort() && srv.address.equals(addr.getAddress()))
+                    return srv;
+            return null;
+        }
+
+    };
+
     private void onDiscovered(DiscoveryService discSrv) {
         registerDiscoveryLUID(discSrv);
-        processDiscovered(discSrv);
+        if (!connectionsScheduler.schedule(discSrv.address, () -> processDiscovered(discSrv)))
+            log.debug(String.format("%s Discovered JOD Object's service '%s' not processed because local communication is stopping", discoveryLUID(discSrv), discSrv.name));
     }
 
     private void onLost(DiscoveryService lostSrv) {
@@ -533,6 +1005,17 @@ public class JSLLocalClientsMngr {
         deregisterDiscoveryLUID(lostSrv);
     }
 
+    private void connectKnownServices() {
+        for (DiscoveryService knownSrv : discoveryCache.getKnownServices()) {
+            registerDiscoveryLUID(knownSrv);
+            knownDiscoveryServices.add(knownSrv);
+            if (!connectionsScheduler.schedule(knownSrv.address, () -> processKnown(knownSrv))) {
+                knownDiscoveryServices.remove(knownSrv);
+                deregisterDiscoveryLUID(knownSrv);
+            }
+        }
+    }
+
 
     // Internal local communication client listener
 
@@ -566,17 +1049,34 @@ public class JSLLocalClientsMngr {
 
     };
 
+    private final PeerDataListener localClientDataListener = new PeerDataListener() {
+
+        @Override
+        public void onDataRx(Peer peer, byte[] data) {}     // counted by JSLCommunication_002::processFromObjectMsg
+
+        @Override
+        public void onDataTx(Peer peer, byte[] data) {
+            msgOutMetric.inc();
+        }
+
+    };
+
     private void onConnectionConnected(JSLLocalClient client) {
-        // unlock processDiscovered method
-        discoveryServicesLatches.get(client).countDown();
+        // unlock processDiscovered method (if any, re-connected backup clients have no latch)
+        CountDownLatch latch = discoveryServicesLatches.get(client);
+        if (latch != null)
+            latch.countDown();
 
         processOnConnected(client);
     }
 
     private void onConnectionDisconnected(JSLLocalClient client) {
-        if (backupConnections.containsKey(client))
+        if (connections.isBackup(client)) {
+            if (warmStandbyEnabled)
+                processOnBackupDisconnected(client);
             return; // Backup connection, do not process disconnection
-        if (!connectionsObjectIDs.containsKey(client))
+        }
+        if (!connections.hasObjectId(client))
             return; // Connection not ready, do not process disconnection
 
         processOnDisconnected(client);
@@ -598,114 +1098,276 @@ public class JSLLocalClientsMngr {
         log.debug(String.format("%s Phase1 Discovered JOD Object's service '%s' at '%s:%d' on '%s' interface by '%s' service", discoveryLUID(discSrv), discSrv.name, discSrv.address, discSrv.port, discSrv.intf, srvInfo.getSrvId()));
         log.info(String.format("%s Discovered Remote Object service %s at '%s:%d'", discoveryLUID(discSrv), discSrv.name, discSrv.address, discSrv.port));
 
-        DiscoveryService discSrv2 = discSrv.extractFrom(new ArrayList<>(connectionsDiscoveryServices.values()));
-        if (discSrv2 != null) {
-            log.info(String.format("%s Discovered JOD Object's service '%s' already know, skipped", discoveryLUID(discSrv), discSrv.name));
-            return;
+        synchronized (connectingDiscoveryServices) {
+            List<DiscoveryService> knownSrvs = new ArrayList<>(connectionsDiscoveryServices.values());
+            knownSrvs.addAll(connectingDiscoveryServices);
+            DiscoveryService discSrv2 = discSrv.extractFrom(knownSrvs);
+            if (discSrv2 != null && knownDiscoveryServices.contains(discSrv2) && connectingDiscoveryServices.contains(discSrv2)) {
+                log.debug(String.format("%s Discovered JOD Object's service '%s' is connecting as known service, deferred", discoveryLUID(discSrv), discSrv.name));
+                deferredDiscoveryServices.put(discSrv2, discSrv);
+                return;
+            }
+            if (discSrv2 != null) {
+                log.info(String.format("%s Discovered JOD Object's service '%s' already know, skipped", discoveryLUID(discSrv), discSrv.name));
+                return;
+            }
+            connectingDiscoveryServices.add(discSrv);
+        }
+        synchronized (availableDiscoveryServices) {
+            if (!availableDiscoveryServices.contains(discSrv))     // already contained on governed retries
+                availableDiscoveryServices.add(discSrv);
         }
-        availableDiscoveryServices.add(discSrv);
+        try {
+            connectDiscovered(discSrv, () -> processDiscovered(discSrv));
+        } finally {
+            synchronized (connectingDiscoveryServices) {
+                connectingDiscoveryServices.remove(discSrv);
+            }
+        }
+    }
 
+    private void processKnown(DiscoveryService knownSrv) {
+        log.debug(String.format("%s Connecting directly to known JOD Object's service '%s' at '%s:%d'", discoveryLUID(knownSrv), knownSrv.name, knownSrv.address, knownSrv.port));
+        processDiscovered(knownSrv);
+        knownDiscoveryServices.remove(knownSrv);
+        DiscoveryService liveSrv = deferredDiscoveryServices.remove(knownSrv);
+
+        if (connectionsDiscoveryServices.containsValue(knownSrv))
+            return;     // connected, next live discovery results for this service are skipped as already known
+
+        // Known service not reachable, discharge it and wait for the live discovery
+        log.debug(String.format("%s Known JOD Object's service '%s' not reachable at '%s:%d'", discoveryLUID(knownSrv), knownSrv.name, knownSrv.address, knownSrv.port));
+        availableDiscoveryServices.remove(knownSrv);
+        deregisterDiscoveryLUID(knownSrv);
+        if (liveSrv != null && !connectionsScheduler.schedule(liveSrv.address, () -> processDiscovered(liveSrv)))
+            log.debug(String.format("%s Discovered JOD Object's service '%s' not processed because local communication is stopping", discoveryLUID(liveSrv), liveSrv.name));
+    }
+
+    /**
+     * Connect given service, if allowed by the governor.
+     *
+     * @param retryTask the task to execute when the governor will allow the
+     *                  connection, if the attempt is rejected.
+     */
+    private void connectDiscovered(DiscoveryService discSrv, Runnable retryTask) {
         // Check if discovered object is at localhost (if check enabled)
         if (onlyLocalhostEnabled && !discSrv.address.isLoopbackAddress()) {
             log.warn(String.format("%s Discovered JOD Object's service '%s' do not use local address, skipped", discoveryLUID(discSrv), discSrv.name));
             return;
         }
 
+        // Check if the object's connection attempts are allowed (backoff and circuit breaker)
+        if (!connectionGovernor.tryAcquire(discSrv.name)) {
+            log.debug(String.format("%s Connection to JOD Object's service '%s' skipped by governor (circuit %s, retry in %d ms)", discoveryLUID(discSrv), discSrv.name, connectionGovernor.getState(discSrv.name), connectionGovernor.getRetryInMs(discSrv.name)));
+            scheduleGovernedRetry(discSrv, retryTask);
+            return;
+        }
+
+        long connectStart = System.nanoTime();
+        if (connectTransports(discSrv))
+            phaseConnectMetric.recordSince(connectStart);
+        else {
+            connectionGovernor.onFailure(discSrv.name);
+            // Server is not supported from current clients
+            log.warn(String.format("%s Discovered JOD Object's service '%s' at '%s:%d' can't connected because object's server not supported", discoveryLUID(discSrv), discSrv.name, discSrv.address, discSrv.port));
+        }
+        // once the connection is established, the flow continues with onConnected
+    }
+
+    /**
+     * Schedule given task, on the {@link JSLThreads#getScheduler()}, when the
+     * governor will allow next connection attempt to given service.
+     * <p>
+     * Discovery systems report each service only once, so rejected attempts
+     * must be retried by the manager. A previous retry for the same service
+     * is replaced.
+     */
+    private void scheduleGovernedRetry(DiscoveryService discSrv, Runnable retryTask) {
+        if (state.enumEquals(JSLLocalState.STOP) || state.enumEquals(JSLLocalState.SHOUTING))
+            return;
+
+        long delayMs = Math.max(connectionGovernor.getRetryInMs(discSrv.name), GOVERNOR_RETRY_MIN_MS);
+        ScheduledFuture<?>[] retry = new ScheduledFuture<?>[1];
+        retry[0] = JSLThreads.getScheduler().schedule(() -> {
+            governedRetries.remove(discSrv.name, retry[0]);
+            if (!connectionsScheduler.schedule(discSrv.address, retryTask))
+                log.debug(String.format("%s Governed retry for JOD Object's service '%s' not processed because local communication is stopping", discoveryLUID(discSrv), discSrv.name));
+        }, delayMs, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> old = governedRetries.put(discSrv.name, retry[0]);
+        if (old != null)
+            old.cancel(false);
+    }
+
+    private void cancelGovernedRetry(String srvName) {
+        ScheduledFuture<?> retry = governedRetries.remove(srvName);
+        if (retry != null)
+            retry.cancel(false);
+    }
+
+    private void cancelGovernedRetries() {
+        for (String srvName : new ArrayList<>(governedRetries.keySet()))
+            cancelGovernedRetry(srvName);
+    }
+
+    /**
+     * Try to connect given service with supported transports.
+     *
+     * @return true if a connection was established.
+     */
+    private boolean connectTransports(DiscoveryService discSrv) {
         // Create discovered object connection
         boolean sslEnabled = !onlyNoSSLEnabled;
         boolean noSSLEnabled = !onlySSLEnabled;
+        boolean noSSLTried = false;
+
+        // Go straight to the known-good transport, if it's known as PLAIN only
+        JSLLocalTransportCache.TransportCapability cap = transportCache.get(discSrv.name);
+        if (cap != null && !cap.ssl && sslEnabled && noSSLEnabled) {
+            log.debug(String.format("%s Discovered JOD Object's service '%s' known as PLAIN only, skip ENCRYPTED connection", discoveryLUID(discSrv), discSrv.name));
+            noSSLTried = true;
+            if (connectNoSSL(discSrv)) {
+                // Re-probe the ENCRYPTED connection in background
+                if (transportCache.checkAndSetReProbe(discSrv.name))
+                    connectionsScheduler.schedule(discSrv.address, () -> reProbeSSL(discSrv));
+                return true;
+            }
+            transportCache.invalidate(discSrv.name);
+        }
 
         if (sslEnabled) {
-            log.debug(String.format("%s Connecting to discovered JOD Object's service '%s' using ENCRYPTED connection", discoveryLUID(discSrv), discSrv.name));
-
-            JSLLocalClient localClient = new JSLLocalClientSSLShare(this, srvInfo.getFullId(),
-                        discSrv.address, discSrv.port,  // ToDo: JSLLocalClientsMngr must give also discSrv.intf to the JSLLocalClientSSLShare constructor, so client can bind right interface
-                        discSrv.name,                   // ToDo: Replace discSrv.name with remoteObjId into JSLLocalClientsMngr::processDiscovered()
-                        localClientListener,
-                        sslSharingEnabled,
-                        sslCtx, clientCertificate, trustManager);
-            connectionsDiscoveryServices.put(localClient, discSrv);
-            discoveryServicesLatches.put(localClient, new CountDownLatch(1));
-            boolean errorOnConnect = false;
-            try {
-                localClient.connect();
-            } catch (PeerConnectionException e) {
-                errorOnConnect = true;
-                if (e.getMessage().contains("SSL handshake failed") || e.getMessage().contains("CertSharing can't connect"))
-                    log.debug(String.format("%s Discovered JOD Object's '%s' service do not support ENCRYPTED connection", discoveryLUID(discSrv), discSrv.name));
-                else
-                    log.warn(String.format("%s %s using ENCRYPTED connection, %s", discoveryLUID(discSrv), e.getMessage(), discSrv.name));
-            }
+            // Skip the certificate sharing if the server does not share his
+            // certificate or if his certificate is already trusted
+            boolean skipSSLSharing = cap != null && cap.ssl && (!cap.certSharing || cap.certTrusted);
+            boolean useSSLSharing = sslSharingEnabled && !skipSSLSharing;
+            if (connectSSL(discSrv, useSSLSharing))
+                return true;
+            if (cap != null && cap.ssl)
+                transportCache.invalidate(discSrv.name);
+            if (sslSharingEnabled && skipSSLSharing && cap.certTrusted
+                    && connectSSL(discSrv, true))
+                return true;
+        }
 
-            // Wait for connection to be established (or not)
-            if (!errorOnConnect)
-                try {
-                    discoveryServicesLatches.get(localClient).await();
-                } catch (InterruptedException e) {
-                    log.debug(String.format("%s Error connecting to discovered JOD Object's service '%s' using ENCRYPTED connection, %s", discoveryLUID(discSrv), discSrv.name, e), e);
-                }
-            discoveryServicesLatches.remove(localClient);
+        if (noSSLEnabled && !noSSLTried) {
+            if (connectNoSSL(discSrv))
+                return true;
+        }
 
-            // Check connection established nor set to null
-            if (localClient.getState().isConnected()) {
-                log.debug(String.format("%s Discovered JOD Object's service '%s' connected using ENCRYPTED connection",
-                        discoveryLUID(discSrv), discSrv.name));
-                return;     // once the connection is established, the flow continues with onConnected
-            }
+        return false;
+    }
+
+    private void reProbeSSL(DiscoveryService discSrv) {
+        log.debug(String.format("%s Re-probing ENCRYPTED connection for JOD Object's service '%s'", discoveryLUID(discSrv), discSrv.name));
+        if (connectSSL(discSrv, sslSharingEnabled))
+            return;     // once the connection is established, the flow continues with onConnected (as backup connection)
+        log.debug(String.format("%s JOD Object's service '%s' still do not support ENCRYPTED connection", discoveryLUID(discSrv), discSrv.name));
+    }
 
-            // Reset local client
-            connectionsDiscoveryServices.remove(localClient);
+    private boolean connectSSL(DiscoveryService discSrv, boolean useSSLSharing) {
+        SSLMaterials ssl = waitSSLMaterials();
+        if (ssl == null) {
+            log.debug(String.format("%s Can't connect to discovered JOD Object's service '%s' using ENCRYPTED connection because SSL context not available", discoveryLUID(discSrv), discSrv.name));
+            return false;
         }
 
-        if (noSSLEnabled) {
-            log.debug(String.format("%s Connecting to discovered JOD Object's service '%s' using PLAIN connection",
-                    discoveryLUID(discSrv), discSrv.name));
-            // Create and connect new local client with NoSSL
-            JSLLocalClient localClient = new JSLLocalClientNoSSL(this, srvInfo.getFullId(),
-                    discSrv.address, discSrv.port, discSrv.name,
-                    localClientListener);
-            connectionsDiscoveryServices.put(localClient, discSrv);
-            discoveryServicesLatches.put(localClient, new CountDownLatch(1));
-            boolean errorOnConnect = false;
+        log.debug(String.format("%s Connecting to discovered JOD Object's service '%s' using ENCRYPTED connection", discoveryLUID(discSrv), discSrv.name));
+
+        JSLLocalClient localClient = new JSLLocalClientSSLShare(this, srvInfo.getFullId(),
+                    discSrv.address, discSrv.port,  // ToDo: JSLLocalClientsMngr must give also discSrv.intf to the JSLLocalClientSSLShare constructor, so client can bind right interface
+                    discSrv.name,                   // ToDo: Replace discSrv.name with remoteObjId into JSLLocalClientsMngr::processDiscovered()
+                    localClientListener,
+                    useSSLSharing,
+                    ssl.sslCtx, ssl.clientCertificate, trustManager);
+        localClient.addListener(localClientDataListener);
+        connectionsDiscoveryServices.put(localClient, discSrv);
+        discoveryServicesLatches.put(localClient, new CountDownLatch(1));
+        boolean errorOnConnect = false;
+        try {
+            localClient.connect();
+        } catch (PeerConnectionException e) {
+            errorOnConnect = true;
+            if (e.getMessage().contains("SSL handshake failed") || e.getMessage().contains("CertSharing can't connect"))
+                log.debug(String.format("%s Discovered JOD Object's '%s' service do not support ENCRYPTED connection", discoveryLUID(discSrv), discSrv.name));
+            else
+                log.warn(String.format("%s %s using ENCRYPTED connection, %s", discoveryLUID(discSrv), e.getMessage(), discSrv.name));
+        }
+
+        // Wait for connection to be established (or not)
+        if (!errorOnConnect)
             try {
-                localClient.connect();
-            } catch (PeerConnectionException e) {
-                errorOnConnect = true;
-                log.debug(String.format("%s %s using ENCRYPTED connection, %s", discoveryLUID(discSrv), e.getMessage(), discSrv.name));
+                discoveryServicesLatches.get(localClient).await();
+            } catch (InterruptedException e) {
+                log.debug(String.format("%s Error connecting to discovered JOD Object's service '%s' using ENCRYPTED connection, %s", discoveryLUID(discSrv), discSrv.name, e), e);
             }
+        discoveryServicesLatches.remove(localClient);
 
-            // Wait for connection to be established (or not)
-            if (!errorOnConnect)
-                try {
-                    discoveryServicesLatches.get(localClient).await();
-                } catch (InterruptedException e) {
-                    log.debug(String.format("%s Error connecting to discovered JOD Object's service '%s' using ENCRYPTED connection, %s", discoveryLUID(discSrv), discSrv.name, e), e);
-                }
-            discoveryServicesLatches.remove(localClient);
+        // Check connection established nor set to null
+        if (localClient.getState().isConnected()) {
+            log.debug(String.format("%s Discovered JOD Object's service '%s' connected using ENCRYPTED connection",
+                    discoveryLUID(discSrv), discSrv.name));
+            return true;
+        }
+
+        // Reset local client
+        connectionsDiscoveryServices.remove(localClient);
+        return false;
+    }
+
+    private boolean connectNoSSL(DiscoveryService discSrv) {
+        log.debug(String.format("%s Connecting to discovered JOD Object's service '%s' using PLAIN connection",
+                discoveryLUID(discSrv), discSrv.name));
+        // Create and connect new local client with NoSSL
+        JSLLocalClient localClient = new JSLLocalClientNoSSL(this, srvInfo.getFullId(),
+                discSrv.address, discSrv.port, discSrv.name,
+                localClientListener);
+        localClient.addListener(localClientDataListener);
+        connectionsDiscoveryServices.put(localClient, discSrv);
+        discoveryServicesLatches.put(localClient, new CountDownLatch(1));
+        boolean errorOnConnect = false;
+        try {
+            localClient.connect();
+        } catch (PeerConnectionException e) {
+            errorOnConnect = true;
+            log.debug(String.format("%s %s using ENCRYPTED connection, %s", discoveryLUID(discSrv), e.getMessage(), discSrv.name));
+        }
 
-            // Check connection established nor set to null
-            if (localClient.getState().isConnected()) {
-                log.debug(String.format("%s Discovered JOD Object's service '%s' connected using PLAIN connection",
-                        discoveryLUID(discSrv), discSrv.name));
-                return;     // once the connection is established, the flow continues with onConnected
+        // Wait for connection to be established (or not)
+        if (!errorOnConnect)
+            try {
+                discoveryServicesLatches.get(localClient).await();
+            } catch (InterruptedException e) {
+                log.debug(String.format("%s Error connecting to discovered JOD Object's service '%s' using ENCRYPTED connection, %s", discoveryLUID(discSrv), discSrv.name, e), e);
             }
+        discoveryServicesLatches.remove(localClient);
 
-            // Reset local client
-            connectionsDiscoveryServices.remove(localClient);
+        // Check connection established nor set to null
+        if (localClient.getState().isConnected()) {
+            log.debug(String.format("%s Discovered JOD Object's service '%s' connected using PLAIN connection",
+                    discoveryLUID(discSrv), discSrv.name));
+            return true;
         }
 
-        // Server is not supported from current clients
-        log.warn(String.format("%s Discovered JOD Object's service '%s' at '%s:%d' can't connected because object's server not supported", discoveryLUID(discSrv), discSrv.name, discSrv.address, discSrv.port));
+        // Reset local client
+        connectionsDiscoveryServices.remove(localClient);
+        return false;
     }
 
     private void processOnLost(DiscoveryService lostSrv) {
         // Check lost service's connection
         // remove lost service from local discovered
-        DiscoveryService lostSrv2 = lostSrv.extractFrom(availableDiscoveryServices);
+        DiscoveryService lostSrv2 = lostSrv.extractFrom(getDiscoveredServices());
         if (lostSrv2 == null)
             return; // Service not found (already removed)
         availableDiscoveryServices.remove(lostSrv2);
         log.debug(String.format("%s Lost JOD Object's service '%s' at '%s:%d' lost", discoveryLUID(lostSrv2), lostSrv2.name, lostSrv2.address, lostSrv2.port));
+
+        // Cancel the governed retries, if the service is not available anymore
+        boolean stillAvailable = false;
+        for (DiscoveryService srv : getDiscoveredServices())
+            if (srv.name.equals(lostSrv2.name))
+                stillAvailable = true;
+        if (!stillAvailable)
+            cancelGovernedRetry(lostSrv2.name);
     }
 
     private void processOnConnected(JSLLocalClient client) {
@@ -718,8 +1380,9 @@ public class JSLLocalClientsMngr {
         }
 
         /* !! 2. Connection established !! */
+        long phase2At = System.nanoTime();
         log.debug(String.format("%s Phase2 Connection established to JOD Object's service '%s'", discoveryLUID(discSrv), discSrv.name));
-        availableConnections.put(client, false);
+        connections.registerConnection(client);
         registerLUID(client);
         log.info(String.format("%s > %s New connection for Discovered Remote Object service '%s' at '%s'", discoveryLUID(discSrv), LUID(client), client.getConnectionInfo().getRemoteInfo(), discSrv.name));
         //log.info(String.format("%s > %s New connection to server '%s' for discovery JOD Object's service '%s'", discoveryLUID(discSrv), LUID(client), client.getConnectionInfo().getRemoteInfo(), discSrv.name));
@@ -730,38 +1393,67 @@ public class JSLLocalClientsMngr {
             remObjId = getOrWaitObjectId(client);
         } catch (IOException e) {
             log.warn(String.format("%s Error on getting object's id from discovered JOD Object's service '%s' (%s), discharge connection.", LUID(client), discSrv.name, e));
-            availableConnections.remove(client);
+            connectionGovernor.onFailure(discSrv.name);
+            connections.deregisterConnection(client);
             deregisterLUID(client);
             return;
         }
+        phaseObjIdMetric.recordSince(phase2At);
         log.info(String.format("%s Connection associated to the JOD Object %s with %s", LUID(client), remObjId, client.getSecurityLevel()));
-
-        // Get the remote object from the ObjsMngr
-        JSLRemoteObject remObj = jslObjsMngr.getById(remObjId);
-        if (remObj == null)
-            remObj = jslObjsMngr.createNewRemoteObject(client, remObjId);
-        client.setRemoteObject(remObj);
+        connectionGovernor.onSuccess(discSrv.name);
+        transportCache.update(discSrv.name, client);
+        SSLMaterials ssl = getSSLMaterialsNow();
+        if (ssl != null && ssl.certificatesStore != null && client instanceof JSLLocalClientSSLShare)
+            transportCache.setCertTrusted(discSrv.name, ssl.certificatesStore.storeTrustedCertificate(remObjId, client.getSocket()));
+
+        // Get (or atomically create) the remote object from the ObjsMngr
+        boolean knownObj = jslObjsMngr.getById(remObjId) != null;
+        JSLRemoteObject remObj = jslObjsMngr.getOrCreateRemoteObject(client, remObjId);
+        if (client.getRemoteObject() == null)
+            client.setRemoteObject(remObj);
 
         // Check if the object is already connected locally
         if (remObj.getComm().isLocalConnected()) {
             // Connection for already connected remote object
-            JSLLocalClient oldClient = getActiveLocalClientByObject(remObj);
-            assert oldClient != null;
-            assert oldClient.getState().isConnected();
+            if (reAuthObjects.remove(remObj)) {
+                // Replace the active connection with the re-authenticated one
+                JSLLocalClient oldClient = getActiveLocalClientByObject(remObj);
+                log.debug(String.format("%s Phase3 Re-authenticated connection ready to JOD Object's '%s'", LUID(client), remObjId));
+                connections.setObjectId(client, remObjId);
+                if (!sendServiceId(client, remObjId)) {
+                    connectionsDiscoveryServices.remove(client);
+                    connections.deregisterConnection(client);
+                    deregisterLUID(client);
+                    try {
+                        client.disconnect();
+                    } catch (PeerDisconnectionException ignore) {}
+                    discardNotReAuthenticated(remObj);
+                    return;
+                }
 
-            log.warn(String.format("%s Remote Object '%s' already connected locally, set new connection as backup and close it.", LUID(client), remObjId));
-            availableConnections.remove(client);
-            backupConnections.put(client, remObj);
-            JavaThreads.softSleep(100);         // Force switch thread, to allow starting client's thread
-            try {
-                client.disconnect();
-            } catch (PeerDisconnectionException ignore) {}
+                connectionsDiscoveryServices.remove(oldClient);
+                connections.deregisterConnection(oldClient);
+                connections.activate(client, remObj);
+                discoveryCache.update(remObjId, discSrv, client);
+                emit_LocalSwitched(remObj, oldClient, client);
+                log.info(String.format("%s Remote Object '%s' switched to re-authenticated connection %s", LUID(oldClient), remObjId, LUID(client)));
+                deregisterLUID(oldClient);
+                try {
+                    oldClient.disconnect();
+                } catch (PeerDisconnectionException ignore) {}
+
+                scheduleBackup(remObj, discSrv);
+                return;
+            }
+
+            processAsBackup(client, remObj, remObjId, false);
             return;
         }
 
         /* !! 3. Connection ready !! */
         log.debug(String.format("%s Phase3 Connection ready to JOD Object's '%s'", LUID(client), remObjId));
-        connectionsObjectIDs.put(client, remObjId);
+        connections.setObjectId(client, remObjId);
+        reAuthObjects.remove(remObj);       // new connections always present the current identity
 
         // pass the connection to the ObjsMngr -> it will use/close it depending on object's connection status
         //JSLRemoteObject remObj = jslObjsMngr.addNewConnection(client, remObjId);
@@ -777,46 +1469,127 @@ public class JSLLocalClientsMngr {
         //    return;
         //}
 
-        // If local client is NoSSL or local SSL certificate is partial
-        //   Send service's fullId message to server
-        if (client instanceof JSLLocalClientNoSSL
-                || !isLocalCertificateFull()) {
-            String msg = srvInfo.getFullId() + "\n";
-            log.info(String.format("%s Sending JSL ID message '%s' to JOD Object (%s) via local communication", LUID(client), msg.substring(0, msg.indexOf('\n')), remObjId));
-
-            // Send service's fullId message to server
+        if (!sendServiceId(client, remObjId)) {
+            connections.deregisterConnection(client);
+            deregisterLUID(client);
             try {
-                client.sendData(msg);
-
-            } catch (PeerNotConnectedException | PeerStreamException e) {
-                log.warn(String.format("%s Error on sending ID message to JOD Object (%s), discharge connection.", LUID(client), remObjId));
-                connectionsObjectIDs.remove(client);
-                availableConnections.remove(client);
-                deregisterLUID(client);
-                try {
-                    client.disconnect();
-                } catch (PeerDisconnectionException ignore) {}
-                emit_LocalConnectionError(client, String.format("Can't create localClient object for server %s", client.getRemoteId()));
-                return;
-            }
+                client.disconnect();
+            } catch (PeerDisconnectionException ignore) {}
+            emit_LocalConnectionError(client, String.format("Can't create localClient object for server %s", client.getRemoteId()));
+            return;
         }
 
         /* !! 4. Remote object ready !! */
-        connectionsRemoteObjects.put(client, remObj);
-        availableConnections.put(client, true);
+        if (!connections.activateIfAbsent(client, remObj)) {
+            // Another connection to the same object became active meanwhile
+            processAsBackup(client, remObj, remObjId, true);
+            return;
+        }
+        discoveryCache.update(remObjId, discSrv, client);
+        phaseReadyMetric.recordSince(phase2At);
+        if (knownObj)
+            reconnectsMetric.inc();
         emit_LocalConnected(remObj, client);
         log.debug(String.format("%s Phase4 Remote Object's connection '%s' ready", LUID(client), remObjId));
         log.info(String.format("%s Registered JOD Object %s's with connection '%s@%s:%d'", LUID(client), remObjId, client.getSecurityLevel(), client.getSocket().getInetAddress(), client.getSocket().getPort()));
+
+        // Open the warm-standby backup connection
+        scheduleBackup(remObj, discSrv);
+    }
+
+    /**
+     * Process a ready connection to an already locally connected object: it's
+     * kept as warm-standby backup (if enabled and the object has no other
+     * backups), otherwise it's closed.
+     *
+     * @param serviceIdSent true if the service's id was already sent to the
+     *                      object via given connection.
+     */
+    private void processAsBackup(JSLLocalClient client, JSLRemoteObject remObj, String remObjId, boolean serviceIdSent) {
+        if (warmStandbyEnabled) {
+            if (connections.registerBackupIfAbsent(client, remObj)) {
+                // Complete the connection's phases and keep it open as warm-standby
+                log.debug(String.format("%s Phase3 Backup connection ready to JOD Object's '%s'", LUID(client), remObjId));
+                connections.setObjectId(client, remObjId);
+                if (!serviceIdSent && !sendServiceId(client, remObjId)) {
+                    connectionsDiscoveryServices.remove(client);
+                    connections.deregisterConnection(client);
+                    deregisterLUID(client);
+                    try {
+                        client.disconnect();
+                    } catch (PeerDisconnectionException ignore) {}
+                    return;
+                }
+                log.info(String.format("%s Remote Object '%s' already connected locally, keep new connection as warm-standby backup.", LUID(client), remObjId));
+                return;
+            }
+
+            log.debug(String.format("%s Remote Object '%s' has already a warm-standby backup, close new connection.", LUID(client), remObjId));
+            connectionsDiscoveryServices.remove(client);
+            connections.deregisterConnection(client);
+            deregisterLUID(client);
+            JavaThreads.softSleep(100);         // Force switch thread, to allow starting client's thread
+            try {
+                client.disconnect();
+            } catch (PeerDisconnectionException ignore) {}
+            return;
+        }
+
+        // Backup connections are not tracked when warm-standby is disabled,
+        // so deregister the client before closing it: the disconnection
+        // event does not clean up backup connections
+        log.warn(String.format("%s Remote Object '%s' already connected locally, close new connection.", LUID(client), remObjId));
+        connectionsDiscoveryServices.remove(client);
+        connections.deregisterConnection(client);
+        deregisterLUID(client);
+        JavaThreads.softSleep(100);         // Force switch thread, to allow starting client's thread
+        try {
+            client.disconnect();
+        } catch (PeerDisconnectionException ignore) {}
+    }
+
+    /**
+     * If local client is NoSSL or local SSL certificate is partial, send the
+     * service's full id message to the server.
+     *
+     * @return false if the message was required but not sent.
+     */
+    private boolean sendServiceId(JSLLocalClient client, String remObjId) {
+        if (!(client instanceof JSLLocalClientNoSSL)
+                && isLocalCertificateFull())
+            return true;
+
+        String msg = srvInfo.getFullId() + "\n";
+        log.info(String.format("%s Sending JSL ID message '%s' to JOD Object (%s) via local communication", LUID(client), msg.substring(0, msg.indexOf('\n')), remObjId));
+
+        // Send service's fullId message to server
+        try {
+            client.sendData(msg);
+            return true;
+
+        } catch (PeerNotConnectedException | PeerStreamException e) {
+            log.warn(String.format("%s Error on sending ID message to JOD Object (%s), discharge connection.", LUID(client), remObjId));
+            return false;
+        }
     }
 
     private void processOnDisconnected(JSLLocalClient client) {
+        long disconnectedAt = System.nanoTime();
+        disconnectsMetric.inc();
         log.info(String.format("%s Connection '%s:%d' closed with reason '%s'", LUID(client), client.getConnectionInfo().getRemoteInfo().getAddr(), client.getConnectionInfo().getRemoteInfo().getPort(), client.getDisconnectionReason()));
 
+        // Promote the warm-standby backup (if any) before removing the closed
+        // connection, so the object never results locally disconnected
+        JSLRemoteObject remObj = connections.getRemoteObject(client);
+        JSLLocalClient promotedClient = null;
+        if (warmStandbyEnabled && remObj != null && isRunning())
+            promotedClient = connections.promoteBackup(remObj);
+
         // Remove from manager
-        connectionsDiscoveryServices.remove(client);
-        availableConnections.remove(client);
-        connectionsObjectIDs.remove(client);
-        JSLRemoteObject remObj = connectionsRemoteObjects.remove(client);
+        DiscoveryService discSrv = connectionsDiscoveryServices.remove(client);
+        remObj = connections.deregisterConnection(client);
+        if (discSrv != null)
+            connectionGovernor.onDisconnected(discSrv.name);
 
         // No remote object associated with closed connection, skip
         if (remObj == null) {
@@ -824,7 +1597,28 @@ public class JSLLocalClientsMngr {
             return;
         }
 
-        // TODO Fix missing backup clients in JSLLocalClientsMngr::processOnDisconnected()
+        // Warm-standby backup promoted
+        if (promotedClient != null) {
+            long failoverNanos = System.nanoTime() - disconnectedAt;
+            failoverStats.registerFailover(failoverNanos);
+            failoversMetric.inc();
+            failoverLatencyMetric.record(failoverNanos);
+            ConnectionInfo newConnection = promotedClient.getConnectionInfo();
+            log.info(String.format("%s Remote Object %s (%s) switched connection to warm-standby %s '%s:%d' in %.3f ms",
+                    LUID(client),
+                    remObj.getName(), remObj.getId(),
+                    LUID(promotedClient),
+                    newConnection.getRemoteInfo().getAddr(),
+                    newConnection.getRemoteInfo().getPort(),
+                    failoverStats.getLastMs()));
+            emit_LocalSwitched(remObj, client, promotedClient);
+
+            // Open a new warm-standby backup connection
+            DiscoveryService promotedSrv = connectionsDiscoveryServices.get(promotedClient);
+            scheduleBackup(remObj, promotedSrv != null ? promotedSrv : discSrv);
+            return;
+        }
+
         // If remote object is NOT locally connected, look for a backup client and connect it
         assert !remObj.getComm().isLocalConnected() : "Remote object must be disconnected locally";
         if (isRunning())
@@ -840,7 +1634,7 @@ public class JSLLocalClientsMngr {
                             backupClient.getConnectionInfo().getRemoteInfo().getAddr(),
                             backupClient.getConnectionInfo().getRemoteInfo().getPort(),
                             e.getClass().getSimpleName(), e));
-                    backupConnections.remove(backupClient);
+                    connections.removeBackup(backupClient);
                 }
 
         // If remote object has been re-connected locally
@@ -860,14 +1654,49 @@ public class JSLLocalClientsMngr {
         }
     }
 
+    private void processOnBackupDisconnected(JSLLocalClient client) {
+        log.debug(String.format("%s Warm-standby connection '%s:%d' closed with reason '%s'", LUID(client), client.getConnectionInfo().getRemoteInfo().getAddr(), client.getConnectionInfo().getRemoteInfo().getPort(), client.getDisconnectionReason()));
+
+        JSLRemoteObject remObj = connections.getRemoteObject(client);
+        DiscoveryService discSrv = connectionsDiscoveryServices.remove(client);
+        connections.deregisterConnection(client);
+        deregisterLUID(client);
+
+        // Replace the lost warm-standby connection
+        if (remObj != null && remObj.getComm().isLocalConnected())
+            scheduleBackup(remObj, discSrv);
+    }
+
+    /**
+     * Schedule a new connection to given service, to be used as warm-standby
+     * backup for given remote object.
+     * <p>
+     * It does nothing if the warm-standby mode is disabled or the manager is
+     * not running.
+     */
+    private void scheduleBackup(JSLRemoteObject remObj, DiscoveryService discSrv) {
+        if (!warmStandbyEnabled || discSrv == null || !isRunning())
+            return;
+
+        connectionsScheduler.schedule(discSrv.address, () -> connectBackup(remObj, discSrv));
+    }
+
+    private void connectBackup(JSLRemoteObject remObj, DiscoveryService discSrv) {
+        if (!remObj.getComm().isLocalConnected() || connections.hasConnectedBackup(remObj))
+            return;
+
+        log.debug(String.format("%s Opening warm-standby connection for Remote Object '%s'", discoveryLUID(discSrv), remObj.getId()));
+        connectDiscovered(discSrv, () -> connectBackup(remObj, discSrv));     // once the connection is established, the flow continues with onConnected (as backup connection)
+    }
+
     private void processOnFail(JSLLocalClient client, String failMsg, Throwable e) {
         log.debug(String.format("%s %s", LUID(client), failMsg));
         log.debug(String.format("%s Error on '%s' connection: [%s] '%s'",
                 LUID(client), client, e.getClass().getSimpleName(), e));
 
         connectionsDiscoveryServices.remove(client);
-        connectionsRemoteObjects.remove(client);
-        String rObjID = connectionsObjectIDs.remove(client);
+        String rObjID = connections.getObjectId(client);
+        connections.deregisterConnection(client);
 
         // TODO: Analyze the error and print adeguate logging message in JSLLocalClientsMngr::processOnFail()
         log.warn(String.format("%s Error on '%s' connection: [%s]", LUID(client), client, rObjID));
@@ -899,25 +1728,24 @@ public class JSLLocalClientsMngr {
                 // Wait for service's presentation message from the client
                 Socket socket = serverConnection.getSocket();
                 int tmpSoTimeout = socket.getSoTimeout();
+                // The timeout applies to the whole message, blank lines included
+                long deadline = objIdTimeoutMs > 0 ? System.currentTimeMillis() + objIdTimeoutMs : Long.MAX_VALUE;
 
                 try {
-                    BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
                     objId = "";
                     while (objId.isEmpty())
-                        objId = in.readLine();
+                        objId = readObjectIdLine(socket, deadline);
+                } catch (SocketTimeoutException e) {
+                    throw new IOException(String.format("Timeout (%d ms) on reading object's id message from server", objIdTimeoutMs), e);
                 } catch (IOException e) {
                     throw new IOException("Error on reading object's id message from server", e);
+                } finally {
+                    socket.setSoTimeout(tmpSoTimeout);
                 }
 
                 // test objId
                 if (!isRemoteCertificateFull(objId))
                     throw new IOException(String.format("Error on parsing object's id message from server (Invalid id '%s')", objId));
-
-                try {
-                    socket.setSoTimeout(tmpSoTimeout);
-                } catch (IOException e) {
-                    throw new IOException("Error on reading object's id message from server", e);
-                }
             }
         } catch (SocketException e) {
             throw new IOException("Error on setting socket timeout", e);
@@ -926,6 +1754,52 @@ public class JSLLocalClientsMngr {
         return objId;
     }
 
+    /**
+     * Read a single line from given socket, byte by byte.
+     * <p>
+     * Unlike a {@link java.io.BufferedReader}, this method never consumes
+     * bytes after the line delimiter, so the following messages remain
+     * available to the client's reader.
+     * <p>
+     * Before each read, the socket's timeout is set to the time left before
+     * given deadline, so a server sending the bytes (or empty lines) slowly
+     * can't extend the wait.
+     *
+     * @param socket   the socket to read from.
+     * @param deadline the max time (as epoch millis) to read the line,
+     *                 {@link Long#MAX_VALUE} to wait without timeout.
+     * @return the read line, without the line delimiter.
+     * @throws SocketTimeoutException if the deadline expires.
+     * @throws IOException            if the stream ends or the line exceeds
+     *                                {@link #OBJ_ID_MAX_LENGTH} bytes.
+     */
+    private static String readObjectIdLine(Socket socket, long deadline) throws IOException {
+        InputStream in = socket.getInputStream();
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = readBefore(socket, in, deadline)) != '\n') {
+            if (b == -1)
+                throw new IOException("Connection closed before receiving the object's id");
+            if (b == '\r')
+                continue;
+            if (line.size() >= OBJ_ID_MAX_LENGTH)
+                throw new IOException(String.format("Object's id message exceed max length (%d bytes)", OBJ_ID_MAX_LENGTH));
+            line.write(b);
+        }
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static int readBefore(Socket socket, InputStream in, long deadline) throws IOException {
+        if (deadline != Long.MAX_VALUE) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0)
+                throw new SocketTimeoutException("Deadline expired");
+            socket.setSoTimeout((int) Math.min(remaining, Integer.MAX_VALUE));
+        } else
+            socket.setSoTimeout(0);
+        return in.read();
+    }
+
 
     // Listeners manager
 
@@ -954,14 +1828,22 @@ public class JSLLocalClientsMngr {
     }
 
     private void emit_LocalStarted() {
+        JSLEventBus.publish(localStartedHandler, null);
+    }
+
+    private final JSLEventBus.Handler localStartedHandler = (o1, o2, o3, d1, d2) -> {
         for (CommLocalStateListener l : statusListeners)
             l.onStarted();
-    }
+    };
 
     private void emit_LocalStopped() {
+        JSLEventBus.publish(localStoppedHandler, null);
+    }
+
+    private final JSLEventBus.Handler localStoppedHandler = (o1, o2, o3, d1, d2) -> {
         for (CommLocalStateListener l : statusListeners)
             l.onStopped();
-    }
+    };
 
     /**
      * JSLLocalClientsMngr events interface.
@@ -1001,25 +1883,100 @@ public class JSLLocalClientsMngr {
         connectionsListeners.remove(listener);
     }
 
+    /**
+     * Add given listener to the events of the clients connected to the given
+     * remote object.
+     * <p>
+     * Unlike {@link #addListener(LocalClientListener)}, the listener is
+     * notified only for connections associated to <code>remObj</code>.
+     *
+     * @param remObj   the remote object to listen for.
+     * @param listener the listener to add.
+     */
+    public void addListener(JSLRemoteObject remObj, LocalClientListener listener) {
+        List<LocalClientListener> listeners = objectsConnectionsListeners.computeIfAbsent(remObj, o -> new CopyOnWriteArrayList<>());
+        if (listeners.contains(listener))
+            return;
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove given listener from the events of the clients connected to the
+     * given remote object.
+     *
+     * @param remObj   the remote object listened.
+     * @param listener the listener to remove.
+     */
+    public void removeListener(JSLRemoteObject remObj, LocalClientListener listener) {
+        List<LocalClientListener> listeners = objectsConnectionsListeners.get(remObj);
+        if (listeners == null || !listeners.contains(listener))
+            return;
+
+        listeners.remove(listener);
+    }
+
+    /**
+     * Per-object listeners drive the remote object's communication state, so
+     * they are always notified synchronously. Only the listeners registered
+     * via {@link #addListener(LocalClientListener)} are notified through the
+     * {@link JSLEventBus}.
+     */
+    private List<LocalClientListener> getObjectListeners(JSLRemoteObject jslObj) {
+        if (jslObj == null)
+            return Collections.emptyList();
+        List<LocalClientListener> listeners = objectsConnectionsListeners.get(jslObj);
+        return listeners != null ? listeners : Collections.emptyList();
+    }
+
     private void emit_LocalConnected(JSLRemoteObject jslObj, JSLLocalClient jslLocCli) {
-        for (LocalClientListener l : connectionsListeners)
+        for (LocalClientListener l : getObjectListeners(jslObj))
             l.onLocalConnected(jslObj, jslLocCli);
+        JSLEventBus.publish(localConnectedHandler, jslObj, jslLocCli);
     }
 
+    private final JSLEventBus.Handler localConnectedHandler = (o1, o2, o3, d1, d2) -> {
+        for (LocalClientListener l : connectionsListeners)
+            l.onLocalConnected((JSLRemoteObject) o1, (JSLLocalClient) o2);
+    };
+
     private void emit_LocalConnectionError(JSLLocalClient jslLocCli, String msg) {
         emit_LocalConnectionError(jslLocCli, new Throwable(msg));
     }
 
     private void emit_LocalConnectionError(JSLLocalClient jslLocCli, Throwable exception) {
-        for (LocalClientListener l : connectionsListeners)
+        for (LocalClientListener l : getObjectListeners(jslLocCli.getRemoteObject()))
             l.onLocalConnectionError(jslLocCli, exception);
+        JSLEventBus.publish(localConnectionErrorHandler, jslLocCli, exception);
     }
 
-    private void emit_LocalDisconnected(JSLRemoteObject jslObj, JSLLocalClient jslLocCli) {
+    private final JSLEventBus.Handler localConnectionErrorHandler = (o1, o2, o3, d1, d2) -> {
         for (LocalClientListener l : connectionsListeners)
+            l.onLocalConnectionError((JSLLocalClient) o1, (Throwable) o2);
+    };
+
+    private void emit_LocalDisconnected(JSLRemoteObject jslObj, JSLLocalClient jslLocCli) {
+        for (LocalClientListener l : getObjectListeners(jslObj))
             l.onLocalDisconnected(jslObj, jslLocCli);
+        JSLEventBus.publish(localDisconnectedHandler, jslObj, jslLocCli);
     }
 
+    private final JSLEventBus.Handler localDisconnectedHandler = (o1, o2, o3, d1, d2) -> {
+        for (LocalClientListener l : connectionsListeners)
+            l.onLocalDisconnected((JSLRemoteObject) o1, (JSLLocalClient) o2);
+    };
+
+    private void emit_LocalSwitched(JSLRemoteObject jslObj, JSLLocalClient oldClient, JSLLocalClient newClient) {
+        for (LocalClientListener l : getObjectListeners(jslObj))
+            l.onLocalSwitched(jslObj, oldClient, newClient);
+        JSLEventBus.publish(localSwitchedHandler, jslObj, oldClient, newClient);
+    }
+
+    private final JSLEventBus.Handler localSwitchedHandler = (o1, o2, o3, d1, d2) -> {
+        for (LocalClientListener l : connectionsListeners)
+            l.onLocalSwitched((JSLRemoteObject) o1, (JSLLocalClient) o2, (JSLLocalClient) o3);
+    };
+
     /**
      * Local clients events interface.
      */
@@ -1031,13 +1988,35 @@ public class JSLLocalClientsMngr {
 
         void onLocalDisconnected(JSLRemoteObject jslObj, JSLLocalClient jslLocCli);
 
+        /**
+         * Emitted when a warm-standby backup connection replaces the dropped
+         * active connection. The object remains locally connected, so no
+         * disconnection/connection events are emitted.
+         */
+        void onLocalSwitched(JSLRemoteObject jslObj, JSLLocalClient oldClient, JSLLocalClient newClient);
+
     }
 
 
+    // Objects manager listener
+
+    private final JSLObjsMngr.ObjsMngrListener objsMngrListener = new JSLObjsMngr.ObjsMngrListener() {
+
+        @Override
+        public void onObjAdded(JSLRemoteObject obj) {}
+
+        @Override
+        public void onObjRemoved(JSLRemoteObject obj) {
+            objectsConnectionsListeners.remove(obj);
+        }
+
+    };
+
+
     // LUID: Connection Local Unique ID
 
-    private final Map<JSLLocalClient, Integer> luids = new HashMap<>();
-    private final Map<DiscoveryService, Integer> discLuids = new HashMap<>();
+    private final Map<JSLLocalClient, Integer> luids = new ConcurrentHashMap<>();
+    private final Map<DiscoveryService, Integer> discLuids = new ConcurrentHashMap<>();
     private int lastLUID = -1;
     private int discLastLUID = -1;
 
@@ -1054,9 +2033,9 @@ public class JSLLocalClientsMngr {
     }
 
     private String LUID(JSLLocalClient client) {
-        if (!luids.containsKey(client))
+        Integer luid = luids.get(client);
+        if (luid == null)
             return "[C#: ----]";
-        int luid = luids.get(client);
         return String.format("[C#: %04x]", luid);
     }
 
@@ -1073,11 +2052,38 @@ public class JSLLocalClientsMngr {
     }
 
     private String discoveryLUID(DiscoveryService client) {
-        if (!discLuids.containsKey(client))
+        Integer luid = discLuids.get(client);
+        if (luid == null)
             return "[D#: ----]";
-        int luid = discLuids.get(client);
         return String.format("[D#: %04x]", luid);
     }
 
 
+    // SSL materials
+
+    /**
+     * SSL context and certificates used by the ENCRYPTED local clients.
+     */
+    private static class SSLMaterials {
+
+        /**
+         * SSL context for the local client.
+         */
+        private SSLContext sslCtx;
+        /**
+         * Local client certificate.
+         */
+        private Certificate clientCertificate;
+        /**
+         * Local client certificate's id.
+         */
+        private String clientCertificateId;
+        /**
+         * Store for the certificates trusted by the local clients. `null` if
+         * trusted certificates must not be stored.
+         */
+        private JSLLocalCertificatesStore certificatesStore;
+
+    }
+
 }
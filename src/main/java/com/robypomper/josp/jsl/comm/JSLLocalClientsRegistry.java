@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.josp.jsl.objs.JSLRemoteObject;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+
+/**
+ * Thread-safe registry for the {@link JSLLocalClientsMngr}'s connections.
+ * <p>
+ * This class keeps track of all local clients (ready and not ready), their
+ * object's ids and the remote objects associated to them. For each remote
+ * object, it also indexes the active client and the backup clients, so the
+ * lookups used on the send path ({@link #getActiveClient(JSLRemoteObject)})
+ * are O(1) and lock-free.
+ * <p>
+ * All mutating methods are synchronized on the registry, so the different
+ * indexes are always updated together. Read methods access concurrent maps
+ * and don't require any lock.
+ * <p>
+ * The connection's lifecycle, as seen from the registry, is:
+ * <ul>
+ *     <li>{@link #registerConnection(JSLLocalClient)}: connection established [Phase 2]</li>
+ *     <li>{@link #setObjectId(JSLLocalClient, String)}: connection ready [Phase 3]</li>
+ *     <li>{@link #activateIfAbsent(JSLLocalClient, JSLRemoteObject)}: remote object ready [Phase 4]</li>
+ *     <li>{@link #deregisterConnection(JSLLocalClient)}: connection closed or failed</li>
+ * </ul>
+ * A connection established to an already connected object can be registered
+ * as backup with {@link #registerBackup(JSLLocalClient, JSLRemoteObject)}.
+ * When the active connection drops, a connected (warm-standby) backup can be
+ * atomically promoted with {@link #promoteBackup(JSLRemoteObject)}.
+ */
+public class JSLLocalClientsRegistry {
+
+    // Internal vars
+
+    /**
+     * All connections (ready and not ready), with their ready flag.
+     */
+    private final Map<JSLLocalClient, Boolean> availableConnections = new ConcurrentHashMap<>();
+    /**
+     * Object's ids for each ready connection.
+     */
+    private final Map<JSLLocalClient, String> connectionsObjectIDs = new ConcurrentHashMap<>();
+    /**
+     * Remote objects for each active connection.
+     */
+    private final Map<JSLLocalClient, JSLRemoteObject> connectionsRemoteObjects = new ConcurrentHashMap<>();
+    /**
+     * Remote objects for each backup connection.
+     */
+    private final Map<JSLLocalClient, JSLRemoteObject> backupConnections = new ConcurrentHashMap<>();
+    /**
+     * Index of the active connection for each remote object.
+     */
+    private final Map<JSLRemoteObject, JSLLocalClient> activeByObject = new ConcurrentHashMap<>();
+    /**
+     * Index of the backup connections for each remote object.
+     */
+    private final Map<JSLRemoteObject, List<JSLLocalClient>> backupsByObject = new ConcurrentHashMap<>();
+
+
+    // Connections lifecycle
+
+    /**
+     * Register a new (not ready) connection.
+     *
+     * @param client the established connection.
+     */
+    public synchronized void registerConnection(JSLLocalClient client) {
+        availableConnections.put(client, false);
+    }
+
+    /**
+     * Set the object's id of given connection.
+     *
+     * @param client the connection.
+     * @param objId  the object's id received from the connection.
+     */
+    public synchronized void setObjectId(JSLLocalClient client, String objId) {
+        connectionsObjectIDs.put(client, objId);
+    }
+
+    /**
+     * Mark given connection as ready and set it as active connection for
+     * given remote object.
+     *
+     * @param client the connection.
+     * @param remObj the remote object associated to the connection.
+     */
+    public synchronized void activate(JSLLocalClient client, JSLRemoteObject remObj) {
+        removeBackupIndex(client);
+        connectionsRemoteObjects.put(client, remObj);
+        activeByObject.put(remObj, client);
+        availableConnections.put(client, true);
+    }
+
+    /**
+     * Mark given connection as ready and set it as active connection for
+     * given remote object, only if the object has no other connected active
+     * connection.
+     *
+     * @param client the connection.
+     * @param remObj the remote object associated to the connection.
+     * @return true if the connection was activated, false if the object has
+     * already a connected active connection.
+     */
+    public synchronized boolean activateIfAbsent(JSLLocalClient client, JSLRemoteObject remObj) {
+        JSLLocalClient active = activeByObject.get(remObj);
+        if (active != null && active != client && active.getState().isConnected())
+            return false;
+
+        if (active != null && active != client)
+            deregisterConnection(active);
+        activate(client, remObj);
+        return true;
+    }
+
+    /**
+     * Register given connection as backup connection for given remote object.
+     * <p>
+     * Backup connections are not listed in {@link #getClients()}.
+     *
+     * @param client the connection.
+     * @param remObj the remote object associated to the connection.
+     */
+    public synchronized void registerBackup(JSLLocalClient client, JSLRemoteObject remObj) {
+        availableConnections.remove(client);
+        backupConnections.put(client, remObj);
+        backupsByObject.computeIfAbsent(remObj, o -> new CopyOnWriteArrayList<>()).add(client);
+    }
+
+    /**
+     * Register given connection as backup connection for given remote object,
+     * only if the object has no other connected backup connection.
+     *
+     * @param client the connection.
+     * @param remObj the remote object associated to the connection.
+     * @return true if the connection was registered as backup, false if the
+     * object has already a connected backup connection.
+     */
+    public synchronized boolean registerBackupIfAbsent(JSLLocalClient client, JSLRemoteObject remObj) {
+        if (hasConnectedBackup(remObj))
+            return false;
+
+        registerBackup(client, remObj);
+        return true;
+    }
+
+    /**
+     * Promote the first connected backup connection of given remote object as
+     * active connection.
+     * <p>
+     * Not connected backup connections found during the lookup are removed
+     * from the registry.
+     *
+     * @param remObj the remote object.
+     * @return the promoted connection, null if the object has no connected
+     * backup connections.
+     */
+    public synchronized JSLLocalClient promoteBackup(JSLRemoteObject remObj) {
+        for (JSLLocalClient backup : getBackupClients(remObj)) {
+            if (!backup.getState().isConnected()) {
+                deregisterConnection(backup);
+                continue;
+            }
+
+            activate(backup, remObj);
+            return backup;
+        }
+        return null;
+    }
+
+    /**
+     * Remove given connection from the backup connections.
+     *
+     * @param client the backup connection.
+     */
+    public synchronized void removeBackup(JSLLocalClient client) {
+        removeBackupIndex(client);
+    }
+
+    /**
+     * Remove given connection from all registry's indexes.
+     *
+     * @param client the connection.
+     * @return the remote object for which the connection was active, null if
+     * the connection was not active.
+     */
+    public synchronized JSLRemoteObject deregisterConnection(JSLLocalClient client) {
+        availableConnections.remove(client);
+        connectionsObjectIDs.remove(client);
+        removeBackupIndex(client);
+        JSLRemoteObject remObj = connectionsRemoteObjects.remove(client);
+        if (remObj != null)
+            activeByObject.remove(remObj, client);
+        return remObj;
+    }
+
+    /**
+     * Remove all connections from the registry.
+     */
+    public synchronized void clear() {
+        availableConnections.clear();
+        connectionsObjectIDs.clear();
+        connectionsRemoteObjects.clear();
+        backupConnections.clear();
+        activeByObject.clear();
+        backupsByObject.clear();
+    }
+
+    private void removeBackupIndex(JSLLocalClient client) {
+        JSLRemoteObject remObj = backupConnections.remove(client);
+        if (remObj == null)
+            return;
+
+        List<JSLLocalClient> backups = backupsByObject.get(remObj);
+        if (backups == null)
+            return;
+        backups.remove(client);
+        if (backups.isEmpty())
+            backupsByObject.remove(remObj);
+    }
+
+
+    // Getters
+
+    /**
+     * @return all connections (ready and not ready).
+     */
+    public List<JSLLocalClient> getClients() {
+        return new ArrayList<>(availableConnections.keySet());
+    }
+
+    /**
+     * @return all backup connections.
+     */
+    public List<JSLLocalClient> getBackupClients() {
+        return new ArrayList<>(backupConnections.keySet());
+    }
+
+    /**
+     * @return the remote object associated to given connection (active or
+     * backup), null if none.
+     */
+    public JSLRemoteObject getRemoteObject(JSLLocalClient client) {
+        JSLRemoteObject remObj = connectionsRemoteObjects.get(client);
+        return remObj != null ? remObj : backupConnections.get(client);
+    }
+
+    /**
+     * @return true if given connection is registered as backup connection.
+     */
+    public boolean isBackup(JSLLocalClient client) {
+        return backupConnections.containsKey(client);
+    }
+
+    /**
+     * @return true if given connection received the object's id.
+     */
+    public boolean hasObjectId(JSLLocalClient client) {
+        return connectionsObjectIDs.containsKey(client);
+    }
+
+    /**
+     * @return the object's id of given connection, null if not ready.
+     */
+    public String getObjectId(JSLLocalClient client) {
+        return connectionsObjectIDs.get(client);
+    }
+
+    /**
+     * @return the only one (if any) active connection for given object.
+     */
+    public JSLLocalClient getActiveClient(JSLRemoteObject remObj) {
+        return activeByObject.get(remObj);
+    }
+
+    /**
+     * @return the backup connections for given object, an empty list if none.
+     */
+    public List<JSLLocalClient> getBackupClients(JSLRemoteObject remObj) {
+        List<JSLLocalClient> backups = backupsByObject.get(remObj);
+        return backups != null ? new ArrayList<>(backups) : new ArrayList<>();
+    }
+
+    /**
+     * @return true if given object has at least one connected backup connection.
+     */
+    public boolean hasConnectedBackup(JSLRemoteObject remObj) {
+        List<JSLLocalClient> backups = backupsByObject.get(remObj);
+        if (backups == null)
+            return false;
+        for (JSLLocalClient backup : backups)
+            if (backup.getState().isConnected())
+                return true;
+        return false;
+    }
+
+}
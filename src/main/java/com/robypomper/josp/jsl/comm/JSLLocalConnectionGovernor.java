@@ -0,0 +1,333 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.josp.jsl.metrics.JSLMetricsCounter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Per-object governor for the local connections attempts.
+ * <p>
+ * The {@link JSLLocalClientsMngr} asks the governor before each connection
+ * attempt (on discovery, on re-discovery and for warm-standby backups), so a
+ * flapping JOD Object can't trigger a reconnection storm. Objects are
+ * identified by their discovered service's name, because the object's id is
+ * known only after the connection.
+ * <p>
+ * For each object the governor implements:
+ * <ul>
+ *     <li>exponential backoff with jitter: after each failure, next attempts
+ *     are rejected for <code>base * 2^(failures-1)</code> ms (max
+ *     <code>max</code> ms), randomized between 50% and 100%;</li>
+ *     <li>circuit breaker: after <code>threshold</code> consecutive failures
+ *     the circuit opens and all attempts are rejected for <code>max</code>
+ *     ms (with jitter);</li>
+ *     <li>half-open probe: when the open time elapses, only one attempt is
+ *     allowed; if it succeeds the circuit closes, otherwise it opens again.
+ *     If the probe's outcome is not reported within {@link #PROBE_TIMEOUT_MS},
+ *     a new probe is allowed.</li>
+ * </ul>
+ * Rejected attempts are not queued by the governor: callers can retry after
+ * {@link #getRetryInMs(String)} ms.
+ * A connection that drops before {@link #STABLE_CONNECTION_MS} counts as a
+ * failure; a connection that lasts longer resets the object's failures.
+ */
+public class JSLLocalConnectionGovernor {
+
+    // Class constants
+
+    /**
+     * Min time a connection must last to be considered stable.
+     */
+    public static final long STABLE_CONNECTION_MS = 30 * 1000;
+    /**
+     * Max time a half-open probe can last without reporting his outcome.
+     */
+    public static final long PROBE_TIMEOUT_MS = 60 * 1000;
+
+    public enum CircuitState {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+
+    // Internal vars
+
+    private final int failureThreshold;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final LongSupplier clock;
+    private final Map<String, ObjectGovernor> governors = new HashMap<>();
+    private long attemptsCount = 0;
+    private long rejectedCount = 0;
+    private long openedCount = 0;
+    private JSLMetricsCounter attemptsMetric = null;
+    private JSLMetricsCounter rejectedMetric = null;
+    private JSLMetricsCounter openedMetric = null;
+
+
+    // Constructor
+
+    /**
+     * @param failureThreshold number of consecutive failures that opens the
+     *                         circuit.
+     * @param backoffBaseMs    backoff after the first failure.
+     * @param backoffMaxMs     max backoff, also used as circuit's open time.
+     */
+    public JSLLocalConnectionGovernor(int failureThreshold, long backoffBaseMs, long backoffMaxMs) {
+        this(failureThreshold, backoffBaseMs, backoffMaxMs, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock the source of the current time (in milliseconds).
+     */
+    JSLLocalConnectionGovernor(int failureThreshold, long backoffBaseMs, long backoffMaxMs, LongSupplier clock) {
+        if (failureThreshold < 1)
+            throw new IllegalArgumentException(String.format("Local connections governor's failure threshold must be greater than 0 (current value %d)", failureThreshold));
+        if (backoffBaseMs < 0 || backoffMaxMs < backoffBaseMs)
+            throw new IllegalArgumentException(String.format("Local connections governor's backoff must be 0 <= base <= max (current values %d, %d)", backoffBaseMs, backoffMaxMs));
+        this.failureThreshold = failureThreshold;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.clock = clock;
+    }
+
+
+    /**
+     * Set the counters incremented with the governor's attempts, rejected
+     * attempts and opened circuits.
+     */
+    public synchronized void setMetrics(JSLMetricsCounter attempts, JSLMetricsCounter rejected, JSLMetricsCounter opened) {
+        this.attemptsMetric = attempts;
+        this.rejectedMetric = rejected;
+        this.openedMetric = opened;
+    }
+
+
+    // Attempts mngm
+
+    /**
+     * Check if a new connection attempt to given object is allowed and, if
+     * so, register it.
+     *
+     * @param key the discovered service's name.
+     * @return true if the caller can connect to the object.
+     */
+    public synchronized boolean tryAcquire(String key) {
+        ObjectGovernor g = governors.computeIfAbsent(key, k -> new ObjectGovernor());
+        long now = clock.getAsLong();
+        boolean allowed;
+        switch (g.state) {
+            case OPEN:
+                allowed = now >= g.nextAttemptAt;
+                if (allowed) {
+                    g.state = CircuitState.HALF_OPEN;
+                    g.probing = true;
+                    g.probeStartedAt = now;
+                }
+                break;
+            case HALF_OPEN:
+                allowed = !g.probing || now - g.probeStartedAt >= PROBE_TIMEOUT_MS;
+                if (allowed) {
+                    g.probing = true;
+                    g.probeStartedAt = now;
+                }
+                break;
+            default:
+                allowed = now >= g.nextAttemptAt;
+        }
+
+        if (allowed) {
+            attemptsCount++;
+            if (attemptsMetric != null) attemptsMetric.inc();
+        } else {
+            rejectedCount++;
+            if (rejectedMetric != null) rejectedMetric.inc();
+        }
+        return allowed;
+    }
+
+    /**
+     * Register a successful connection to given object.
+     *
+     * @param key the discovered service's name.
+     */
+    public synchronized void onSuccess(String key) {
+        ObjectGovernor g = governors.computeIfAbsent(key, k -> new ObjectGovernor());
+        g.state = CircuitState.CLOSED;
+        g.probing = false;
+        g.nextAttemptAt = 0;
+        g.lastSuccessAt = clock.getAsLong();
+    }
+
+    /**
+     * Register a failed connection attempt to given object.
+     *
+     * @param key the discovered service's name.
+     */
+    public synchronized void onFailure(String key) {
+        ObjectGovernor g = governors.computeIfAbsent(key, k -> new ObjectGovernor());
+        long now = clock.getAsLong();
+        if (g.lastSuccessAt > g.lastFailureAt && now - g.lastSuccessAt >= STABLE_CONNECTION_MS)
+            g.failures = 0;     // failure after a stable connection, start over
+        g.failures++;
+        g.lastFailureAt = now;
+        g.probing = false;
+
+        if (g.state == CircuitState.HALF_OPEN || g.failures >= failureThreshold) {
+            if (g.state != CircuitState.OPEN) {
+                openedCount++;
+                if (openedMetric != null) openedMetric.inc();
+            }
+            g.state = CircuitState.OPEN;
+            g.nextAttemptAt = now + jitter(backoffMaxMs);
+            return;
+        }
+
+        long backoff = backoffBaseMs << Math.min(g.failures - 1, 30);
+        g.nextAttemptAt = now + jitter(Math.min(backoff, backoffMaxMs));
+    }
+
+    /**
+     * Register the disconnection of an active connection to given object.
+     * <p>
+     * If the connection was not stable, it counts as a failure.
+     *
+     * @param key the discovered service's name.
+     */
+    public synchronized void onDisconnected(String key) {
+        ObjectGovernor g = governors.get(key);
+        if (g == null)
+            return;
+
+        if (clock.getAsLong() - g.lastSuccessAt < STABLE_CONNECTION_MS)
+            onFailure(key);
+        else
+            g.failures = 0;
+    }
+
+    /**
+     * Forget the state of all objects.
+     */
+    public synchronized void reset() {
+        governors.clear();
+    }
+
+    private static long jitter(long delayMs) {
+        if (delayMs <= 1)
+            return delayMs;
+        return delayMs / 2 + ThreadLocalRandom.current().nextLong(delayMs / 2 + 1);
+    }
+
+
+    // Getters
+
+    /**
+     * @return the circuit's state for given object.
+     */
+    public synchronized CircuitState getState(String key) {
+        ObjectGovernor g = governors.get(key);
+        return g != null ? g.state : CircuitState.CLOSED;
+    }
+
+    /**
+     * @return the consecutive failures for given object.
+     */
+    public synchronized int getFailures(String key) {
+        ObjectGovernor g = governors.get(key);
+        return g != null ? g.failures : 0;
+    }
+
+    /**
+     * @return the milliseconds before next attempt to given object is
+     * allowed, 0 if it's allowed now.
+     */
+    public synchronized long getRetryInMs(String key) {
+        ObjectGovernor g = governors.get(key);
+        if (g == null)
+            return 0;
+        long now = clock.getAsLong();
+        if (g.state == CircuitState.HALF_OPEN && g.probing)
+            return Math.max(0, g.probeStartedAt + PROBE_TIMEOUT_MS - now);
+        return Math.max(0, g.nextAttemptAt - now);
+    }
+
+    /**
+     * @return the names of all governed objects.
+     */
+    public synchronized List<String> getKeys() {
+        return new ArrayList<>(governors.keySet());
+    }
+
+    /**
+     * @return the number of objects with the circuit not closed.
+     */
+    public synchronized int getOpenCount() {
+        int count = 0;
+        for (ObjectGovernor g : governors.values())
+            if (g.state != CircuitState.CLOSED)
+                count++;
+        return count;
+    }
+
+    /**
+     * @return the number of allowed connection attempts.
+     */
+    public synchronized long getAttemptsCount() {
+        return attemptsCount;
+    }
+
+    /**
+     * @return the number of rejected connection attempts.
+     */
+    public synchronized long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return how many times a circuit has been opened.
+     */
+    public synchronized long getOpenedCount() {
+        return openedCount;
+    }
+
+
+    // Object's state
+
+    private static class ObjectGovernor {
+
+        private CircuitState state = CircuitState.CLOSED;
+        private int failures = 0;
+        private boolean probing = false;
+        private long probeStartedAt = 0;
+        private long nextAttemptAt = 0;
+        private long lastSuccessAt = 0;
+        private long lastFailureAt = 0;
+
+    }
+
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.josp.jsl.JSLThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetAddress;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+
+/**
+ * Bounded scheduler for the local connections attempts.
+ * <p>
+ * The {@link JSLLocalClientsMngr} uses this class to execute the connection
+ * attempts to discovered JOD Object's services. So the discovery listener
+ * returns immediately and many handshakes can proceed concurrently.
+ * <p>
+ * Scheduled tasks are executed by a fixed pool of threads. Moreover, each
+ * remote host can have at most <code>maxPerHost</code> tasks running at the
+ * same time; exceeding tasks are queued (in FIFO order) and executed as soon
+ * as a previous task for the same host terminates.
+ * <p>
+ * Tasks results are not collected by this class: each task feeds the
+ * {@link JSLLocalClientsMngr} (via the client's listener) as soon as its
+ * connection is established, in completion order.
+ */
+public class JSLLocalConnectionsScheduler {
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLLocalConnectionsScheduler.class);
+    private static final String THREAD_NAME = "JSLLocalConnector-%d";
+    private final int maxConcurrent;
+    private final int maxPerHost;
+    /**
+     * Number of running tasks for each remote host.
+     */
+    private final Map<InetAddress, Integer> hostsRunning = new HashMap<>();
+    /**
+     * Queued tasks for each remote host, waiting for a free host's slot.
+     */
+    private final Map<InetAddress, Queue<Runnable>> hostsPending = new HashMap<>();
+    private ExecutorService executor = null;
+    /**
+     * Incremented on each start, so tasks submitted before a stop/start cycle
+     * don't alter the counters of the new cycle when they complete.
+     */
+    private long generation = 0;
+
+
+    // Constructor
+
+    /**
+     * @param maxConcurrent max number of connection attempts executed at the
+     *                      same time.
+     * @param maxPerHost    max number of connection attempts executed at the
+     *                      same time for the same remote host.
+     */
+    public JSLLocalConnectionsScheduler(int maxConcurrent, int maxPerHost) {
+        if (maxConcurrent < 1)
+            throw new IllegalArgumentException(String.format("Local connections scheduler's pool size must be greater than 0 (current value %d)", maxConcurrent));
+        if (maxPerHost < 1)
+            throw new IllegalArgumentException(String.format("Local connections scheduler's per host limit must be greater than 0 (current value %d)", maxPerHost));
+        this.maxConcurrent = maxConcurrent;
+        this.maxPerHost = maxPerHost;
+    }
+
+
+    // Scheduler mngm
+
+    /**
+     * Initialize the threads pool, if not already initialized.
+     */
+    public synchronized void start() {
+        if (executor != null)
+            return;
+
+        executor = Executors.newFixedThreadPool(maxConcurrent, JSLThreads.newThreadFactory(THREAD_NAME));
+        generation++;
+        log.debug(String.format("Local connections scheduler started (pool size: %d, per host: %d)", maxConcurrent, maxPerHost));
+    }
+
+    /**
+     * Discharge all queued tasks and interrupt the running ones.
+     */
+    public synchronized void stop() {
+        if (executor == null)
+            return;
+
+        executor.shutdownNow();
+        executor = null;
+        hostsPending.clear();
+        hostsRunning.clear();
+        log.debug("Local connections scheduler stopped");
+    }
+
+    /**
+     * @return true if the scheduler accept new tasks.
+     */
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+
+    // Tasks mngm
+
+    /**
+     * Schedule given connection task for given remote host.
+     *
+     * @param host the remote host address used to limit the concurrency.
+     * @param task the connection task to execute.
+     * @return true if the task was accepted (executed or queued), false if the
+     * scheduler is not running.
+     */
+    public synchronized boolean schedule(InetAddress host, Runnable task) {
+        if (executor == null)
+            return false;
+
+        int running = hostsRunning.getOrDefault(host, 0);
+        if (running >= maxPerHost) {
+            hostsPending.computeIfAbsent(host, h -> new ArrayDeque<>()).add(task);
+            return true;
+        }
+
+        return submit(host, task);
+    }
+
+    /**
+     * @return the number of tasks currently executing or waiting for a free
+     * thread.
+     */
+    public synchronized int getRunningCount() {
+        int count = 0;
+        for (int c : hostsRunning.values())
+            count += c;
+        return count;
+    }
+
+    /**
+     * @return the number of tasks waiting for a free host's slot.
+     */
+    public synchronized int getPendingCount() {
+        int count = 0;
+        for (Queue<Runnable> q : hostsPending.values())
+            count += q.size();
+        return count;
+    }
+
+    private boolean submit(InetAddress host, Runnable task) {
+        hostsRunning.merge(host, 1, Integer::sum);
+        long taskGeneration = generation;
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    log.warn(String.format("Error on executing local connection task for host '%s' because %s", host, t.getMessage()), t);
+                } finally {
+                    onTaskCompleted(host, taskGeneration);
+                }
+            });
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            hostsRunning.merge(host, -1, Integer::sum);
+            return false;
+        }
+    }
+
+    private synchronized void onTaskCompleted(InetAddress host, long taskGeneration) {
+        if (executor == null || taskGeneration != generation)
+            return;     // scheduler stopped (and maybe restarted), counters already reset
+
+        Integer running = hostsRunning.merge(host, -1, Integer::sum);
+        if (running != null && running <= 0)
+            hostsRunning.remove(host);
+
+        Queue<Runnable> pending = hostsPending.get(host);
+        if (pending == null)
+            return;
+
+        Runnable next = pending.poll();
+        if (pending.isEmpty())
+            hostsPending.remove(host);
+        if (next != null)
+            submit(host, next);
+    }
+
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.robypomper.discovery.DiscoveryService;
+import com.robypomper.josp.protocol.JOSPProtocol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Cache of the last known JOD Object's local services.
+ * <p>
+ * For each object successfully connected, this cache remembers the endpoint
+ * (service's name, address, port and interface) of his last active
+ * connection; the transport to use is remembered by the
+ * {@link JSLLocalTransportCache}. On startup, the {@link JSLLocalClientsMngr}
+ * connects directly to those endpoints, without waiting for the discovery
+ * system to re-discover them. Then, it reconciles cached endpoints with the
+ * live discovery results.
+ * <p>
+ * Entries not connected since {@link #MAX_AGE_MS} are discharged on load.
+ * <p>
+ * When a file is given, the cache is loaded on creation and, when an entry
+ * changes, it's stored in background by a {@link JSLLocalFileWriter}
+ * (batched and atomic writes). Otherwise, it's kept only in memory.
+ */
+public class JSLLocalDiscoveryCache {
+
+    // Class constants
+
+    /**
+     * Max time since last connection to keep a known service.
+     */
+    public static final long MAX_AGE_MS = 30L * 24 * 60 * 60 * 1000;
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLLocalDiscoveryCache.class);
+    private final File file;
+    private final JSLLocalFileWriter writer;
+    private final ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final Map<String, KnownService> services = new HashMap<>();
+
+
+    // Constructor
+
+    /**
+     * @param file the file used to persist the cache, null to keep the cache
+     *             only in memory.
+     */
+    public JSLLocalDiscoveryCache(File file) {
+        this.file = file;
+        this.writer = file != null ? new JSLLocalFileWriter(file, this::writeContent) : null;
+        load();
+    }
+
+
+    // Getters and setters
+
+    /**
+     * @return the discovery services for all known objects.
+     */
+    public synchronized List<DiscoveryService> getKnownServices() {
+        List<DiscoveryService> known = new ArrayList<>();
+        for (Map.Entry<String, KnownService> e : services.entrySet())
+            try {
+                KnownService srv = e.getValue();
+                known.add(new DiscoveryService(srv.srvName, JOSPProtocol.DISCOVERY_TYPE, srv.intf, InetAddress.getByName(srv.address), srv.port, null));
+            } catch (UnknownHostException ex) {
+                log.warn(String.format("Error on parsing known service address '%s' for object '%s', skip it", e.getValue().address, e.getKey()));
+            }
+        return known;
+    }
+
+    /**
+     * Store the endpoint of given object's active connection.
+     *
+     * @param objId   the connected object's id.
+     * @param discSrv the discovery service used to connect the object.
+     * @param client  the active connection.
+     */
+    public synchronized void update(String objId, DiscoveryService discSrv, JSLLocalClient client) {
+        KnownService old = services.get(objId);
+        String address = discSrv.address.getHostAddress();
+        long now = System.currentTimeMillis();
+
+        if (old != null && old.srvName.equals(discSrv.name) && old.address.equals(address) && old.port == discSrv.port
+                && now - old.lastConnected < MAX_AGE_MS / 2)
+            return;     // same endpoint, updated recently
+
+        KnownService srv = new KnownService();
+        srv.srvName = discSrv.name;
+        srv.address = address;
+        srv.port = discSrv.port;
+        srv.intf = discSrv.intf;
+        srv.lastConnected = now;
+        services.put(objId, srv);
+        log.debug(String.format("Updated known service for object '%s' ('%s' at '%s:%d')", objId, srv.srvName, address, srv.port));
+        store();
+    }
+
+
+    // Persistence
+
+    private void load() {
+        if (file == null || !file.exists())
+            return;
+
+        try {
+            Map<String, KnownService> loaded = mapper.readValue(file, new TypeReference<Map<String, KnownService>>() {});
+            long now = System.currentTimeMillis();
+            for (Map.Entry<String, KnownService> e : loaded.entrySet())
+                if (now - e.getValue().lastConnected < MAX_AGE_MS)
+                    services.put(e.getKey(), e.getValue());
+            log.debug(String.format("Loaded %d known services from '%s' (%d expired)", services.size(), file.getPath(), loaded.size() - services.size()));
+
+        } catch (IOException e) {
+            log.warn(String.format("Error on loading known services from '%s' because %s, ignore it", file.getPath(), e.getMessage()));
+        }
+    }
+
+    private void store() {
+        if (writer != null)
+            writer.requestWrite();
+    }
+
+    private void writeContent(OutputStream out) throws IOException {
+        byte[] content;
+        synchronized (this) {
+            content = mapper.writeValueAsBytes(services);
+        }
+        out.write(content);
+    }
+
+    /**
+     * Write pending changes to the cache's file.
+     */
+    public void flush() {
+        if (writer != null)
+            writer.flush();
+    }
+
+
+    // Cache entry
+
+    /**
+     * Last known endpoint of a JOD Object's local server.
+     */
+    public static class KnownService {
+
+        /**
+         * Discovered service's name.
+         */
+        public String srvName;
+        /**
+         * Server's address.
+         */
+        public String address;
+        /**
+         * Server's port.
+         */
+        public int port;
+        /**
+         * Network interface the service was discovered on.
+         */
+        public String intf;
+        /**
+         * Last time (millis) the object was connected via this service.
+         */
+        public long lastConnected;
+
+    }
+
+}
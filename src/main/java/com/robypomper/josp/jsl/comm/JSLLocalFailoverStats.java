@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+
+/**
+ * Statistics about the local connections failovers.
+ * <p>
+ * Each time the {@link JSLLocalClientsMngr} promotes a warm-standby backup
+ * connection, it registers the failover latency: the time elapsed between the
+ * active connection's disconnection and the backup's promotion.
+ */
+public class JSLLocalFailoverStats {
+
+    // Internal vars
+
+    private long count = 0;
+    private long lastNanos = 0;
+    private long maxNanos = 0;
+    private long totalNanos = 0;
+
+
+    // Stats mngm
+
+    /**
+     * Register a new failover.
+     *
+     * @param latencyNanos the failover's latency in nanoseconds.
+     */
+    public synchronized void registerFailover(long latencyNanos) {
+        count++;
+        lastNanos = latencyNanos;
+        totalNanos += latencyNanos;
+        if (latencyNanos > maxNanos)
+            maxNanos = latencyNanos;
+    }
+
+    /**
+     * Reset all statistics.
+     */
+    public synchronized void reset() {
+        count = 0;
+        lastNanos = 0;
+        maxNanos = 0;
+        totalNanos = 0;
+    }
+
+
+    // Getters
+
+    /**
+     * @return the number of failovers registered.
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the latency of the last failover in milliseconds, 0 if none.
+     */
+    public synchronized double getLastMs() {
+        return lastNanos / 1_000_000.0;
+    }
+
+    /**
+     * @return the max failover latency in milliseconds, 0 if none.
+     */
+    public synchronized double getMaxMs() {
+        return maxNanos / 1_000_000.0;
+    }
+
+    /**
+     * @return the average failover latency in milliseconds, 0 if none.
+     */
+    public synchronized double getAvgMs() {
+        return count == 0 ? 0 : totalNanos / (double) count / 1_000_000.0;
+    }
+
+}
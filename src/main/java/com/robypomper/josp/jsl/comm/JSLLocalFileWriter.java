@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.josp.jsl.JSLThreads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Writer for the files persisted by the local communication (keystore and
+ * caches).
+ * <p>
+ * Files are written atomically: the content is written (and synced) to a
+ * temporary file into the same directory, then it's moved over the target
+ * file. So a crash or a full disk never leaves a truncated file.
+ * <p>
+ * Writes are also batched: {@link #requestWrite()} marks the content as
+ * dirty and the file is written, on the {@link JSLThreads#getScheduler()},
+ * {@link #WRITE_DELAY_MS} ms after the first request. All requests received
+ * meanwhile are satisfied by the same write.
+ */
+public class JSLLocalFileWriter {
+
+    // Class constants
+
+    /**
+     * Delay between the first write request and the actual write.
+     */
+    public static final long WRITE_DELAY_MS = 1000;
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLLocalFileWriter.class);
+    private final File file;
+    private final ContentWriter contentWriter;
+    private ScheduledFuture<?> writeTask = null;
+    private boolean dirty = false;
+
+
+    // Constructor
+
+    /**
+     * @param file          the file to write.
+     * @param contentWriter the function that writes the file's content.
+     */
+    public JSLLocalFileWriter(File file, ContentWriter contentWriter) {
+        this.file = file;
+        this.contentWriter = contentWriter;
+    }
+
+
+    // Writes mngm
+
+    /**
+     * Mark the file's content as changed and schedule his write, if not
+     * already scheduled.
+     */
+    public synchronized void requestWrite() {
+        dirty = true;
+        if (writeTask != null)
+            return;
+
+        writeTask = JSLThreads.getScheduler().schedule(this::flush, WRITE_DELAY_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Write the file immediately, if his content changed since last write.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (writeTask != null) {
+                writeTask.cancel(false);
+                writeTask = null;
+            }
+            if (!dirty)
+                return;
+            dirty = false;
+        }
+
+        try {
+            writeAtomically(file, contentWriter);
+
+        } catch (IOException e) {
+            log.warn(String.format("Error on writing file '%s' because %s", file.getPath(), e.getMessage()));
+        }
+    }
+
+    /**
+     * Write given file atomically.
+     *
+     * @param file          the file to write.
+     * @param contentWriter the function that writes the file's content.
+     * @throws IOException if the content can't be written or the temporary
+     *                     file can't be moved.
+     */
+    public static void writeAtomically(File file, ContentWriter contentWriter) throws IOException {
+        File target = file.getAbsoluteFile();
+        File parent = target.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs())
+            throw new IOException(String.format("Can't create directory '%s'", parent.getPath()));
+
+        Path tmp = Files.createTempFile(parent != null ? parent.toPath() : new File(".").toPath(), target.getName() + ".", ".tmp");
+        try {
+            try (FileOutputStream out = new FileOutputStream(tmp.toFile())) {
+                contentWriter.write(out);
+                out.flush();
+                out.getFD().sync();
+            }
+            try {
+                Files.move(tmp, target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+
+    // Content writer
+
+    /**
+     * Function that writes the file's content to given stream.
+     * <p>
+     * It's executed on the writer's thread, so it must access the content
+     * with the same lock used to update it.
+     */
+    public interface ContentWriter {
+
+        void write(OutputStream out) throws IOException;
+
+    }
+
+}
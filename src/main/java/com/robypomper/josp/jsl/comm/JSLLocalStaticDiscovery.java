@@ -0,0 +1,418 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.discovery.DiscoveryService;
+import com.robypomper.discovery.DiscoveryServicesListener;
+import com.robypomper.josp.jsl.JSLThreads;
+import com.robypomper.josp.protocol.JOSPProtocol;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Discovery provider for JOD Object's local services listed statically.
+ * <p>
+ * This provider does not use multicast: it reads a list of endpoints from
+ * the JSL settings and/or from a file, then it probes them periodically (TCP
+ * connect) and emits the same {@link DiscoveryServicesListener} events of the
+ * multicast discovery systems. So, on networks that block multicast, the
+ * {@link JSLLocalClientsMngr} can still find the JOD Objects.
+ * <p>
+ * Each endpoint can be a single host or an IPv4 CIDR range, always followed
+ * by the JOD local server's port. Endpoints are separated by commas or new
+ * lines, lines starting with <code>#</code> are ignored:
+ * <pre>
+ *     192.168.1.10:1234
+ *     jod-kitchen.local:1234
+ *     10.0.0.0/24:1234
+ * </pre>
+ * Endpoints are probed in parallel, by a pool of <code>poolSize</code>
+ * threads. An endpoint that accepts the connection is emitted as discovered
+ * service; a discovered endpoint that stops accepting connections is emitted
+ * as lost service. A discovered endpoint that still accepts connections, but
+ * is no more connected (e.g. the JOD Object restarted), is emitted as
+ * discovered again on each probe round, so the client reconnects to it. Endpoints already connected (or connecting) via any
+ * discovery system are not probed, as reported by the {@link KnownEndpoints}.
+ * <p>
+ * Discovered services are named as the service already known at the same
+ * address and port (e.g. discovered via multicast or cached), so they share
+ * the same connection's state; otherwise, as <code>address:port</code>.
+ * <p>
+ * The endpoints file is checked every {@link #FILE_CHECK_INTERVAL_MS} and,
+ * when it changes, it's reloaded and a new probe round starts immediately.
+ */
+public class JSLLocalStaticDiscovery {
+
+    // Class constants
+
+    public static final String SERVICE_INTF = "static";
+    public static final long FILE_CHECK_INTERVAL_MS = 5000;
+    /**
+     * Max number of hosts expanded from a single CIDR range.
+     */
+    public static final int MAX_CIDR_HOSTS = 65536;
+
+    /**
+     * Endpoints already known by the local communication.
+     */
+    public interface KnownEndpoints {
+
+        /**
+         * @return true if given endpoint is already connected, or connecting,
+         * so it does not need to be probed.
+         */
+        boolean isConnected(InetSocketAddress addr);
+
+        /**
+         * @return the name of the service already known at given endpoint,
+         * null if unknown.
+         */
+        String getServiceName(InetSocketAddress addr);
+
+    }
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLLocalStaticDiscovery.class);
+    private static final String THREAD_NAME = "JSLStaticDiscovery-%d";
+    private final List<String> settingsEndpoints;
+    private final File file;
+    private final int poolSize;
+    private final int probeTimeoutMs;
+    private final int probeIntervalSec;
+    private final KnownEndpoints knownEndpoints;
+    private final List<DiscoveryServicesListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<InetSocketAddress, DiscoveryService> discovered = new ConcurrentHashMap<>();
+    private final AtomicBoolean probing = new AtomicBoolean(false);
+    private volatile List<InetSocketAddress> endpoints = new ArrayList<>();
+    private long fileLastModified = -1;
+    private ScheduledExecutorService scheduler = null;
+    private ExecutorService probers = null;
+
+
+    // Constructor
+
+    /**
+     * @param endpoints        endpoints listed into the JSL settings.
+     * @param file             the endpoints' file, null if not used.
+     * @param poolSize         max number of endpoints probed concurrently.
+     * @param probeTimeoutMs   timeout for each endpoint's probe.
+     * @param probeIntervalSec time between two probe rounds.
+     * @param knownEndpoints   the endpoints already known by the local
+     *                         communication.
+     */
+    public JSLLocalStaticDiscovery(String endpoints, File file, int poolSize, int probeTimeoutMs, int probeIntervalSec, KnownEndpoints knownEndpoints) {
+        if (poolSize < 1)
+            throw new IllegalArgumentException(String.format("Static discovery's pool size must be greater than 0 (current value %d)", poolSize));
+        if (probeIntervalSec < 1)
+            throw new IllegalArgumentException(String.format("Static discovery's probe interval must be greater than 0 (current value %d)", probeIntervalSec));
+        this.settingsEndpoints = splitEndpoints(endpoints);
+        this.file = file;
+        this.poolSize = poolSize;
+        this.probeTimeoutMs = probeTimeoutMs;
+        this.probeIntervalSec = probeIntervalSec;
+        this.knownEndpoints = knownEndpoints;
+    }
+
+
+    // Discovery mngm
+
+    /**
+     * Load the endpoints and start probing them periodically.
+     */
+    public synchronized void start() {
+        if (scheduler != null)
+            return;
+
+        probers = Executors.newFixedThreadPool(poolSize, JSLThreads.newThreadFactory(THREAD_NAME));
+        scheduler = Executors.newSingleThreadScheduledExecutor(JSLThreads.newThreadFactory("JSLStaticDiscoveryScheduler-%d"));
+        reloadEndpoints();
+        scheduler.scheduleWithFixedDelay(this::probeAll, 0, probeIntervalSec, TimeUnit.SECONDS);
+        if (file != null)
+            scheduler.scheduleWithFixedDelay(this::checkFile, FILE_CHECK_INTERVAL_MS, FILE_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        log.debug(String.format("Static discovery started (endpoints: %d, pool size: %d)", endpoints.size(), poolSize));
+    }
+
+    /**
+     * Stop probing the endpoints and forget the discovered services.
+     */
+    public synchronized void stop() {
+        if (scheduler == null)
+            return;
+
+        scheduler.shutdownNow();
+        probers.shutdownNow();
+        scheduler = null;
+        probers = null;
+        discovered.clear();
+        fileLastModified = -1;
+        log.debug("Static discovery stopped");
+    }
+
+    /**
+     * @return true if the endpoints are probed periodically.
+     */
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * @return the endpoints currently probed.
+     */
+    public List<InetSocketAddress> getEndpoints() {
+        return new ArrayList<>(endpoints);
+    }
+
+    /**
+     * @return the services currently discovered.
+     */
+    public List<DiscoveryService> getDiscoveredServices() {
+        return new ArrayList<>(discovered.values());
+    }
+
+
+    // Endpoints
+
+    private void checkFile() {
+        if (file.lastModified() == fileLastModified)
+            return;
+
+        log.info(String.format("Static discovery's endpoints file '%s' changed, reload it", file.getPath()));
+        reloadEndpoints();
+        probeAll();
+    }
+
+    private void reloadEndpoints() {
+        List<String> raw = new ArrayList<>(settingsEndpoints);
+        if (file != null) {
+            fileLastModified = file.lastModified();
+            if (file.exists())
+                try {
+                    raw.addAll(splitEndpoints(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)));
+                } catch (IOException e) {
+                    log.warn(String.format("Error on reading static discovery's endpoints file '%s' because %s", file.getPath(), e.getMessage()));
+                }
+        }
+
+        Set<InetSocketAddress> parsed = new LinkedHashSet<>();
+        for (String endpoint : raw)
+            try {
+                parsed.addAll(parseEndpoint(endpoint));
+            } catch (IllegalArgumentException | UnknownHostException e) {
+                log.warn(String.format("Invalid static discovery's endpoint '%s' because %s, skip it", endpoint, e.getMessage()));
+            }
+        endpoints = new ArrayList<>(parsed);
+
+        // Services no more listed are lost
+        for (InetSocketAddress addr : new ArrayList<>(discovered.keySet()))
+            if (!parsed.contains(addr))
+                emitLost(addr);
+    }
+
+    private static List<String> splitEndpoints(String endpoints) {
+        List<String> list = new ArrayList<>();
+        if (endpoints == null)
+            return list;
+        for (String line : endpoints.split("[\\r\\n]+")) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+            for (String endpoint : line.split(","))
+                if (!endpoint.trim().isEmpty())
+                    list.add(endpoint.trim());
+        }
+        return list;
+    }
+
+    /**
+     * Parse given endpoint (<code>host:port</code> or <code>cidr/prefix:port</code>).
+     */
+    static List<InetSocketAddress> parseEndpoint(String endpoint) throws UnknownHostException {
+        int portIdx = endpoint.lastIndexOf(':');
+        if (portIdx <= 0)
+            throw new IllegalArgumentException("missing port");
+        String host = endpoint.substring(0, portIdx);
+        int port;
+        try {
+            port = Integer.parseInt(endpoint.substring(portIdx + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid port");
+        }
+        if (port < 1 || port > 65535)
+            throw new IllegalArgumentException("port out of range");
+
+        List<InetSocketAddress> list = new ArrayList<>();
+        int prefixIdx = host.indexOf('/');
+        if (prefixIdx < 0) {
+            list.add(new InetSocketAddress(InetAddress.getByName(host), port));
+            return list;
+        }
+
+        InetAddress base = InetAddress.getByName(host.substring(0, prefixIdx));
+        if (!(base instanceof Inet4Address))
+            throw new IllegalArgumentException("only IPv4 CIDR ranges are supported");
+        int prefix;
+        try {
+            prefix = Integer.parseInt(host.substring(prefixIdx + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid CIDR prefix");
+        }
+        if (prefix < 0 || prefix > 32)
+            throw new IllegalArgumentException("CIDR prefix out of range");
+        long size = 1L << (32 - prefix);
+        if (size > MAX_CIDR_HOSTS)
+            throw new IllegalArgumentException(String.format("CIDR range exceed %d hosts", MAX_CIDR_HOSTS));
+
+        byte[] b = base.getAddress();
+        long mask = size == (1L << 32) ? 0 : (0xFFFFFFFFL << (32 - prefix)) & 0xFFFFFFFFL;
+        long network = (((b[0] & 0xFFL) << 24) | ((b[1] & 0xFFL) << 16) | ((b[2] & 0xFFL) << 8) | (b[3] & 0xFFL)) & mask;
+        long first = size > 2 ? network + 1 : network;              // skip network address
+        long last = size > 2 ? network + size - 2 : network + size - 1;  // skip broadcast address
+        for (long a = first; a <= last; a++)
+            list.add(new InetSocketAddress(InetAddress.getByAddress(new byte[]{(byte) (a >> 24), (byte) (a >> 16), (byte) (a >> 8), (byte) a}), port));
+        return list;
+    }
+
+
+    // Probing
+
+    private void probeAll() {
+        if (!probing.compareAndSet(false, true))
+            return;     // previous round still running
+
+        try {
+            ExecutorService pool = probers;
+            if (pool == null)
+                return;
+
+            List<InetSocketAddress> toProbe = new ArrayList<>();
+            for (InetSocketAddress addr : endpoints)
+                if (!knownEndpoints.isConnected(addr))
+                    toProbe.add(addr);
+            CountDownLatch done = new CountDownLatch(toProbe.size());
+            for (InetSocketAddress addr : toProbe)
+                try {
+                    pool.execute(() -> {
+                        try {
+                            probe(addr);
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    return;     // discovery stopped
+                }
+            done.await();
+
+        } catch (InterruptedException ignore) {
+            Thread.currentThread().interrupt();
+        } finally {
+            probing.set(false);
+        }
+    }
+
+    private void probe(InetSocketAddress addr) {
+        boolean reachable;
+        try (Socket socket = new Socket()) {
+            socket.connect(addr, probeTimeoutMs);
+            reachable = true;
+        } catch (IOException e) {
+            reachable = false;
+        }
+
+        if (reachable && !discovered.containsKey(addr))
+            emitDiscovered(addr);
+        else if (reachable && !knownEndpoints.isConnected(addr))
+            // Discovered but not connected: the connection failed or was
+            // closed, so the service must be reported again
+            emitRediscovered(addr);
+        else if (!reachable && discovered.containsKey(addr))
+            emitLost(addr);
+    }
+
+
+    // Listeners
+
+    /**
+     * Add given listener to the discovery's events.
+     */
+    public void addListener(DiscoveryServicesListener listener) {
+        if (listeners.contains(listener))
+            return;
+
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove given listener from the discovery's events.
+     */
+    public void removeListener(DiscoveryServicesListener listener) {
+        if (!listeners.contains(listener))
+            return;
+
+        listeners.remove(listener);
+    }
+
+    private void emitDiscovered(InetSocketAddress addr) {
+        String name = knownEndpoints.getServiceName(addr);
+        if (name == null)
+            name = String.format("%s:%d", addr.getAddress().getHostAddress(), addr.getPort());
+        DiscoveryService srv = new DiscoveryService(name, JOSPProtocol.DISCOVERY_TYPE, SERVICE_INTF, addr.getAddress(), addr.getPort(), null);
+        if (discovered.putIfAbsent(addr, srv) != null)
+            return;
+
+        for (DiscoveryServicesListener l : listeners)
+            l.onServiceDiscovered(srv);
+    }
+
+    private void emitRediscovered(InetSocketAddress addr) {
+        DiscoveryService srv = discovered.get(addr);
+        if (srv == null)
+            return;
+
+        log.debug(String.format("Static discovery's endpoint '%s:%d' reachable but not connected, emit it again", addr.getAddress().getHostAddress(), addr.getPort()));
+        for (DiscoveryServicesListener l : listeners)
+            l.onServiceDiscovered(srv);
+    }
+
+    private void emitLost(InetSocketAddress addr) {
+        DiscoveryService srv = discovered.remove(addr);
+        if (srv == null)
+            return;
+
+        for (DiscoveryServicesListener l : listeners)
+            l.onServiceLost(srv);
+    }
+
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Cache of the transport capabilities of the JOD Object's local servers.
+ * <p>
+ * For each discovered service, identified by his name, this cache remembers
+ * whether the last successful connection used an encrypted (SSL) or a plain
+ * transport, if the server shared his certificate and the achieved security
+ * level. So, on re-connection, the {@link JSLLocalClientsMngr} can go straight
+ * to the known-good transport instead of waiting for an SSL handshake to fail.
+ * <p>
+ * When a file is given, the cache is loaded on creation and, when an entry
+ * changes, it's stored in background by a {@link JSLLocalFileWriter}
+ * (batched and atomic writes). Otherwise, it's kept only in memory.
+ */
+public class JSLLocalTransportCache {
+
+    // Class constants
+
+    /**
+     * Min time between two re-probes of a stronger transport for the same service.
+     */
+    public static final long REPROBE_INTERVAL_MS = 60 * 60 * 1000;
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLLocalTransportCache.class);
+    private final File file;
+    private final JSLLocalFileWriter writer;
+    private final ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final Map<String, TransportCapability> capabilities = new HashMap<>();
+
+
+    // Constructor
+
+    /**
+     * @param file the file used to persist the cache, null to keep the cache
+     *             only in memory.
+     */
+    public JSLLocalTransportCache(File file) {
+        this.file = file;
+        this.writer = file != null ? new JSLLocalFileWriter(file, this::writeContent) : null;
+        load();
+    }
+
+
+    // Getters and setters
+
+    /**
+     * @param srvName the discovered service's name.
+     * @return the transport capability known for given service, null if unknown.
+     */
+    public synchronized TransportCapability get(String srvName) {
+        return capabilities.get(srvName);
+    }
+
+    /**
+     * Store the transport capability of given connected client.
+     *
+     * @param srvName the discovered service's name.
+     * @param client  the connected client.
+     */
+    public synchronized void update(String srvName, JSLLocalClient client) {
+        TransportCapability old = capabilities.get(srvName);
+        boolean ssl = client instanceof JSLLocalClientSSLShare;
+        boolean certSharing = ssl && ((JSLLocalClientSSLShare) client).isServerSSLShare();
+        if (ssl && !certSharing && old != null && old.ssl && old.certTrusted)
+            certSharing = old.certSharing;  // sharing skipped because certificate already trusted
+        String securityLevel = client.getSecurityLevel().toString();
+
+        if (old != null && old.ssl == ssl && old.certSharing == certSharing && securityLevel.equals(old.securityLevel))
+            return;
+
+        TransportCapability cap = new TransportCapability();
+        cap.ssl = ssl;
+        cap.certSharing = certSharing;
+        cap.securityLevel = securityLevel;
+        cap.certTrusted = old != null && old.certTrusted && ssl;
+        cap.lastProbe = old != null ? old.lastProbe : 0;
+        capabilities.put(srvName, cap);
+        log.debug(String.format("Updated transport capability for service '%s' (ssl: %b, certSharing: %b, level: %s)", srvName, ssl, certSharing, securityLevel));
+        store();
+    }
+
+    /**
+     * Remember that the certificate of given service's server is stored as
+     * trusted certificate, so next connections can skip the certificate sharing.
+     *
+     * @param srvName     the discovered service's name.
+     * @param certTrusted true if the server's certificate is stored as trusted.
+     */
+    public synchronized void setCertTrusted(String srvName, boolean certTrusted) {
+        TransportCapability cap = capabilities.get(srvName);
+        if (cap == null || cap.certTrusted == certTrusted)
+            return;
+
+        cap.certTrusted = certTrusted;
+        store();
+    }
+
+    /**
+     * Remove the transport capability known for given service.
+     *
+     * @param srvName the discovered service's name.
+     */
+    public synchronized void invalidate(String srvName) {
+        if (capabilities.remove(srvName) == null)
+            return;
+
+        log.debug(String.format("Invalidated transport capability for service '%s'", srvName));
+        store();
+    }
+
+    /**
+     * Check if the stronger transport should be re-probed for given service
+     * and, if so, register the probe time.
+     *
+     * @param srvName the discovered service's name.
+     * @return true if the caller should re-probe the stronger transport.
+     */
+    public synchronized boolean checkAndSetReProbe(String srvName) {
+        TransportCapability cap = capabilities.get(srvName);
+        if (cap == null || cap.ssl)
+            return false;
+
+        long now = System.currentTimeMillis();
+        if (now - cap.lastProbe < REPROBE_INTERVAL_MS)
+            return false;
+
+        cap.lastProbe = now;
+        return true;
+    }
+
+
+    // Persistence
+
+    private void load() {
+        if (file == null || !file.exists())
+            return;
+
+        try {
+            Map<String, TransportCapability> loaded = mapper.readValue(file, new TypeReference<Map<String, TransportCapability>>() {});
+            capabilities.putAll(loaded);
+            log.debug(String.format("Loaded %d transport capabilities from '%s'", loaded.size(), file.getPath()));
+
+        } catch (IOException e) {
+            log.warn(String.format("Error on loading transport capabilities from '%s' because %s, ignore it", file.getPath(), e.getMessage()));
+        }
+    }
+
+    private void store() {
+        if (writer != null)
+            writer.requestWrite();
+    }
+
+    private void writeContent(OutputStream out) throws IOException {
+        byte[] content;
+        synchronized (this) {
+            content = mapper.writeValueAsBytes(capabilities);
+        }
+        out.write(content);
+    }
+
+    /**
+     * Write pending changes to the cache's file.
+     */
+    public void flush() {
+        if (writer != null)
+            writer.flush();
+    }
+
+
+    // Cache entry
+
+    /**
+     * Transport capability of a JOD Object's local server.
+     */
+    public static class TransportCapability {
+
+        /**
+         * true if last connection used an encrypted transport.
+         */
+        public boolean ssl;
+        /**
+         * true if the server shared his certificate on last connection.
+         */
+        public boolean certSharing;
+        /**
+         * Security level achieved by last connection.
+         */
+        public String securityLevel;
+        /**
+         * true if the server's certificate is stored as trusted certificate.
+         */
+        public boolean certTrusted;
+        /**
+         * Last time (millis) a stronger transport was re-probed.
+         */
+        public long lastProbe;
+
+    }
+
+}
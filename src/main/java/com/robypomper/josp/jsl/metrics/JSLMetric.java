@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+
+/**
+ * Base class for the metrics registered into the {@link JSLMetrics} registry.
+ * <p>
+ * Each metric is identified by his name and his labels. Metrics with the same
+ * name (but different labels) belong to the same family and share the same
+ * type and description.
+ */
+public abstract class JSLMetric {
+
+    // Internal vars
+
+    private final String name;
+    private final Map<String, String> labels;
+    private final String key;
+
+
+    // Constructor
+
+    protected JSLMetric(String name, Map<String, String> labels) {
+        this.name = name;
+        this.labels = Collections.unmodifiableMap(labels);
+        this.key = JSLMetrics.toKey(name, labels);
+    }
+
+
+    // Getters
+
+    /**
+     * @return the metric's family name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the metric's labels, in registration order.
+     */
+    public Map<String, String> getLabels() {
+        return labels;
+    }
+
+    /**
+     * @return the metric's unique key, formatted as
+     * <code>name{label="value",...}</code>.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return the metric's type.
+     */
+    public abstract JSLMetrics.Type getType();
+
+}
@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+
+/**
+ * Registry for the JSL internal metrics.
+ * <p>
+ * Metrics are registered on first request (get-or-create) and identified by
+ * their name and labels, passed as key/value pairs like
+ * <code>counter(MSG_IN, "Messages received", LABEL_LINK, LINK_LOCAL)</code>.
+ * Requesting an already registered metric returns the same instance, so
+ * callers on the hot paths should keep the returned reference instead of
+ * looking it up for each event.
+ * <p>
+ * Metrics names follow the Prometheus conventions (<code>snake_case</code>,
+ * <code>_total</code> suffix for counters and <code>_seconds</code> for
+ * latency histograms), so they can be exported as they are by the
+ * {@link JSLMetricsPrometheusExporter}.
+ */
+public class JSLMetrics {
+
+    // Class constants
+
+    /**
+     * Processing time of the messages received from the objects, by message type.
+     */
+    public static final String MSG_PROCESSING = "jsl_msg_processing_seconds";
+    /**
+     * Messages received from the objects, by link.
+     */
+    public static final String MSG_IN = "jsl_msg_in_total";
+    /**
+     * Messages sent to the objects, by link.
+     */
+    public static final String MSG_OUT = "jsl_msg_out_total";
+    /**
+     * Messages received from the objects and not processed, by link.
+     */
+    public static final String MSG_ERRORS = "jsl_msg_errors_total";
+    /**
+     * Items waiting into the JSL internal queues, by queue.
+     */
+    public static final String QUEUE_DEPTH = "jsl_queue_depth";
+    /**
+     * Durations of the local connections phases, by phase: <code>connect</code>
+     * (from service discovered to connection established), <code>objId</code>
+     * (from connection established to object's id received) and
+     * <code>ready</code> (from connection established to remote object ready).
+     */
+    public static final String LOCAL_PHASE = "jsl_local_phase_seconds";
+    /**
+     * Connected connections, by link.
+     */
+    public static final String CONNECTIONS = "jsl_connections";
+    /**
+     * Connections established to already known objects (local) or after the
+     * first connection (cloud), by link.
+     */
+    public static final String RECONNECTS = "jsl_reconnects_total";
+    /**
+     * Connections closed, by link.
+     */
+    public static final String DISCONNECTS = "jsl_disconnects_total";
+    /**
+     * Warm-standby connections promoted after an active connection drop.
+     */
+    public static final String LOCAL_FAILOVERS = "jsl_local_failovers_total";
+    /**
+     * Latencies of the warm-standby connections promotions, from the active
+     * connection drop to the backup promotion.
+     */
+    public static final String LOCAL_FAILOVER_LATENCY = "jsl_local_failover_seconds";
+    /**
+     * Objects with the local connections governor's circuit not closed.
+     */
+    public static final String LOCAL_GOVERNOR_OPEN = "jsl_local_governor_open_circuits";
+    /**
+     * Local connection attempts allowed by the governor.
+     */
+    public static final String LOCAL_GOVERNOR_ATTEMPTS = "jsl_local_governor_attempts_total";
+    /**
+     * Local connection attempts rejected by the governor.
+     */
+    public static final String LOCAL_GOVERNOR_REJECTED = "jsl_local_governor_rejected_total";
+    /**
+     * Local connections governor's circuits opened.
+     */
+    public static final String LOCAL_GOVERNOR_OPENED = "jsl_local_governor_opened_total";
+    /**
+     * State updates received, by object.
+     */
+    public static final String OBJ_UPDATES = "jsl_obj_state_updates_total";
+
+    public static final String LABEL_TYPE = "type";
+    public static final String LABEL_LINK = "link";
+    public static final String LABEL_QUEUE = "queue";
+    public static final String LABEL_PHASE = "phase";
+    public static final String LABEL_OBJ = "obj";
+    public static final String LINK_LOCAL = "local";
+    public static final String LINK_CLOUD = "cloud";
+
+
+    // Internal vars
+
+    private final Map<String, JSLMetric> metrics = new ConcurrentHashMap<>();
+    private final Map<String, String> descriptions = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+
+
+    // Metrics registration
+
+    /**
+     * @param name   the counter's name.
+     * @param descr  the counter's family description, used only on first
+     *               registration of the family.
+     * @param labels the counter's labels, as key/value pairs.
+     * @return the registered counter.
+     */
+    public JSLMetricsCounter counter(String name, String descr, String... labels) {
+        Map<String, String> labelsMap = toLabels(labels);
+        return (JSLMetricsCounter) register(name, descr, labelsMap, JSLMetricsCounter.class, () -> new JSLMetricsCounter(name, labelsMap));
+    }
+
+    /**
+     * @param name   the histogram's name.
+     * @param descr  the histogram's family description, used only on first
+     *               registration of the family.
+     * @param labels the histogram's labels, as key/value pairs.
+     * @return the registered histogram.
+     */
+    public JSLMetricsHistogram histogram(String name, String descr, String... labels) {
+        Map<String, String> labelsMap = toLabels(labels);
+        return (JSLMetricsHistogram) register(name, descr, labelsMap, JSLMetricsHistogram.class, () -> new JSLMetricsHistogram(name, labelsMap));
+    }
+
+    /**
+     * Register a gauge that reads his value from given supplier.
+     * <p>
+     * If a gauge with the same name and labels was already registered, it's
+     * returned and given supplier is ignored.
+     *
+     * @param name     the gauge's name.
+     * @param descr    the gauge's family description, used only on first
+     *                 registration of the family.
+     * @param supplier the gauge's value supplier, it must be thread-safe.
+     * @param labels   the gauge's labels, as key/value pairs.
+     * @return the registered gauge.
+     */
+    public JSLMetricsGauge gauge(String name, String descr, Supplier<? extends Number> supplier, String... labels) {
+        Map<String, String> labelsMap = toLabels(labels);
+        return (JSLMetricsGauge) register(name, descr, labelsMap, JSLMetricsGauge.class, () -> new JSLMetricsGauge(name, labelsMap, supplier));
+    }
+
+    /**
+     * Remove the metric with given name and labels, if any.
+     *
+     * @param name   the metric's name.
+     * @param labels the metric's labels, as key/value pairs.
+     */
+    public void remove(String name, String... labels) {
+        metrics.remove(toKey(name, toLabels(labels)));
+    }
+
+    private JSLMetric register(String name, String descr, Map<String, String> labels, Class<? extends JSLMetric> type, Supplier<JSLMetric> factory) {
+        JSLMetric metric = metrics.computeIfAbsent(toKey(name, labels), k -> {
+            descriptions.putIfAbsent(name, descr);
+            return factory.get();
+        });
+        if (!type.isInstance(metric))
+            throw new IllegalArgumentException(String.format("Metric '%s' already registered as %s", metric.getKey(), metric.getType()));
+        return metric;
+    }
+
+
+    // Getters
+
+    /**
+     * @return all registered metrics, sorted by key.
+     */
+    public List<JSLMetric> getMetrics() {
+        List<JSLMetric> list = new ArrayList<>(metrics.values());
+        list.sort(Comparator.comparing(JSLMetric::getKey));
+        return list;
+    }
+
+    /**
+     * @return all registered metrics of given family, sorted by key.
+     */
+    public List<JSLMetric> getMetrics(String name) {
+        List<JSLMetric> list = new ArrayList<>();
+        for (JSLMetric m : getMetrics())
+            if (m.getName().equals(name))
+                list.add(m);
+        return list;
+    }
+
+    /**
+     * @return the description of given family, or an empty string if unknown.
+     */
+    public String getDescription(String name) {
+        return descriptions.getOrDefault(name, "");
+    }
+
+    /**
+     * @return the milliseconds elapsed since the registry's creation.
+     */
+    public long getUptimeMs() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+
+    // Utils
+
+    private static Map<String, String> toLabels(String... labels) {
+        if (labels.length % 2 != 0)
+            throw new IllegalArgumentException("Metric's labels must be key/value pairs");
+
+        Map<String, String> map = new LinkedHashMap<>();
+        for (int i = 0; i < labels.length; i += 2)
+            map.put(labels[i], labels[i + 1]);
+        return map;
+    }
+
+    static String toKey(String name, Map<String, String> labels) {
+        if (labels.isEmpty())
+            return name;
+
+        StringBuilder sb = new StringBuilder(name).append('{');
+        boolean first = true;
+        for (Map.Entry<String, String> l : labels.entrySet()) {
+            if (!first) sb.append(',');
+            sb.append(l.getKey()).append("=\"").append(escapeLabelValue(l.getValue())).append('"');
+            first = false;
+        }
+        return sb.append('}').toString();
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+
+    // Metrics types
+
+    public enum Type {
+        COUNTER,
+        GAUGE,
+        HISTOGRAM
+    }
+
+}
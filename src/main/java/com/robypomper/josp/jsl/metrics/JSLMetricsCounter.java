@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.metrics;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Monotonic counter, with his 1 minute rate.
+ * <p>
+ * Increments are lock-free ({@link LongAdder}). The rate is an exponentially
+ * weighted moving average updated every {@link #TICK_INTERVAL_SEC} seconds,
+ * on increments and reads, by the first thread that detects the elapsed
+ * interval.
+ */
+public class JSLMetricsCounter extends JSLMetric {
+
+    // Class constants
+
+    public static final int TICK_INTERVAL_SEC = 5;
+    private static final long TICK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(TICK_INTERVAL_SEC);
+    private static final double RATE_ALPHA = 1 - Math.exp(-TICK_INTERVAL_SEC / 60.0);
+
+
+    // Internal vars
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder uncounted = new LongAdder();
+    private final AtomicLong lastTick = new AtomicLong(System.nanoTime());
+    private volatile boolean rateInit = false;
+    private volatile double rate = 0;
+
+
+    // Constructor
+
+    JSLMetricsCounter(String name, Map<String, String> labels) {
+        super(name, labels);
+    }
+
+
+    // Counter mngm
+
+    /**
+     * Increment the counter by 1.
+     */
+    public void inc() {
+        add(1);
+    }
+
+    /**
+     * Increment the counter by given value.
+     *
+     * @param value the value to add, must be positive.
+     */
+    public void add(long value) {
+        tickIfNecessary();
+        count.add(value);
+        uncounted.add(value);
+    }
+
+
+    // Getters
+
+    @Override
+    public JSLMetrics.Type getType() {
+        return JSLMetrics.Type.COUNTER;
+    }
+
+    /**
+     * @return the counter's value.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the 1 minute moving average rate, as events per second.
+     */
+    public double getRate() {
+        tickIfNecessary();
+        return rate;
+    }
+
+    private void tickIfNecessary() {
+        long last = lastTick.get();
+        long now = System.nanoTime();
+        long age = now - last;
+        if (age < TICK_INTERVAL_NANOS)
+            return;
+
+        long ticks = age / TICK_INTERVAL_NANOS;
+        if (!lastTick.compareAndSet(last, last + ticks * TICK_INTERVAL_NANOS))
+            return;     // another thread is ticking
+
+        double r = rate;
+        for (long i = 0; i < ticks; i++) {
+            double instantRate = (i == 0 ? uncounted.sumThenReset() : 0) / (double) TICK_INTERVAL_SEC;
+            if (rateInit)
+                r += RATE_ALPHA * (instantRate - r);
+            else {
+                r = instantRate;
+                rateInit = true;
+            }
+        }
+        rate = r;
+    }
+
+}
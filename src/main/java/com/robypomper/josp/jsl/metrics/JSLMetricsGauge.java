@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.metrics;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+
+/**
+ * Gauge, the value is read from his supplier each time it's requested.
+ */
+public class JSLMetricsGauge extends JSLMetric {
+
+    // Internal vars
+
+    private final Supplier<? extends Number> supplier;
+
+
+    // Constructor
+
+    JSLMetricsGauge(String name, Map<String, String> labels, Supplier<? extends Number> supplier) {
+        super(name, labels);
+        this.supplier = supplier;
+    }
+
+
+    // Getters
+
+    @Override
+    public JSLMetrics.Type getType() {
+        return JSLMetrics.Type.GAUGE;
+    }
+
+    /**
+     * @return the current gauge's value, or <code>NaN</code> if the supplier
+     * fails or returns null.
+     */
+    public double getValue() {
+        try {
+            Number value = supplier.get();
+            return value != null ? value.doubleValue() : Double.NaN;
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+}
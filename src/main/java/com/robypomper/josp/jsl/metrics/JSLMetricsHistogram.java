@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.metrics;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Latency histogram with log-linear buckets (HDR-style).
+ * <p>
+ * Values (in nanoseconds) are counted into buckets: values lower than
+ * <code>2 * {@link #SUB_BUCKETS}</code> have their own bucket, greater values
+ * share buckets with a relative width of <code>1 / {@link #SUB_BUCKETS}</code>
+ * (~3% precision). So the whole <code>long</code> range is covered with a
+ * fixed and small memory footprint.
+ * <p>
+ * Recording is lock-free and doesn't allocate, so it can be used on the
+ * message processing paths. Percentiles are computed on read, from a
+ * non-atomic snapshot of the buckets.
+ */
+public class JSLMetricsHistogram extends JSLMetric {
+
+    // Class constants
+
+    private static final int SUB_BUCKETS_BITS = 5;
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKETS_BITS;
+    private static final int BUCKETS_COUNT = bucketIndex(Long.MAX_VALUE) + 1;
+
+
+    // Internal vars
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+
+    // Constructor
+
+    JSLMetricsHistogram(String name, Map<String, String> labels) {
+        super(name, labels);
+    }
+
+
+    // Histogram mngm
+
+    /**
+     * Record given value.
+     *
+     * @param nanos the value to record, in nanoseconds. Negative values are
+     *              recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucketIndex(value));
+        count.increment();
+        sum.add(value);
+        long m;
+        while (value > (m = max.get()))
+            if (max.compareAndSet(m, value))
+                break;
+    }
+
+    /**
+     * Record the time elapsed since given start time.
+     *
+     * @param startNanos the start time, as returned by {@link System#nanoTime()}.
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+
+    // Getters
+
+    @Override
+    public JSLMetrics.Type getType() {
+        return JSLMetrics.Type.HISTOGRAM;
+    }
+
+    /**
+     * @return the number of recorded values.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of recorded values, in nanoseconds.
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * @return the max recorded value, in nanoseconds.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of recorded values, in nanoseconds; 0 if none.
+     */
+    public double getMean() {
+        long c = getCount();
+        return c == 0 ? 0 : getSum() / (double) c;
+    }
+
+    /**
+     * @param percentile the requested percentile, from 0 to 100.
+     * @return the value (upper bound of his bucket, in nanoseconds) at given
+     * percentile; 0 if none.
+     */
+    public long getPercentile(double percentile) {
+        long[] snapshot = new long[BUCKETS_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0)
+            return 0;
+
+        long target = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target)
+                return Math.min(bucketUpperBound(i), getMax());
+        }
+        return getMax();
+    }
+
+
+    // Buckets
+
+    private static int bucketIndex(long value) {
+        int magnitude = 63 - Long.numberOfLeadingZeros(value | 1);
+        int shift = Math.max(0, magnitude - SUB_BUCKETS_BITS);
+        return (shift << SUB_BUCKETS_BITS) + (int) (value >>> shift);
+    }
+
+    private static long bucketUpperBound(int index) {
+        int shift = Math.max(0, (index >>> SUB_BUCKETS_BITS) - 1);
+        long base = index - ((long) shift << SUB_BUCKETS_BITS);
+        return ((base + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.metrics;
+
+import com.robypomper.josp.jsl.JSLThreads;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * Minimal HTTP server that exposes a {@link JSLMetrics} registry using the
+ * Prometheus text exposition format (version 0.0.4).
+ * <p>
+ * Metrics are served at the {@link #PATH} path. Histograms are exported as
+ * Prometheus summaries, with the {@link #QUANTILES} quantiles and all values
+ * converted in seconds.
+ * <p>
+ * By default, the server is bound to the loopback address, so the metrics
+ * are reachable only from the local host.
+ */
+public class JSLMetricsPrometheusExporter {
+
+    // Class constants
+
+    public static final String PATH = "/metrics";
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    public static final double[] QUANTILES = new double[]{0.5, 0.9, 0.99};
+    private static final String THREAD_NAME = "JSLMetricsExporter-%d";
+
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLMetricsPrometheusExporter.class);
+    private final JSLMetrics metrics;
+    private final InetAddress address;
+    private final int port;
+    private HttpServer server = null;
+    private ExecutorService executor = null;
+
+
+    // Constructor
+
+    /**
+     * @param metrics the metrics registry to export.
+     * @param address the address to bind the server to.
+     * @param port    the port to bind the server to, 0 for a random port.
+     */
+    public JSLMetricsPrometheusExporter(JSLMetrics metrics, InetAddress address, int port) {
+        this.metrics = metrics;
+        this.address = address;
+        this.port = port;
+    }
+
+
+    // Server mngm
+
+    /**
+     * Start the HTTP server, if not already started.
+     */
+    public synchronized void start() throws IOException {
+        if (server != null)
+            return;
+
+        HttpServer s = HttpServer.create(new InetSocketAddress(address, port), 0);
+        s.createContext(PATH, this::handle);
+        executor = Executors.newSingleThreadExecutor(JSLThreads.newThreadFactory(THREAD_NAME));
+        s.setExecutor(executor);
+        s.start();
+        server = s;
+        log.info(String.format("Prometheus metrics exporter started at 'http://%s:%d%s'", address.getHostAddress(), getPort(), PATH));
+    }
+
+    /**
+     * Stop the HTTP server, if started.
+     */
+    public synchronized void stop() {
+        if (server == null)
+            return;
+
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+        executor = null;
+        log.info("Prometheus metrics exporter stopped");
+    }
+
+    /**
+     * @return true if the HTTP server is started.
+     */
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * @return the port the server is bound to, or the configured port if not
+     * started.
+     */
+    public synchronized int getPort() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = format(metrics).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+
+        } finally {
+            exchange.close();
+        }
+    }
+
+
+    // Text format
+
+    /**
+     * @param metrics the metrics registry to format.
+     * @return the registry's metrics using the Prometheus text exposition
+     * format.
+     */
+    public static String format(JSLMetrics metrics) {
+        Map<String, StringBuilder> families = new LinkedHashMap<>();
+        for (JSLMetric m : metrics.getMetrics()) {
+            StringBuilder sb = families.get(m.getName());
+            if (sb == null) {
+                sb = new StringBuilder();
+                sb.append("# HELP ").append(m.getName()).append(' ').append(escapeHelp(metrics.getDescription(m.getName()))).append('\n');
+                sb.append("# TYPE ").append(m.getName()).append(' ').append(toPrometheusType(m.getType())).append('\n');
+                families.put(m.getName(), sb);
+            }
+            formatMetric(sb, m);
+        }
+
+        StringBuilder out = new StringBuilder();
+        for (StringBuilder sb : families.values())
+            out.append(sb);
+        return out.toString();
+    }
+
+    private static void formatMetric(StringBuilder sb, JSLMetric m) {
+        if (m instanceof JSLMetricsCounter)
+            appendSample(sb, m.getKey(), ((JSLMetricsCounter) m).getCount());
+
+        else if (m instanceof JSLMetricsGauge)
+            appendSample(sb, m.getKey(), ((JSLMetricsGauge) m).getValue());
+
+        else if (m instanceof JSLMetricsHistogram) {
+            JSLMetricsHistogram h = (JSLMetricsHistogram) m;
+            for (double q : QUANTILES) {
+                Map<String, String> labels = new LinkedHashMap<>(m.getLabels());
+                labels.put("quantile", Double.toString(q));
+                appendSample(sb, JSLMetrics.toKey(m.getName(), labels), toSeconds(h.getPercentile(q * 100)));
+            }
+            appendSample(sb, JSLMetrics.toKey(m.getName() + "_sum", m.getLabels()), toSeconds(h.getSum()));
+            appendSample(sb, JSLMetrics.toKey(m.getName() + "_count", m.getLabels()), h.getCount());
+        }
+    }
+
+    private static void appendSample(StringBuilder sb, String key, double value) {
+        sb.append(key).append(' ').append(formatValue(value)).append('\n');
+    }
+
+    /**
+     * Format given value as Prometheus float: infinite values are written as
+     * <code>+Inf</code> and <code>-Inf</code> (the same literals used by the
+     * <code>le</code> label), not as Java's <code>Infinity</code>.
+     */
+    static String formatValue(double value) {
+        if (Double.isNaN(value))
+            return "NaN";
+        if (value == Double.POSITIVE_INFINITY)
+            return "+Inf";
+        if (value == Double.NEGATIVE_INFINITY)
+            return "-Inf";
+        if (value == Math.rint(value) && Math.abs(value) < 1e15)
+            return Long.toString((long) value);
+        return String.format(Locale.ROOT, "%.9g", value);
+    }
+
+    private static String toPrometheusType(JSLMetrics.Type type) {
+        switch (type) {
+            case COUNTER:
+                return "counter";
+            case HISTOGRAM:
+                return "summary";
+            case GAUGE:
+            default:
+                return "gauge";
+        }
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+    private static double toSeconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+}
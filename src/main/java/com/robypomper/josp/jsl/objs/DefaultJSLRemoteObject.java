@@ -159,7 +159,7 @@ public class DefaultJSLRemoteObject implements JSLRemoteObject {
         else if (JOSPProtocol_ObjectToService.isObjectStructMsg(msg))
             return ((DefaultObjStruct) getStruct()).processObjectStructMsg(msg);
         else if (JOSPProtocol_ObjectToService.isObjectStateUpdMsg(msg))
-            return ((DefaultObjStruct) getStruct()).processObjectUpdMsg(msg);
+            return ((DefaultObjStruct) getStruct()).processObjectUpdMsg(msg, connType);
         else if (JOSPProtocol_ObjectToService.isHistoryResMsg(msg))
             return ((DefaultObjStruct) getStruct()).processHistoryCompStatusMsg(msg);
         else if (JOSPProtocol_ObjectToService.isEventsResMsg(msg))
@@ -91,6 +91,19 @@ public interface JSLObjsMngr {
      */
     JSLRemoteObject createNewRemoteObject(JSLLocalClient objectConnection, String remoteObjId);
 
+    /**
+     * Get the {@link JSLRemoteObject} with given id or, if it's unknown, create
+     * a new one.
+     * <p>
+     * The lookup and the creation are executed atomically, so concurrent
+     * connections to the same JOD Object always get the same instance.
+     *
+     * @param objectConnection the open local connection to JOD object.
+     * @param remoteObjId      the object's id that the local connection is connected
+     * @return the existing or created object.
+     */
+    JSLRemoteObject getOrCreateRemoteObject(JSLLocalClient objectConnection, String remoteObjId);
+
 
     // Connections mngm
 
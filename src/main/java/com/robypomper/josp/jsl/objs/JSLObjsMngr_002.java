@@ -18,10 +18,13 @@
 
 package com.robypomper.josp.jsl.objs;
 
+import com.robypomper.josp.jsl.JSLEventBus;
 import com.robypomper.josp.jsl.JSLSettings_002;
+import com.robypomper.josp.jsl.JSLThreads;
 import com.robypomper.josp.jsl.comm.JSLCommunication;
 import com.robypomper.josp.jsl.comm.JSLLocalClient;
 import com.robypomper.josp.jsl.objs.remote.DefaultObjComm;
+import com.robypomper.josp.jsl.objs.remote.DefaultObjPerms;
 import com.robypomper.josp.jsl.objs.remote.ObjPerms;
 import com.robypomper.josp.jsl.objs.structure.AbsJSLState;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
@@ -33,6 +36,11 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -45,9 +53,19 @@ public class JSLObjsMngr_002 implements JSLObjsMngr {
     private static final Logger log = LoggerFactory.getLogger(JSLObjsMngr_002.class);
     private final JSLSettings_002 locSettings;
     private final JSLServiceInfo srvInfo;
-    private final List<JSLRemoteObject> objs = new ArrayList<>();
+    /**
+     * Known objects. Reads don't require any lock, while compound operations
+     * (like lookup and creation) are synchronized on this list.
+     */
+    private final List<JSLRemoteObject> objs = new CopyOnWriteArrayList<>();
     private JSLCommunication communication = null;
-    private final List<ObjsMngrListener> listeners = new ArrayList<>();
+    private final List<ObjsMngrListener> listeners = new CopyOnWriteArrayList<>();
+    /**
+     * Objects waiting for the permissions of the new service's identity,
+     * after a user's login/logout.
+     */
+    private final Set<JSLRemoteObject> awaitingPermsObjs = ConcurrentHashMap.newKeySet();
+    private ScheduledFuture<?> awaitingPermsTask = null;
 
 
     // Constructor
@@ -127,19 +145,6 @@ public class JSLObjsMngr_002 implements JSLObjsMngr {
     }
 
 
-    // Object's mngm
-
-    private void resetAllObjects() {
-        synchronized (objs) {
-            List<JSLRemoteObject> tmpList = new ArrayList<>(objs);
-            for (JSLRemoteObject obj : tmpList) {
-                objs.remove(obj);
-                emit_ObjRemoved(obj);
-            }
-        }
-    }
-
-
     // Connections mngm
 
     /**
@@ -162,6 +167,27 @@ public class JSLObjsMngr_002 implements JSLObjsMngr {
         return remObj;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JSLRemoteObject getOrCreateRemoteObject(JSLLocalClient objectConnection, String remoteObjId) {
+        JSLRemoteObject remObj;
+        synchronized (objs) {
+            remObj = getById(remoteObjId);
+            if (remObj != null)
+                return remObj;
+
+            log.debug(String.format("Register new object '%s' with connection (%s:%d) from '%s' service", remoteObjId, objectConnection.getSocket().getInetAddress(), objectConnection.getSocket().getPort(), srvInfo.getSrvId()));
+            remObj = new DefaultJSLRemoteObject(srvInfo, remoteObjId, communication);
+            remObj.getPerms().addListener(objectPermsListener);
+            objs.add(remObj);
+        }
+
+        emit_ObjAdded(remObj);
+        return remObj;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -223,11 +249,15 @@ public class JSLObjsMngr_002 implements JSLObjsMngr {
      */
     @Override
     public void addCloudObject(String objId) {
-        assert getById(objId) == null;
-        log.info(String.format("Register new cloud object '%s' to '%s' service", objId, srvInfo.getSrvId()));
-        JSLRemoteObject remObj = new DefaultJSLRemoteObject(srvInfo, objId, communication);
-        objs.add(remObj);
-        remObj.getPerms().addListener(objectPermsListener);
+        JSLRemoteObject remObj;
+        synchronized (objs) {
+            if (getById(objId) != null)
+                return;     // registered meanwhile by a local connection
+            log.info(String.format("Register new cloud object '%s' to '%s' service", objId, srvInfo.getSrvId()));
+            remObj = new DefaultJSLRemoteObject(srvInfo, objId, communication);
+            remObj.getPerms().addListener(objectPermsListener);
+            objs.add(remObj);
+        }
         emit_ObjAdded(remObj);
     }
 
@@ -249,15 +279,23 @@ public class JSLObjsMngr_002 implements JSLObjsMngr {
     }
 
     private void emit_ObjAdded(JSLRemoteObject obj) {
-        for (ObjsMngrListener l : listeners)
-            l.onObjAdded(obj);
+        JSLEventBus.publish(emit_ObjAddedHandler, obj);
     }
 
-    private void emit_ObjRemoved(JSLRemoteObject obj) {
+    private final JSLEventBus.Handler emit_ObjAddedHandler = (o1, o2, o3, d1, d2) -> {
         for (ObjsMngrListener l : listeners)
-            l.onObjRemoved(obj);
+            l.onObjAdded((JSLRemoteObject) o1);
+    };
+
+    private void emit_ObjRemoved(JSLRemoteObject obj) {
+        JSLEventBus.publish(emit_ObjRemovedHandler, obj);
     }
 
+    private final JSLEventBus.Handler emit_ObjRemovedHandler = (o1, o2, o3, d1, d2) -> {
+        for (ObjsMngrListener l : listeners)
+            l.onObjRemoved((JSLRemoteObject) o1);
+    };
+
     // Listeners object permission's changes
 
     private ObjPerms.RemoteObjectPermsListener objectPermsListener = new ObjPerms.RemoteObjectPermsListener() {
@@ -267,11 +305,16 @@ public class JSLObjsMngr_002 implements JSLObjsMngr {
 
         @Override
         public void onServicePermChanged(JSLRemoteObject obj, JOSPPerm.Connection connType, JOSPPerm.Type newPermType, JOSPPerm.Type oldPermType) {
+            awaitingPermsObjs.remove(obj);
             if (obj.getPerms().getServicePerm(JOSPPerm.Connection.LocalAndCloud) == JOSPPerm.Type.None
                 && obj.getPerms().getServicePerm(JOSPPerm.Connection.OnlyLocal) == JOSPPerm.Type.None) {
                 obj.getPerms().removeListener(objectPermsListener);
-                objs.remove(obj);
-                emit_ObjRemoved(obj);
+                boolean removed;
+                synchronized (objs) {
+                    removed = objs.remove(obj);
+                }
+                if (removed)
+                    emit_ObjRemoved(obj);
             }
 
         }
@@ -281,16 +324,55 @@ public class JSLObjsMngr_002 implements JSLObjsMngr {
 
     // User's login/out
 
+    /**
+     * Start waiting for the new user's permissions from all known objects.
+     * <p>
+     * Objects that do not send the service's permissions for the new identity
+     * within <code>jsl.usr.permsTimeout</code> milliseconds have their
+     * permissions reset, so the previous user's access is never retained.
+     */
+    private synchronized void awaitNewUserPerms() {
+        if (awaitingPermsTask != null)
+            awaitingPermsTask.cancel(false);
+
+        synchronized (objs) {
+            awaitingPermsObjs.clear();
+            awaitingPermsObjs.addAll(objs);
+        }
+        if (awaitingPermsObjs.isEmpty())
+            return;
+
+        int timeoutMs = locSettings.getUsrPermsTimeout();
+        awaitingPermsTask = JSLThreads.getScheduler().schedule(this::resetAwaitingPermsObjs, timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void resetAwaitingPermsObjs() {
+        List<JSLRemoteObject> tmpList = new ArrayList<>(awaitingPermsObjs);
+        awaitingPermsObjs.clear();
+        for (JSLRemoteObject obj : tmpList) {
+            log.info(String.format("Reset permissions of object '%s' because no permissions received for the new user", obj.getId()));
+            ((DefaultObjPerms) obj.getPerms()).resetPerms();
+        }
+    }
+
+    /**
+     * On user's login/logout, remote objects (and their structures) are
+     * retained. The communication re-presents the service's identity to the
+     * objects, that send back the new user's permissions; objects not
+     * accessible by the new user are removed by the
+     * {@link #objectPermsListener}. Objects that do not send the new
+     * permissions are reset by {@link #awaitNewUserPerms()}.
+     */
     private final JSLUserMngr.UserListener userListener = new JSLUserMngr.UserListener() {
 
         @Override
         public void onLoginPreRestart(JSLUserMngr jslUserMngr) {
-            resetAllObjects();
+            awaitNewUserPerms();
         }
 
         @Override
         public void onLogoutPreRestart(JSLUserMngr jslUserMngr) {
-            resetAllObjects();
+            awaitNewUserPerms();
         }
 
         @Override
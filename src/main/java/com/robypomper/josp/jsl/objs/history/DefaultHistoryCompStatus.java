@@ -20,6 +20,7 @@ package com.robypomper.josp.jsl.objs.history;
 
 import com.robypomper.comm.exception.PeerNotConnectedException;
 import com.robypomper.comm.exception.PeerStreamException;
+import com.robypomper.josp.jsl.JSLThreads;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.objs.structure.JSLComponent;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
@@ -136,12 +137,7 @@ public class DefaultHistoryCompStatus extends HistoryBase implements HistoryComp
             return false;
         }
 
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                l.receivedStatusHistory(statusesHistory);
-            }
-        }).start();
+        JSLThreads.start("JSLHistoryStatus-" + reqId, () -> l.receivedStatusHistory(statusesHistory));
 
         return true;
     }
@@ -20,6 +20,7 @@ package com.robypomper.josp.jsl.objs.history;
 
 import com.robypomper.comm.exception.PeerNotConnectedException;
 import com.robypomper.comm.exception.PeerStreamException;
+import com.robypomper.josp.jsl.JSLThreads;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
 import com.robypomper.josp.protocol.*;
@@ -128,12 +129,7 @@ public class DefaultHistoryObjEvents extends HistoryBase implements HistoryObjEv
             return false;
         }
 
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                l.receivedEvents(eventsHistory);
-            }
-        }).start();
+        JSLThreads.start("JSLHistoryEvents-" + reqId, () -> l.receivedEvents(eventsHistory));
 
         return true;
     }
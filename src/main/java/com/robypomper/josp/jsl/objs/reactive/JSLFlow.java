@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs.reactive;
+
+
+/**
+ * Reactive streams interfaces used by the JSL's publishers.
+ * <p>
+ * The JSL targets Java 8, so it can't depend on the
+ * <code>java.util.concurrent.Flow</code> interfaces (Java 9+). This class
+ * defines the same interfaces, with the same methods and the same contract
+ * (the Reactive Streams specification). So, adapting a
+ * {@link Publisher} to a <code>Flow.Publisher</code> (or to the
+ * <code>org.reactivestreams</code> one) requires only a method reference for
+ * each interface.
+ */
+public final class JSLFlow {
+
+    // Constructor
+
+    private JSLFlow() {
+    }
+
+
+    // Reactive interfaces
+
+    /**
+     * Producer of items received by the subscribers, according to their
+     * demand.
+     *
+     * @param <T> the published item type.
+     */
+    public interface Publisher<T> {
+
+        /**
+         * Add given subscriber to the publisher. The subscriber receives the
+         * {@link Subscriber#onSubscribe(Subscription)} call before any other
+         * signal.
+         *
+         * @param subscriber the subscriber to add.
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+
+    }
+
+    /**
+     * Receiver of the items published by a {@link Publisher}.
+     *
+     * @param <T> the subscribed item type.
+     */
+    public interface Subscriber<T> {
+
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+
+    }
+
+    /**
+     * Link between a {@link Publisher} and a {@link Subscriber}, used by the
+     * subscriber to signal his demand or to cancel the subscription.
+     */
+    public interface Subscription {
+
+        /**
+         * Add given number of items to the subscriber's demand.
+         *
+         * @param n the number of items requested, must be greater than 0.
+         */
+        void request(long n);
+
+        /**
+         * Stop receiving items, pending items are discarded.
+         */
+        void cancel();
+
+    }
+
+
+    // Overflow strategies
+
+    /**
+     * Strategies applied by the publishers when a subscriber falls behind
+     * and his buffer is full.
+     */
+    public enum OverflowStrategy {
+
+        /**
+         * Keep only the latest not delivered item (conflation), the buffer
+         * size is ignored.
+         */
+        LATEST,
+
+        /**
+         * Drop the oldest buffered item to make room for the new one.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Drop the new item.
+         */
+        DROP_LATEST,
+
+        /**
+         * Cancel the subscription and signal an error to the subscriber.
+         */
+        ERROR
+
+    }
+
+}
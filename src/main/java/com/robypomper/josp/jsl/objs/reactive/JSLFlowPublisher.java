@@ -0,0 +1,335 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs.reactive;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Base class for the JSL's {@link JSLFlow.Publisher} implementations.
+ * <p>
+ * Sub-classes register their listener to the JSL component on
+ * {@link #attach()}, when the first subscriber subscribes, and remove it on
+ * {@link #detach()}, when the last subscriber cancels his subscription. Each
+ * listener's event must be passed to the {@link #emit(Object)} method.
+ * <p>
+ * Each subscription has his own buffer and demand. Items are delivered
+ * immediately while the subscriber's demand is greater than zero, otherwise
+ * they are buffered. When a buffer is full, the publisher's
+ * {@link JSLFlow.OverflowStrategy} is applied. Signals to the same
+ * subscriber are always serialized, even when items are emitted by
+ * different threads.
+ *
+ * @param <T> the published item type.
+ */
+public abstract class JSLFlowPublisher<T> implements JSLFlow.Publisher<T> {
+
+    // Internal vars
+
+    private static final Logger log = LoggerFactory.getLogger(JSLFlowPublisher.class);
+    private final JSLFlow.OverflowStrategy strategy;
+    private final int bufferSize;
+    private final List<FlowSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private boolean attached = false;
+    private volatile boolean closed = false;
+
+
+    // Constructor
+
+    /**
+     * @param strategy   the strategy applied when a subscriber's buffer is full.
+     * @param bufferSize the max number of items buffered for each subscriber.
+     */
+    protected JSLFlowPublisher(JSLFlow.OverflowStrategy strategy, int bufferSize) {
+        if (strategy == null)
+            throw new IllegalArgumentException("Publisher's overflow strategy can't be null");
+        if (bufferSize < 1)
+            throw new IllegalArgumentException(String.format("Publisher's buffer size must be greater than 0 (current value %d)", bufferSize));
+        this.strategy = strategy;
+        this.bufferSize = strategy == JSLFlow.OverflowStrategy.LATEST ? 1 : bufferSize;
+    }
+
+
+    // Publisher
+
+    @Override
+    public void subscribe(JSLFlow.Subscriber<? super T> subscriber) {
+        if (subscriber == null)
+            throw new NullPointerException("Subscriber can't be null");
+
+        FlowSubscription subscription = new FlowSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+
+        synchronized (this) {
+            if (subscription.cancelled)
+                return;
+            // Checked with the lock, so close() can't run between the check
+            // and the attach, leaving the subscription never completed
+            if (closed) {
+                subscription.complete();
+                return;
+            }
+            subscriptions.add(subscription);
+            if (!attached) {
+                attach();
+                attached = true;
+            }
+        }
+    }
+
+    /**
+     * Complete all current subscriptions, after delivering their buffered
+     * items, and reject next subscriptions.
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed)
+                return;
+            closed = true;
+            if (attached) {
+                detach();
+                attached = false;
+            }
+        }
+        for (FlowSubscription s : subscriptions)
+            s.complete();
+    }
+
+    /**
+     * @return the number of active subscriptions.
+     */
+    public int getSubscribersCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * @return the number of items dropped because of full subscribers'
+     * buffers.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return the strategy applied when a subscriber's buffer is full.
+     */
+    public JSLFlow.OverflowStrategy getOverflowStrategy() {
+        return strategy;
+    }
+
+
+    // Sub-classes methods
+
+    /**
+     * Register the publisher's listener to the JSL component.
+     */
+    protected abstract void attach();
+
+    /**
+     * Remove the publisher's listener from the JSL component.
+     */
+    protected abstract void detach();
+
+    /**
+     * Deliver given item to all current subscribers.
+     *
+     * @param item the item to publish.
+     */
+    protected void emit(T item) {
+        for (FlowSubscription s : subscriptions)
+            s.offer(item);
+    }
+
+    private void removeSubscription(FlowSubscription subscription) {
+        synchronized (this) {
+            if (!subscriptions.remove(subscription))
+                return;
+            if (subscriptions.isEmpty() && attached) {
+                detach();
+                attached = false;
+            }
+        }
+    }
+
+
+    // Subscription
+
+    private class FlowSubscription implements JSLFlow.Subscription {
+
+        private final JSLFlow.Subscriber<? super T> subscriber;
+        private final Queue<T> buffer = new ArrayDeque<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile boolean done = false;
+        private volatile Throwable error = null;
+
+        private FlowSubscription(JSLFlow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (cancelled)
+                return;
+            if (n <= 0) {
+                fail(new IllegalArgumentException(String.format("Subscriber's request must be greater than 0 (current value %d)", n)));
+                return;
+            }
+
+            long current, next;
+            do {
+                current = requested.get();
+                if (current == Long.MAX_VALUE)
+                    break;
+                next = current + n;
+                if (next < 0)
+                    next = Long.MAX_VALUE;
+            } while (!requested.compareAndSet(current, next));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled)
+                return;
+            cancelled = true;
+            removeSubscription(this);
+        }
+
+        private void offer(T item) {
+            if (cancelled || done)
+                return;
+
+            boolean overflow = false;
+            synchronized (buffer) {
+                if (buffer.size() >= bufferSize)
+                    switch (strategy) {
+                        case LATEST:
+                        case DROP_OLDEST:
+                            buffer.poll();
+                            droppedCount.incrementAndGet();
+                            break;
+                        case DROP_LATEST:
+                            droppedCount.incrementAndGet();
+                            return;
+                        case ERROR:
+                            droppedCount.incrementAndGet();
+                            overflow = true;
+                            break;
+                    }
+                if (!overflow)
+                    buffer.add(item);
+            }
+            if (overflow)
+                fail(new IllegalStateException(String.format("Subscriber's buffer overflow (buffer size %d)", bufferSize)));
+            else
+                drain();
+        }
+
+        private void complete() {
+            if (cancelled)
+                return;
+            done = true;
+            drain();
+        }
+
+        private void fail(Throwable t) {
+            error = t;
+            cancel();
+            drain();
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+
+            int missed = 1;
+            do {
+                if (error != null) {
+                    clearBuffer();
+                    Throwable t = error;
+                    error = null;
+                    done = true;
+                    subscriber.onError(t);
+                    return;     // wip never released, no more signals
+                }
+                if (cancelled) {
+                    clearBuffer();
+                    return;
+                }
+
+                long r = requested.get();
+                long e = 0;
+                while (e != r) {
+                    T item;
+                    synchronized (buffer) {
+                        item = buffer.poll();
+                    }
+                    if (item == null)
+                        break;
+                    try {
+                        subscriber.onNext(item);
+                    } catch (Throwable t) {
+                        log.warn(String.format("Error on delivering item to subscriber because %s, cancel subscription", t.getMessage()), t);
+                        cancel();
+                        clearBuffer();
+                        return;
+                    }
+                    e++;
+                }
+                if (e != 0 && r != Long.MAX_VALUE)
+                    requested.addAndGet(-e);
+
+                if (done && isBufferEmpty()) {
+                    cancelled = true;
+                    removeSubscription(this);
+                    subscriber.onComplete();
+                    return;     // wip never released, no more signals
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private boolean isBufferEmpty() {
+            synchronized (buffer) {
+                return buffer.isEmpty();
+            }
+        }
+
+        private void clearBuffer() {
+            synchronized (buffer) {
+                buffer.clear();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs.reactive;
+
+import com.robypomper.josp.jsl.objs.JSLRemoteObject;
+
+
+/**
+ * Item published by the objects' info, permissions and connection
+ * publishers and by the objects manager publisher.
+ * <p>
+ * The new and old values depend on the event's {@link Type}: for info
+ * changes they are the changed strings, for permissions changes the
+ * permissions lists (or the permission types, with the connection type as
+ * detail), for local connection changes the new value is the local client.
+ */
+public class JSLObjectEvent {
+
+    // Class constants
+
+    public enum Type {
+        NAME_CHANGED,
+        OWNER_ID_CHANGED,
+        JOD_VERSION_CHANGED,
+        MODEL_CHANGED,
+        BRAND_CHANGED,
+        LONG_DESCR_CHANGED,
+        PERMISSIONS_CHANGED,
+        SERVICE_PERM_CHANGED,
+        LOCAL_CONNECTED,
+        LOCAL_DISCONNECTED,
+        CLOUD_CONNECTED,
+        CLOUD_DISCONNECTED,
+        OBJ_ADDED,
+        OBJ_REMOVED
+    }
+
+
+    // Internal vars
+
+    private final Type type;
+    private final JSLRemoteObject object;
+    private final Object newValue;
+    private final Object oldValue;
+    private final Object detail;
+    private final long timestamp;
+
+
+    // Constructor
+
+    public JSLObjectEvent(Type type, JSLRemoteObject object) {
+        this(type, object, null, null, null);
+    }
+
+    public JSLObjectEvent(Type type, JSLRemoteObject object, Object newValue, Object oldValue) {
+        this(type, object, newValue, oldValue, null);
+    }
+
+    public JSLObjectEvent(Type type, JSLRemoteObject object, Object newValue, Object oldValue, Object detail) {
+        this.type = type;
+        this.object = object;
+        this.newValue = newValue;
+        this.oldValue = oldValue;
+        this.detail = detail;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+
+    // Getters
+
+    public Type getType() {
+        return type;
+    }
+
+    public JSLRemoteObject getObject() {
+        return object;
+    }
+
+    public Object getNewValue() {
+        return newValue;
+    }
+
+    public Object getOldValue() {
+        return oldValue;
+    }
+
+    /**
+     * @return the event's additional info, for example the connection type
+     * for the {@link Type#SERVICE_PERM_CHANGED} events.
+     */
+    public Object getDetail() {
+        return detail;
+    }
+
+    /**
+     * @return the time (millis) when the event was received.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s): %s -> %s", type, object.getId(), oldValue, newValue);
+    }
+
+}
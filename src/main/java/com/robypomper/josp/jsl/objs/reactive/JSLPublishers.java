@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs.reactive;
+
+import com.robypomper.josp.jsl.comm.JSLLocalClient;
+import com.robypomper.josp.jsl.objs.JSLObjsMngr;
+import com.robypomper.josp.jsl.objs.JSLRemoteObject;
+import com.robypomper.josp.jsl.objs.remote.ObjComm;
+import com.robypomper.josp.jsl.objs.remote.ObjInfo;
+import com.robypomper.josp.jsl.objs.remote.ObjPerms;
+import com.robypomper.josp.jsl.objs.structure.pillars.JSLBooleanState;
+import com.robypomper.josp.jsl.objs.structure.pillars.JSLRangeState;
+import com.robypomper.josp.protocol.JOSPPerm;
+
+import java.util.List;
+
+
+/**
+ * Factory for the {@link JSLFlow.Publisher} views of the JSL's listeners.
+ * <p>
+ * Each publisher registers his listener only while it has at least one
+ * subscriber. Components' state publishers use by default the
+ * {@link JSLFlow.OverflowStrategy#LATEST} strategy (subscribers that fall
+ * behind receive only the latest state), while objects' publishers use the
+ * {@link JSLFlow.OverflowStrategy#DROP_OLDEST} strategy with a buffer of
+ * {@link #DEF_BUFFER_SIZE} events.
+ * <p>
+ * Items are emitted on the thread that notifies the JSL's listeners (see
+ * {@link com.robypomper.josp.jsl.JSLEventBus}).
+ */
+public final class JSLPublishers {
+
+    // Class constants
+
+    public static final int DEF_BUFFER_SIZE = 256;
+
+
+    // Constructor
+
+    private JSLPublishers() {
+    }
+
+
+    // Components' states
+
+    public static JSLFlowPublisher<JSLStateChange<Boolean>> booleanState(JSLBooleanState component) {
+        return booleanState(component, JSLFlow.OverflowStrategy.LATEST, 1);
+    }
+
+    /**
+     * @param component  the component to observe.
+     * @param strategy   the strategy applied when a subscriber falls behind.
+     * @param bufferSize the max number of changes buffered for each subscriber.
+     * @return a publisher of given component's state changes.
+     */
+    public static JSLFlowPublisher<JSLStateChange<Boolean>> booleanState(JSLBooleanState component, JSLFlow.OverflowStrategy strategy, int bufferSize) {
+        return new JSLFlowPublisher<JSLStateChange<Boolean>>(strategy, bufferSize) {
+            private final JSLBooleanState.BooleanStateListener listener = (comp, newState, oldState) -> emit(new JSLStateChange<>(comp, newState, oldState));
+
+            @Override
+            protected void attach() {
+                component.addListener(listener);
+            }
+
+            @Override
+            protected void detach() {
+                component.removeListener(listener);
+            }
+        };
+    }
+
+    public static JSLFlowPublisher<JSLStateChange<Double>> rangeState(JSLRangeState component) {
+        return rangeState(component, JSLFlow.OverflowStrategy.LATEST, 1);
+    }
+
+    /**
+     * @param component  the component to observe.
+     * @param strategy   the strategy applied when a subscriber falls behind.
+     * @param bufferSize the max number of changes buffered for each subscriber.
+     * @return a publisher of given component's state changes.
+     */
+    public static JSLFlowPublisher<JSLStateChange<Double>> rangeState(JSLRangeState component, JSLFlow.OverflowStrategy strategy, int bufferSize) {
+        return new JSLFlowPublisher<JSLStateChange<Double>>(strategy, bufferSize) {
+            private final JSLRangeState.RangeStateListener listener = new JSLRangeState.RangeStateListener() {
+                @Override
+                public void onStateChanged(JSLRangeState comp, double newState, double oldState) {
+                    emit(new JSLStateChange<>(comp, newState, oldState));
+                }
+
+                @Override
+                public void onMinReached(JSLRangeState comp, double state, double min) {
+                }
+
+                @Override
+                public void onMaxReached(JSLRangeState comp, double state, double max) {
+                }
+            };
+
+            @Override
+            protected void attach() {
+                component.addListener(listener);
+            }
+
+            @Override
+            protected void detach() {
+                component.removeListener(listener);
+            }
+        };
+    }
+
+
+    // Objects
+
+    public static JSLFlowPublisher<JSLObjectEvent> objectInfo(JSLRemoteObject obj) {
+        return objectInfo(obj, JSLFlow.OverflowStrategy.DROP_OLDEST, DEF_BUFFER_SIZE);
+    }
+
+    /**
+     * @param obj        the object to observe.
+     * @param strategy   the strategy applied when a subscriber falls behind.
+     * @param bufferSize the max number of events buffered for each subscriber.
+     * @return a publisher of given object's info changes.
+     */
+    public static JSLFlowPublisher<JSLObjectEvent> objectInfo(JSLRemoteObject obj, JSLFlow.OverflowStrategy strategy, int bufferSize) {
+        return new JSLFlowPublisher<JSLObjectEvent>(strategy, bufferSize) {
+            private final ObjInfo.RemoteObjectInfoListener listener = new ObjInfo.RemoteObjectInfoListener() {
+                @Override
+                public void onNameChanged(JSLRemoteObject obj, String newName, String oldName) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.NAME_CHANGED, obj, newName, oldName));
+                }
+
+                @Override
+                public void onOwnerIdChanged(JSLRemoteObject obj, String newOwnerId, String oldOwnerId) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.OWNER_ID_CHANGED, obj, newOwnerId, oldOwnerId));
+                }
+
+                @Override
+                public void onJODVersionChanged(JSLRemoteObject obj, String newJODVersion, String oldJODVersion) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.JOD_VERSION_CHANGED, obj, newJODVersion, oldJODVersion));
+                }
+
+                @Override
+                public void onModelChanged(JSLRemoteObject obj, String newModel, String oldModel) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.MODEL_CHANGED, obj, newModel, oldModel));
+                }
+
+                @Override
+                public void onBrandChanged(JSLRemoteObject obj, String newBrand, String oldBrand) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.BRAND_CHANGED, obj, newBrand, oldBrand));
+                }
+
+                @Override
+                public void onLongDescrChanged(JSLRemoteObject obj, String newLongDescr, String oldLongDescr) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.LONG_DESCR_CHANGED, obj, newLongDescr, oldLongDescr));
+                }
+            };
+
+            @Override
+            protected void attach() {
+                obj.getInfo().addListener(listener);
+            }
+
+            @Override
+            protected void detach() {
+                obj.getInfo().removeListener(listener);
+            }
+        };
+    }
+
+    public static JSLFlowPublisher<JSLObjectEvent> objectPerms(JSLRemoteObject obj) {
+        return objectPerms(obj, JSLFlow.OverflowStrategy.DROP_OLDEST, DEF_BUFFER_SIZE);
+    }
+
+    /**
+     * @param obj        the object to observe.
+     * @param strategy   the strategy applied when a subscriber falls behind.
+     * @param bufferSize the max number of events buffered for each subscriber.
+     * @return a publisher of given object's permissions changes.
+     */
+    public static JSLFlowPublisher<JSLObjectEvent> objectPerms(JSLRemoteObject obj, JSLFlow.OverflowStrategy strategy, int bufferSize) {
+        return new JSLFlowPublisher<JSLObjectEvent>(strategy, bufferSize) {
+            private final ObjPerms.RemoteObjectPermsListener listener = new ObjPerms.RemoteObjectPermsListener() {
+                @Override
+                public void onPermissionsChanged(JSLRemoteObject obj, List<JOSPPerm> newPerms, List<JOSPPerm> oldPerms) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.PERMISSIONS_CHANGED, obj, newPerms, oldPerms));
+                }
+
+                @Override
+                public void onServicePermChanged(JSLRemoteObject obj, JOSPPerm.Connection connType, JOSPPerm.Type newPermType, JOSPPerm.Type oldPermType) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.SERVICE_PERM_CHANGED, obj, newPermType, oldPermType, connType));
+                }
+            };
+
+            @Override
+            protected void attach() {
+                obj.getPerms().addListener(listener);
+            }
+
+            @Override
+            protected void detach() {
+                obj.getPerms().removeListener(listener);
+            }
+        };
+    }
+
+    public static JSLFlowPublisher<JSLObjectEvent> objectConnection(JSLRemoteObject obj) {
+        return objectConnection(obj, JSLFlow.OverflowStrategy.DROP_OLDEST, DEF_BUFFER_SIZE);
+    }
+
+    /**
+     * @param obj        the object to observe.
+     * @param strategy   the strategy applied when a subscriber falls behind.
+     * @param bufferSize the max number of events buffered for each subscriber.
+     * @return a publisher of given object's local and cloud connection changes.
+     */
+    public static JSLFlowPublisher<JSLObjectEvent> objectConnection(JSLRemoteObject obj, JSLFlow.OverflowStrategy strategy, int bufferSize) {
+        return new JSLFlowPublisher<JSLObjectEvent>(strategy, bufferSize) {
+            private final ObjComm.RemoteObjectConnListener listener = new ObjComm.RemoteObjectConnListener() {
+                @Override
+                public void onLocalConnected(JSLRemoteObject obj, JSLLocalClient localClient) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.LOCAL_CONNECTED, obj, localClient, null));
+                }
+
+                @Override
+                public void onLocalDisconnected(JSLRemoteObject obj, JSLLocalClient localClient) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.LOCAL_DISCONNECTED, obj, null, localClient));
+                }
+
+                @Override
+                public void onCloudConnected(JSLRemoteObject obj) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.CLOUD_CONNECTED, obj));
+                }
+
+                @Override
+                public void onCloudDisconnected(JSLRemoteObject obj) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.CLOUD_DISCONNECTED, obj));
+                }
+            };
+
+            @Override
+            protected void attach() {
+                obj.getComm().addListener(listener);
+            }
+
+            @Override
+            protected void detach() {
+                obj.getComm().removeListener(listener);
+            }
+        };
+    }
+
+
+    // Objects manager
+
+    public static JSLFlowPublisher<JSLObjectEvent> objects(JSLObjsMngr objsMngr) {
+        return objects(objsMngr, JSLFlow.OverflowStrategy.DROP_OLDEST, DEF_BUFFER_SIZE);
+    }
+
+    /**
+     * @param objsMngr   the objects manager to observe.
+     * @param strategy   the strategy applied when a subscriber falls behind.
+     * @param bufferSize the max number of events buffered for each subscriber.
+     * @return a publisher of the objects added to and removed from given
+     * objects manager.
+     */
+    public static JSLFlowPublisher<JSLObjectEvent> objects(JSLObjsMngr objsMngr, JSLFlow.OverflowStrategy strategy, int bufferSize) {
+        return new JSLFlowPublisher<JSLObjectEvent>(strategy, bufferSize) {
+            private final JSLObjsMngr.ObjsMngrListener listener = new JSLObjsMngr.ObjsMngrListener() {
+                @Override
+                public void onObjAdded(JSLRemoteObject obj) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.OBJ_ADDED, obj));
+                }
+
+                @Override
+                public void onObjRemoved(JSLRemoteObject obj) {
+                    emit(new JSLObjectEvent(JSLObjectEvent.Type.OBJ_REMOVED, obj));
+                }
+            };
+
+            @Override
+            protected void attach() {
+                objsMngr.addListener(listener);
+            }
+
+            @Override
+            protected void detach() {
+                objsMngr.removeListener(listener);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.robypomper.josp.jsl.objs.reactive;
+
+import com.robypomper.josp.jsl.objs.structure.JSLState;
+
+
+/**
+ * Item published by the components' state publishers.
+ *
+ * @param <S> the state's type.
+ */
+public class JSLStateChange<S> {
+
+    // Internal vars
+
+    private final JSLState component;
+    private final S newState;
+    private final S oldState;
+    private final long timestamp;
+
+
+    // Constructor
+
+    public JSLStateChange(JSLState component, S newState, S oldState) {
+        this.component = component;
+        this.newState = newState;
+        this.oldState = oldState;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+
+    // Getters
+
+    public JSLState getComponent() {
+        return component;
+    }
+
+    public S getNewState() {
+        return newState;
+    }
+
+    public S getOldState() {
+        return oldState;
+    }
+
+    /**
+     * @return the time (millis) when the change was received.
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %s -> %s", component.getPath().getString(), oldState, newState);
+    }
+
+}
@@ -18,6 +18,7 @@
 
 package com.robypomper.josp.jsl.objs.remote;
 
+import com.robypomper.josp.jsl.JSLEventBus;
 import com.robypomper.josp.jsl.comm.JSLCommunication;
 import com.robypomper.josp.jsl.comm.JSLGwS2OClient;
 import com.robypomper.josp.jsl.comm.JSLLocalClient;
@@ -28,8 +29,8 @@ import com.robypomper.josp.protocol.JOSPPerm;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DefaultObjComm extends ObjBase implements ObjComm {
 
@@ -38,7 +39,8 @@ public class DefaultObjComm extends ObjBase implements ObjComm {
     private static final Logger log = LoggerFactory.getLogger(DefaultObjComm.class);
     private final JSLCommunication communication;
     private boolean isCloudConnected = true;
-    private final List<RemoteObjectConnListener> listenersConn = new ArrayList<>();
+    private final List<RemoteObjectConnListener> listenersConn = new CopyOnWriteArrayList<>();
+    private final ObjPathSelector pathSelector = new ObjPathSelector();
 
 
     // Constructor
@@ -46,7 +48,7 @@ public class DefaultObjComm extends ObjBase implements ObjComm {
     public DefaultObjComm(JSLRemoteObject remoteObject, JSLServiceInfo serviceInfo, JSLCommunication communication) {
         super(remoteObject, serviceInfo);
         this.communication = communication;
-        communication.getLocalConnections().addListener(localClientsListener);
+        communication.getLocalConnections().addListener(remoteObject, localClientsListener);
     }
 
 
@@ -124,6 +126,14 @@ public class DefaultObjComm extends ObjBase implements ObjComm {
         return getCommunication().getCloudConnection();
     }
 
+    /**
+     * @return the selector of the path (local or cloud) used to send messages
+     * to the object.
+     */
+    public ObjPathSelector getPathSelector() {
+        return pathSelector;
+    }
+
 
     // Processing
 
@@ -141,8 +151,8 @@ public class DefaultObjComm extends ObjBase implements ObjComm {
     private final JSLLocalClientsMngr.LocalClientListener localClientsListener = new JSLLocalClientsMngr.LocalClientListener() {
         @Override
         public void onLocalConnected(JSLRemoteObject jslObj, JSLLocalClient jslLocCli) {
-            if (jslObj == getRemote())
-                emitConn_LocalConnected(jslLocCli);
+            pathSelector.reset(ObjPathSelector.Path.LOCAL);
+            emitConn_LocalConnected(jslLocCli);
         }
 
         @Override
@@ -150,8 +160,13 @@ public class DefaultObjComm extends ObjBase implements ObjComm {
 
         @Override
         public void onLocalDisconnected(JSLRemoteObject jslObj, JSLLocalClient jslLocCli) {
-            if (jslObj == getRemote())
-                emitConn_LocalDisconnected(jslLocCli);
+            emitConn_LocalDisconnected(jslLocCli);
+        }
+
+        @Override
+        public void onLocalSwitched(JSLRemoteObject jslObj, JSLLocalClient oldClient, JSLLocalClient newClient) {
+            // object still connected locally, only the connection changed
+            pathSelector.reset(ObjPathSelector.Path.LOCAL);
         }
     };
 
@@ -175,24 +190,39 @@ public class DefaultObjComm extends ObjBase implements ObjComm {
     }
 
     private void emitConn_LocalConnected(JSLLocalClient localClient) {
-        for (RemoteObjectConnListener l : listenersConn)
-            l.onLocalConnected(getRemote(), localClient);
+        JSLEventBus.publish(emitConn_LocalConnectedHandler, localClient);
     }
 
-    private void emitConn_LocalDisconnected(JSLLocalClient localClient) {
+    private final JSLEventBus.Handler emitConn_LocalConnectedHandler = (o1, o2, o3, d1, d2) -> {
         for (RemoteObjectConnListener l : listenersConn)
-            l.onLocalDisconnected(getRemote(), localClient);
+            l.onLocalConnected(getRemote(), (JSLLocalClient) o1);
+    };
 
+    private void emitConn_LocalDisconnected(JSLLocalClient localClient) {
+        JSLEventBus.publish(emitConn_LocalDisconnectedHandler, localClient);
     }
 
+    private final JSLEventBus.Handler emitConn_LocalDisconnectedHandler = (o1, o2, o3, d1, d2) -> {
+        for (RemoteObjectConnListener l : listenersConn)
+            l.onLocalDisconnected(getRemote(), (JSLLocalClient) o1);
+    };
+
     private void emitConn_CloudConnected() {
+        JSLEventBus.publish(emitConn_CloudConnectedHandler, null);
+    }
+
+    private final JSLEventBus.Handler emitConn_CloudConnectedHandler = (o1, o2, o3, d1, d2) -> {
         for (RemoteObjectConnListener l : listenersConn)
             l.onCloudConnected(getRemote());
-    }
+    };
 
     private void emitConn_CloudDisconnected() {
+        JSLEventBus.publish(emitConn_CloudDisconnectedHandler, null);
+    }
+
+    private final JSLEventBus.Handler emitConn_CloudDisconnectedHandler = (o1, o2, o3, d1, d2) -> {
         for (RemoteObjectConnListener l : listenersConn)
             l.onCloudDisconnected(getRemote());
-    }
+    };
 
 }
@@ -18,6 +18,7 @@
 
 package com.robypomper.josp.jsl.objs.remote;
 
+import com.robypomper.josp.jsl.JSLEventBus;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.objs.history.DefaultHistoryObjEvents;
 import com.robypomper.josp.jsl.objs.history.HistoryObjEvents;
@@ -26,8 +27,8 @@ import com.robypomper.josp.protocol.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DefaultObjInfo extends ObjBase implements ObjInfo {
 
@@ -40,7 +41,7 @@ public class DefaultObjInfo extends ObjBase implements ObjInfo {
     private String model = null;
     private String brand = null;
     private String longDescr = null;
-    private final List<RemoteObjectInfoListener> listenersInfo = new ArrayList<>();
+    private final List<RemoteObjectInfoListener> listenersInfo = new CopyOnWriteArrayList<>();
     private HistoryObjEvents eventsHistory;
 
 
@@ -201,35 +202,59 @@ public class DefaultObjInfo extends ObjBase implements ObjInfo {
     }
 
     private void emitInfo_NameChanged(String newName, String oldName) {
-        for (RemoteObjectInfoListener l : listenersInfo)
-            l.onNameChanged(getRemote(), newName, oldName);
+        JSLEventBus.publish(emitInfo_NameChangedHandler, newName, oldName);
     }
 
-    private void emitInfo_OwnerIdChanged(String newOwnerId, String oldOwnerId) {
+    private final JSLEventBus.Handler emitInfo_NameChangedHandler = (o1, o2, o3, d1, d2) -> {
         for (RemoteObjectInfoListener l : listenersInfo)
-            l.onOwnerIdChanged(getRemote(), newOwnerId, oldOwnerId);
+            l.onNameChanged(getRemote(), (String) o1, (String) o2);
+    };
+
+    private void emitInfo_OwnerIdChanged(String newOwnerId, String oldOwnerId) {
+        JSLEventBus.publish(emitInfo_OwnerIdChangedHandler, newOwnerId, oldOwnerId);
     }
 
-    private void emitInfo_JODVersionChanged(String jodVersion, String oldJODVersion) {
+    private final JSLEventBus.Handler emitInfo_OwnerIdChangedHandler = (o1, o2, o3, d1, d2) -> {
         for (RemoteObjectInfoListener l : listenersInfo)
-            l.onJODVersionChanged(getRemote(), jodVersion, oldJODVersion);
+            l.onOwnerIdChanged(getRemote(), (String) o1, (String) o2);
+    };
+
+    private void emitInfo_JODVersionChanged(String jodVersion, String oldJODVersion) {
+        JSLEventBus.publish(emitInfo_JODVersionChangedHandler, jodVersion, oldJODVersion);
     }
 
-    private void emitInfo_ModelChanged(String model, String oldModel) {
+    private final JSLEventBus.Handler emitInfo_JODVersionChangedHandler = (o1, o2, o3, d1, d2) -> {
         for (RemoteObjectInfoListener l : listenersInfo)
-            l.onModelChanged(getRemote(), model, oldModel);
+            l.onJODVersionChanged(getRemote(), (String) o1, (String) o2);
+    };
+
+    private void emitInfo_ModelChanged(String model, String oldModel) {
+        JSLEventBus.publish(emitInfo_ModelChangedHandler, model, oldModel);
     }
 
-    private void emitInfo_BrandChanged(String brand, String oldBrand) {
+    private final JSLEventBus.Handler emitInfo_ModelChangedHandler = (o1, o2, o3, d1, d2) -> {
         for (RemoteObjectInfoListener l : listenersInfo)
-            l.onBrandChanged(getRemote(), brand, oldBrand);
+            l.onModelChanged(getRemote(), (String) o1, (String) o2);
+    };
+
+    private void emitInfo_BrandChanged(String brand, String oldBrand) {
+        JSLEventBus.publish(emitInfo_BrandChangedHandler, brand, oldBrand);
     }
 
-    private void emitInfo_LongDescrChanged(String longDescr, String oldLongDescr) {
+    private final JSLEventBus.Handler emitInfo_BrandChangedHandler = (o1, o2, o3, d1, d2) -> {
         for (RemoteObjectInfoListener l : listenersInfo)
-            l.onLongDescrChanged(getRemote(), longDescr, oldLongDescr);
+            l.onBrandChanged(getRemote(), (String) o1, (String) o2);
+    };
+
+    private void emitInfo_LongDescrChanged(String longDescr, String oldLongDescr) {
+        JSLEventBus.publish(emitInfo_LongDescrChangedHandler, longDescr, oldLongDescr);
     }
 
+    private final JSLEventBus.Handler emitInfo_LongDescrChangedHandler = (o1, o2, o3, d1, d2) -> {
+        for (RemoteObjectInfoListener l : listenersInfo)
+            l.onLongDescrChanged(getRemote(), (String) o1, (String) o2);
+    };
+
 
     // Events History
 
@@ -18,6 +18,7 @@
 
 package com.robypomper.josp.jsl.objs.remote;
 
+import com.robypomper.josp.jsl.JSLEventBus;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
 import com.robypomper.josp.protocol.JOSPPerm;
@@ -31,6 +32,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DefaultObjPerms extends ObjBase implements ObjPerms {
 
@@ -39,7 +41,7 @@ public class DefaultObjPerms extends ObjBase implements ObjPerms {
     private static final Logger log = LoggerFactory.getLogger(DefaultObjPerms.class);
     private List<JOSPPerm> perms = new ArrayList<>();
     private final Map<JOSPPerm.Connection, JOSPPerm.Type> permTypes = new HashMap<>();
-    private final List<RemoteObjectPermsListener> listenersInfo = new ArrayList<>();
+    private final List<RemoteObjectPermsListener> listenersInfo = new CopyOnWriteArrayList<>();
 
 
     // Constructor
@@ -130,6 +132,26 @@ public class DefaultObjPerms extends ObjBase implements ObjPerms {
 
     }
 
+    /**
+     * Discard the object's permissions and set the service's permissions to
+     * {@link JOSPPerm.Type#None}, as if the object never sent them.
+     * <p>
+     * Used when the service's identity changed and the object did not send
+     * the permissions for the new identity.
+     */
+    public void resetPerms() {
+        List<JOSPPerm> oldPerms = perms;
+        perms = new ArrayList<>();
+        JOSPPerm.Type oldLocal = permTypes.put(JOSPPerm.Connection.OnlyLocal, JOSPPerm.Type.None);
+        JOSPPerm.Type oldCloud = permTypes.put(JOSPPerm.Connection.LocalAndCloud, JOSPPerm.Type.None);
+
+        emitInfo_PermissionsChanged(perms, oldPerms);
+        if (oldLocal != JOSPPerm.Type.None)
+            emitInfo_ServicePermChanged(JOSPPerm.Connection.OnlyLocal, JOSPPerm.Type.None, oldLocal);
+        if (oldCloud != JOSPPerm.Type.None)
+            emitInfo_ServicePermChanged(JOSPPerm.Connection.LocalAndCloud, JOSPPerm.Type.None, oldCloud);
+    }
+
 
     // Listeners
 
@@ -150,15 +172,22 @@ public class DefaultObjPerms extends ObjBase implements ObjPerms {
     }
 
     private void emitInfo_PermissionsChanged(List<JOSPPerm> perms, List<JOSPPerm> oldPerms) {
-        List<RemoteObjectPermsListener> tmpList = new ArrayList<>(listenersInfo);
-        for (RemoteObjectPermsListener l : tmpList)
-            l.onPermissionsChanged(getRemote(), perms, oldPerms);
+        JSLEventBus.publish(emitInfo_PermissionsChangedHandler, perms, oldPerms);
     }
 
+    @SuppressWarnings("unchecked")
+    private final JSLEventBus.Handler emitInfo_PermissionsChangedHandler = (o1, o2, o3, d1, d2) -> {
+        for (RemoteObjectPermsListener l : listenersInfo)
+            l.onPermissionsChanged(getRemote(), (List<JOSPPerm>) o1, (List<JOSPPerm>) o2);
+    };
+
     private void emitInfo_ServicePermChanged(JOSPPerm.Connection connType, JOSPPerm.Type type, JOSPPerm.Type oldPermType) {
-        List<RemoteObjectPermsListener> tmpList = new ArrayList<>(listenersInfo);
-        for (RemoteObjectPermsListener l : tmpList)
-            l.onServicePermChanged(getRemote(), connType, type, oldPermType);
+        JSLEventBus.publish(emitInfo_ServicePermChangedHandler, connType, type, oldPermType);
     }
 
+    private final JSLEventBus.Handler emitInfo_ServicePermChangedHandler = (o1, o2, o3, d1, d2) -> {
+        for (RemoteObjectPermsListener l : listenersInfo)
+            l.onServicePermChanged(getRemote(), (JOSPPerm.Connection) o1, (JOSPPerm.Type) o2, (JOSPPerm.Type) o3);
+    };
+
 }
@@ -21,6 +21,7 @@ package com.robypomper.josp.jsl.objs.remote;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.robypomper.josp.jsl.JSLEventBus;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.objs.history.DefaultHistoryCompStatus;
 import com.robypomper.josp.jsl.objs.history.HistoryCompStatus;
@@ -32,10 +33,10 @@ import com.robypomper.josp.protocol.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class DefaultObjStruct extends ObjBase implements ObjStruct {
 
@@ -43,7 +44,7 @@ public class DefaultObjStruct extends ObjBase implements ObjStruct {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultObjStruct.class);
     private JSLRoot root = null;
-    private final List<RemoteObjectStructListener> listenersInfo = new ArrayList<>();
+    private final List<RemoteObjectStructListener> listenersInfo = new CopyOnWriteArrayList<>();
     private Map<JSLComponent, HistoryCompStatus> compsStatusHistory = new HashMap<>();
 
 
@@ -119,7 +120,7 @@ public class DefaultObjStruct extends ObjBase implements ObjStruct {
         return true;
     }
 
-    public boolean processObjectUpdMsg(String msg) {
+    public boolean processObjectUpdMsg(String msg, JOSPPerm.Connection connType) {
         String msgSubStr = msg.substring(0, Math.min(10, msg.length()));
 
         // parse received data
@@ -133,6 +134,7 @@ public class DefaultObjStruct extends ObjBase implements ObjStruct {
         }
         // search destination object/components
         JSLComponentPath compPath = new DefaultJSLComponentPath(upd.getComponentPath());
+        ((DefaultObjComm) getRemote().getComm()).getPathSelector().onResponseReceived(connType == JOSPPerm.Connection.OnlyLocal ? ObjPathSelector.Path.LOCAL : ObjPathSelector.Path.CLOUD, compPath.getString());
         JSLComponent comp = DefaultJSLComponentPath.searchComponent(getStructure(), compPath);
 
         // forward update msg
@@ -206,15 +208,20 @@ public class DefaultObjStruct extends ObjBase implements ObjStruct {
     }
 
     private void emitInfo_StructureChanged(JSLRoot root) {
-        for (RemoteObjectStructListener l : listenersInfo)
-            l.onStructureChanged(getRemote(), root);
+        JSLEventBus.publish(emitInfo_StructureChangedHandler, root);
     }
 
+    private final JSLEventBus.Handler emitInfo_StructureChangedHandler = (o1, o2, o3, d1, d2) -> {
+        for (RemoteObjectStructListener l : listenersInfo)
+            l.onStructureChanged(getRemote(), (JSLRoot) o1);
+    };
+
 
     // Senders
 
     public void sendObjectCmdMsg(JSLAction component, JSLActionParams command) throws JSLRemoteObject.ObjectNotConnected, JSLRemoteObject.MissingPermission {
-        sendToObject(JOSPProtocol_ServiceToObject.createObjectActionCmdMsg(getServiceInfo().getFullId(), getRemote().getId(), component.getPath().getString(), command));
+        String compPath = component.getPath().getString();
+        sendToObject(JOSPProtocol_ServiceToObject.createObjectActionCmdMsg(getServiceInfo().getFullId(), getRemote().getId(), compPath, command), compPath);
     }
 
 
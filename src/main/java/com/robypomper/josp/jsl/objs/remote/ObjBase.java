@@ -20,6 +20,7 @@ package com.robypomper.josp.jsl.objs.remote;
 
 import com.robypomper.comm.exception.PeerNotConnectedException;
 import com.robypomper.comm.exception.PeerStreamException;
+import com.robypomper.josp.jsl.comm.JSLLocalClient;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.srvinfo.JSLServiceInfo;
 import com.robypomper.josp.protocol.JOSPPerm;
@@ -66,6 +67,18 @@ public class ObjBase {
     // Send message to object
 
     protected void sendToObject(String msg) throws JSLRemoteObject.ObjectNotConnected, JSLRemoteObject.MissingPermission {
+        sendToObject(msg, null);
+    }
+
+    /**
+     * Send given message to the object, via the best path.
+     *
+     * @param msg          the message to send.
+     * @param roundTripKey the key of the response expected from the object,
+     *                     used to measure the path's round trip. Null if the
+     *                     message has no response.
+     */
+    protected void sendToObject(String msg, String roundTripKey) throws JSLRemoteObject.ObjectNotConnected, JSLRemoteObject.MissingPermission {
         if (!getRemote().getComm().isConnected())
             throw new JSLRemoteObject.ObjectNotConnected(getRemote());
 
@@ -80,33 +93,79 @@ public class ObjBase {
         if (JOSPProtocol_ServiceToObject.isObjectActionCmdMsg(msg))
             minReqPerm = JOSPPerm.Type.Actions;
 
-        // Send via local communication
-        if (getRemote().getComm().isLocalConnected()) {
-            JOSPPerm.Type permType = getRemote().getPerms().getPermTypes().get(JOSPPerm.Connection.OnlyLocal);
-            if (permType.compareTo(minReqPerm) < 0 && !getRemote().getInfo().getOwnerId().equals(JOSPPerm.WildCards.USR_ANONYMOUS_ID.toString()))
-                throw new JSLRemoteObject.MissingPermission(getRemote(), JOSPPerm.Connection.OnlyLocal, permType, minReqPerm, msg);
-
-            try {
-                getRemote().getComm().getActiveLocalClient().sendData(msg);
+        // Send via the best path, then fallback to the other one
+        ObjPathSelector selector = ((DefaultObjComm) getRemote().getComm()).getPathSelector();
+        boolean localAvailable = getRemote().getComm().isLocalConnected();
+        boolean cloudAvailable = getRemote().getComm().isCloudConnected();
+        ObjPathSelector.Path path = selector.select(localAvailable, cloudAvailable);
+        if (path == ObjPathSelector.Path.CLOUD && localAvailable && !hasPerm(JOSPPerm.Connection.LocalAndCloud, minReqPerm))
+            path = ObjPathSelector.Path.LOCAL;      // message allowed only via local communication
+        if (path == ObjPathSelector.Path.LOCAL) {
+            if (sendViaLocal(msg, minReqPerm, selector, roundTripKey))
                 return;
+            if (cloudAvailable)
+                sendViaCloud(msg, minReqPerm, selector, roundTripKey);
 
-            } catch (PeerNotConnectedException | PeerStreamException e) {
-                log.warn(String.format("Error on sending message '%s' to object (via local) because %s", msg.substring(0, msg.indexOf('\n')), e.getMessage()), e);
-            }
+        } else if (path == ObjPathSelector.Path.CLOUD) {
+            if (sendViaCloud(msg, minReqPerm, selector, roundTripKey))
+                return;
+            if (getRemote().getComm().isLocalConnected())
+                sendViaLocal(msg, minReqPerm, selector, roundTripKey);
         }
+    }
 
-        // Send via cloud communication
-        if (getRemote().getComm().isCloudConnected()) {
-            JOSPPerm.Type permType = getRemote().getPerms().getPermTypes().get(JOSPPerm.Connection.LocalAndCloud);
-            if (permType.compareTo(minReqPerm) < 0 && !getRemote().getInfo().getOwnerId().equals(JOSPPerm.WildCards.USR_ANONYMOUS_ID.toString()))
-                throw new JSLRemoteObject.MissingPermission(getRemote(), JOSPPerm.Connection.LocalAndCloud, permType, minReqPerm, msg);
+    private boolean hasPerm(JOSPPerm.Connection connType, JOSPPerm.Type minReqPerm) {
+        JOSPPerm.Type permType = getRemote().getPerms().getPermTypes().get(connType);
+        return permType.compareTo(minReqPerm) >= 0 || getRemote().getInfo().getOwnerId().equals(JOSPPerm.WildCards.USR_ANONYMOUS_ID.toString());
+    }
 
-            try {
-                ((DefaultObjComm) getRemote().getComm()).getCloudConnection().sendData(msg);
+    private boolean sendViaLocal(String msg, JOSPPerm.Type minReqPerm, ObjPathSelector selector, String roundTripKey) throws JSLRemoteObject.MissingPermission {
+        JOSPPerm.Type permType = getRemote().getPerms().getPermTypes().get(JOSPPerm.Connection.OnlyLocal);
+        if (permType.compareTo(minReqPerm) < 0 && !getRemote().getInfo().getOwnerId().equals(JOSPPerm.WildCards.USR_ANONYMOUS_ID.toString()))
+            throw new JSLRemoteObject.MissingPermission(getRemote(), JOSPPerm.Connection.OnlyLocal, permType, minReqPerm, msg);
+
+        JSLLocalClient client = getRemote().getComm().getActiveLocalClient();
+        if (client == null)
+            return false;   // local connection lost meanwhile
+
+        selector.onSendStarted(ObjPathSelector.Path.LOCAL);
+        if (roundTripKey != null)
+            selector.onRequestSent(ObjPathSelector.Path.LOCAL, roundTripKey);
+        try {
+            client.sendData(msg);
+            selector.onSendSucceed(ObjPathSelector.Path.LOCAL);
+            return true;
+
+        } catch (PeerNotConnectedException | PeerStreamException e) {
+            selector.onSendFailed(ObjPathSelector.Path.LOCAL);
+            log.warn(String.format("Error on sending message '%s' to object (via local) because %s", msg.substring(0, msg.indexOf('\n')), e.getMessage()), e);
+            return false;
+
+        } finally {
+            selector.onSendEnded(ObjPathSelector.Path.LOCAL);
+        }
+    }
 
-            } catch (PeerNotConnectedException | PeerStreamException e) {
-                log.warn(String.format("Error on sending message '%s' to object (via cloud) because %s", msg.substring(0, msg.indexOf('\n')), e.getMessage()), e);
-            }
+    private boolean sendViaCloud(String msg, JOSPPerm.Type minReqPerm, ObjPathSelector selector, String roundTripKey) throws JSLRemoteObject.MissingPermission {
+        JOSPPerm.Type permType = getRemote().getPerms().getPermTypes().get(JOSPPerm.Connection.LocalAndCloud);
+        if (permType.compareTo(minReqPerm) < 0 && !getRemote().getInfo().getOwnerId().equals(JOSPPerm.WildCards.USR_ANONYMOUS_ID.toString()))
+            throw new JSLRemoteObject.MissingPermission(getRemote(), JOSPPerm.Connection.LocalAndCloud, permType, minReqPerm, msg);
+
+        selector.onSendStarted(ObjPathSelector.Path.CLOUD);
+        if (roundTripKey != null)
+            selector.onRequestSent(ObjPathSelector.Path.CLOUD, roundTripKey);
+        try {
+            ((DefaultObjComm) getRemote().getComm()).getCloudConnection().sendData(msg);
+            selector.onSendSucceed(ObjPathSelector.Path.CLOUD);
+            return true;
+
+        } catch (PeerNotConnectedException | PeerStreamException e) {
+            selector.onSendFailed(ObjPathSelector.Path.CLOUD);
+            log.warn(String.format("Error on sending message '%s' to object (via cloud) because %s", msg.substring(0, msg.indexOf('\n')), e.getMessage()), e);
+            return false;
+
+        } finally {
+            selector.onSendEnded(ObjPathSelector.Path.CLOUD);
         }
     }
 
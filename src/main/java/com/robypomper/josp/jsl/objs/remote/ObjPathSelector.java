@@ -0,0 +1,385 @@
+/*******************************************************************************
+ * The John Service Library is the software library to connect "software"
+ * to an IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.objs.remote;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+
+/**
+ * Per-object selector for the communication path (local or cloud) used to
+ * send messages to the object.
+ * <p>
+ * For each path, this class measures continuously the link quality: the
+ * round trip time (as exponentially weighted moving average), the recent
+ * send failures and the number of messages currently in-flight (the path's
+ * queue depth). Those values are combined into a score (lower is better) and
+ * each outbound message is routed over the path with the best score.
+ * <p>
+ * The round trip time is measured from an action command sent on a path to
+ * the first state update received on the same path for the same component
+ * (the object sends his updates on all paths). Only one round trip at a time
+ * is measured for each path, commands without any update within
+ * {@link #ROUND_TRIP_TIMEOUT_MS} are not measured.
+ * <p>
+ * To avoid flapping between paths, the selector switches from the current
+ * path only if both paths have been measured, the other path's score is
+ * better by at least {@link #HYSTERESIS_RATIO} and the previous switch
+ * happened at least {@link #MIN_SWITCH_INTERVAL_MS} ago.
+ * <p>
+ * A path never measured has his score estimated with
+ * {@link #DEF_LOCAL_LATENCY_MS} or {@link #DEF_CLOUD_LATENCY_MS}, so the
+ * local path is preferred until it degrades. Measures of a path not used
+ * decay towards the estimated values, with {@link #IDLE_HALF_LIFE_MS}
+ * half-life. Moreover, when the other path is idle for
+ * {@link #PROBE_INTERVAL_MS} (or after his connection is replaced), a single
+ * message is sent over it as probe, so his measures stay current.
+ */
+public class ObjPathSelector {
+
+    // Class constants
+
+    /**
+     * Weight of the last sample into the round trip's moving average.
+     */
+    public static final double EWMA_ALPHA = 0.2;
+    /**
+     * Score penalty (in ms) for each recent send failure.
+     */
+    public static final double FAILURE_PENALTY_MS = 1000;
+    /**
+     * Time after which the measures of an unused path weigh half, so a
+     * degraded path can be selected again once it's not used for a while.
+     */
+    public static final long IDLE_HALF_LIFE_MS = 10000;
+    /**
+     * Min relative improvement required to switch path.
+     */
+    public static final double HYSTERESIS_RATIO = 0.3;
+    /**
+     * Min time between two path switches.
+     */
+    public static final long MIN_SWITCH_INTERVAL_MS = 5000;
+    /**
+     * Max time a path is not measured before sending a probe message over it.
+     */
+    public static final long PROBE_INTERVAL_MS = 30000;
+    /**
+     * Max time to wait for the response of a measured round trip.
+     */
+    public static final long ROUND_TRIP_TIMEOUT_MS = 10000;
+    /**
+     * Estimated round trip for a never measured local path.
+     */
+    public static final double DEF_LOCAL_LATENCY_MS = 1;
+    /**
+     * Estimated round trip for a never measured cloud path.
+     */
+    public static final double DEF_CLOUD_LATENCY_MS = 50;
+    private static final long NANOS_PER_MS = 1_000_000;
+
+
+    // Internal vars
+
+    private final LongSupplier clock;
+    private final PathQuality local;
+    private final PathQuality cloud;
+    private Path current = Path.LOCAL;
+    private boolean switched = false;
+    private long lastSwitch = 0;
+
+
+    // Constructor
+
+    public ObjPathSelector() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param clock the source of the current time (in nanoseconds).
+     */
+    ObjPathSelector(LongSupplier clock) {
+        this.clock = clock;
+        this.local = new PathQuality(DEF_LOCAL_LATENCY_MS, clock);
+        this.cloud = new PathQuality(DEF_CLOUD_LATENCY_MS, clock);
+    }
+
+
+    // Path selection
+
+    /**
+     * Select the path to use for next outbound message.
+     *
+     * @param localAvailable true if the object is connected locally.
+     * @param cloudAvailable true if the object is connected via cloud.
+     * @return the best available path, null if no path is available.
+     */
+    public synchronized Path select(boolean localAvailable, boolean cloudAvailable) {
+        if (!localAvailable && !cloudAvailable)
+            return null;
+        if (!cloudAvailable)
+            return Path.LOCAL;
+        if (!localAvailable)
+            return Path.CLOUD;
+
+        Path other = current == Path.LOCAL ? Path.CLOUD : Path.LOCAL;
+        PathQuality currentQuality = getQuality(current);
+        PathQuality otherQuality = getQuality(other);
+        long now = clock.getAsLong();
+        if (currentQuality.isMeasured() && otherQuality.isMeasured()
+                && otherQuality.getScore() < currentQuality.getScore() * (1 - HYSTERESIS_RATIO)
+                && (!switched || now - lastSwitch >= MIN_SWITCH_INTERVAL_MS * NANOS_PER_MS)) {
+            current = other;
+            switched = true;
+            lastSwitch = now;
+            return current;
+        }
+
+        if (otherQuality.tryProbe())
+            return other;
+        return current;
+    }
+
+    /**
+     * @return the path currently preferred by the selector.
+     */
+    public synchronized Path getCurrentPath() {
+        return current;
+    }
+
+    /**
+     * @return the link quality measured for given path.
+     */
+    public PathQuality getQuality(Path path) {
+        return path == Path.LOCAL ? local : cloud;
+    }
+
+
+    // Measures
+
+    /**
+     * Register a message send started on given path.
+     * <p>
+     * Each call must be followed by a {@link #onSendEnded(Path)} call, also
+     * if the send fails unexpectedly.
+     */
+    public void onSendStarted(Path path) {
+        getQuality(path).inFlight.incrementAndGet();
+    }
+
+    /**
+     * Register a message send ended (successfully or not) on given path.
+     */
+    public void onSendEnded(Path path) {
+        getQuality(path).inFlight.decrementAndGet();
+    }
+
+    /**
+     * Register a message successfully sent on given path.
+     */
+    public void onSendSucceed(Path path) {
+        getQuality(path).registerSuccess();
+    }
+
+    /**
+     * Register a message send failed on given path.
+     * <p>
+     * The round trip measured on the path, if any, is discarded.
+     */
+    public void onSendFailed(Path path) {
+        getQuality(path).registerFailure();
+    }
+
+    /**
+     * Register a request sent on given path, so the round trip can be
+     * measured when his response is received.
+     * <p>
+     * Must be called before sending the request, the response can be received
+     * before the send returns.
+     *
+     * @param key the key that identifies the response, e.g. the component's
+     *            path of an action command.
+     */
+    public void onRequestSent(Path path, String key) {
+        getQuality(path).startRoundTrip(key);
+    }
+
+    /**
+     * Register a response received on given path.
+     *
+     * @param key the key that identifies the request, e.g. the component's
+     *            path of a state update.
+     */
+    public void onResponseReceived(Path path, String key) {
+        getQuality(path).endRoundTrip(key);
+    }
+
+    /**
+     * Discharge all measures for given path, for example when the path's
+     * connection is replaced. Next selection probes the path, if it's not the
+     * current one.
+     */
+    public void reset(Path path) {
+        getQuality(path).reset();
+    }
+
+
+    // Path and quality
+
+    /**
+     * Communication paths to the object.
+     */
+    public enum Path {
+        LOCAL,
+        CLOUD
+    }
+
+    /**
+     * Link quality measured for a single path.
+     */
+    public static class PathQuality {
+
+        private final double defLatencyMs;
+        private final LongSupplier clock;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private double latencyMs;
+        private double failures;
+        private long samples;
+        private long lastUpdate;
+        private long lastProbe;
+        private boolean probeRequired = false;
+        private String roundTripKey = null;
+        private long roundTripStart;
+
+        private PathQuality(double defLatencyMs, LongSupplier clock) {
+            this.defLatencyMs = defLatencyMs;
+            this.clock = clock;
+            this.latencyMs = defLatencyMs;
+            this.lastUpdate = clock.getAsLong();
+            this.lastProbe = lastUpdate;
+        }
+
+        private synchronized void registerSuccess() {
+            failures = getFailures() * (1 - EWMA_ALPHA);
+            lastUpdate = clock.getAsLong();
+        }
+
+        private synchronized void registerFailure() {
+            failures = getFailures() * (1 - EWMA_ALPHA) + 1;
+            lastUpdate = clock.getAsLong();
+            roundTripKey = null;
+        }
+
+        private synchronized void startRoundTrip(String key) {
+            long now = clock.getAsLong();
+            if (roundTripKey != null && now - roundTripStart <= ROUND_TRIP_TIMEOUT_MS * NANOS_PER_MS)
+                return;     // previous round trip still measuring
+
+            roundTripKey = key;
+            roundTripStart = now;
+        }
+
+        private synchronized void endRoundTrip(String key) {
+            if (roundTripKey == null || !roundTripKey.equals(key))
+                return;
+
+            long now = clock.getAsLong();
+            roundTripKey = null;
+            if (now - roundTripStart > ROUND_TRIP_TIMEOUT_MS * NANOS_PER_MS)
+                return;
+
+            double sampleMs = (now - roundTripStart) / (double) NANOS_PER_MS;
+            latencyMs = samples == 0 ? sampleMs : EWMA_ALPHA * sampleMs + (1 - EWMA_ALPHA) * getLatencyMs();
+            samples++;
+            lastUpdate = now;
+            probeRequired = false;
+        }
+
+        private synchronized boolean tryProbe() {
+            long now = clock.getAsLong();
+            long interval = PROBE_INTERVAL_MS * NANOS_PER_MS;
+            if (!probeRequired && (now - lastUpdate < interval || now - lastProbe < interval))
+                return false;
+
+            probeRequired = false;
+            lastProbe = now;
+            return true;
+        }
+
+        private synchronized void reset() {
+            latencyMs = defLatencyMs;
+            failures = 0;
+            samples = 0;
+            lastUpdate = clock.getAsLong();
+            probeRequired = true;
+            roundTripKey = null;
+        }
+
+        private double getIdleDecay() {
+            return Math.pow(0.5, (clock.getAsLong() - lastUpdate) / (double) (IDLE_HALF_LIFE_MS * NANOS_PER_MS));
+        }
+
+        /**
+         * @return true if at least one round trip was measured on the path,
+         * since his last reset.
+         */
+        public synchronized boolean isMeasured() {
+            return samples > 0;
+        }
+
+        /**
+         * @return the path's score, lower is better.
+         */
+        public synchronized double getScore() {
+            return getLatencyMs() * (1 + inFlight.get()) + getFailures() * FAILURE_PENALTY_MS;
+        }
+
+        /**
+         * @return the round trip's moving average in milliseconds, decayed
+         * towards the estimated value if the path is idle.
+         */
+        public synchronized double getLatencyMs() {
+            return defLatencyMs + (latencyMs - defLatencyMs) * getIdleDecay();
+        }
+
+        /**
+         * @return the weighted count of recent send failures, decayed if the
+         * path is idle.
+         */
+        public synchronized double getFailures() {
+            return failures * getIdleDecay();
+        }
+
+        /**
+         * @return the number of messages currently sending on the path.
+         */
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        /**
+         * @return the number of round trips measured.
+         */
+        public synchronized long getSamples() {
+            return samples;
+        }
+
+    }
+
+}
@@ -18,13 +18,14 @@
 
 package com.robypomper.josp.jsl.objs.structure.pillars;
 
+import com.robypomper.josp.jsl.JSLEventBus;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.objs.structure.AbsJSLState;
 import com.robypomper.josp.jsl.objs.structure.JSLStateUpdate;
 import com.robypomper.josp.protocol.JOSPProtocol;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 public class JSLBooleanState extends AbsJSLState {
@@ -32,7 +33,7 @@ public class JSLBooleanState extends AbsJSLState {
     // Internal vars
 
     private boolean state;
-    private List<BooleanStateListener> listeners = new ArrayList<>();
+    private final List<BooleanStateListener> listeners = new CopyOnWriteArrayList<>();
 
 
     // Constructor
@@ -66,8 +67,7 @@ public class JSLBooleanState extends AbsJSLState {
             state = stateUpdate.newState;
 
             if (oldState != state)
-                for (BooleanStateListener l : listeners)
-                    l.onStateChanged(this, state, oldState);
+                JSLEventBus.publish(stateChangedHandler, state, oldState);
 
             return true;
         }
@@ -77,6 +77,11 @@ public class JSLBooleanState extends AbsJSLState {
 
     // Listeners
 
+    private final JSLEventBus.Handler stateChangedHandler = (o1, o2, o3, d1, d2) -> {
+        for (BooleanStateListener l : listeners)
+            l.onStateChanged(this, (Boolean) o1, (Boolean) o2);
+    };
+
     public void addListener(BooleanStateListener listener) {
         if (listeners.contains(listener))
             return;
@@ -19,13 +19,14 @@
 package com.robypomper.josp.jsl.objs.structure.pillars;
 
 import com.robypomper.java.JavaFormatter;
+import com.robypomper.josp.jsl.JSLEventBus;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.jsl.objs.structure.AbsJSLState;
 import com.robypomper.josp.jsl.objs.structure.JSLStateUpdate;
 import com.robypomper.josp.protocol.JOSPProtocol;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 public class JSLRangeState extends AbsJSLState {
@@ -36,7 +37,7 @@ public class JSLRangeState extends AbsJSLState {
     private final double min;
     private final double max;
     private final double step;
-    private final List<RangeStateListener> listeners = new ArrayList<>();
+    private final List<RangeStateListener> listeners = new CopyOnWriteArrayList<>();
 
 
     // Constructor
@@ -84,16 +85,8 @@ public class JSLRangeState extends AbsJSLState {
             double oldState = state;
             state = stateUpdate.newState;
 
-            if (oldState != state) {
-                for (RangeStateListener l : listeners)
-                    l.onStateChanged(this, state, oldState);
-                if (state <= min)
-                    for (RangeStateListener l : listeners)
-                        l.onMinReached(this, state, min);
-                if (state >= max)
-                    for (RangeStateListener l : listeners)
-                        l.onMaxReached(this, state, min);
-            }
+            if (oldState != state)
+                JSLEventBus.publish(stateChangedHandler, null, null, null, state, oldState);
 
             return true;
         }
@@ -103,6 +96,17 @@ public class JSLRangeState extends AbsJSLState {
 
     // Listeners
 
+    private final JSLEventBus.Handler stateChangedHandler = (o1, o2, o3, newState, oldState) -> {
+        for (RangeStateListener l : listeners)
+            l.onStateChanged(this, newState, oldState);
+        if (newState <= min)
+            for (RangeStateListener l : listeners)
+                l.onMinReached(this, newState, min);
+        if (newState >= max)
+            for (RangeStateListener l : listeners)
+                l.onMaxReached(this, newState, min);
+    };
+
     public void addListener(RangeStateListener listener) {
         if (listeners.contains(listener))
             return;
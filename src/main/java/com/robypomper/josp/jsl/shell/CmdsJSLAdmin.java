@@ -23,6 +23,9 @@ import com.robypomper.java.JavaDate;
 import com.robypomper.josp.clients.JCPClient2;
 import com.robypomper.josp.consts.JOSPConstants;
 import com.robypomper.josp.jsl.admin.JSLAdmin;
+import com.robypomper.josp.jsl.admin.JSLAdminGatewaysSnapshot;
+import com.robypomper.josp.jsl.admin.JSLAdminMetricsSampler;
+import com.robypomper.josp.jsl.admin.JSLAdminTimeSeries;
 import com.robypomper.josp.types.RESTItemList;
 
 import java.net.InetAddress;
@@ -31,6 +34,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 public class CmdsJSLAdmin {
 
@@ -41,6 +45,46 @@ public class CmdsJSLAdmin {
     }
 
 
+    // Metrics sampler
+
+    @Command(name = "Admin-Metrics-List",
+            abbrev = "admMetricsList",
+            description = "Print the metrics sampled by the admin's metrics sampler",
+            header = "ADMIN METRICS LIST")
+    public String adminMetricsList() {
+        JSLAdminMetricsSampler sampler = admin.getMetricsSampler();
+        if (sampler == null)
+            return "Admin's metrics sampler disabled";
+
+        StringBuilder s = new StringBuilder("Metric (Samples) Last\n");
+        for (String metric : sampler.getMetrics()) {
+            JSLAdminTimeSeries series = sampler.getSeries(metric);
+            s.append(String.format("  - %-50s (%3d) %.2f\n", metric, series.size(), series.getLast()));
+        }
+        return s.toString();
+    }
+
+    @Command(name = "Admin-Metrics-Series",
+            abbrev = "admMetricsSeries",
+            description = "Print the last samples of given admin's metric",
+            header = "ADMIN METRICS SERIES")
+    public String adminMetricsSeries(String metric, int count) {
+        JSLAdminMetricsSampler sampler = admin.getMetricsSampler();
+        if (sampler == null)
+            return "Admin's metrics sampler disabled";
+
+        JSLAdminTimeSeries.Points points = sampler.queryLast(metric, count);
+        if (points == null)
+            return String.format("Metric '%s' not sampled", metric);
+
+        StringBuilder s = new StringBuilder();
+        s.append(String.format("  Min/Avg/Max  . %.2f / %.2f / %.2f\n", points.getMin(), points.getAvg(), points.getMax()));
+        for (int i = 0; i < points.size(); i++)
+            s.append(String.format("  - %s   %.2f\n", JavaDate.DEF_DATE_FORMATTER.format(new Date(points.getTimestamps()[i])), points.getValues()[i]));
+        return s.toString();
+    }
+
+
     // JCP APIs Status
 
     @Command(name = "Admin-JCP-APIs-Objects-Stats",
@@ -517,6 +561,37 @@ public class CmdsJSLAdmin {
         return s.toString();
     }
 
+    @Command(name = "Admin-JCP-Gateways-Snapshot",
+            abbrev = "admJCPGatewaysSnapshot",
+            description = "Print a snapshot of all JCP Gateways servers, collected concurrently",
+            header = "JCP GATEWAYS SNAPSHOT")
+    public String adminJCPGatewaysSnapshot() {
+        JSLAdminGatewaysSnapshot snapshot;
+        try {
+            snapshot = admin.getJCPGatewaysSnapshot();
+
+        } catch (JSLAdmin.UserNotAuthException | JSLAdmin.UserNotAdminException e) {
+            return String.format("Current user can't access to 'JCP Gateways status' because '%s'", e.getMessage());
+
+        } catch (JCPClient2.ResponseException | JCPClient2.RequestException | JCPClient2.AuthenticationException | JCPClient2.ConnectionException e) {
+            return String.format("Client error on access to 'JCP Gateways status' because '%s'", e.getMessage());
+        }
+
+        String s = "";
+        s += String.format("  Collected at . %s\n", JavaDate.DEF_DATE_FORMATTER.format(snapshot.getCollectedAt()));
+        s += String.format("  Elapsed  . . . %d ms\n", snapshot.getElapsedMs());
+        s += String.format("  Complete . . . %b\n", snapshot.isComplete());
+        s += String.format("  Timed out  . . %b\n", snapshot.isTimedOut());
+        for (JSLAdminGatewaysSnapshot.GatewayServer server : snapshot.getServers()) {
+            s += String.format("  - (%-20s) %s\n", server.getId(), server.getName());
+            s += String.format("      Online . . . %s\n", server.getOnline() != null ? JavaDate.DEF_DATE_FORMATTER.format(server.getOnline()) : "N/A");
+            s += String.format("      GWs  . . . . %s\n", server.getGWs() != null ? server.getGWs().gwList.size() : "N/A");
+            for (Map.Entry<String, Throwable> error : server.getErrors().entrySet())
+                s += String.format("      Error on %s: %s\n", error.getKey(), error.getValue().getMessage());
+        }
+        return s;
+    }
+
     @Command(name = "Admin-JCP-Gateways-GWs-List",
             abbrev = "admJCPGatewaysGWsList",
             description = "Print JCP Gateways GWs list",
@@ -27,6 +27,9 @@ import com.robypomper.discovery.Discover;
 import com.robypomper.josp.jsl.comm.JSLCommunication;
 import com.robypomper.josp.jsl.comm.JSLLocalClient;
 import com.robypomper.josp.jsl.comm.JSLLocalClientsMngr;
+import com.robypomper.josp.jsl.comm.JSLLocalConnectionGovernor;
+import com.robypomper.josp.jsl.comm.JSLLocalFailoverStats;
+import com.robypomper.josp.jsl.metrics.*;
 import com.robypomper.josp.jsl.objs.JSLRemoteObject;
 import com.robypomper.josp.states.StateException;
 
@@ -96,6 +99,67 @@ public class CmdsJSLCommunication {
         return s.toString();
     }
 
+    @Command(description = "Print local connections failover statistics.")
+    public String commPrintLocalFailoverStats() {
+        JSLLocalFailoverStats stats = comm.getLocalConnections().getFailoverStats();
+        return String.format("LOCAL CONNECTIONS FAILOVER\n" +
+                        "- warm standby:  %s\n" +
+                        "- failovers:     %d\n" +
+                        "- last latency:  %.3f ms\n" +
+                        "- avg latency:   %.3f ms\n" +
+                        "- max latency:   %.3f ms\n",
+                comm.getLocalConnections().isWarmStandbyEnabled() ? "enabled" : "disabled",
+                stats.getCount(), stats.getLastMs(), stats.getAvgMs(), stats.getMaxMs());
+    }
+
+    @Command(description = "Print local connections governor (backoff and circuit breaker) status.")
+    public String commPrintLocalGovernor() {
+        JSLLocalConnectionGovernor governor = comm.getLocalConnections().getConnectionGovernor();
+        StringBuilder s = new StringBuilder("LOCAL CONNECTIONS GOVERNOR\n");
+        s.append(String.format("- attempts:      %d\n", governor.getAttemptsCount()));
+        s.append(String.format("- rejected:      %d\n", governor.getRejectedCount()));
+        s.append(String.format("- opened:        %d\n", governor.getOpenedCount()));
+        s.append(String.format("- open now:      %d\n", governor.getOpenCount()));
+        for (String key : governor.getKeys())
+            s.append(String.format("  - %-30s %-10s failures: %d, retry in: %d ms\n", key, governor.getState(key), governor.getFailures(key), governor.getRetryInMs(key)));
+        return s.toString();
+    }
+
+
+    // Metrics
+
+    @Command(description = "Print communication metrics (messages, connections and queues).")
+    public String commPrintMetrics() {
+        JSLMetrics metrics = comm.getMetrics();
+        StringBuilder s = new StringBuilder(String.format("COMMUNICATION METRICS (uptime %d s)\n", metrics.getUptimeMs() / 1000));
+        String family = null;
+        for (JSLMetric m : metrics.getMetrics()) {
+            if (!m.getName().equals(family)) {
+                family = m.getName();
+                s.append(String.format("- %s: %s\n", family, metrics.getDescription(family)));
+            }
+            String labels = m.getLabels().isEmpty() ? "-" : m.getLabels().toString();
+            if (m instanceof JSLMetricsCounter) {
+                JSLMetricsCounter c = (JSLMetricsCounter) m;
+                s.append(String.format("  - %-40s %d (%.2f/s)\n", labels, c.getCount(), c.getRate()));
+            } else if (m instanceof JSLMetricsGauge)
+                s.append(String.format("  - %-40s %.0f\n", labels, ((JSLMetricsGauge) m).getValue()));
+            else if (m instanceof JSLMetricsHistogram) {
+                JSLMetricsHistogram h = (JSLMetricsHistogram) m;
+                if (h.getCount() == 0)
+                    continue;
+                s.append(String.format("  - %-40s count: %d, p50: %.3f ms, p90: %.3f ms, p99: %.3f ms, max: %.3f ms\n", labels, h.getCount(),
+                        h.getPercentile(50) / 1_000_000.0, h.getPercentile(90) / 1_000_000.0, h.getPercentile(99) / 1_000_000.0, h.getMax() / 1_000_000.0));
+            }
+        }
+        return s.toString();
+    }
+
+    @Command(description = "Print communication metrics using the Prometheus text format.")
+    public String commPrintMetricsPrometheus() {
+        return JSLMetricsPrometheusExporter.format(comm.getMetrics());
+    }
+
 
     // Cloud communication mngm
 
@@ -196,6 +260,11 @@ public class CmdsJSLCommunication {
                 System.out.println(CmdsJSLObjsMngr.PRE + " Local DISCONNECTED (" + jslObj.getName() + ") " + CmdsJSLObjsMngr.POST);
             }
 
+            @Override
+            public void onLocalSwitched(JSLRemoteObject jslObj, JSLLocalClient oldClient, JSLLocalClient newClient) {
+                System.out.println(CmdsJSLObjsMngr.PRE + " Local SWITCHED (" + jslObj.getName() + ")" + CmdsJSLObjsMngr.POST);
+            }
+
         });
 
         return "ok";
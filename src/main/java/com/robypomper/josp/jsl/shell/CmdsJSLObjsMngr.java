@@ -93,6 +93,14 @@ public class CmdsJSLObjsMngr {
         s += "    perm:         " + obj.getPerms().getServicePerm(JOSPPerm.Connection.LocalAndCloud) + "\n";
         s += "Direct Comm:      " + obj.getComm().isLocalConnected() + "\n";
         s += "       perm:      " + obj.getPerms().getServicePerm(JOSPPerm.Connection.OnlyLocal) + "\n";
+        if (obj.getComm() instanceof DefaultObjComm) {
+            ObjPathSelector selector = ((DefaultObjComm) obj.getComm()).getPathSelector();
+            s += "Send path:        " + selector.getCurrentPath() + "\n";
+            for (ObjPathSelector.Path path : ObjPathSelector.Path.values()) {
+                ObjPathSelector.PathQuality quality = selector.getQuality(path);
+                s += String.format("    %-5s         rtt: %.3f ms (%d samples); failures: %.2f; in-flight: %d; score: %.3f\n", path, quality.getLatencyMs(), quality.getSamples(), quality.getFailures(), quality.getInFlight(), quality.getScore());
+            }
+        }
 
         return s;
     }
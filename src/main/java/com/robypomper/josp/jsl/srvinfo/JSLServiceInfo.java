@@ -139,6 +139,38 @@ public interface JSLServiceInfo {
     void stopAutoRefresh();
 
 
+    // Listeners
+
+    /**
+     * Add given listener to the service's info changes.
+     *
+     * @param listener the listener to add.
+     */
+    void addServiceInfoListener(ServiceInfoListener listener);
+
+    /**
+     * Remove given listener from the service's info changes.
+     *
+     * @param listener the listener to remove.
+     */
+    void removeServiceInfoListener(ServiceInfoListener listener);
+
+    /**
+     * Listener for the service's info changes.
+     * <p>
+     * Methods are called only when the value actually changed.
+     */
+    interface ServiceInfoListener {
+
+        void onSrvIdChanged(JSLServiceInfo srvInfo, String oldSrvId);
+
+        void onSrvNameChanged(JSLServiceInfo srvInfo, String oldSrvName);
+
+        void onFullIdChanged(JSLServiceInfo srvInfo, String oldFullId);
+
+    }
+
+
     // Exceptions
 
     /**
@@ -21,15 +21,28 @@ package com.robypomper.josp.jsl.srvinfo;
 import com.robypomper.josp.callers.apis.core.services.Caller20;
 import com.robypomper.josp.clients.JCPAPIsClientSrv;
 import com.robypomper.josp.jsl.JSLSettings_002;
+import com.robypomper.josp.jsl.JSLThreads;
 import com.robypomper.josp.jsl.comm.JSLCommunication;
 import com.robypomper.josp.jsl.objs.JSLObjsMngr;
 import com.robypomper.josp.jsl.user.JSLUserMngr;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
 
 /**
- *
+ * JSLServiceInfo implementation that caches the service's info.
+ * <p>
+ * Service's id, name and full id are cached into volatile fields, so they can
+ * be read lock-free by the hot paths (like the messages formatting). Cached
+ * values are updated on user's login/logout and, when the auto-refresh is
+ * started, periodically on the {@link JSLThreads#getScheduler()} shared
+ * scheduler. Listeners are notified only when a value actually changed.
  */
 public class JSLServiceInfo_002 implements JSLServiceInfo {
 
@@ -45,10 +58,24 @@ public class JSLServiceInfo_002 implements JSLServiceInfo {
     private static final Logger log = LoggerFactory.getLogger(JSLServiceInfo_002.class);
     private final JSLSettings_002 locSettings;
     private final Caller20 apiSrvsCaller;
+    private final JCPAPIsClientSrv jcpClient;
     private JSLUserMngr userMngr;
     private JSLObjsMngr objs;
     private JSLCommunication comm;
     private String instanceId;
+    private volatile String srvId;
+    private volatile String srvName;
+    private volatile String fullId;
+    /**
+     * Lock used to compute and publish the full id atomically.
+     */
+    private final Object fullIdLock = new Object();
+    /**
+     * Service's id set to the JCP client, null if it must be updated.
+     */
+    private volatile String jcpClientSrvId;
+    private final List<ServiceInfoListener> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledFuture<?> refreshTask = null;
 
 
     // Constructor
@@ -67,9 +94,13 @@ public class JSLServiceInfo_002 implements JSLServiceInfo {
         this.locSettings = settings;
         this.instanceId = instanceId;
         this.apiSrvsCaller = new Caller20(jcpClient);
+        this.jcpClient = jcpClient;
+        this.srvId = locSettings.getSrvId();
+        this.srvName = locSettings.getSrvName();
 
         log.debug("Setting service's id to JCPClient");
-        jcpClient.setServiceId(getSrvId());
+        jcpClient.setServiceId(srvId);
+        jcpClientSrvId = srvId;
         log.debug("Service's id set to JCPClient");
 
         log.info(String.format("Initialized JSLServiceInfo instance for '%s' service with '%s' id", getSrvName(), getSrvId()));
@@ -83,10 +114,38 @@ public class JSLServiceInfo_002 implements JSLServiceInfo {
      */
     @Override
     public void setSystems(JSLUserMngr userMngr, JSLObjsMngr objs) {
+        if (this.userMngr != null)
+            this.userMngr.removeUserListener(userListener);
         this.userMngr = userMngr;
         this.objs = objs;
+        this.userMngr.addUserListener(userListener);
+        updateFullId();
     }
 
+    private final JSLUserMngr.UserListener userListener = new JSLUserMngr.UserListener() {
+
+        @Override
+        public void onLoginPreRestart(JSLUserMngr jslUserMngr) {
+            updateFullId();
+        }
+
+        @Override
+        public void onLogoutPreRestart(JSLUserMngr jslUserMngr) {
+            updateFullId();
+        }
+
+        @Override
+        public void onLogin(JSLUserMngr jslUserMngr) {
+            updateFullId();
+        }
+
+        @Override
+        public void onLogout(JSLUserMngr jslUserMngr) {
+            updateFullId();
+        }
+
+    };
+
     /**
      * {@inheritDoc}
      */
@@ -103,7 +162,7 @@ public class JSLServiceInfo_002 implements JSLServiceInfo {
      */
     @Override
     public String getSrvId() {
-        return locSettings.getSrvId();
+        return srvId;
     }
 
     /**
@@ -111,7 +170,7 @@ public class JSLServiceInfo_002 implements JSLServiceInfo {
      */
     @Override
     public String getSrvName() {
-        return locSettings.getSrvName();
+        return srvName;
     }
 
 
@@ -168,7 +227,8 @@ public class JSLServiceInfo_002 implements JSLServiceInfo {
      * @return an id composed by service and user id.
      */
     public String getFullId() {
-        return String.format(FULL_ID_FORMATTER, getSrvId(), getUserId(), getInstanceId());
+        String id = fullId;
+        return id != null ? id : updateFullId();
     }
 
 
@@ -203,16 +263,110 @@ public class JSLServiceInfo_002 implements JSLServiceInfo {
      * {@inheritDoc}
      */
     @Override
-    public void startAutoRefresh() {
+    public synchronized void startAutoRefresh() {
+        long intervalMs = locSettings.getSrvRefreshInterval();
+        if (refreshTask != null || intervalMs <= 0)
+            return;
 
+        refreshTask = JSLThreads.getScheduler().scheduleWithFixedDelay(this::refresh, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.debug(String.format("Service's info auto-refresh started (interval %d ms)", intervalMs));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void stopAutoRefresh() {
+    public synchronized void stopAutoRefresh() {
+        if (refreshTask == null)
+            return;
+
+        refreshTask.cancel(false);
+        refreshTask = null;
+        log.debug("Service's info auto-refresh stopped");
+    }
+
+    /**
+     * Reload the service's info and, on changes, update the cached values,
+     * the JCP client's service id and notify the listeners.
+     * <p>
+     * The JCP client is updated only when it's connected; otherwise the new
+     * service's id is sent on next refresh.
+     */
+    private void refresh() {
+        try {
+            String newSrvName = locSettings.getSrvName();
+            String oldSrvName = srvName;
+            if (!Objects.equals(oldSrvName, newSrvName)) {
+                srvName = newSrvName;
+                log.info(String.format("Service's name changed from '%s' to '%s'", oldSrvName, newSrvName));
+                for (ServiceInfoListener l : listeners)
+                    l.onSrvNameChanged(this, oldSrvName);
+            }
+
+            String newSrvId = locSettings.getSrvId();
+            String oldSrvId = srvId;
+            if (!Objects.equals(oldSrvId, newSrvId)) {
+                srvId = newSrvId;
+                jcpClientSrvId = null;
+                log.info(String.format("Service's id changed from '%s' to '%s'", oldSrvId, newSrvId));
+                for (ServiceInfoListener l : listeners)
+                    l.onSrvIdChanged(this, oldSrvId);
+                updateFullId();
+            }
+
+            if (jcpClientSrvId == null && jcpClient.isConnected()) {
+                jcpClient.setServiceId(srvId);
+                jcpClientSrvId = srvId;
+            }
+
+        } catch (Throwable t) {
+            log.warn(String.format("Error on refreshing service's info because %s", t.getMessage()), t);
+        }
+    }
 
+    /**
+     * Compute the full id and, on changes, update the cached value and notify
+     * the listeners.
+     * <p>
+     * The full id is computed and published holding a lock, so concurrent
+     * updates (e.g. a user's login and a service's id refresh) can't publish
+     * a full id computed from outdated values. Listeners are notified after
+     * releasing the lock.
+     *
+     * @return the updated full id.
+     */
+    private String updateFullId() {
+        String oldFullId;
+        String newFullId;
+        synchronized (fullIdLock) {
+            String userId = userMngr != null ? userMngr.getUserId() : null;
+            newFullId = String.format(FULL_ID_FORMATTER, srvId, userId, instanceId);
+            oldFullId = fullId;
+            fullId = newFullId;
+        }
+        if (oldFullId != null && !oldFullId.equals(newFullId))
+            for (ServiceInfoListener l : listeners)
+                l.onFullIdChanged(this, oldFullId);
+        return newFullId;
+    }
+
+
+    // Listeners
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addServiceInfoListener(ServiceInfoListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeServiceInfoListener(ServiceInfoListener listener) {
+        listeners.remove(listener);
     }
 
 }
@@ -20,7 +20,6 @@ package com.robypomper.josp.jsl.user;
 
 import com.robypomper.comm.exception.PeerConnectionException;
 import com.robypomper.comm.exception.PeerDisconnectionException;
-import com.robypomper.discovery.Discover;
 import com.robypomper.josp.callers.apis.core.users.Caller20;
 import com.robypomper.josp.clients.JCPAPIsClientSrv;
 import com.robypomper.josp.clients.JCPClient2;
@@ -28,7 +27,6 @@ import com.robypomper.josp.defs.core.users.Params20;
 import com.robypomper.josp.jsl.JSLSettings_002;
 import com.robypomper.josp.jsl.comm.JSLCommunication;
 import com.robypomper.josp.protocol.JOSPPerm;
-import com.robypomper.josp.states.StateException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -209,6 +207,7 @@ public class JSLUserMngr_002 implements JSLUserMngr, JCPClient2.LoginListener {
         if (comm == null)
             return;
 
+        // Cloud identity is bound to the GW session, so the cloud client must re-connect
         if (comm.getCloudConnection().getState().isConnected()) {
             try {
                 comm.getCloudConnection().disconnect();
@@ -221,15 +220,8 @@ public class JSLUserMngr_002 implements JSLUserMngr, JCPClient2.LoginListener {
                 log.warn(String.format("Error on starting cloud communication on updating user id because %s", e.getMessage()), e);
             }
         }
-        if (comm.getLocalConnections().isRunning()) {
-            try {
-                comm.getLocalConnections().stop();
-                comm.getLocalConnections().start();
-
-            } catch (StateException | Discover.DiscoveryException e) {
-                log.warn(String.format("Error on restart local communication on updating user id because %s", e.getMessage()), e);
-            }
-        }
+        // Local connections present the new identity without disconnecting objects
+        comm.getLocalConnections().reAuthenticate();
 
         _emitLoggedIn();
     }
@@ -252,6 +244,7 @@ public class JSLUserMngr_002 implements JSLUserMngr, JCPClient2.LoginListener {
         if (comm == null)
             return;
 
+        // Cloud identity is bound to the GW session, so the cloud client must re-connect
         if (comm.getCloudConnection().getState().isConnected()) {
             try {
                 comm.getCloudConnection().disconnect();
@@ -264,15 +257,8 @@ public class JSLUserMngr_002 implements JSLUserMngr, JCPClient2.LoginListener {
                 log.warn(String.format("Error on starting cloud communication on updating user id because %s", e.getMessage()), e);
             }
         }
-        if (comm.getLocalConnections().isRunning()) {
-            try {
-                comm.getLocalConnections().stop();
-                comm.getLocalConnections().start();
-
-            } catch (StateException | Discover.DiscoveryException e) {
-                log.warn(String.format("Error on restart local communication on updating user id because %s", e.getMessage()), e);
-            }
-        }
+        // Local connections present the new identity without disconnecting objects
+        comm.getLocalConnections().reAuthenticate();
 
         _emitLoggedOut();
     }
@@ -0,0 +1,186 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLEventBus} modes, with the focus on the events'
+ * order in the {@link JSLEventBus.Mode#RING} mode and while the ring stops.
+ */
+public class JSLEventBusTest {
+
+    // Class constants
+
+    private static final long TIMEOUT_MS = 5000;
+
+
+    @AfterEach
+    public void tearDown() {
+        JSLEventBus.stopRing();
+    }
+
+
+    // Tests
+
+    @Test
+    public void testSyncModeDispatchesOnPublisherThread() {
+        Thread publisher = Thread.currentThread();
+        List<Thread> threads = new ArrayList<>();
+
+        assertEquals(JSLEventBus.Mode.SYNC, JSLEventBus.getMode());
+        JSLEventBus.publish((o1, o2, o3, d1, d2) -> threads.add(Thread.currentThread()), null);
+        assertEquals(1, threads.size());
+        assertSame(publisher, threads.get(0));
+    }
+
+    @Test
+    public void testRingModeDispatchesAllArgs() throws InterruptedException {
+        JSLEventBus.startRing(16, JSLEventBus.WaitStrategy.BLOCKING, 4);
+        assertEquals(JSLEventBus.Mode.RING, JSLEventBus.getMode());
+        CountDownLatch dispatched = new CountDownLatch(1);
+        Object[] received = new Object[5];
+        Thread[] consumer = new Thread[1];
+
+        JSLEventBus.publish((o1, o2, o3, d1, d2) -> {
+            received[0] = o1;
+            received[1] = o2;
+            received[2] = o3;
+            received[3] = d1;
+            received[4] = d2;
+            consumer[0] = Thread.currentThread();
+            dispatched.countDown();
+        }, "a", "b", "c", 1.5, 2.5);
+
+        assertTrue(dispatched.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals("a", received[0]);
+        assertEquals("b", received[1]);
+        assertEquals("c", received[2]);
+        assertEquals(1.5, received[3]);
+        assertEquals(2.5, received[4]);
+        assertNotSame(Thread.currentThread(), consumer[0]);
+    }
+
+    @Test
+    public void testRingModeKeepsOrderWhenFull() {
+        JSLEventBus.startRing(8, JSLEventBus.WaitStrategy.SLEEPING, 3);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        JSLEventBus.Handler handler = (o1, o2, o3, d1, d2) -> received.add((Integer) o1);
+
+        int count = 1000;
+        for (int i = 0; i < count; i++)
+            JSLEventBus.publish(handler, i);
+        JSLEventBus.stopRing();
+
+        assertSequence(received, count);
+    }
+
+    @Test
+    public void testHandlerErrorDoesNotStopConsumer() {
+        JSLEventBus.startRing(16, JSLEventBus.WaitStrategy.BLOCKING, 4);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        JSLEventBus.publish((o1, o2, o3, d1, d2) -> {
+            throw new IllegalStateException("Test failure");
+        }, null);
+        JSLEventBus.publish((o1, o2, o3, d1, d2) -> received.add((Integer) o1), 0);
+        JSLEventBus.stopRing();
+
+        assertSequence(received, 1);
+    }
+
+    @Test
+    public void testEventsPublishedByListenersAreDispatchedImmediately() {
+        JSLEventBus.startRing(16, JSLEventBus.WaitStrategy.BLOCKING, 4);
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        JSLEventBus.Handler inner = (o1, o2, o3, d1, d2) -> received.add("inner");
+
+        JSLEventBus.publish((o1, o2, o3, d1, d2) -> {
+            JSLEventBus.publish(inner, null);
+            received.add("outer");
+        }, null);
+        JSLEventBus.stopRing();
+
+        assertEquals(2, received.size());
+        assertEquals("inner", received.get(0));
+        assertEquals("outer", received.get(1));
+    }
+
+    @Test
+    public void testRingIsReleasedByItsLastUser() throws InterruptedException {
+        JSLEventBus.startRing(16, JSLEventBus.WaitStrategy.BLOCKING, 4);
+        JSLEventBus.startRing(32, JSLEventBus.WaitStrategy.SLEEPING, 8);
+
+        JSLEventBus.stopRing();
+        assertEquals(JSLEventBus.Mode.RING, JSLEventBus.getMode());
+        CountDownLatch dispatched = new CountDownLatch(1);
+        Thread[] consumer = new Thread[1];
+        JSLEventBus.publish((o1, o2, o3, d1, d2) -> {
+            consumer[0] = Thread.currentThread();
+            dispatched.countDown();
+        }, null);
+        assertTrue(dispatched.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertNotSame(Thread.currentThread(), consumer[0]);
+
+        JSLEventBus.stopRing();
+        assertEquals(JSLEventBus.Mode.SYNC, JSLEventBus.getMode());
+    }
+
+    @Test
+    public void testStopRingKeepsOrderOfConcurrentPublishers() throws InterruptedException {
+        int count = 20_000;
+        for (int round = 0; round < 10; round++) {
+            JSLEventBus.startRing(64, JSLEventBus.WaitStrategy.BLOCKING, 8);
+            List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+            JSLEventBus.Handler handler = (o1, o2, o3, d1, d2) -> received.add((Integer) o1);
+
+            Thread publisher = new Thread(() -> {
+                for (int i = 0; i < count; i++)
+                    JSLEventBus.publish(handler, i);
+            });
+            publisher.start();
+            Thread.sleep(1);
+            JSLEventBus.stopRing();
+            publisher.join(TIMEOUT_MS);
+
+            assertEquals(JSLEventBus.Mode.SYNC, JSLEventBus.getMode());
+            assertSequence(received, count);
+        }
+    }
+
+
+    // Utils
+
+    private static void assertSequence(List<Integer> received, int count) {
+        assertEquals(count, received.size());
+        for (int i = 0; i < count; i++)
+            assertEquals(i, (int) received.get(i), "Event out of order");
+    }
+
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.admin;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLAdminCache} TTLs, single-flight requests and
+ * invalidations.
+ */
+public class JSLAdminCacheTest {
+
+    // Class constants
+
+    private static final String KEY = "executable/Gateways/CPU/gw1";
+    private static final long TTL_MS = 60 * 1000;
+    private static final long TIMEOUT_MS = 5000;
+
+
+    // Tests
+
+    @Test
+    public void testPrefixTTLs() {
+        JSLAdminCache cache = new JSLAdminCache(TTL_MS, "executable/Gateways=100, executable/Gateways/CPU=0, invalid");
+
+        assertEquals(TTL_MS, cache.getTTL("executable/JSLWebBridge"));
+        assertEquals(100, cache.getTTL("executable/Gateways/Memory/gw1"));
+        assertEquals(0, cache.getTTL(KEY));
+    }
+
+    @Test
+    public void testCachedResponse() throws Exception {
+        JSLAdminCache cache = new JSLAdminCache(TTL_MS, null);
+
+        assertEquals("first", cache.get(KEY, () -> "first"));
+        assertEquals("first", cache.get(KEY, () -> "second"));
+        assertEquals(1, cache.getMissesCount());
+        assertEquals(1, cache.getHitsCount());
+    }
+
+    @Test
+    public void testInvalidateAllWhileRequestInFlight() throws Exception {
+        JSLAdminCache cache = new JSLAdminCache(TTL_MS, null);
+        assertInvalidateWhileRequestInFlight(cache, cache::invalidateAll);
+    }
+
+    @Test
+    public void testInvalidatePrefixWhileRequestInFlight() throws Exception {
+        JSLAdminCache cache = new JSLAdminCache(TTL_MS, null);
+        assertInvalidateWhileRequestInFlight(cache, () -> cache.invalidate("executable/Gateways"));
+    }
+
+
+    // Utils
+
+    private static void assertInvalidateWhileRequestInFlight(JSLAdminCache cache, Runnable invalidation) throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> stale = executor.submit(() -> cache.get(KEY, () -> {
+                started.countDown();
+                await(release);
+                return "stale";
+            }));
+            assertTrue(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+            // Requested after the invalidation: must not wait for the stale request
+            invalidation.run();
+            assertEquals("fresh", cache.get(KEY, () -> "fresh"));
+            assertEquals(0, cache.getCollapsedCount());
+
+            release.countDown();
+            assertEquals("stale", stale.get(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+            assertEquals("fresh", cache.get(KEY, () -> "other"));
+            assertEquals(2, cache.getMissesCount());
+
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.admin;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLAdminTimeSeries} ring buffer and its queries.
+ */
+public class JSLAdminTimeSeriesTest {
+
+    // Tests
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new JSLAdminTimeSeries("test", 0));
+    }
+
+    @Test
+    public void testEmptySeries() {
+        JSLAdminTimeSeries series = new JSLAdminTimeSeries("test", 4);
+
+        assertEquals(0, series.size());
+        assertTrue(Double.isNaN(series.getLast()));
+        assertEquals(0, series.getLastTimestamp());
+
+        JSLAdminTimeSeries.Points points = series.query();
+        assertEquals(0, points.size());
+        assertTrue(Double.isNaN(points.getMin()));
+        assertTrue(Double.isNaN(points.getMax()));
+        assertTrue(Double.isNaN(points.getAvg()));
+        assertEquals(0, series.queryLast(3).size());
+    }
+
+    @Test
+    public void testQueryBeforeWrapping() {
+        JSLAdminTimeSeries series = fill(4, 3);
+
+        assertEquals(3, series.size());
+        assertEquals(30.0, series.getLast());
+        assertEquals(3000, series.getLastTimestamp());
+        assertArrayEquals(new long[]{1000, 2000, 3000}, series.query().getTimestamps());
+        assertArrayEquals(new double[]{10, 20, 30}, series.query().getValues());
+    }
+
+    @Test
+    public void testOldestSamplesOverwritten() {
+        JSLAdminTimeSeries series = fill(4, 6);
+
+        assertEquals(4, series.size());
+        assertEquals(60.0, series.getLast());
+        assertArrayEquals(new long[]{3000, 4000, 5000, 6000}, series.query().getTimestamps());
+        assertArrayEquals(new double[]{30, 40, 50, 60}, series.query().getValues());
+    }
+
+    @Test
+    public void testQueryTimeRange() {
+        JSLAdminTimeSeries series = fill(4, 6);
+
+        assertArrayEquals(new long[]{4000, 5000}, series.query(4000, 5000).getTimestamps());
+        assertArrayEquals(new long[]{3000, 4000}, series.query(0, 4500).getTimestamps());
+        assertArrayEquals(new long[]{6000}, series.query(5500, Long.MAX_VALUE).getTimestamps());
+        assertEquals(0, series.query(1000, 2000).size());
+        assertEquals(0, series.query(7000, 8000).size());
+        assertEquals(0, series.query(5000, 4000).size());
+    }
+
+    @Test
+    public void testQueryLast() {
+        JSLAdminTimeSeries series = fill(4, 6);
+
+        assertArrayEquals(new double[]{50, 60}, series.queryLast(2).getValues());
+        assertArrayEquals(new double[]{30, 40, 50, 60}, series.queryLast(10).getValues());
+        assertEquals(0, series.queryLast(0).size());
+        assertEquals(0, series.queryLast(-1).size());
+    }
+
+    @Test
+    public void testPointsStats() {
+        JSLAdminTimeSeries series = new JSLAdminTimeSeries("test", 4);
+        series.add(1000, 5);
+        series.add(2000, -3);
+        series.add(3000, 7);
+        series.add(4000, 3);
+
+        JSLAdminTimeSeries.Points points = series.query();
+        assertEquals(-3.0, points.getMin());
+        assertEquals(7.0, points.getMax());
+        assertEquals(3.0, points.getAvg());
+    }
+
+    @Test
+    public void testClear() {
+        JSLAdminTimeSeries series = fill(4, 6);
+
+        series.clear();
+        assertEquals(0, series.size());
+        assertEquals(0, series.query().size());
+
+        series.add(7000, 70);
+        assertArrayEquals(new double[]{70}, series.query().getValues());
+    }
+
+
+    // Utils
+
+    /**
+     * @return a series with given capacity and <code>count</code> samples,
+     * with timestamps <code>i*1000</code> and values <code>i*10</code>.
+     */
+    private static JSLAdminTimeSeries fill(int capacity, int count) {
+        JSLAdminTimeSeries series = new JSLAdminTimeSeries("test", capacity);
+        for (int i = 1; i <= count; i++)
+            series.add(i * 1000L, i * 10);
+        return series;
+    }
+
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.josp.jsl.objs.JSLRemoteObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test class for the {@link JSLLocalClientsRegistry} indexes, through the
+ * connections' lifecycle, the backups registration and their promotion.
+ */
+public class JSLLocalClientsRegistryTest {
+
+    // Internal vars
+
+    private final JSLLocalClientsRegistry registry = new JSLLocalClientsRegistry();
+    private final JSLRemoteObject remObj = mock(JSLRemoteObject.class);
+
+
+    // Tests
+
+    @Test
+    public void testConnectionLifecycle() {
+        JSLLocalClient client = client(true);
+
+        registry.registerConnection(client);
+        assertTrue(registry.getClients().contains(client));
+        assertFalse(registry.hasObjectId(client));
+
+        registry.setObjectId(client, "objId");
+        assertEquals("objId", registry.getObjectId(client));
+
+        assertTrue(registry.activateIfAbsent(client, remObj));
+        assertSame(client, registry.getActiveClient(remObj));
+        assertSame(remObj, registry.getRemoteObject(client));
+
+        assertSame(remObj, registry.deregisterConnection(client));
+        assertNull(registry.getActiveClient(remObj));
+        assertNull(registry.getObjectId(client));
+        assertTrue(registry.getClients().isEmpty());
+    }
+
+    @Test
+    public void testActivateIfAbsentKeepsConnectedActive() {
+        JSLLocalClient active = client(true);
+        JSLLocalClient other = client(true);
+        registry.registerConnection(active);
+        registry.activateIfAbsent(active, remObj);
+
+        registry.registerConnection(other);
+        assertFalse(registry.activateIfAbsent(other, remObj));
+        assertSame(active, registry.getActiveClient(remObj));
+    }
+
+    @Test
+    public void testActivateIfAbsentReplacesDisconnectedActive() {
+        JSLLocalClient active = client(true);
+        JSLLocalClient other = client(true);
+        registry.registerConnection(active);
+        registry.activateIfAbsent(active, remObj);
+        setConnected(active, false);
+
+        registry.registerConnection(other);
+        assertTrue(registry.activateIfAbsent(other, remObj));
+        assertSame(other, registry.getActiveClient(remObj));
+        assertFalse(registry.getClients().contains(active));
+        assertNull(registry.getRemoteObject(active));
+    }
+
+    @Test
+    public void testDeregisterReplacedConnectionKeepsNewActive() {
+        JSLLocalClient old = client(true);
+        JSLLocalClient current = client(true);
+        registry.activate(old, remObj);
+        registry.activate(current, remObj);
+
+        assertSame(remObj, registry.deregisterConnection(old));
+        assertSame(current, registry.getActiveClient(remObj));
+    }
+
+    @Test
+    public void testRegisterBackupIfAbsent() {
+        JSLLocalClient backup = client(true);
+        JSLLocalClient other = client(true);
+
+        assertTrue(registry.registerBackupIfAbsent(backup, remObj));
+        assertFalse(registry.registerBackupIfAbsent(other, remObj));
+        assertTrue(registry.isBackup(backup));
+        assertFalse(registry.isBackup(other));
+        assertFalse(registry.getClients().contains(backup));
+        assertSame(remObj, registry.getRemoteObject(backup));
+        assertEquals(1, registry.getBackupClients(remObj).size());
+
+        setConnected(backup, false);
+        assertFalse(registry.hasConnectedBackup(remObj));
+        assertTrue(registry.registerBackupIfAbsent(other, remObj));
+    }
+
+    @Test
+    public void testPromoteBackup() {
+        JSLLocalClient active = client(true);
+        JSLLocalClient closedBackup = client(false);
+        JSLLocalClient backup = client(true);
+        registry.activate(active, remObj);
+        registry.registerBackup(closedBackup, remObj);
+        registry.registerBackup(backup, remObj);
+
+        assertSame(backup, registry.promoteBackup(remObj));
+        assertSame(backup, registry.getActiveClient(remObj));
+        assertFalse(registry.isBackup(backup));
+        assertFalse(registry.isBackup(closedBackup));
+        assertTrue(registry.getBackupClients(remObj).isEmpty());
+        assertTrue(registry.getBackupClients().isEmpty());
+        assertTrue(registry.getClients().contains(backup));
+    }
+
+    @Test
+    public void testPromoteWithoutBackups() {
+        JSLLocalClient active = client(true);
+        registry.activate(active, remObj);
+
+        assertNull(registry.promoteBackup(remObj));
+        assertSame(active, registry.getActiveClient(remObj));
+    }
+
+    @Test
+    public void testClear() {
+        JSLLocalClient active = client(true);
+        JSLLocalClient backup = client(true);
+        registry.activate(active, remObj);
+        registry.registerBackup(backup, remObj);
+
+        registry.clear();
+        assertTrue(registry.getClients().isEmpty());
+        assertTrue(registry.getBackupClients().isEmpty());
+        assertNull(registry.getActiveClient(remObj));
+        assertFalse(registry.hasConnectedBackup(remObj));
+    }
+
+
+    // Utils
+
+    private static JSLLocalClient client(boolean connected) {
+        JSLLocalClient client = mock(JSLLocalClient.class, RETURNS_DEEP_STUBS);
+        setConnected(client, connected);
+        return client;
+    }
+
+    private static void setConnected(JSLLocalClient client, boolean connected) {
+        when(client.getState().isConnected()).thenReturn(connected);
+    }
+
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.josp.jsl.metrics.JSLMetrics;
+import com.robypomper.josp.jsl.metrics.JSLMetricsCounter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLLocalConnectionGovernor} backoff and circuit
+ * breaker.
+ * <p>
+ * The governor's clock is replaced by a manual clock, so the tests move the
+ * time forward without waiting. Because of the jitter, the backoff delays are
+ * checked against their [50%, 100%] range.
+ */
+public class JSLLocalConnectionGovernorTest {
+
+    // Class constants
+
+    private static final String KEY = "TestObject";
+    private static final int THRESHOLD = 3;
+    private static final long BASE_MS = 1000;
+    private static final long MAX_MS = 8000;
+
+
+    // Internal vars
+
+    private long now = 1_000_000;
+    private final JSLLocalConnectionGovernor governor = new JSLLocalConnectionGovernor(THRESHOLD, BASE_MS, MAX_MS, () -> now);
+
+
+    // Tests
+
+    @Test
+    public void testInvalidArgs() {
+        assertThrows(IllegalArgumentException.class, () -> new JSLLocalConnectionGovernor(0, BASE_MS, MAX_MS));
+        assertThrows(IllegalArgumentException.class, () -> new JSLLocalConnectionGovernor(THRESHOLD, -1, MAX_MS));
+        assertThrows(IllegalArgumentException.class, () -> new JSLLocalConnectionGovernor(THRESHOLD, MAX_MS, BASE_MS));
+    }
+
+    @Test
+    public void testUnknownObjectIsAllowed() {
+        assertEquals(JSLLocalConnectionGovernor.CircuitState.CLOSED, governor.getState(KEY));
+        assertEquals(0, governor.getRetryInMs(KEY));
+        assertTrue(governor.tryAcquire(KEY));
+        assertTrue(governor.tryAcquire(KEY));
+        assertEquals(2, governor.getAttemptsCount());
+    }
+
+    @Test
+    public void testBackoffDoublesAfterEachFailure() {
+        governor.onFailure(KEY);
+        assertRetryIn(BASE_MS / 2, BASE_MS);
+        assertFalse(governor.tryAcquire(KEY));
+        assertEquals(1, governor.getRejectedCount());
+
+        now += BASE_MS;
+        assertTrue(governor.tryAcquire(KEY));
+
+        governor.onFailure(KEY);
+        assertEquals(2, governor.getFailures(KEY));
+        assertRetryIn(BASE_MS, BASE_MS * 2);
+        assertEquals(JSLLocalConnectionGovernor.CircuitState.CLOSED, governor.getState(KEY));
+    }
+
+    @Test
+    public void testSuccessResetsBackoff() {
+        governor.onFailure(KEY);
+        governor.onSuccess(KEY);
+
+        assertEquals(0, governor.getRetryInMs(KEY));
+        assertTrue(governor.tryAcquire(KEY));
+    }
+
+    @Test
+    public void testThresholdOpensCircuit() {
+        openCircuit();
+
+        assertEquals(JSLLocalConnectionGovernor.CircuitState.OPEN, governor.getState(KEY));
+        assertEquals(1, governor.getOpenedCount());
+        assertEquals(1, governor.getOpenCount());
+        assertRetryIn(MAX_MS / 2, MAX_MS);
+        assertFalse(governor.tryAcquire(KEY));
+    }
+
+    @Test
+    public void testHalfOpenAllowsOnlyOneProbe() {
+        openCircuit();
+        now += MAX_MS;
+
+        assertTrue(governor.tryAcquire(KEY));
+        assertEquals(JSLLocalConnectionGovernor.CircuitState.HALF_OPEN, governor.getState(KEY));
+        assertFalse(governor.tryAcquire(KEY));
+
+        governor.onSuccess(KEY);
+        assertEquals(JSLLocalConnectionGovernor.CircuitState.CLOSED, governor.getState(KEY));
+        assertEquals(0, governor.getOpenCount());
+        assertTrue(governor.tryAcquire(KEY));
+    }
+
+    @Test
+    public void testFailedProbeReopensCircuit() {
+        openCircuit();
+        now += MAX_MS;
+        assertTrue(governor.tryAcquire(KEY));
+
+        governor.onFailure(KEY);
+        assertEquals(JSLLocalConnectionGovernor.CircuitState.OPEN, governor.getState(KEY));
+        assertEquals(2, governor.getOpenedCount());
+        assertFalse(governor.tryAcquire(KEY));
+    }
+
+    @Test
+    public void testStuckProbeTimesOut() {
+        openCircuit();
+        now += MAX_MS;
+        assertTrue(governor.tryAcquire(KEY));
+        assertEquals(JSLLocalConnectionGovernor.PROBE_TIMEOUT_MS, governor.getRetryInMs(KEY));
+
+        now += JSLLocalConnectionGovernor.PROBE_TIMEOUT_MS - 1;
+        assertFalse(governor.tryAcquire(KEY));
+        now += 1;
+        assertTrue(governor.tryAcquire(KEY));
+    }
+
+    @Test
+    public void testUnstableConnectionCountsAsFailure() {
+        governor.onSuccess(KEY);
+        now += JSLLocalConnectionGovernor.STABLE_CONNECTION_MS - 1;
+
+        governor.onDisconnected(KEY);
+        assertEquals(1, governor.getFailures(KEY));
+        assertFalse(governor.tryAcquire(KEY));
+    }
+
+    @Test
+    public void testStableConnectionResetsFailures() {
+        governor.onFailure(KEY);
+        governor.onFailure(KEY);
+        now += MAX_MS;
+        governor.onSuccess(KEY);
+        now += JSLLocalConnectionGovernor.STABLE_CONNECTION_MS;
+
+        governor.onDisconnected(KEY);
+        assertEquals(0, governor.getFailures(KEY));
+        assertTrue(governor.tryAcquire(KEY));
+
+        // A failure after a stable connection starts the backoff over
+        governor.onFailure(KEY);
+        assertEquals(1, governor.getFailures(KEY));
+        assertRetryIn(BASE_MS / 2, BASE_MS);
+    }
+
+    @Test
+    public void testReset() {
+        openCircuit();
+
+        governor.reset();
+        assertTrue(governor.getKeys().isEmpty());
+        assertTrue(governor.tryAcquire(KEY));
+    }
+
+    @Test
+    public void testMetrics() {
+        JSLMetrics metrics = new JSLMetrics();
+        JSLMetricsCounter attempts = metrics.counter(JSLMetrics.LOCAL_GOVERNOR_ATTEMPTS, "");
+        JSLMetricsCounter rejected = metrics.counter(JSLMetrics.LOCAL_GOVERNOR_REJECTED, "");
+        JSLMetricsCounter opened = metrics.counter(JSLMetrics.LOCAL_GOVERNOR_OPENED, "");
+        governor.setMetrics(attempts, rejected, opened);
+
+        assertTrue(governor.tryAcquire(KEY));
+        openCircuit();
+        assertFalse(governor.tryAcquire(KEY));
+
+        assertEquals(1, attempts.getCount());
+        assertEquals(1, rejected.getCount());
+        assertEquals(1, opened.getCount());
+        assertEquals(governor.getOpenedCount(), opened.getCount());
+    }
+
+
+    // Utils
+
+    private void openCircuit() {
+        for (int i = 0; i < THRESHOLD; i++)
+            governor.onFailure(KEY);
+    }
+
+    private void assertRetryIn(long min, long max) {
+        long retryIn = governor.getRetryInMs(KEY);
+        assertTrue(retryIn >= min && retryIn <= max, String.format("Retry in %d ms, expected between %d and %d ms", retryIn, min, max));
+    }
+
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLLocalConnectionsScheduler} per host limits,
+ * the pending tasks' order and the stop/start cycles.
+ */
+public class JSLLocalConnectionsSchedulerTest {
+
+    // Class constants
+
+    private static final long TIMEOUT_MS = 5000;
+
+
+    // Internal vars
+
+    private JSLLocalConnectionsScheduler scheduler;
+
+
+    @AfterEach
+    public void tearDown() {
+        if (scheduler != null)
+            scheduler.stop();
+    }
+
+
+    // Tests
+
+    @Test
+    public void testInvalidLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new JSLLocalConnectionsScheduler(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new JSLLocalConnectionsScheduler(1, 0));
+    }
+
+    @Test
+    public void testScheduleWhenNotRunning() throws Exception {
+        scheduler = new JSLLocalConnectionsScheduler(2, 1);
+        assertFalse(scheduler.isRunning());
+        assertFalse(scheduler.schedule(host(1), () -> {}));
+
+        scheduler.start();
+        assertTrue(scheduler.isRunning());
+        scheduler.stop();
+        assertFalse(scheduler.schedule(host(1), () -> {}));
+    }
+
+    @Test
+    public void testPerHostLimitAndOrder() throws Exception {
+        scheduler = new JSLLocalConnectionsScheduler(4, 1);
+        scheduler.start();
+        InetAddress host = host(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        assertTrue(scheduler.schedule(host, () -> {
+            awaitQuietly(release);
+            executed.add(0);
+        }));
+        for (int i = 1; i <= 3; i++) {
+            int id = i;
+            assertTrue(scheduler.schedule(host, () -> executed.add(id)));
+        }
+        assertEquals(1, scheduler.getRunningCount());
+        assertEquals(3, scheduler.getPendingCount());
+
+        release.countDown();
+        waitFor(() -> executed.size() == 4);
+        assertEquals(Arrays.asList(0, 1, 2, 3), executed);
+        waitFor(() -> scheduler.getRunningCount() == 0);
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    public void testDifferentHostsRunConcurrently() throws Exception {
+        scheduler = new JSLLocalConnectionsScheduler(4, 1);
+        scheduler.start();
+        CountDownLatch started = new CountDownLatch(3);
+        CountDownLatch release = new CountDownLatch(1);
+
+        for (int i = 1; i <= 3; i++)
+            scheduler.schedule(host(i), () -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+
+        assertTrue(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        assertEquals(3, scheduler.getRunningCount());
+        assertEquals(0, scheduler.getPendingCount());
+        release.countDown();
+    }
+
+    @Test
+    public void testFailingTaskReleasesHostSlot() throws Exception {
+        scheduler = new JSLLocalConnectionsScheduler(2, 1);
+        scheduler.start();
+        CountDownLatch executed = new CountDownLatch(1);
+
+        scheduler.schedule(host(1), () -> {
+            throw new IllegalStateException("Test failure");
+        });
+        scheduler.schedule(host(1), executed::countDown);
+
+        assertTrue(executed.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testStopDiscardsPendingTasks() throws Exception {
+        scheduler = new JSLLocalConnectionsScheduler(2, 1);
+        scheduler.start();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        scheduler.schedule(host(1), () -> awaitQuietly(release));
+        scheduler.schedule(host(1), () -> executed.add(1));
+        assertEquals(1, scheduler.getPendingCount());
+
+        scheduler.stop();
+        release.countDown();
+        assertEquals(0, scheduler.getRunningCount());
+        assertEquals(0, scheduler.getPendingCount());
+        Thread.sleep(100);
+        assertTrue(executed.isEmpty());
+    }
+
+    @Test
+    public void testTaskCompletedAfterRestartIsIgnored() throws Exception {
+        scheduler = new JSLLocalConnectionsScheduler(2, 1);
+        scheduler.start();
+        InetAddress host = host(1);
+        CountDownLatch releaseOld = new CountDownLatch(1);
+        CountDownLatch oldCompleted = new CountDownLatch(1);
+        scheduler.schedule(host, () -> {
+            awaitQuietly(releaseOld);
+            oldCompleted.countDown();
+        });
+
+        scheduler.stop();
+        scheduler.start();
+        CountDownLatch releaseNew = new CountDownLatch(1);
+        scheduler.schedule(host, () -> awaitQuietly(releaseNew));
+        scheduler.schedule(host, () -> {});
+        assertEquals(1, scheduler.getRunningCount());
+        assertEquals(1, scheduler.getPendingCount());
+
+        // The old task must not release the new task's host slot
+        releaseOld.countDown();
+        assertTrue(oldCompleted.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+        Thread.sleep(100);
+        assertEquals(1, scheduler.getRunningCount());
+        assertEquals(1, scheduler.getPendingCount());
+
+        releaseNew.countDown();
+        waitFor(() -> scheduler.getRunningCount() == 0 && scheduler.getPendingCount() == 0);
+    }
+
+
+    // Utils
+
+    private static InetAddress host(int id) throws UnknownHostException {
+        return InetAddress.getByAddress(new byte[]{10, 0, 0, (byte) id});
+    }
+
+    /**
+     * Wait for given latch ignoring the interruptions sent by the scheduler's
+     * stop, so the tests can decide when the tasks terminate.
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (latch.getCount() > 0 && System.currentTimeMillis() < deadline)
+            try {
+                latch.await(10, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ignore) {}
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline)
+                fail("Condition not reached within " + TIMEOUT_MS + " ms");
+            Thread.sleep(10);
+        }
+    }
+
+}
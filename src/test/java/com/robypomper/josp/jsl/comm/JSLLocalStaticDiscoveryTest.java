@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.comm;
+
+import com.robypomper.discovery.DiscoveryService;
+import com.robypomper.discovery.DiscoveryServicesListener;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLLocalStaticDiscovery} endpoints parsing, with
+ * single hosts and IPv4 CIDR ranges, and for the endpoints probing.
+ */
+public class JSLLocalStaticDiscoveryTest {
+
+    // Class constants
+
+    private static final int PROBE_TIMEOUT_MS = 500;
+    private static final int PROBE_INTERVAL_SEC = 1;
+    private static final long EVENT_TIMEOUT_SEC = 5;
+
+    // Tests
+
+    @Test
+    public void testSingleHost() throws UnknownHostException {
+        List<InetSocketAddress> list = JSLLocalStaticDiscovery.parseEndpoint("192.168.1.10:1234");
+
+        assertEquals(1, list.size());
+        assertEquals("192.168.1.10", list.get(0).getAddress().getHostAddress());
+        assertEquals(1234, list.get(0).getPort());
+    }
+
+    @Test
+    public void testCidrSkipsNetworkAndBroadcast() throws UnknownHostException {
+        List<InetSocketAddress> list = JSLLocalStaticDiscovery.parseEndpoint("10.0.0.0/24:1234");
+
+        assertEquals(254, list.size());
+        assertEquals("10.0.0.1", list.get(0).getAddress().getHostAddress());
+        assertEquals("10.0.0.254", list.get(list.size() - 1).getAddress().getHostAddress());
+        for (InetSocketAddress addr : list)
+            assertEquals(1234, addr.getPort());
+    }
+
+    @Test
+    public void testCidrBaseIsMasked() throws UnknownHostException {
+        List<InetSocketAddress> list = JSLLocalStaticDiscovery.parseEndpoint("10.0.1.77/30:1234");
+
+        assertEquals(2, list.size());
+        assertEquals("10.0.1.77", list.get(0).getAddress().getHostAddress());
+        assertEquals("10.0.1.78", list.get(1).getAddress().getHostAddress());
+    }
+
+    @Test
+    public void testCidrSmallRanges() throws UnknownHostException {
+        List<InetSocketAddress> single = JSLLocalStaticDiscovery.parseEndpoint("10.0.0.5/32:1234");
+        assertEquals(1, single.size());
+        assertEquals("10.0.0.5", single.get(0).getAddress().getHostAddress());
+
+        List<InetSocketAddress> pair = JSLLocalStaticDiscovery.parseEndpoint("10.0.0.5/31:1234");
+        assertEquals(2, pair.size());
+        assertEquals("10.0.0.4", pair.get(0).getAddress().getHostAddress());
+        assertEquals("10.0.0.5", pair.get(1).getAddress().getHostAddress());
+    }
+
+    @Test
+    public void testCidrMaxHosts() throws UnknownHostException {
+        assertEquals(JSLLocalStaticDiscovery.MAX_CIDR_HOSTS - 2, JSLLocalStaticDiscovery.parseEndpoint("10.1.0.0/16:1234").size());
+        assertThrows(IllegalArgumentException.class, () -> JSLLocalStaticDiscovery.parseEndpoint("10.0.0.0/15:1234"));
+    }
+
+    @Test
+    public void testInvalidEndpoints() {
+        assertThrows(IllegalArgumentException.class, () -> JSLLocalStaticDiscovery.parseEndpoint("192.168.1.10"));
+        assertThrows(IllegalArgumentException.class, () -> JSLLocalStaticDiscovery.parseEndpoint(":1234"));
+        assertThrows(IllegalArgumentException.class, () -> JSLLocalStaticDiscovery.parseEndpoint("192.168.1.10:port"));
+        assertThrows(IllegalArgumentException.class, () -> JSLLocalStaticDiscovery.parseEndpoint("192.168.1.10:0"));
+        assertThrows(IllegalArgumentException.class, () -> JSLLocalStaticDiscovery.parseEndpoint("192.168.1.10:65536"));
+        assertThrows(IllegalArgumentException.class, () -> JSLLocalStaticDiscovery.parseEndpoint("10.0.0.0/x:1234"));
+        assertThrows(IllegalArgumentException.class, () -> JSLLocalStaticDiscovery.parseEndpoint("10.0.0.0/33:1234"));
+    }
+
+    @Test
+    public void testReconnectReachableEndpoint() throws IOException, InterruptedException {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            String endpoint = String.format("%s:%d", InetAddress.getLoopbackAddress().getHostAddress(), server.getLocalPort());
+            AtomicBoolean connected = new AtomicBoolean(false);
+            RecordingListener listener = new RecordingListener();
+            JSLLocalStaticDiscovery discovery = new JSLLocalStaticDiscovery(endpoint, null, 1, PROBE_TIMEOUT_MS, PROBE_INTERVAL_SEC, new TestKnownEndpoints(connected));
+            discovery.addListener(listener);
+
+            discovery.start();
+            try {
+                DiscoveryService first = listener.discovered.poll(EVENT_TIMEOUT_SEC, TimeUnit.SECONDS);
+                assertNotNull(first);
+                assertEquals(server.getLocalPort(), (int) first.port);
+
+                // Connection failed or closed while the endpoint is still reachable
+                DiscoveryService again = listener.discovered.poll(EVENT_TIMEOUT_SEC, TimeUnit.SECONDS);
+                assertNotNull(again);
+                assertSame(first, again);
+                assertTrue(listener.lost.isEmpty());
+
+                // Connected endpoints are not probed, so they are not emitted again
+                connected.set(true);
+                Thread.sleep(TimeUnit.SECONDS.toMillis(PROBE_INTERVAL_SEC) + PROBE_TIMEOUT_MS);
+                listener.discovered.clear();
+                Thread.sleep(TimeUnit.SECONDS.toMillis(PROBE_INTERVAL_SEC * 2));
+                assertTrue(listener.discovered.isEmpty());
+
+            } finally {
+                discovery.stop();
+            }
+        }
+    }
+
+    @Test
+    public void testLostUnreachableEndpoint() throws IOException, InterruptedException {
+        ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        String endpoint = String.format("%s:%d", InetAddress.getLoopbackAddress().getHostAddress(), server.getLocalPort());
+        RecordingListener listener = new RecordingListener();
+        JSLLocalStaticDiscovery discovery = new JSLLocalStaticDiscovery(endpoint, null, 1, PROBE_TIMEOUT_MS, PROBE_INTERVAL_SEC, new TestKnownEndpoints(new AtomicBoolean(false)));
+        discovery.addListener(listener);
+
+        discovery.start();
+        try {
+            assertNotNull(listener.discovered.poll(EVENT_TIMEOUT_SEC, TimeUnit.SECONDS));
+
+            server.close();
+            DiscoveryService lost = listener.lost.poll(EVENT_TIMEOUT_SEC, TimeUnit.SECONDS);
+            assertNotNull(lost);
+            assertTrue(discovery.getDiscoveredServices().isEmpty());
+
+        } finally {
+            discovery.stop();
+            server.close();
+        }
+    }
+
+
+    // Test helpers
+
+    private static class TestKnownEndpoints implements JSLLocalStaticDiscovery.KnownEndpoints {
+
+        private final AtomicBoolean connected;
+
+        TestKnownEndpoints(AtomicBoolean connected) {
+            this.connected = connected;
+        }
+
+        @Override
+        public boolean isConnected(InetSocketAddress addr) {
+            return connected.get();
+        }
+
+        @Override
+        public String getServiceName(InetSocketAddress addr) {
+            return null;
+        }
+
+    }
+
+    private static class RecordingListener implements DiscoveryServicesListener {
+
+        final BlockingQueue<DiscoveryService> discovered = new LinkedBlockingQueue<>();
+        final BlockingQueue<DiscoveryService> lost = new LinkedBlockingQueue<>();
+
+        @Override
+        public void onServiceDiscovered(DiscoveryService discSrv) {
+            discovered.add(discSrv);
+        }
+
+        @Override
+        public void onServiceLost(DiscoveryService lostSrv) {
+            lost.add(lostSrv);
+        }
+
+    }
+
+}
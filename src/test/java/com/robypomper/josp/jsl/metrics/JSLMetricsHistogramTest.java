@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLMetricsHistogram} buckets and percentiles.
+ */
+public class JSLMetricsHistogramTest {
+
+    // Class constants
+
+    /**
+     * Max relative error of the values returned as percentiles.
+     */
+    private static final double PRECISION = 1.0 / JSLMetricsHistogram.SUB_BUCKETS;
+
+
+    // Internal vars
+
+    private final JSLMetricsHistogram histogram = new JSLMetricsHistogram("test_latency", Collections.emptyMap());
+
+
+    // Tests
+
+    @Test
+    public void testEmptyHistogram() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(JSLMetrics.Type.HISTOGRAM, histogram.getType());
+    }
+
+    @Test
+    public void testCountSumMaxAndMean() {
+        histogram.record(10);
+        histogram.record(20);
+        histogram.record(60);
+
+        assertEquals(3, histogram.getCount());
+        assertEquals(90, histogram.getSum());
+        assertEquals(60, histogram.getMax());
+        assertEquals(30.0, histogram.getMean());
+    }
+
+    @Test
+    public void testNegativeValuesRecordedAsZero() {
+        histogram.record(-100);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getSum());
+        assertEquals(0, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testSmallValuesHaveExactBuckets() {
+        int count = 2 * JSLMetricsHistogram.SUB_BUCKETS - 1;
+        for (int i = 1; i <= count; i++)
+            histogram.record(i);
+
+        // Percentiles in the middle of each value's rank
+        for (int i = 1; i <= count; i++) {
+            double percentile = (i - 0.5) * 100 / count;
+            assertEquals(i, histogram.getPercentile(percentile), "Percentile " + percentile);
+        }
+    }
+
+    @Test
+    public void testLargeValuesPrecision() {
+        for (int i = 1; i <= 1000; i++)
+            histogram.record(i * 1000L);
+
+        assertPercentile(50, 500_000);
+        assertPercentile(90, 900_000);
+        assertPercentile(99, 990_000);
+        assertEquals(1_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testPercentilesNeverExceedMax() {
+        histogram.record(1_000_003);
+
+        assertEquals(1_000_003, histogram.getPercentile(50));
+        assertEquals(1_000_003, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testPercentileOutOfRange() {
+        histogram.record(10);
+        histogram.record(1000);
+
+        assertEquals(10, histogram.getPercentile(-5));
+        assertEquals(1000, histogram.getPercentile(150));
+    }
+
+    @Test
+    public void testWholeLongRange() {
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        int threadsCount = 4;
+        int values = 10_000;
+        Thread[] threads = new Thread[threadsCount];
+        for (int t = 0; t < threadsCount; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 1; i <= values; i++)
+                    histogram.record(i);
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads)
+            t.join();
+
+        assertEquals((long) threadsCount * values, histogram.getCount());
+        assertEquals(values, histogram.getMax());
+        assertEquals(values, histogram.getPercentile(100));
+    }
+
+
+    // Utils
+
+    private void assertPercentile(double percentile, long expected) {
+        long value = histogram.getPercentile(percentile);
+        assertTrue(value >= expected && value <= expected * (1 + PRECISION),
+                String.format("Percentile %.1f is %d, expected between %d and %d", percentile, value, expected, (long) (expected * (1 + PRECISION))));
+    }
+
+}
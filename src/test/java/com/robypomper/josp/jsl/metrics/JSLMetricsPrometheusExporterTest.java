@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLMetricsPrometheusExporter} text format.
+ */
+public class JSLMetricsPrometheusExporterTest {
+
+    // Tests
+
+    @Test
+    public void testFormatValue() {
+        assertEquals("0", JSLMetricsPrometheusExporter.formatValue(0));
+        assertEquals("42", JSLMetricsPrometheusExporter.formatValue(42));
+        assertEquals("0.500000000", JSLMetricsPrometheusExporter.formatValue(0.5));
+        assertEquals("NaN", JSLMetricsPrometheusExporter.formatValue(Double.NaN));
+        assertEquals("+Inf", JSLMetricsPrometheusExporter.formatValue(Double.POSITIVE_INFINITY));
+        assertEquals("-Inf", JSLMetricsPrometheusExporter.formatValue(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    public void testFormatCounterAndGauge() {
+        JSLMetrics metrics = new JSLMetrics();
+        metrics.counter(JSLMetrics.LOCAL_FAILOVERS, "Failovers").add(3);
+        metrics.gauge(JSLMetrics.QUEUE_DEPTH, "Queues", () -> Double.POSITIVE_INFINITY, JSLMetrics.LABEL_QUEUE, "test");
+
+        String text = JSLMetricsPrometheusExporter.format(metrics);
+        assertTrue(text.contains("# TYPE jsl_local_failovers_total counter\n"), text);
+        assertTrue(text.contains("jsl_local_failovers_total 3\n"), text);
+        assertTrue(text.contains("# TYPE jsl_queue_depth gauge\n"), text);
+        assertTrue(text.contains("jsl_queue_depth{queue=\"test\"} +Inf\n"), text);
+        assertFalse(text.contains("Infinity"), text);
+    }
+
+    @Test
+    public void testFormatHistogram() {
+        JSLMetrics metrics = new JSLMetrics();
+        metrics.histogram(JSLMetrics.LOCAL_FAILOVER_LATENCY, "Failover latencies").record(2_000_000_000L);
+
+        String text = JSLMetricsPrometheusExporter.format(metrics);
+        assertTrue(text.contains("# TYPE jsl_local_failover_seconds summary\n"), text);
+        assertTrue(text.contains("jsl_local_failover_seconds{quantile=\"0.5\"} "), text);
+        assertTrue(text.contains("jsl_local_failover_seconds_count 1\n"), text);
+        assertTrue(text.contains("jsl_local_failover_seconds_sum 2\n"), text);
+    }
+
+}
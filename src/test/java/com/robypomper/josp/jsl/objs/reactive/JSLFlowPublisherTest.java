@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.objs.reactive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link JSLFlowPublisher} subscribers' demand, buffers
+ * and overflow strategies.
+ */
+public class JSLFlowPublisherTest {
+
+    // Class constants
+
+    private static final long TIMEOUT_MS = 5000;
+
+
+    // Tests
+
+    @Test
+    public void testInvalidArgs() {
+        assertThrows(IllegalArgumentException.class, () -> new TestPublisher(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TestPublisher(JSLFlow.OverflowStrategy.DROP_OLDEST, 0));
+    }
+
+    @Test
+    public void testAttachAndDetachWithSubscribers() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_OLDEST, 4);
+        TestSubscriber first = new TestSubscriber();
+        TestSubscriber second = new TestSubscriber();
+
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        assertEquals(1, publisher.attachCount);
+        assertEquals(2, publisher.getSubscribersCount());
+
+        first.subscription.cancel();
+        assertEquals(0, publisher.detachCount);
+        second.subscription.cancel();
+        assertEquals(1, publisher.detachCount);
+        assertEquals(0, publisher.getSubscribersCount());
+    }
+
+    @Test
+    public void testItemsDeliveredOnDemand() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_OLDEST, 8);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        for (int i = 0; i < 5; i++)
+            publisher.emit(i);
+        assertTrue(subscriber.items.isEmpty());
+
+        subscriber.subscription.request(2);
+        assertEquals(Arrays.asList(0, 1), subscriber.items);
+
+        subscriber.subscription.request(10);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), subscriber.items);
+
+        publisher.emit(5);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), subscriber.items);
+        assertEquals(0, publisher.getDroppedCount());
+    }
+
+    @Test
+    public void testUnboundedDemand() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_LATEST, 1);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        for (int i = 0; i < 100; i++)
+            publisher.emit(i);
+        assertEquals(100, subscriber.items.size());
+        assertEquals(0, publisher.getDroppedCount());
+    }
+
+    @Test
+    public void testDropOldest() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_OLDEST, 3);
+        TestSubscriber subscriber = subscribeWithoutDemand(publisher, 5);
+
+        subscriber.subscription.request(10);
+        assertEquals(Arrays.asList(2, 3, 4), subscriber.items);
+        assertEquals(2, publisher.getDroppedCount());
+    }
+
+    @Test
+    public void testDropLatest() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_LATEST, 3);
+        TestSubscriber subscriber = subscribeWithoutDemand(publisher, 5);
+
+        subscriber.subscription.request(10);
+        assertEquals(Arrays.asList(0, 1, 2), subscriber.items);
+        assertEquals(2, publisher.getDroppedCount());
+    }
+
+    @Test
+    public void testLatestKeepsOnlyLastItem() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.LATEST, 10);
+        TestSubscriber subscriber = subscribeWithoutDemand(publisher, 5);
+
+        subscriber.subscription.request(10);
+        assertEquals(Collections.singletonList(4), subscriber.items);
+        assertEquals(4, publisher.getDroppedCount());
+    }
+
+    @Test
+    public void testErrorOnOverflow() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.ERROR, 3);
+        TestSubscriber subscriber = subscribeWithoutDemand(publisher, 4);
+
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertFalse(subscriber.completed);
+        assertEquals(0, publisher.getSubscribersCount());
+        assertEquals(1, publisher.detachCount);
+
+        subscriber.subscription.request(10);
+        assertTrue(subscriber.items.isEmpty());
+    }
+
+    @Test
+    public void testInvalidRequestSignalsError() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_OLDEST, 4);
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(0);
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertEquals(0, publisher.getSubscribersCount());
+    }
+
+    @Test
+    public void testCloseCompletesAfterBufferedItems() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_OLDEST, 4);
+        TestSubscriber subscriber = subscribeWithoutDemand(publisher, 2);
+
+        publisher.close();
+        assertFalse(subscriber.completed);
+        assertEquals(1, publisher.detachCount);
+
+        subscriber.subscription.request(1);
+        assertFalse(subscriber.completed);
+        subscriber.subscription.request(1);
+        assertEquals(Arrays.asList(0, 1), subscriber.items);
+        assertTrue(subscriber.completed);
+
+        TestSubscriber late = new TestSubscriber();
+        publisher.subscribe(late);
+        assertTrue(late.completed);
+        assertEquals(1, publisher.attachCount);
+    }
+
+    @Test
+    public void testSubscribeRacingWithClose() throws InterruptedException {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_OLDEST, 4);
+        TestSubscriber subscriber = new TestSubscriber();
+        Thread subscribing = new Thread(() -> publisher.subscribe(subscriber));
+
+        // Close the publisher while the subscribing thread waits for its lock
+        synchronized (publisher) {
+            subscribing.start();
+            while (subscribing.getState() != Thread.State.BLOCKED && subscribing.isAlive())
+                Thread.sleep(1);
+            publisher.close();
+        }
+        subscribing.join(TIMEOUT_MS);
+
+        assertTrue(subscriber.completed);
+        assertEquals(0, publisher.getSubscribersCount());
+        assertEquals(0, publisher.attachCount);
+    }
+
+    @Test
+    public void testFailingSubscriberIsCancelled() {
+        TestPublisher publisher = new TestPublisher(JSLFlow.OverflowStrategy.DROP_OLDEST, 4);
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(Integer item) {
+                throw new IllegalStateException("Test failure");
+            }
+        };
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(10);
+        publisher.emit(0);
+        assertEquals(0, publisher.getSubscribersCount());
+        assertEquals(1, publisher.detachCount);
+    }
+
+
+    // Utils
+
+    private static TestSubscriber subscribeWithoutDemand(TestPublisher publisher, int count) {
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        for (int i = 0; i < count; i++)
+            publisher.emit(i);
+        assertTrue(subscriber.items.isEmpty());
+        return subscriber;
+    }
+
+    private static class TestPublisher extends JSLFlowPublisher<Integer> {
+
+        private int attachCount = 0;
+        private int detachCount = 0;
+
+        private TestPublisher(JSLFlow.OverflowStrategy strategy, int bufferSize) {
+            super(strategy, bufferSize);
+        }
+
+        @Override
+        protected void attach() {
+            attachCount++;
+        }
+
+        @Override
+        protected void detach() {
+            detachCount++;
+        }
+
+    }
+
+    private static class TestSubscriber implements JSLFlow.Subscriber<Integer> {
+
+        private final List<Integer> items = new ArrayList<>();
+        private JSLFlow.Subscription subscription;
+        private Throwable error;
+        private boolean completed = false;
+
+        @Override
+        public void onSubscribe(JSLFlow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * The John Operating System Project is the collection of software and configurations
+ * to generate IoT EcoSystem, like the John Operating System Platform one.
+ * Copyright (C) 2024 Roberto Pompermaier
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ ******************************************************************************/
+
+package com.robypomper.josp.jsl.objs.remote;
+
+import org.junit.jupiter.api.Test;
+
+import static com.robypomper.josp.jsl.objs.remote.ObjPathSelector.Path.CLOUD;
+import static com.robypomper.josp.jsl.objs.remote.ObjPathSelector.Path.LOCAL;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the {@link ObjPathSelector} round trip measures, hysteresis,
+ * idle decay, probes and reset.
+ * <p>
+ * The selector's clock is replaced by a manual clock, so the tests move the
+ * time forward without waiting.
+ */
+public class ObjPathSelectorTest {
+
+    // Class constants
+
+    private static final String COMP = "root>switch";
+    private static final long MS = 1_000_000;
+
+
+    // Internal vars
+
+    private long now = 1_000_000 * MS;
+    private final ObjPathSelector selector = new ObjPathSelector(() -> now);
+
+
+    // Tests
+
+    @Test
+    public void testAvailability() {
+        assertNull(selector.select(false, false));
+        assertEquals(LOCAL, selector.select(true, false));
+        assertEquals(CLOUD, selector.select(false, true));
+        assertEquals(LOCAL, selector.select(true, true));
+    }
+
+    @Test
+    public void testRoundTripMeasure() {
+        roundTrip(LOCAL, 20);
+        assertTrue(selector.getQuality(LOCAL).isMeasured());
+        assertEquals(20, selector.getQuality(LOCAL).getLatencyMs(), 0.001);
+
+        roundTrip(LOCAL, 10);
+        assertEquals(2, selector.getQuality(LOCAL).getSamples());
+        // Previous average slightly decayed during the second round trip
+        assertEquals(20 * (1 - ObjPathSelector.EWMA_ALPHA) + 10 * ObjPathSelector.EWMA_ALPHA, selector.getQuality(LOCAL).getLatencyMs(), 0.05);
+    }
+
+    @Test
+    public void testRoundTripIgnoresOtherResponses() {
+        selector.onRequestSent(LOCAL, COMP);
+        now += 5 * MS;
+        selector.onResponseReceived(LOCAL, "root>other");
+        selector.onResponseReceived(CLOUD, COMP);
+        assertFalse(selector.getQuality(LOCAL).isMeasured());
+        assertFalse(selector.getQuality(CLOUD).isMeasured());
+
+        selector.onResponseReceived(LOCAL, COMP);
+        assertEquals(1, selector.getQuality(LOCAL).getSamples());
+        assertEquals(5, selector.getQuality(LOCAL).getLatencyMs(), 0.001);
+    }
+
+    @Test
+    public void testRoundTripTimeoutAndFailure() {
+        selector.onRequestSent(LOCAL, COMP);
+        now += (ObjPathSelector.ROUND_TRIP_TIMEOUT_MS + 1) * MS;
+        selector.onResponseReceived(LOCAL, COMP);
+        assertFalse(selector.getQuality(LOCAL).isMeasured());
+
+        selector.onRequestSent(LOCAL, COMP);
+        selector.onSendFailed(LOCAL);
+        now += MS;
+        selector.onResponseReceived(LOCAL, COMP);
+        assertFalse(selector.getQuality(LOCAL).isMeasured());
+        assertEquals(1, selector.getQuality(LOCAL).getFailures(), 0.001);
+    }
+
+    @Test
+    public void testNoSwitchWithDefaultEstimates() {
+        // Cloud measured much faster than the local default estimate
+        roundTrip(CLOUD, 0.1);
+        assertFalse(selector.getQuality(LOCAL).isMeasured());
+
+        assertEquals(LOCAL, selector.select(true, true));
+        assertEquals(LOCAL, selector.getCurrentPath());
+    }
+
+    @Test
+    public void testHysteresis() {
+        roundTrip(LOCAL, 10);
+        roundTrip(CLOUD, 8);
+        assertEquals(LOCAL, selector.select(true, true));
+
+        selector.reset(CLOUD);
+        roundTrip(CLOUD, 5);
+        assertEquals(CLOUD, selector.select(true, true));
+        assertEquals(CLOUD, selector.getCurrentPath());
+    }
+
+    @Test
+    public void testMinSwitchInterval() {
+        roundTrip(LOCAL, 10);
+        roundTrip(CLOUD, 5);
+        assertEquals(CLOUD, selector.select(true, true));
+
+        selector.reset(LOCAL);
+        roundTrip(LOCAL, 1);
+        assertEquals(CLOUD, selector.select(true, true));
+
+        now += ObjPathSelector.MIN_SWITCH_INTERVAL_MS * MS;
+        assertEquals(LOCAL, selector.select(true, true));
+    }
+
+    @Test
+    public void testIdleDecay() {
+        roundTrip(LOCAL, 11);
+        selector.onSendFailed(LOCAL);
+        assertEquals(1, selector.getQuality(LOCAL).getFailures(), 0.001);
+
+        now += ObjPathSelector.IDLE_HALF_LIFE_MS * MS;
+        assertEquals(0.5, selector.getQuality(LOCAL).getFailures(), 0.001);
+        assertEquals(ObjPathSelector.DEF_LOCAL_LATENCY_MS + 5, selector.getQuality(LOCAL).getLatencyMs(), 0.001);
+    }
+
+    @Test
+    public void testIdlePathIsProbed() {
+        roundTrip(LOCAL, 1);
+        roundTrip(CLOUD, 50);
+        assertEquals(LOCAL, selector.select(true, true));
+
+        now += ObjPathSelector.PROBE_INTERVAL_MS * MS;
+        assertEquals(CLOUD, selector.select(true, true));
+        assertEquals(LOCAL, selector.select(true, true));
+        assertEquals(LOCAL, selector.getCurrentPath());
+    }
+
+    @Test
+    public void testResetProbesReplacedPath() {
+        roundTrip(LOCAL, 10);
+        roundTrip(CLOUD, 5);
+        assertEquals(CLOUD, selector.select(true, true));
+
+        // Local connection replaced: measures discharged and path probed once
+        selector.reset(LOCAL);
+        assertFalse(selector.getQuality(LOCAL).isMeasured());
+        assertEquals(ObjPathSelector.DEF_LOCAL_LATENCY_MS, selector.getQuality(LOCAL).getLatencyMs(), 0.001);
+        assertEquals(LOCAL, selector.select(true, true));
+        assertEquals(CLOUD, selector.select(true, true));
+
+        // Probe's round trip measured, local selected again
+        now += ObjPathSelector.MIN_SWITCH_INTERVAL_MS * MS;
+        roundTrip(LOCAL, 1);
+        assertEquals(LOCAL, selector.select(true, true));
+    }
+
+    @Test
+    public void testLocalComesBackAfterCloudOnlyPeriod() {
+        roundTrip(LOCAL, 1);
+
+        // Local connection lost, messages sent via cloud
+        assertEquals(CLOUD, selector.select(false, true));
+        roundTrip(CLOUD, 0.1);
+
+        // Local connection restored
+        selector.reset(LOCAL);
+        now += ObjPathSelector.MIN_SWITCH_INTERVAL_MS * MS;
+        assertEquals(LOCAL, selector.select(true, true));
+        roundTrip(LOCAL, 0.5);
+        assertEquals(LOCAL, selector.select(true, true));
+    }
+
+    @Test
+    public void testInFlightIncreasesScore() {
+        double idleScore = selector.getQuality(LOCAL).getScore();
+        selector.onSendStarted(LOCAL);
+        assertEquals(1, selector.getQuality(LOCAL).getInFlight());
+        assertEquals(idleScore * 2, selector.getQuality(LOCAL).getScore(), 0.001);
+
+        selector.onSendEnded(LOCAL);
+        assertEquals(0, selector.getQuality(LOCAL).getInFlight());
+    }
+
+
+    // Utils
+
+    private void roundTrip(ObjPathSelector.Path path, double ms) {
+        selector.onRequestSent(path, COMP);
+        now += (long) (ms * MS);
+        selector.onResponseReceived(path, COMP);
+    }
+
+}